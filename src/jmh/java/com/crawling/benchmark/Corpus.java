@@ -0,0 +1,69 @@
+package com.crawling.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크용 페이지 모음 (src/jmh/resources/corpus)
+ *
+ * news-small: 뉴스 목록 (약 10KB), spa-shell: 본문 없이 인라인 JSON 상태만 있는 SPA 셸 (약 20KB),
+ * forum-medium: 게시판 목록 (약 80KB), forum-huge: forum-medium의 게시글 목록을 30번 반복한 페이지 (약 2MB).
+ * forum-huge는 저장소 크기를 줄이기 위해 체크인하지 않고 로드할 때 만듭니다.
+ */
+final class Corpus {
+
+    static final String NEWS_SMALL = "news-small";
+    static final String SPA_SHELL = "spa-shell";
+    static final String FORUM_MEDIUM = "forum-medium";
+    static final String FORUM_HUGE = "forum-huge";
+
+    private static final int HUGE_REPEAT = 30;
+
+    private Corpus() {
+    }
+
+    static String load(String page) {
+        if (FORUM_HUGE.equals(page)) {
+            return repeatPostList(read(FORUM_MEDIUM), HUGE_REPEAT);
+        }
+        return read(page);
+    }
+
+    /**
+     * 모든 페이지에 공통으로 쓸 수 있는 선택자 (페이지마다 일부만 일치)
+     */
+    static Map<String, String> selectors() {
+        Map<String, String> selectors = new LinkedHashMap<>();
+        selectors.put("headlines", ".news_area .news_tit");
+        selectors.put("summaries", ".news_area .news_dsc");
+        selectors.put("posts", ".post .post-title a");
+        selectors.put("authors", ".post .author");
+        selectors.put("tags", ".post .tags .tag");
+        selectors.put("headings", "h1, h2, h3");
+        selectors.put("state", "script#__NEXT_DATA__");
+        return selectors;
+    }
+
+    private static String read(String page) {
+        try (InputStream in = Corpus.class.getResourceAsStream("/corpus/" + page + ".html")) {
+            if (in == null) {
+                throw new IllegalArgumentException("코퍼스 페이지가 없습니다: " + page);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String repeatPostList(String html, int times) {
+        String open = "<section class=\"post-list\">";
+        int start = html.indexOf(open) + open.length();
+        int end = html.indexOf("</section>", start);
+        String posts = html.substring(start, end);
+        return html.substring(0, start) + posts.repeat(times) + html.substring(end);
+    }
+}
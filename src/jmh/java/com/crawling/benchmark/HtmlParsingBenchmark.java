@@ -0,0 +1,90 @@
+package com.crawling.benchmark;
+
+import com.crawling.core.http.FetchMemoryBudget;
+import com.crawling.core.http.PageBufferPool;
+import com.crawling.domain.beautifulsoup.dto.BeautifulSoupResponse;
+import com.crawling.domain.beautifulsoup.service.impl.BeautifulSoupServiceImpl;
+import com.crawling.domain.webdriver.service.impl.JsoupCrawlingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTML 파싱과 데이터 추출 처리량 측정 (코퍼스 페이지별)
+ *
+ * jsoupParse: Jsoup 파싱만, parseHtml: BeautifulSoupServiceImpl.parseHtml (파싱 + 전체 추출),
+ * extractMetadata, extractBySelectors: 미리 파싱한 문서에서 JsoupCrawlingService의 추출만 수행합니다.
+ * bodyViaCopies: 이전 방식 (본문 byte[] 복사 -> String -> 파싱 -> document.html() 재직렬화),
+ * bodyViaPooledBuffer: PageBufferPool의 재사용 버퍼에서 바로 파싱 (html 재직렬화 없음)
+ * 할당률은 ./gradlew jmh 의 gc 프로파일러 결과(gc.alloc.rate.norm)로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HtmlParsingBenchmark {
+
+    @Param({Corpus.NEWS_SMALL, Corpus.SPA_SHELL, Corpus.FORUM_MEDIUM, Corpus.FORUM_HUGE})
+    String page;
+
+    private String html;
+    private byte[] bytes;
+    private PageBufferPool pageBufferPool;
+    private Document document;
+    private Map<String, String> selectors;
+    private BeautifulSoupServiceImpl beautifulSoupService;
+
+    @Setup
+    public void setup() {
+        html = Corpus.load(page);
+        bytes = html.getBytes(StandardCharsets.UTF_8);
+        pageBufferPool = new PageBufferPool(new FetchMemoryBudget(new SimpleMeterRegistry(), 0, 0), 65536, 4 * 1024 * 1024, 4);
+        document = Jsoup.parse(html);
+        selectors = Corpus.selectors();
+        // parseHtml은 주입받는 의존성을 사용하지 않음
+        beautifulSoupService = new BeautifulSoupServiceImpl(null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public Document jsoupParse() {
+        return Jsoup.parse(html);
+    }
+
+    @Benchmark
+    public BeautifulSoupResponse parseHtml() {
+        return beautifulSoupService.parseHtml(html, selectors);
+    }
+
+    @Benchmark
+    public Map<String, String> extractMetadata() {
+        return JsoupCrawlingService.extractMetadata(document);
+    }
+
+    @Benchmark
+    public Map<String, Object> extractBySelectors() {
+        return JsoupCrawlingService.extractDataBySelectors(document, selectors);
+    }
+
+    @Benchmark
+    public String bodyViaCopies() throws IOException {
+        byte[] body = new ByteArrayInputStream(bytes).readAllBytes();
+        Document parsed = Jsoup.parse(new String(body, StandardCharsets.UTF_8), "http://localhost/");
+        return parsed.html();
+    }
+
+    @Benchmark
+    public Document bodyViaPooledBuffer() throws IOException {
+        try (PageBufferPool.PageBody body = pageBufferPool.read(new ByteArrayInputStream(bytes), "text/html; charset=UTF-8")) {
+            return body.parse("http://localhost/");
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.crawling.benchmark;
+
+import com.crawling.domain.beautifulsoup.dto.BeautifulSoupResponse;
+import com.crawling.domain.beautifulsoup.service.impl.BeautifulSoupServiceImpl;
+import com.crawling.domain.crawling.entity.CrawlingResult;
+import com.crawling.domain.util.JsonFormatter;
+import org.jsoup.Jsoup;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤링 결과 JSON 변환 처리량 측정
+ *
+ * 코퍼스 페이지를 parseHtml로 추출한 결과를 입력으로 사용합니다.
+ * crawlingResult*: CrawlingResult 엔티티의 Map/List <-> JSON 컬럼 변환 (저장, 조회 시 호출)
+ * jsonFormatter*: JsonFormatter의 객체 직렬화와 문자열 재포맷
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonConversionBenchmark {
+
+    @Param({Corpus.NEWS_SMALL, Corpus.FORUM_MEDIUM, Corpus.FORUM_HUGE})
+    String page;
+
+    private Map<String, Object> extractedData;
+    private List<String> links;
+    private String extractedDataJson;
+    private CrawlingResult stored;
+
+    @Setup
+    public void setup() {
+        String html = Corpus.load(page);
+        BeautifulSoupResponse response = new BeautifulSoupServiceImpl(null, null, null, null, null, null, null, null, null, null, null)
+                .parseHtml(html, Corpus.selectors());
+        extractedData = response.getExtractedData();
+        links = Jsoup.parse(html).select("a[href]").eachAttr("href");
+        extractedDataJson = JsonFormatter.convertObjectToJson(extractedData);
+
+        stored = new CrawlingResult();
+        stored.setExtractedData(extractedData);
+        stored.setLinks(links);
+    }
+
+    @Benchmark
+    public CrawlingResult crawlingResultWrite() {
+        CrawlingResult result = new CrawlingResult();
+        result.setExtractedData(extractedData);
+        result.setLinks(links);
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, Object> crawlingResultRead() {
+        return stored.getExtractedData();
+    }
+
+    @Benchmark
+    public String jsonFormatterConvert() {
+        return JsonFormatter.convertObjectToJson(extractedData);
+    }
+
+    @Benchmark
+    public String jsonFormatterPretty() {
+        return JsonFormatter.prettyFormat(extractedDataJson);
+    }
+
+    @Benchmark
+    public String jsonFormatterCompact() {
+        return JsonFormatter.compactFormat(extractedDataJson);
+    }
+}
@@ -0,0 +1,84 @@
+package com.crawling.benchmark;
+
+import com.crawling.core.annotation.LogExecutionTime;
+import com.crawling.core.aspect.LoggingAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @LogExecutionTime 어드바이스의 호출당 오버헤드 측정
+ *
+ * direct: 프록시 없이 호출, proxied: 어드바이스 없는 프록시, advised: 클래스 레벨 어노테이션 + 타이머 기록
+ * (로그 레벨 DEBUG로 지정하여 로그 출력은 비활성 상태), advisedInfoLevel: 로그까지 출력하는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectBenchmark {
+
+    public interface Target {
+        int work(int value);
+    }
+
+    @LogExecutionTime(level = "DEBUG")
+    public static class DebugTarget implements Target {
+        @Override
+        public int work(int value) {
+            return value * 31 + 7;
+        }
+    }
+
+    @LogExecutionTime(level = "INFO")
+    public static class InfoTarget implements Target {
+        @Override
+        public int work(int value) {
+            return value * 31 + 7;
+        }
+    }
+
+    private Target direct;
+    private Target proxied;
+    private Target advised;
+    private Target advisedInfoLevel;
+    private int value;
+
+    @Setup
+    public void setup() {
+        direct = new DebugTarget();
+        proxied = new AspectJProxyFactory(new DebugTarget()).getProxy();
+        advised = advise(new DebugTarget());
+        advisedInfoLevel = advise(new InfoTarget());
+    }
+
+    private static Target advise(Target target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new LoggingAspect(new SimpleMeterRegistry()));
+        return factory.getProxy();
+    }
+
+    @Benchmark
+    public int direct() {
+        return direct.work(value++);
+    }
+
+    @Benchmark
+    public int proxied() {
+        return proxied.work(value++);
+    }
+
+    @Benchmark
+    public int advised() {
+        return advised.work(value++);
+    }
+
+    @Benchmark
+    public int advisedInfoLevel() {
+        return advisedInfoLevel.work(value++);
+    }
+}
@@ -0,0 +1,101 @@
+package com.crawling.benchmark;
+
+import com.crawling.domain.queue.service.SegmentedFileQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 영속 크롤링 큐의 추가/읽기 처리량 측정
+ *
+ * enqueue, dequeue는 반복마다 새 큐에 BATCH 건을 처리하는 시간(ms)이며 초당 처리량은 BATCH / 시간으로 계산합니다.
+ * roundTrip은 추가-읽기-커밋을 한 건씩 반복하는 정상 상태 처리량(ops/s)입니다.
+ */
+@Fork(1)
+public class SegmentedFileQueueBenchmark {
+
+    private static final int BATCH = 100_000;
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    @State(Scope.Thread)
+    public static class EmptyQueue {
+
+        @Param({"256", "2048"})
+        int payloadSize;
+
+        Path directory;
+        SegmentedFileQueue queue;
+        byte[] payload;
+
+        @Setup(Level.Iteration)
+        public void open() throws IOException {
+            payload = new byte[payloadSize];
+            ThreadLocalRandom.current().nextBytes(payload);
+            directory = Files.createTempDirectory("crawl-queue-bench");
+            queue = new SegmentedFileQueue(directory, SEGMENT_SIZE);
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() throws IOException {
+            queue.close();
+            deleteRecursively(directory);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FilledQueue extends EmptyQueue {
+
+        @Setup(Level.Iteration)
+        public void fill() throws IOException {
+            for (int i = 0; i < BATCH; i++) {
+                queue.append(payload);
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = BATCH)
+    @Measurement(iterations = 5, batchSize = BATCH)
+    public long enqueue(EmptyQueue state) throws IOException {
+        return state.queue.append(state.payload);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = BATCH)
+    @Measurement(iterations = 5, batchSize = BATCH)
+    public byte[] dequeue(FilledQueue state) throws IOException, InterruptedException {
+        SegmentedFileQueue.QueueRecord record = state.queue.poll(0, TimeUnit.MILLISECONDS);
+        state.queue.commit(record.getNextOffset());
+        return record.getPayload();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public byte[] roundTrip(EmptyQueue state) throws IOException, InterruptedException {
+        state.queue.append(state.payload);
+        SegmentedFileQueue.QueueRecord record = state.queue.poll(0, TimeUnit.MILLISECONDS);
+        state.queue.commit(record.getNextOffset());
+        return record.getPayload();
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
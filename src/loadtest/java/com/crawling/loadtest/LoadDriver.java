@@ -0,0 +1,167 @@
+package com.crawling.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * 정해진 속도로 요청을 보내고 결과를 집계합니다.
+ *
+ * 요청은 응답을 기다리지 않고 1/rate 초 간격의 예정 시각마다 보내며 (개방형 부하),
+ * 응답 시간은 실제 전송 시각이 아니라 예정 시각부터 계산하므로 서버가 밀려 전송이 늦어진 시간도 포함됩니다.
+ * 워밍업 동안 보낸 요청은 집계하지 않습니다.
+ */
+class LoadDriver {
+
+    private static final String SUCCESS_MARKER = "\"status\":\"SUCCESS\"";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    /**
+     * @param name            시나리오 이름
+     * @param requestFactory  i번째 요청 생성
+     * @param pagesPerRequest 요청 하나에 담긴 URL 수
+     */
+    record Scenario(String name, IntFunction<HttpRequest> requestFactory, int pagesPerRequest) {
+    }
+
+    record Result(String name, long requests, long errors, long pages, double seconds,
+                  LatencyRecorder.Snapshot latency, long maxHeapBytes, long gcCount, long gcMillis) {
+
+        double pagesPerSecond() {
+            return seconds > 0 ? pages / seconds : 0;
+        }
+
+        double requestsPerSecond() {
+            return seconds > 0 ? requests / seconds : 0;
+        }
+    }
+
+    Result run(Scenario scenario, double rate, Duration warmup, Duration duration) throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+
+        LatencyRecorder latency = new LatencyRecorder();
+        AtomicLong requests = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong pages = new AtomicLong();
+        ConcurrentLinkedQueue<CompletableFuture<?>> outstanding = new ConcurrentLinkedQueue<>();
+
+        HeapSampler heap = null;
+        long gcCountBefore = 0;
+        long gcMillisBefore = 0;
+
+        for (int i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (heap == null && intended >= measureStart) {
+                heap = HeapSampler.start();
+                gcCountBefore = gcCount();
+                gcMillisBefore = gcMillis();
+            }
+
+            boolean measured = intended >= measureStart;
+            CompletableFuture<?> future = client.sendAsync(scenario.requestFactory().apply(i), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> {
+                        if (!measured) {
+                            return;
+                        }
+                        latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended));
+                        requests.incrementAndGet();
+                        if (error != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                            return;
+                        }
+                        pages.addAndGet(count(response.body(), SUCCESS_MARKER));
+                    });
+            outstanding.add(future);
+            outstanding.removeIf(CompletableFuture::isDone);
+        }
+
+        // 측정 시간 안에 보낸 요청의 응답까지 기다림
+        try {
+            CompletableFuture.allOf(outstanding.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            // 실패한 요청은 whenComplete에서 오류로 집계됨
+        }
+        double seconds = duration.toNanos() / 1e9;
+        long maxHeap = heap != null ? heap.stop() : 0;
+
+        return new Result(scenario.name(), requests.get(), errors.get(), pages.get(), seconds,
+                latency.snapshot(), maxHeap, gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+    }
+
+    private static long count(String body, String marker) {
+        long count = 0;
+        for (int i = body.indexOf(marker); i >= 0; i = body.indexOf(marker, i + marker.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(c -> c > 0).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(t -> t > 0).sum();
+    }
+
+    /**
+     * 측정 중 사용 중인 힙의 최대값을 100ms 간격으로 기록합니다.
+     */
+    private static final class HeapSampler implements Runnable {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final Thread thread;
+        private volatile boolean running = true;
+        private long maxUsed;
+
+        private HeapSampler() {
+            thread = new Thread(this, "loadtest-heap-sampler");
+            thread.setDaemon(true);
+        }
+
+        static HeapSampler start() {
+            HeapSampler sampler = new HeapSampler();
+            sampler.thread.start();
+            return sampler;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                maxUsed = Math.max(maxUsed, memory.getHeapMemoryUsage().getUsed());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+            }
+        }
+
+        long stop() throws InterruptedException {
+            running = false;
+            thread.join();
+            return maxUsed;
+        }
+    }
+}
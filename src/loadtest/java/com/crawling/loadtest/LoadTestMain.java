@@ -0,0 +1,140 @@
+package com.crawling.loadtest;
+
+import com.crawling.CrawlingApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 로컬 스텁 서버를 대상으로 크롤링 API의 처리량을 측정합니다. (./gradlew loadTest)
+ *
+ * 스텁 서버와 애플리케이션을 같은 JVM에서 시작하므로 네트워크 없이 실행되며, 힙 사용량은 애플리케이션을 포함한 값입니다.
+ * --target을 지정하면 이미 실행 중인 애플리케이션을 대상으로 하며 이때 힙 사용량은 드라이버의 값입니다.
+ * 예) ./gradlew loadTest -PloadtestArgs="--rate=50 --duration=60 --min-pages-per-second=100"
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        boolean passed;
+
+        try (StubSiteServer site = new StubSiteServer(options)) {
+            ConfigurableApplicationContext application = null;
+            String target = options.target();
+            if (target == null) {
+                application = startApplication();
+                int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+                target = "http://localhost:" + port;
+            }
+
+            try {
+                List<LoadDriver.Result> results = new ArrayList<>();
+                LoadDriver driver = new LoadDriver();
+                for (String name : options.scenarios()) {
+                    LoadDriver.Scenario scenario = scenario(name.trim(), target, site, options);
+                    System.out.printf("%s: 초당 %.1f 요청, 워밍업 %ds, 측정 %ds%n", scenario.name(), options.rate(),
+                            options.warmup().toSeconds(), options.duration().toSeconds());
+                    results.add(driver.run(scenario, options.rate(), options.warmup(), options.duration()));
+                }
+                print(results);
+                passed = passed(results, options);
+            } finally {
+                if (application != null) {
+                    application.close();
+                }
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * 부하 테스트에 맞춰 로그, 드라이버 다운로드, 속도 제한(모든 스텁 호스트가 로컬)을 끄고 애플리케이션을 시작합니다.
+     */
+    private static ConfigurableApplicationContext startApplication() throws Exception {
+        Path dataDir = Files.createTempDirectory("crawling-loadtest");
+        return SpringApplication.run(CrawlingApplication.class,
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.crawling=WARN",
+                "--selenium.webdriver-manager.enabled=false",
+                "--crawling.rate-limit.enabled=false",
+                "--crawling.queue.dir=" + dataDir.resolve("crawl-queue"),
+                "--spring.datasource.url=jdbc:h2:file:" + dataDir.resolve("crawling-db"),
+                "--crawling.tracing.otlp-file.enabled=false");
+    }
+
+    private static LoadDriver.Scenario scenario(String name, String target, StubSiteServer site, LoadTestOptions options) {
+        return switch (name) {
+            case "multiple" -> new LoadDriver.Scenario("crawl/multiple", i -> post(target + "/api/crawling/crawl/multiple",
+                    batch(site, options, url -> "{\"url\":\"" + url + "\",\"type\":\"SIMPLE\",\"selectors\":{\"headings\":\"h2\",\"links\":\".links a\"}}")),
+                    options.batchSize());
+            case "beautifulsoup" -> new LoadDriver.Scenario("parse/multiple", i -> post(target + "/api/beautifulsoup/parse/multiple",
+                    batch(site, options, url -> "{\"url\":\"" + url + "\",\"extractText\":true,\"extractTitle\":true,\"extractLinks\":true,\"selectors\":{\"content\":\"p.content\"}}")),
+                    options.batchSize());
+            case "api" -> new LoadDriver.Scenario("crawl/api", i -> post(target + "/api/crawling/crawl/api?url="
+                    + URLEncoder.encode(site.apiUrl(randomPage(options)), StandardCharsets.UTF_8), "{}"), 1);
+            default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + name + " (multiple, beautifulsoup, api)");
+        };
+    }
+
+    private static String batch(StubSiteServer site, LoadTestOptions options, Function<String, String> item) {
+        StringBuilder body = new StringBuilder("[");
+        for (int k = 0; k < options.batchSize(); k++) {
+            if (k > 0) {
+                body.append(',');
+            }
+            body.append(item.apply(site.pageUrl(randomPage(options))));
+        }
+        return body.append(']').toString();
+    }
+
+    private static int randomPage(LoadTestOptions options) {
+        return ThreadLocalRandom.current().nextInt(options.pages());
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofMinutes(2))
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static void print(List<LoadDriver.Result> results) {
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-16s %10s %10s %8s %10s %10s %10s %10s %12s %8s%n",
+                "scenario", "requests", "req/s", "errors", "pages/s", "p50(ms)", "p99(ms)", "max(ms)", "maxHeap(MB)", "gc(ms)");
+        for (LoadDriver.Result r : results) {
+            System.out.printf(Locale.ROOT, "%-16s %10d %10.1f %8d %10.1f %10.1f %10.1f %10.1f %12.1f %8d%n",
+                    r.name(), r.requests(), r.requestsPerSecond(), r.errors(), r.pagesPerSecond(),
+                    r.latency().percentileMillis(50), r.latency().percentileMillis(99), r.latency().percentileMillis(100),
+                    r.maxHeapBytes() / (1024.0 * 1024.0), r.gcMillis());
+        }
+    }
+
+    private static boolean passed(List<LoadDriver.Result> results, LoadTestOptions options) {
+        boolean passed = true;
+        for (LoadDriver.Result r : results) {
+            if (options.minPagesPerSecond() > 0 && r.pagesPerSecond() < options.minPagesPerSecond()) {
+                System.out.printf(Locale.ROOT, "실패: %s 초당 페이지 %.1f < 기준 %.1f%n",
+                        r.name(), r.pagesPerSecond(), options.minPagesPerSecond());
+                passed = false;
+            }
+        }
+        return passed;
+    }
+}
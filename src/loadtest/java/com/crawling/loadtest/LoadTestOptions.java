@@ -0,0 +1,63 @@
+package com.crawling.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션 (--name=value 형식의 인자)
+ *
+ * @param scenarios        실행할 시나리오 (multiple, beautifulsoup, api 중 쉼표로 구분)
+ * @param rate             시나리오별 초당 요청 수 (요청 간격을 고정한 개방형 부하)
+ * @param duration         시나리오별 측정 시간
+ * @param warmup           측정 전 같은 속도로 보내는 워밍업 시간
+ * @param batchSize        다중 크롤링 요청 하나에 담는 URL 수
+ * @param target           이미 실행 중인 애플리케이션 주소 (없으면 같은 JVM에서 애플리케이션을 시작)
+ * @param minPagesPerSecond 시나리오의 초당 페이지 수가 이보다 낮으면 실패로 종료 (0이면 확인하지 않음)
+ */
+record LoadTestOptions(List<String> scenarios,
+                       double rate,
+                       Duration duration,
+                       Duration warmup,
+                       int batchSize,
+                       String target,
+                       double minPagesPerSecond,
+                       int pages,
+                       int pageSize,
+                       long latencyMs,
+                       long latencyP99Ms,
+                       double errorRate,
+                       int hosts,
+                       int slowHosts,
+                       long slowHostExtraMs,
+                       int serverThreads) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --name=value 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        return new LoadTestOptions(
+                List.of(values.getOrDefault("scenarios", "multiple,beautifulsoup,api").split(",")),
+                Double.parseDouble(values.getOrDefault("rate", "20")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "30"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Integer.parseInt(values.getOrDefault("batch-size", "5")),
+                values.get("target"),
+                Double.parseDouble(values.getOrDefault("min-pages-per-second", "0")),
+                Integer.parseInt(values.getOrDefault("pages", "10000")),
+                Integer.parseInt(values.getOrDefault("page-size", "50000")),
+                Long.parseLong(values.getOrDefault("latency-ms", "20")),
+                Long.parseLong(values.getOrDefault("latency-p99-ms", "200")),
+                Double.parseDouble(values.getOrDefault("error-rate", "0.01")),
+                Integer.parseInt(values.getOrDefault("hosts", "8")),
+                Integer.parseInt(values.getOrDefault("slow-hosts", "1")),
+                Long.parseLong(values.getOrDefault("slow-host-extra-ms", "1000")),
+                Integer.parseInt(values.getOrDefault("server-threads", "256")));
+    }
+}
@@ -0,0 +1,174 @@
+package com.crawling.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 로컬 웹 서버 (JDK HttpServer, 네트워크 불필요)
+ *
+ * /page/{n}: 다른 페이지 10개로 링크되는 합성 사이트 그래프의 HTML 페이지 (page-size 바이트 내외)
+ * /api/items/{n}: 같은 크기의 JSON 배열
+ *
+ * 응답 지연은 중앙값 latency-ms, p99 latency-p99-ms의 로그 정규 분포를 따르며 error-rate 비율로 503을 반환합니다.
+ * 모든 루프백 주소(127.0.0.1 ~ 127.0.0.{hosts})에서 받으므로 주소마다 다른 호스트로 취급되고,
+ * 앞쪽 slow-hosts 개 호스트는 slow-host-extra-ms 만큼 더 늦게 응답합니다.
+ */
+class StubSiteServer implements AutoCloseable {
+
+    private static final double Z_99 = 2.326;
+
+    private final LoadTestOptions options;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final double latencyMu;
+    private final double latencySigma;
+    private final String filler;
+
+    StubSiteServer(LoadTestOptions options) throws IOException {
+        this.options = options;
+        this.latencyMu = Math.log(Math.max(1, options.latencyMs()));
+        this.latencySigma = Math.max(0, Math.log(Math.max(options.latencyP99Ms(), options.latencyMs()) / (double) Math.max(1, options.latencyMs())) / Z_99);
+        this.filler = "The quick brown fox jumps over the lazy dog. ".repeat(8);
+
+        this.server = HttpServer.create(new InetSocketAddress(0), 1024);
+        this.executor = Executors.newFixedThreadPool(options.serverThreads());
+        server.setExecutor(executor);
+        server.createContext("/page/", exchange -> handle(exchange, false));
+        server.createContext("/api/items/", exchange -> handle(exchange, true));
+        server.start();
+    }
+
+    int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * n번째 페이지의 URL. 호스트는 n에 따라 127.0.0.1 ~ 127.0.0.{hosts}에 고르게 나뉩니다.
+     */
+    String pageUrl(int n) {
+        return "http://" + host(n) + ":" + port() + "/page/" + n;
+    }
+
+    String apiUrl(int n) {
+        return "http://" + host(n) + ":" + port() + "/api/items/" + n;
+    }
+
+    private String host(int n) {
+        return "127.0.0." + (1 + Math.floorMod(n, options.hosts()));
+    }
+
+    private void handle(HttpExchange exchange, boolean json) throws IOException {
+        try {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long delay = Math.round(Math.exp(latencyMu + latencySigma * random.nextGaussian()));
+            String hostHeader = exchange.getRequestHeaders().getFirst("Host");
+            if (isSlowHost(hostHeader)) {
+                delay += options.slowHostExtraMs();
+            }
+            sleep(delay);
+
+            if (random.nextDouble() < options.errorRate()) {
+                send(exchange, 503, "text/plain", "unavailable".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            int n = pageNumber(exchange.getRequestURI().getPath());
+            byte[] body = json ? items(n) : page(n);
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            send(exchange, 200, json ? "application/json" : "text/html; charset=UTF-8", body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private boolean isSlowHost(String hostHeader) {
+        if (hostHeader == null || options.slowHosts() <= 0) {
+            return false;
+        }
+        String host = hostHeader.contains(":") ? hostHeader.substring(0, hostHeader.indexOf(':')) : hostHeader;
+        if (!host.startsWith("127.0.0.")) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(host.substring("127.0.0.".length())) <= options.slowHosts();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private byte[] page(int n) {
+        StringBuilder html = new StringBuilder(options.pageSize() + 1024);
+        html.append("<!DOCTYPE html><html lang=\"ko\"><head><meta charset=\"UTF-8\">")
+                .append("<meta name=\"description\" content=\"합성 페이지 ").append(n).append("\">")
+                .append("<title>Page ").append(n).append("</title></head><body>")
+                .append("<nav class=\"nav\"><a href=\"/page/0\">home</a></nav><main><h1>Page ").append(n).append("</h1><ul class=\"links\">");
+        for (int k = 1; k <= 10; k++) {
+            int target = Math.floorMod(n * 31 + k * 7919, options.pages());
+            html.append("<li><a href=\"").append(pageUrl(target)).append("\">page ").append(target).append("</a></li>");
+        }
+        html.append("</ul><article>");
+        int paragraph = 0;
+        while (html.length() < options.pageSize()) {
+            html.append("<h2>Section ").append(paragraph).append("</h2><p class=\"content\">").append(filler).append("</p>");
+            paragraph++;
+        }
+        html.append("</article></main><footer class=\"footer\">stub</footer></body></html>");
+        return html.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] items(int n) {
+        StringBuilder json = new StringBuilder(options.pageSize() + 256).append('[');
+        int id = 0;
+        while (json.length() < options.pageSize()) {
+            if (id > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(n * 1000 + id)
+                    .append(",\"title\":\"item ").append(id)
+                    .append("\",\"body\":\"The quick brown fox jumps over the lazy dog.\"}");
+            id++;
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int pageNumber(String path) {
+        try {
+            return Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
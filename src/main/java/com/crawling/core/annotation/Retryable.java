@@ -8,6 +8,7 @@ import java.lang.annotation.Target;
 /**
  * 메서드 실행 실패 시 재시도하기 위한 어노테이션
  * AOP를 통해 메서드 실행이 실패하면 지정된 횟수만큼 재시도합니다.
+ * CompletableFuture를 반환하는 메서드는 스레드를 막지 않고 스케줄러로 재시도합니다.
  * 
  * @author tspoon
  * @version 1.0
@@ -35,6 +36,45 @@ public @interface Retryable {
      */
     boolean exponentialBackoff() default false;
     
+    /**
+     * 한 번의 재시도 간격 상한 (밀리초)
+     * 기본값: 30000ms
+     */
+    long maxDelay() default 30000;
+    
+    /**
+     * 전체 재시도 대기 시간 상한 (밀리초)
+     * 다음 대기 시간이 남은 예산을 넘으면 재시도하지 않고 마지막 예외를 던짐
+     * 기본값: 0 (제한 없음)
+     */
+    long maxTotalDelay() default 0;
+    
+    /**
+     * 전체 지터(full jitter) 적용 여부
+     * true: 0 ~ 계산된 간격 사이에서 무작위로 대기하여 동시에 실패한 호출들이 한꺼번에 재시도하지 않도록 함
+     */
+    boolean jitter() default true;
+    
+    /**
+     * 실패 원인 분류 사용 여부
+     * true: 4xx, 파싱 오류 등 영구 오류는 재시도하지 않고, 429/503 응답의 Retry-After를 대기 시간 하한으로 사용
+     */
+    boolean classify() default true;
+    
+    /**
+     * 재시도 예산 사용 여부
+     * true: 재시도 수가 요청 수의 일정 비율(crawling.retry.budget.ratio)을 넘지 않도록 제한
+     * (예산은 FetchGuard를 거쳐 보낸 요청마다 적립되며, 요청을 보내지 않는 메서드는 min-retries-per-second 만큼만 재시도)
+     */
+    boolean budget() default true;
+    
+    /**
+     * 재시도 예산을 확인할 호스트
+     * URL 또는 호스트 이름으로 평가되는 SpEL 표현식 (메서드 파라미터 사용 가능, 예: "#request.url")
+     * 기본값: 전체 예산만 확인
+     */
+    String budgetHost() default "";
+    
     /**
      * 재시도할 예외 클래스
      * 이 예외들이 발생하면 재시도
@@ -51,6 +91,8 @@ public @interface Retryable {
     /**
      * 재시도 조건
      * SpEL 표현식으로 재시도할지 여부를 결정
+     * 루트 객체는 발생한 예외이며 #exception, #attempt, 메서드 파라미터(#이름, #p0)를 사용할 수 있음
+     * 예: "message != null and message.contains('timeout')", "#attempt < 2"
      * 기본값: 항상 재시도
      */
     String condition() default "";
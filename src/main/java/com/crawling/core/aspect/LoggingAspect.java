@@ -2,47 +2,75 @@ package com.crawling.core.aspect;
 
 import com.crawling.core.annotation.LogExecutionTime;
 import com.crawling.core.annotation.LogMethod;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.event.Level;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 로깅을 위한 Aspect
  * 메서드 실행 시간과 로그를 관리합니다.
  * 
+ * 실행 시간은 method.execution 타이머(클래스, 메서드, 결과별)에 기록되며,
+ * 어노테이션 해석과 타이머 조회는 메서드별로 한 번만 수행하여 캐시합니다.
+ * 로그 메시지는 해당 레벨이 활성화된 경우에만 만듭니다.
+ * 
  * @author tspoon
  * @version 1.0
  */
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class LoggingAspect {
     
+    public static final String EXECUTION_TIMER = "method.execution";
+    
+    private final MeterRegistry meterRegistry;
+    
+    // 메서드별 어노테이션 설정과 타이머 캐시
+    private final Map<Method, ExecutionTimeTarget> executionTimeTargets = new ConcurrentHashMap<>();
+    
     /**
-     * @LogExecutionTime 어노테이션이 적용된 메서드의 실행 시간을 측정합니다.
+     * @LogExecutionTime 어노테이션이 적용된 메서드(또는 클래스의 모든 메서드)의 실행 시간을 측정합니다.
      */
-    @Around("@annotation(com.crawling.core.annotation.LogExecutionTime)")
+    @Around("@annotation(com.crawling.core.annotation.LogExecutionTime) || @within(com.crawling.core.annotation.LogExecutionTime)")
     public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        LogExecutionTime annotation = getAnnotation(joinPoint, LogExecutionTime.class);
-        
-        long startTime = System.currentTimeMillis();
-        String methodName = getMethodName(joinPoint);
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        ExecutionTimeTarget target = executionTimeTargets.get(method);
+        if (target == null) {
+            target = executionTimeTargets.computeIfAbsent(method, m -> resolveExecutionTimeTarget(m, joinPoint.getTarget()));
+        }
         
+        long startTime = System.nanoTime();
         try {
             Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
+            long executionTime = System.nanoTime() - startTime;
             
-            logMethodExecution(methodName, executionTime, annotation, null);
+            target.successTimer.record(executionTime, TimeUnit.NANOSECONDS);
+            if (isEnabled(target.level)) {
+                logMethodExecution(target, joinPoint, executionTime, null);
+            }
             return result;
-        } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            logMethodExecution(methodName, executionTime, annotation, e);
+        } catch (Throwable e) {
+            long executionTime = System.nanoTime() - startTime;
+            
+            target.errorTimer.record(executionTime, TimeUnit.NANOSECONDS);
+            logMethodExecution(target, joinPoint, executionTime, e);
             throw e;
         }
     }
@@ -85,20 +113,20 @@ public class LoggingAspect {
     /**
      * 메서드 실행 로그를 출력합니다.
      */
-    private void logMethodExecution(String methodName, long executionTime, LogExecutionTime annotation, Exception exception) {
-        String level = annotation.level().toUpperCase();
-        String message = String.format("[%s] %s executed in %dms", methodName, methodName, executionTime);
-        
-        switch (level) {
-            case "DEBUG" -> log.debug(message);
-            case "INFO" -> log.info(message);
-            case "WARN" -> log.warn(message);
-            case "ERROR" -> log.error(message);
-            default -> log.info(message);
+    private void logMethodExecution(ExecutionTimeTarget target, ProceedingJoinPoint joinPoint,
+                                    long executionNanos, Throwable exception) {
+        if (isEnabled(target.level)) {
+            double executionMillis = Math.round(executionNanos / 1_000.0) / 1_000.0;
+            if (target.includeParameters) {
+                logAt(target.level, "[{}] executed in {}ms with parameters: {}",
+                        target.displayName, executionMillis, Arrays.toString(joinPoint.getArgs()));
+            } else {
+                logAt(target.level, "[{}] executed in {}ms", target.displayName, executionMillis);
+            }
         }
         
         if (exception != null) {
-            log.error("Exception in {}: {}", methodName, exception.getMessage(), exception);
+            log.error("Exception in {}: {}", target.displayName, exception.getMessage(), exception);
         }
     }
     
@@ -164,4 +192,92 @@ public class LoggingAspect {
         Method method = signature.getMethod();
         return (T) method.getAnnotation((Class<? extends java.lang.annotation.Annotation>) annotationClass);
     }
+    
+    /**
+     * 메서드의 @LogExecutionTime 설정을 해석하고 타이머를 만듭니다. (메서드 어노테이션이 클래스 어노테이션보다 우선)
+     */
+    private ExecutionTimeTarget resolveExecutionTimeTarget(Method method, Object target) {
+        LogExecutionTime annotation = AnnotationUtils.findAnnotation(method, LogExecutionTime.class);
+        if (annotation == null) {
+            annotation = AnnotationUtils.findAnnotation(method.getDeclaringClass(), LogExecutionTime.class);
+        }
+        if (annotation == null && target != null) {
+            annotation = AnnotationUtils.findAnnotation(AopUtils.getTargetClass(target), LogExecutionTime.class);
+        }
+        
+        Level level = parseLevel(annotation != null ? annotation.level() : "INFO");
+        boolean includeClassName = annotation == null || annotation.includeClassName();
+        boolean includeMethodName = annotation == null || annotation.includeMethodName();
+        boolean includeParameters = annotation != null && annotation.includeParameters();
+        
+        String className = method.getDeclaringClass().getSimpleName();
+        String displayName;
+        if (includeClassName && includeMethodName) {
+            displayName = className + "." + method.getName();
+        } else if (includeClassName) {
+            displayName = className;
+        } else if (includeMethodName) {
+            displayName = method.getName();
+        } else {
+            displayName = "method";
+        }
+        
+        return new ExecutionTimeTarget(level, displayName, includeParameters,
+                executionTimer(className, method.getName(), "SUCCESS"),
+                executionTimer(className, method.getName(), "ERROR"));
+    }
+    
+    private Timer executionTimer(String className, String methodName, String outcome) {
+        return Timer.builder(EXECUTION_TIMER)
+                .description("@LogExecutionTime 메서드 실행 시간")
+                .tags("class", className, "method", methodName, "outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+    
+    private static Level parseLevel(String level) {
+        try {
+            return Level.valueOf(level.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+    
+    private static boolean isEnabled(Level level) {
+        return switch (level) {
+            case TRACE -> log.isTraceEnabled();
+            case DEBUG -> log.isDebugEnabled();
+            case INFO -> log.isInfoEnabled();
+            case WARN -> log.isWarnEnabled();
+            case ERROR -> log.isErrorEnabled();
+        };
+    }
+    
+    private static void logAt(Level level, String format, Object... arguments) {
+        switch (level) {
+            case TRACE -> log.trace(format, arguments);
+            case DEBUG -> log.debug(format, arguments);
+            case WARN -> log.warn(format, arguments);
+            case ERROR -> log.error(format, arguments);
+            default -> log.info(format, arguments);
+        }
+    }
+    
+    private static final class ExecutionTimeTarget {
+        private final Level level;
+        private final String displayName;
+        private final boolean includeParameters;
+        private final Timer successTimer;
+        private final Timer errorTimer;
+        
+        private ExecutionTimeTarget(Level level, String displayName, boolean includeParameters,
+                                    Timer successTimer, Timer errorTimer) {
+            this.level = level;
+            this.displayName = displayName;
+            this.includeParameters = includeParameters;
+            this.successTimer = successTimer;
+            this.errorTimer = errorTimer;
+        }
+    }
 }
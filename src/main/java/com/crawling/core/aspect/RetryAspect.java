@@ -1,19 +1,56 @@
 package com.crawling.core.aspect;
 
 import com.crawling.core.annotation.Retryable;
+import com.crawling.core.resilience.RetryBudget;
+import com.crawling.core.resilience.RetryClassifier;
+import com.crawling.core.resilience.RetryDecision;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 재시도를 위한 Aspect
  * 메서드 실행 실패 시 재시도를 수행합니다.
- * 
+ *
+ * CompletableFuture를 반환하는 메서드는 실패한 future를 기다리지 않고 재시도 스케줄러에 다음 시도를
+ * 예약하므로 대기 중에 작업 스레드를 점유하지 않습니다. 그 외 메서드는 호출 스레드에서 대기합니다.
+ * 어노테이션 해석과 condition SpEL 파싱, 메트릭 조회는 메서드별로 한 번만 수행하여 캐시합니다.
+ * 실패 원인을 분류하여 영구 오류는 재시도하지 않고, 재시도마다 재시도 예산(RetryBudget)을 사용하므로
+ * 장애 중에도 재시도가 요청 수의 일정 비율을 넘지 않습니다. 예산은 FetchGuard를 거쳐 보낸 요청마다 적립되며,
+ * 호출 한 번이 요청으로 두 번 적립되지 않도록 이 Aspect는 적립하지 않습니다.
+ *
+ * 메트릭
+ * - retry.calls: 호출 결과 (class, method, result = success_without_retry / success_after_retry / failed / not_retried / budget_exhausted)
+ * - retry.attempts: 예약된 재시도 수 (class, method)
+ *
  * @author tspoon
  * @version 1.0
  */
@@ -21,104 +58,326 @@ import java.lang.reflect.Method;
 @Aspect
 @Component
 public class RetryAspect {
-    
+
+    public static final String CALLS = "retry.calls";
+    public static final String ATTEMPTS = "retry.attempts";
+
+    private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final MeterRegistry meterRegistry;
+    private final RetryBudget retryBudget;
+    private final ScheduledExecutorService retryScheduler;
+
+    // 메서드별 재시도 정책 캐시
+    private final Map<Method, RetryPolicy> policies = new ConcurrentHashMap<>();
+
+    public RetryAspect(MeterRegistry meterRegistry,
+                       RetryBudget retryBudget,
+                       @Value("${crawling.retry.scheduler-threads:2}") int schedulerThreads) {
+        this.meterRegistry = meterRegistry;
+        this.retryBudget = retryBudget;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.retryScheduler = Executors.newScheduledThreadPool(schedulerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "Retry-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+    }
+
     /**
-     * @Retryable 어노테이션이 적용된 메서드의 재시도를 처리합니다.
+     * @Retryable 어노테이션이 적용된 메서드(또는 클래스의 모든 메서드)의 재시도를 처리합니다.
      */
-    @Around("@annotation(com.crawling.core.annotation.Retryable)")
+    @Around("@annotation(com.crawling.core.annotation.Retryable) || @within(com.crawling.core.annotation.Retryable)")
     public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
-        Retryable annotation = getAnnotation(joinPoint, Retryable.class);
-        
-        int maxAttempts = annotation.maxAttempts();
-        long delay = annotation.delay();
-        boolean exponentialBackoff = annotation.exponentialBackoff();
-        
-        Exception lastException = null;
-        
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        RetryPolicy policy = policies.get(method);
+        if (policy == null) {
+            policy = policies.computeIfAbsent(method, m -> resolvePolicy(m, joinPoint.getTarget()));
+        }
+
+        // 예산 적립은 요청을 실제로 보내는 FetchGuard가 하므로 여기서는 재시도할 때 사용만 함
+        String host = policy.annotation.budget() ? budgetHost(joinPoint, policy) : null;
+
+        if (CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            attemptAsync(joinPoint, policy, host, result, 1, 0);
+            return result;
+        }
+        return retryBlocking(joinPoint, policy, host);
+    }
+
+    /**
+     * 동기 메서드 재시도: 반환값이 필요하므로 호출 스레드에서 대기합니다.
+     */
+    private Object retryBlocking(ProceedingJoinPoint joinPoint, RetryPolicy policy, String host) throws Throwable {
+        long totalDelay = 0;
+
+        for (int attempt = 1; ; attempt++) {
             try {
-                return joinPoint.proceed();
+                Object result = joinPoint.proceed();
+                policy.recordSuccess(attempt);
+                return result;
             } catch (Exception e) {
-                lastException = e;
-                
-                // 재시도하지 않을 예외인지 확인
-                if (shouldNotRetry(e, annotation)) {
+                long delay = nextDelay(joinPoint, policy, host, e, attempt, totalDelay);
+                if (delay < 0) {
                     throw e;
                 }
-                
-                // 마지막 시도인 경우 예외를 그대로 던짐
-                if (attempt == maxAttempts) {
-                    log.error("All {} attempts failed for method {}", maxAttempts, 
-                            joinPoint.getSignature().toShortString(), e);
-                    throw e;
-                }
-                
-                // 재시도 조건 확인
-                if (!shouldRetry(joinPoint, e, annotation)) {
-                    throw e;
-                }
-                
-                log.warn("Attempt {} failed for method {}, retrying in {}ms", 
-                        attempt, joinPoint.getSignature().toShortString(), delay);
-                
-                // 지연 시간 계산
-                long currentDelay = exponentialBackoff ? delay * (1L << (attempt - 1)) : delay;
-                
+                totalDelay += delay;
+
                 try {
-                    Thread.sleep(currentDelay);
+                    Thread.sleep(delay);
                 } catch (InterruptedException ie) {
                     Thread.currentThread().interrupt();
                     throw new RuntimeException("Retry interrupted", ie);
                 }
             }
         }
-        
-        throw lastException;
     }
-    
+
     /**
-     * 재시도하지 않을 예외인지 확인합니다.
+     * 비동기 메서드 재시도: future가 실패하면 다음 시도를 스케줄러에 예약하고 바로 반환합니다.
      */
-    private boolean shouldNotRetry(Exception e, Retryable annotation) {
-        Class<? extends Throwable>[] noRetryFor = annotation.noRetryFor();
-        
-        for (Class<? extends Throwable> exceptionClass : noRetryFor) {
-            if (exceptionClass.isAssignableFrom(e.getClass())) {
-                return true;
+    private void attemptAsync(ProceedingJoinPoint joinPoint, RetryPolicy policy, String host,
+                              CompletableFuture<Object> result, int attempt, long totalDelay) {
+        CompletableFuture<?> future;
+        try {
+            future = (CompletableFuture<?>) joinPoint.proceed();
+        } catch (Throwable e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        if (future == null) {
+            policy.recordSuccess(attempt);
+            result.complete(null);
+            return;
+        }
+
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                policy.recordSuccess(attempt);
+                result.complete(value);
+                return;
+            }
+
+            Throwable cause = unwrap(error);
+            long delay = cause instanceof Exception exception
+                    ? nextDelay(joinPoint, policy, host, exception, attempt, totalDelay)
+                    : -1;
+            if (delay < 0) {
+                result.completeExceptionally(cause);
+                return;
             }
+
+            try {
+                retryScheduler.schedule(() -> attemptAsync(joinPoint, policy, host, result, attempt + 1, totalDelay + delay),
+                        delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 마지막 예외로 완료
+                result.completeExceptionally(cause);
+            }
+        });
+    }
+
+    /**
+     * 다음 재시도까지의 대기 시간을 계산합니다. 재시도하지 않아야 하면 -1을 반환합니다.
+     */
+    private long nextDelay(ProceedingJoinPoint joinPoint, RetryPolicy policy, String host, Exception e,
+                           int attempt, long totalDelay) {
+        // 재시도하지 않을 예외이거나 재시도 대상 예외가 아닌 경우
+        Class<? extends Throwable>[] retryFor = policy.annotation.retryFor();
+        if (matches(e, policy.annotation.noRetryFor()) || (retryFor.length > 0 && !matches(e, retryFor))) {
+            policy.notRetried.increment();
+            return -1;
         }
-        
-        return false;
+
+        // 영구 오류(4xx, 파싱 오류 등)는 재시도하지 않음
+        RetryDecision decision = policy.annotation.classify()
+                ? RetryClassifier.classify(e)
+                : RetryDecision.retry("unclassified");
+        if (!decision.retryable()) {
+            policy.notRetried.increment();
+            log.debug("Not retrying {} ({}): {}", policy.displayName, decision.reason(), e.getMessage());
+            return -1;
+        }
+
+        // 마지막 시도인 경우
+        if (attempt >= policy.annotation.maxAttempts()) {
+            policy.failed.increment();
+            log.error("All {} attempts failed for method {}", attempt, policy.displayName, e);
+            return -1;
+        }
+
+        // 재시도 조건 확인
+        if (policy.condition != null && !evaluateCondition(joinPoint, policy, e, attempt)) {
+            policy.notRetried.increment();
+            return -1;
+        }
+
+        // 서버가 Retry-After로 요청한 시간보다 먼저 재시도하지 않음
+        long delay = Math.max(backoff(policy.annotation, attempt), decision.retryAfterMillis());
+        long maxTotalDelay = policy.annotation.maxTotalDelay();
+        if (maxTotalDelay > 0 && totalDelay + delay > maxTotalDelay) {
+            policy.failed.increment();
+            log.error("Retry delay budget {}ms exhausted after {} attempts for method {}",
+                    maxTotalDelay, attempt, policy.displayName, e);
+            return -1;
+        }
+
+        if (policy.annotation.budget() && !retryBudget.tryRetry(host)) {
+            policy.budgetExhausted.increment();
+            log.warn("Retry budget exhausted, not retrying method {}: {}", policy.displayName, e.getMessage());
+            return -1;
+        }
+
+        policy.attempts.increment();
+        log.warn("Attempt {} failed for method {}, retrying in {}ms: {}",
+                attempt, policy.displayName, delay, e.getMessage());
+        return delay;
     }
-    
+
     /**
-     * 재시도할지 여부를 확인합니다.
+     * 지수(또는 고정) 간격을 maxDelay로 제한한 뒤 전체 지터를 적용합니다.
      */
-    private boolean shouldRetry(ProceedingJoinPoint joinPoint, Exception e, Retryable annotation) {
-        Class<? extends Throwable>[] retryFor = annotation.retryFor();
-        
-        // 기본적으로 모든 예외에 대해 재시도
-        if (retryFor.length == 0) {
-            return true;
-        }
-        
-        // 지정된 예외 타입에 대해서만 재시도
-        for (Class<? extends Throwable> exceptionClass : retryFor) {
-            if (exceptionClass.isAssignableFrom(e.getClass())) {
+    private static long backoff(Retryable annotation, int attempt) {
+        long delay = annotation.delay();
+        if (annotation.exponentialBackoff()) {
+            int shift = Math.min(attempt - 1, 30);
+            delay = delay > annotation.maxDelay() >> shift ? annotation.maxDelay() : delay << shift;
+        }
+        delay = Math.min(delay, annotation.maxDelay());
+
+        if (annotation.jitter() && delay > 0) {
+            return ThreadLocalRandom.current().nextLong(delay + 1);
+        }
+        return delay;
+    }
+
+    private boolean evaluateCondition(ProceedingJoinPoint joinPoint, RetryPolicy policy, Exception e, int attempt) {
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                e, policy.method, joinPoint.getArgs(), PARAMETER_NAMES);
+        context.setVariable("exception", e);
+        context.setVariable("attempt", attempt);
+        try {
+            return Boolean.TRUE.equals(policy.condition.getValue(context, Boolean.class));
+        } catch (Exception conditionError) {
+            log.warn("Retry condition evaluation failed for method {}: {}", policy.displayName, conditionError.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * budgetHost 표현식을 평가하여 호스트 이름을 구합니다. (URL이면 호스트만 사용)
+     */
+    private String budgetHost(ProceedingJoinPoint joinPoint, RetryPolicy policy) {
+        if (policy.budgetHost == null) {
+            return null;
+        }
+        try {
+            MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                    null, policy.method, joinPoint.getArgs(), PARAMETER_NAMES);
+            String value = policy.budgetHost.getValue(context, String.class);
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            String host = value.contains("://") ? URI.create(value).getHost() : value;
+            return host != null ? host.toLowerCase() : null;
+        } catch (Exception e) {
+            log.debug("Retry budget host evaluation failed for method {}: {}", policy.displayName, e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean matches(Throwable e, Class<? extends Throwable>[] exceptionClasses) {
+        for (Class<? extends Throwable> exceptionClass : exceptionClasses) {
+            if (exceptionClass.isInstance(e)) {
                 return true;
             }
         }
-        
         return false;
     }
-    
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
     /**
-     * 어노테이션을 가져옵니다.
+     * 메서드의 @Retryable 설정을 해석합니다. (메서드 어노테이션이 클래스 어노테이션보다 우선)
      */
-    @SuppressWarnings("unchecked")
-    private <T> T getAnnotation(ProceedingJoinPoint joinPoint, Class<T> annotationClass) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        return (T) method.getAnnotation((Class<? extends java.lang.annotation.Annotation>) annotationClass);
+    private RetryPolicy resolvePolicy(Method method, Object target) {
+        Retryable annotation = AnnotationUtils.findAnnotation(method, Retryable.class);
+        if (annotation == null) {
+            annotation = AnnotationUtils.findAnnotation(method.getDeclaringClass(), Retryable.class);
+        }
+        if (annotation == null && target != null) {
+            annotation = AnnotationUtils.findAnnotation(AopUtils.getTargetClass(target), Retryable.class);
+        }
+        if (annotation == null) {
+            throw new IllegalStateException("@Retryable not found on " + method);
+        }
+
+        Expression condition = annotation.condition().isBlank()
+                ? null
+                : EXPRESSION_PARSER.parseExpression(annotation.condition());
+        Expression budgetHost = annotation.budgetHost().isBlank()
+                ? null
+                : EXPRESSION_PARSER.parseExpression(annotation.budgetHost());
+        return new RetryPolicy(method, annotation, condition, budgetHost, meterRegistry);
+    }
+
+    private static final class RetryPolicy {
+        private final Method method;
+        private final Retryable annotation;
+        private final Expression condition;
+        private final Expression budgetHost;
+        private final String displayName;
+        private final Counter successWithoutRetry;
+        private final Counter successAfterRetry;
+        private final Counter failed;
+        private final Counter notRetried;
+        private final Counter budgetExhausted;
+        private final Counter attempts;
+
+        private RetryPolicy(Method method, Retryable annotation, Expression condition, Expression budgetHost,
+                            MeterRegistry meterRegistry) {
+            this.method = method;
+            this.annotation = annotation;
+            this.condition = condition;
+            this.budgetHost = budgetHost;
+
+            String className = method.getDeclaringClass().getSimpleName();
+            this.displayName = className + "." + method.getName();
+            this.successWithoutRetry = callCounter(meterRegistry, className, method, "success_without_retry");
+            this.successAfterRetry = callCounter(meterRegistry, className, method, "success_after_retry");
+            this.failed = callCounter(meterRegistry, className, method, "failed");
+            this.notRetried = callCounter(meterRegistry, className, method, "not_retried");
+            this.budgetExhausted = callCounter(meterRegistry, className, method, "budget_exhausted");
+            this.attempts = Counter.builder(ATTEMPTS)
+                    .description("@Retryable 재시도 수")
+                    .tags("class", className, "method", method.getName())
+                    .register(meterRegistry);
+        }
+
+        private void recordSuccess(int attempt) {
+            if (attempt == 1) {
+                successWithoutRetry.increment();
+            } else {
+                successAfterRetry.increment();
+            }
+        }
+
+        private static Counter callCounter(MeterRegistry meterRegistry, String className, Method method, String result) {
+            return Counter.builder(CALLS)
+                    .description("@Retryable 호출 결과")
+                    .tags("class", className, "method", method.getName(), "result", result)
+                    .register(meterRegistry);
+        }
     }
 }
@@ -0,0 +1,136 @@
+package com.crawling.core.cache;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 응답 캐시 키 생성
+ *
+ * 키는 "크롤링 타입 + 정규화된 URL + 요청 옵션 해시" 입니다. 옵션(선택자, 헤더, User-Agent 등)은
+ * 이름순으로 정렬한 뒤 SHA-256으로 줄이므로 맵 순서가 달라도 같은 키가 되고,
+ * Authorization 같은 헤더 값이 키에 그대로 남지 않습니다.
+ */
+public final class FetchCacheKeys {
+
+    private FetchCacheKeys() {
+    }
+
+    public static String of(String type, String url, Map<String, ?> options) {
+        return type + " " + canonicalUrl(url) + " " + optionsHash(options);
+    }
+
+    /**
+     * 헤더 이름을 소문자로 바꾼 사본을 반환합니다.
+     */
+    public static Map<String, String> lowerCaseHeaders(Map<String, String> headers) {
+        if (headers == null || headers.isEmpty()) {
+            return null;
+        }
+        Map<String, String> lower = new TreeMap<>();
+        headers.forEach((name, value) -> lower.put(name.toLowerCase(Locale.ROOT), value));
+        return lower;
+    }
+
+    /**
+     * 스킴과 호스트를 소문자로, 기본 포트와 프래그먼트를 제거하고, 빈 경로는 "/"로,
+     * 쿼리 파라미터는 이름순으로 정렬합니다. (같은 이름의 파라미터는 원래 순서 유지)
+     * URL을 해석할 수 없으면 앞뒤 공백만 제거하여 반환합니다.
+     */
+    public static String canonicalUrl(String url) {
+        if (url == null) {
+            return "";
+        }
+        try {
+            URI uri = new URI(url.trim());
+            if (uri.getScheme() == null || uri.getRawAuthority() == null) {
+                return url.trim();
+            }
+            String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+            StringBuilder canonical = new StringBuilder(url.length()).append(scheme).append("://");
+            if (uri.getRawUserInfo() != null) {
+                canonical.append(uri.getRawUserInfo()).append('@');
+            }
+            canonical.append(uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : uri.getRawAuthority());
+            int port = uri.getPort();
+            if (port != -1 && !(port == 80 && "http".equals(scheme)) && !(port == 443 && "https".equals(scheme))) {
+                canonical.append(':').append(port);
+            }
+            String path = uri.getRawPath();
+            canonical.append(path == null || path.isEmpty() ? "/" : path);
+            String query = uri.getRawQuery();
+            if (query != null && !query.isEmpty()) {
+                canonical.append('?').append(sortedQuery(query));
+            }
+            return canonical.toString();
+        } catch (Exception e) {
+            return url.trim();
+        }
+    }
+
+    private static String sortedQuery(String query) {
+        List<String> params = new ArrayList<>(List.of(query.split("&")));
+        params.removeIf(String::isEmpty);
+        // 안정 정렬이므로 같은 이름의 파라미터는 원래 순서가 유지됨
+        params.sort((a, b) -> paramName(a).compareTo(paramName(b)));
+        return String.join("&", params);
+    }
+
+    private static String paramName(String param) {
+        int eq = param.indexOf('=');
+        return eq < 0 ? param : param.substring(0, eq);
+    }
+
+    private static String optionsHash(Map<String, ?> options) {
+        StringBuilder text = new StringBuilder();
+        if (options != null) {
+            appendCanonical(text, options);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 맵은 키 이름순으로, 목록은 원래 순서대로 기록합니다. (값이 null인 항목은 생략)
+     * 헤더 이름은 대소문자를 구분하지 않으므로 호출하는 쪽에서 소문자로 넘깁니다.
+     */
+    private static void appendCanonical(StringBuilder text, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            TreeMap<String, Object> sorted = new TreeMap<>();
+            map.forEach((k, v) -> {
+                if (v != null) {
+                    sorted.put(String.valueOf(k), v);
+                }
+            });
+            text.append('{');
+            sorted.forEach((k, v) -> {
+                text.append(k.length()).append(':').append(k).append('=');
+                appendCanonical(text, v);
+                text.append(';');
+            });
+            text.append('}');
+        } else if (value instanceof Collection<?> list) {
+            text.append('[');
+            for (Object item : list) {
+                appendCanonical(text, item);
+                text.append(',');
+            }
+            text.append(']');
+        } else {
+            String s = String.valueOf(value);
+            text.append(s.length()).append(':').append(s);
+        }
+    }
+}
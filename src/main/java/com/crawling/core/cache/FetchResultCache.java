@@ -0,0 +1,285 @@
+package com.crawling.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 크롤링 결과 캐시 (Caffeine)
+ *
+ * 항목마다 응답의 Cache-Control에 따라 유효 기간을 정합니다.
+ * no-store, no-cache 응답은 저장하지 않고, max-age가 있으면 그 값을 (max-ttl 이하로) 사용하며
+ * 없으면 default-ttl을 사용합니다. 유효 기간이 지난 뒤 stale-while-revalidate 기간 동안은
+ * 이전 결과를 바로 반환하고 crawlingTaskExecutor에서 한 번만 다시 가져와 교체합니다.
+ * 기간은 응답의 stale-while-revalidate 지시자가 있으면 그 값을 사용하고, 설정값은 Cache-Control이 없는 응답에만 적용합니다.
+ * (원본 서버가 Cache-Control로 유효 기간을 정했으면 그 기간이 지난 결과는 반환하지 않음)
+ *
+ * 용량은 항목 개수가 아니라 결과의 대략적인 크기(바이트, Weighable)로 제한합니다.
+ * Spring의 @Cacheable은 항목별 유효 기간과 stale-while-revalidate를 표현할 수 없어 Caffeine을 직접 사용합니다.
+ */
+@Slf4j
+@Component
+public class FetchResultCache {
+
+    public static final String CACHE_NAME = "fetchResults";
+
+    private final boolean enabled;
+    private final long defaultTtlNanos;
+    private final long maxTtlNanos;
+    private final long staleWhileRevalidateNanos;
+    private final Executor refreshExecutor;
+
+    private final Cache<String, Entry> cache;
+
+    private final Counter staleHits;
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+
+    public FetchResultCache(MeterRegistry meterRegistry,
+                            @Qualifier("crawlingTaskExecutor") Executor refreshExecutor,
+                            @Value("${crawling.cache.enabled:true}") boolean enabled,
+                            @Value("${crawling.cache.max-bytes:67108864}") long maxBytes,
+                            @Value("${crawling.cache.default-ttl:300}") long defaultTtlSeconds,
+                            @Value("${crawling.cache.max-ttl:3600}") long maxTtlSeconds,
+                            @Value("${crawling.cache.stale-while-revalidate:60}") long staleWhileRevalidateSeconds) {
+        this.enabled = enabled;
+        this.defaultTtlNanos = TimeUnit.SECONDS.toNanos(defaultTtlSeconds);
+        this.maxTtlNanos = TimeUnit.SECONDS.toNanos(maxTtlSeconds);
+        this.staleWhileRevalidateNanos = TimeUnit.SECONDS.toNanos(staleWhileRevalidateSeconds);
+        this.refreshExecutor = refreshExecutor;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Entry entry) -> entry.weight)
+                .expireAfter(new StaleExpiry())
+                .recordStats()
+                .build();
+
+        // cache.gets(result=hit|miss), cache.evictions, cache.eviction.weight 등
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("crawling.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("응답 캐시 적중률 (유효 기간이 지난 결과를 반환한 경우 포함)")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("crawling.cache.weight", cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("응답 캐시에 저장된 결과의 대략적인 크기")
+                .baseUnit("bytes")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        this.staleHits = Counter.builder("crawling.cache.stale")
+                .description("유효 기간이 지난 결과를 반환하고 백그라운드에서 다시 가져온 횟수")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        this.refreshSuccess = Counter.builder("crawling.cache.revalidations")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.refreshFailure = Counter.builder("crawling.cache.revalidations")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 loader로 가져와 저장합니다.
+     *
+     * @param key          FetchCacheKeys로 만든 키
+     * @param loader       실제 크롤링
+     * @param cacheControl 결과에서 Cache-Control 헤더 값을 꺼내는 함수 (없으면 null 반환)
+     * @param cacheable    저장할 결과인지 판단 (오류 응답 등은 저장하지 않음)
+     */
+    public <T> T get(String key, Supplier<T> loader, Function<T, String> cacheControl, Predicate<T> cacheable) {
+        if (!enabled) {
+            return loader.get();
+        }
+        T cached = getIfPresent(key, loader, cacheControl, cacheable);
+        if (cached != null) {
+            return cached;
+        }
+        T value = loader.get();
+        put(key, value, cacheControl, cacheable);
+        return value;
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 null을 반환합니다.
+     * 유효 기간이 지난 결과라면 그대로 반환하면서 loader로 백그라운드 재검증을 시작합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getIfPresent(String key, Supplier<T> loader, Function<T, String> cacheControl, Predicate<T> cacheable) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.freshUntilNanos >= 0 && entry.refreshing.compareAndSet(false, true)) {
+            staleHits.increment();
+            revalidate(key, entry, loader, cacheControl, cacheable);
+        }
+        return (T) entry.value;
+    }
+
+    /**
+     * 결과를 저장합니다. 저장했으면 true, 저장하지 않을 결과이면 false를 반환합니다.
+     */
+    public <T> boolean put(String key, T value, Function<T, String> cacheControl, Predicate<T> cacheable) {
+        if (!enabled || value == null || !cacheable.test(value)) {
+            return false;
+        }
+        Directives directives = Directives.parse(cacheControl.apply(value));
+        if (directives.noStore) {
+            cache.invalidate(key);
+            return false;
+        }
+
+        long ttl = directives.maxAgeNanos >= 0 ? Math.min(directives.maxAgeNanos, maxTtlNanos) : defaultTtlNanos;
+        long stale;
+        if (directives.staleWhileRevalidateNanos >= 0) {
+            stale = Math.min(directives.staleWhileRevalidateNanos, maxTtlNanos);
+        } else {
+            stale = directives.present ? 0 : staleWhileRevalidateNanos;
+        }
+        if (ttl + stale <= 0) {
+            return false;
+        }
+
+        long now = System.nanoTime();
+        cache.put(key, new Entry(value, now + ttl, ttl + stale, weigh(key, value)));
+        return true;
+    }
+
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private <T> void revalidate(String key, Entry stale, Supplier<T> loader,
+                                Function<T, String> cacheControl, Predicate<T> cacheable) {
+        Runnable task = () -> {
+            try {
+                T value = loader.get();
+                if (put(key, value, cacheControl, cacheable)) {
+                    refreshSuccess.increment();
+                    return;
+                }
+                // 다시 가져온 결과를 저장할 수 없으면 이전 결과를 남은 기간 동안 그대로 사용
+                refreshFailure.increment();
+            } catch (Exception e) {
+                refreshFailure.increment();
+                log.debug("캐시 재검증 실패: {} - {}", key, e.getMessage());
+            }
+            stale.refreshing.set(false);
+        };
+        try {
+            refreshExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            stale.refreshing.set(false);
+        }
+    }
+
+    /**
+     * 키와 결과의 대략적인 크기를 계산합니다. (Weighable 참고)
+     * 결과를 문자열로 만들어 길이를 재면 저장할 때마다 본문 크기만큼의 문자열이 생기므로 필드 크기만 더합니다.
+     */
+    private static int weigh(String key, Object value) {
+        long bytes = Weighable.sizeOf(key) + Weighable.sizeOf(value);
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final long freshUntilNanos;
+        private final long lifetimeNanos;
+        private final int weight;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(Object value, long freshUntilNanos, long lifetimeNanos, int weight) {
+            this.value = value;
+            this.freshUntilNanos = freshUntilNanos;
+            this.lifetimeNanos = lifetimeNanos;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * 항목은 유효 기간 + stale-while-revalidate 기간이 지나면 제거됩니다. 조회는 기간을 늘리지 않습니다.
+     */
+    private static final class StaleExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.lifetimeNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.lifetimeNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * 캐시에 필요한 Cache-Control 지시자 (값이 없으면 -1, present는 Cache-Control 헤더가 있었는지 여부)
+     */
+    record Directives(boolean present, boolean noStore, long maxAgeNanos, long staleWhileRevalidateNanos) {
+
+        private static final Directives NONE = new Directives(false, false, -1, -1);
+
+        static Directives parse(String header) {
+            if (header == null || header.isBlank()) {
+                return NONE;
+            }
+            boolean noStore = false;
+            long maxAge = -1;
+            long staleWhileRevalidate = -1;
+            for (String part : header.split(",")) {
+                String directive = part.trim().toLowerCase(Locale.ROOT);
+                if (directive.equals("no-store") || directive.startsWith("no-cache")) {
+                    noStore = true;
+                } else if (directive.startsWith("max-age=")) {
+                    maxAge = seconds(directive.substring("max-age=".length()));
+                } else if (directive.startsWith("stale-while-revalidate=")) {
+                    staleWhileRevalidate = seconds(directive.substring("stale-while-revalidate=".length()));
+                }
+            }
+            return new Directives(true, noStore, maxAge, staleWhileRevalidate);
+        }
+
+        private static long seconds(String value) {
+            try {
+                String trimmed = value.replace("\"", "").trim();
+                return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(trimmed)));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.crawling.core.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동시 요청 병합 (single-flight)
+ *
+ * 같은 키의 요청이 이미 진행 중이면 새로 가져오지 않고 진행 중인 요청의 결과(또는 예외)를 함께 받습니다.
+ * 결과는 진행 중인 동안에만 공유하며 끝나면 바로 지웁니다. (보관은 FetchResultCache의 역할)
+ * 진행 중인 키가 max-in-flight 개를 넘으면 병합 없이 바로 실행하여 맵이 한없이 커지지 않도록 합니다.
+ * 병합된 요청은 같은 응답 객체를 받으므로 호출하는 쪽에서 결과를 수정하지 않아야 합니다.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final boolean enabled;
+    private final int maxInFlight;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter joined;
+    private final Counter bypassed;
+
+    public RequestCoalescer(MeterRegistry meterRegistry,
+                            @Value("${crawling.coalesce.enabled:true}") boolean enabled,
+                            @Value("${crawling.coalesce.max-in-flight:1000}") int maxInFlight) {
+        this.enabled = enabled;
+        this.maxInFlight = Math.max(1, maxInFlight);
+
+        this.leaders = Counter.builder("crawling.coalesce.requests")
+                .description("동시 요청 병합 결과")
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.joined = Counter.builder("crawling.coalesce.requests")
+                .description("동시 요청 병합 결과")
+                .tag("result", "joined")
+                .register(meterRegistry);
+        this.bypassed = Counter.builder("crawling.coalesce.requests")
+                .description("동시 요청 병합 결과")
+                .tag("result", "bypassed")
+                .register(meterRegistry);
+        Gauge.builder("crawling.coalesce.in-flight", inFlight, Map::size)
+                .description("진행 중인 병합 대상 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * key의 요청이 진행 중이면 그 결과를 기다려 반환하고, 없으면 call을 실행합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        CompletableFuture<Object> existing = inFlight.get(key);
+        if (existing == null) {
+            if (inFlight.size() >= maxInFlight) {
+                bypassed.increment();
+                return call.get();
+            }
+            CompletableFuture<Object> mine = new CompletableFuture<>();
+            existing = inFlight.putIfAbsent(key, mine);
+            if (existing == null) {
+                leaders.increment();
+                return lead(key, mine, call);
+            }
+        }
+
+        joined.increment();
+        try {
+            return (T) existing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * execute의 비동기 버전. key의 요청이 진행 중이면 그 결과를 받는 future를, 없으면 call이 반환한 future를 반환합니다.
+     * 진행 중 표시는 call의 future가 끝나면 지웁니다. 기다리지 않으므로 여러 요청을 보내는 스레드에서 사용합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String key, Supplier<CompletableFuture<T>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        CompletableFuture<Object> existing = inFlight.get(key);
+        if (existing == null) {
+            if (inFlight.size() >= maxInFlight) {
+                bypassed.increment();
+                return call.get();
+            }
+            CompletableFuture<Object> mine = new CompletableFuture<>();
+            existing = inFlight.putIfAbsent(key, mine);
+            if (existing == null) {
+                leaders.increment();
+                return leadAsync(key, mine, call);
+            }
+        }
+
+        joined.increment();
+        // 받는 쪽이 future를 완료시켜도 진행 중인 요청에는 영향이 없도록 복사본을 반환
+        return (CompletableFuture<T>) existing.copy();
+    }
+
+    private <T> CompletableFuture<T> leadAsync(String key, CompletableFuture<Object> mine,
+                                               Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        result.whenComplete((value, error) -> {
+            inFlight.remove(key, mine);
+            if (error != null) {
+                mine.completeExceptionally(error);
+            } else {
+                mine.complete(value);
+            }
+        });
+        return result;
+    }
+
+    private <T> T lead(String key, CompletableFuture<Object> mine, Supplier<T> call) {
+        try {
+            T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+}
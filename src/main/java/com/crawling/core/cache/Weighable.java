@@ -0,0 +1,66 @@
+package com.crawling.core.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * FetchResultCache에 저장하는 결과의 대략적인 크기 (바이트)
+ *
+ * 캐시 용량은 저장할 때마다 계산한 크기로 제한하므로, 결과 전체를 문자열(toString)로 만들지 않고
+ * 크기를 차지하는 필드(본문, HTML, 추출 결과 등)만 더해서 계산합니다.
+ * 이 인터페이스를 구현하지 않은 결과는 고정 크기로 계산됩니다.
+ */
+public interface Weighable {
+
+    /**
+     * 객체 하나의 대략적인 고정 크기 (헤더와 참조)
+     */
+    long OBJECT_OVERHEAD = 16;
+
+    long estimatedBytes();
+
+    /**
+     * 값의 대략적인 크기를 계산합니다.
+     * 문자열은 문자당 2바이트, Map과 Collection은 원소 크기의 합이며, 그 외 값은 고정 크기입니다.
+     */
+    static long sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Weighable weighable) {
+            return weighable.estimatedBytes();
+        }
+        if (value instanceof CharSequence text) {
+            return OBJECT_OVERHEAD + 2L * text.length();
+        }
+        if (value instanceof byte[] bytes) {
+            return OBJECT_OVERHEAD + bytes.length;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = OBJECT_OVERHEAD;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += OBJECT_OVERHEAD + sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = OBJECT_OVERHEAD;
+            for (Object item : collection) {
+                size += 8 + sizeOf(item);
+            }
+            return size;
+        }
+        return OBJECT_OVERHEAD;
+    }
+
+    /**
+     * 필드 값들의 크기를 더합니다. (estimatedBytes 구현용)
+     */
+    static long sizeOfAll(Object... values) {
+        long size = OBJECT_OVERHEAD;
+        for (Object value : values) {
+            size += 8 + sizeOf(value);
+        }
+        return size;
+    }
+}
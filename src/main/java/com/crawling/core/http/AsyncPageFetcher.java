@@ -0,0 +1,365 @@
+package com.crawling.core.http;
+
+import com.crawling.core.metrics.CrawlSample;
+import com.crawling.core.metrics.CrawlingMetrics;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.protocol.RedirectLocations;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 HTTP 클라이언트(crawlingAsyncHttpClient)로 본문을 받아 재사용 버퍼에 담습니다.
+ *
+ * 요청마다 스레드를 붙잡지 않고 적은 수의 I/O 스레드가 많은 요청을 동시에 처리하며, HTTPS에서는 ALPN으로 HTTP/2를 협상합니다.
+ * 받은 데이터는 도착하는 대로 PageBufferPool의 버퍼에 담고, 최대 크기를 넘으면 그 지점에서 결과를 넘긴 뒤 요청을 취소하여
+ * 남은 본문을 받지 않습니다. 본문을 담을 BodyWriter(메모리 예산)는 호출한 쪽이 FetchGuard의 자리를 얻기 전에 열어 넘기므로,
+ * 예산을 기다리는 시간은 호스트의 동시 요청 자리를 차지하지 않고 AIMD 지연 시간이나 서킷의 느린 호출로도 기록되지 않습니다.
+ * 본문이 gzip, deflate로 압축되어 오면 받은 조각을 ContentDecoder로 바로 풀어 담으며, 최대 크기는 푼 뒤의 크기에 적용됩니다.
+ * crawling.http.async.enabled가 true이면 API, Jsoup, BeautifulSoup 크롤링이 blocking 클라이언트 대신 사용합니다.
+ * 여러 URL을 한 번에 크롤링할 때는 dispatch()로 요청마다 전송 전용 스레드에서 보내, 한 요청의 대기가 나머지를 막지 않도록 합니다.
+ * 전송 스레드는 FetchGuard의 대기(속도 제한, 동시 요청 한도)에서 멈출 수 있으므로 한 호스트가 동시에 차지하는 전송 스레드는
+ * crawling.http.async.dispatch-per-host개로 제한하고, 넘는 요청은 호스트별 대기열에 두었다가 그 호스트의 전송이 끝나면 보냅니다.
+ */
+@Component
+public class AsyncPageFetcher {
+
+    /**
+     * 연결 시간을 기록할 CrawlSample을 담는 HttpContext 속성 이름
+     */
+    public static final String SAMPLE_ATTRIBUTE = "crawling.sample";
+
+    private final CloseableHttpAsyncClient httpClient;
+    private final FetchBodyPolicy fetchBodyPolicy;
+    private final ContentDecoder contentDecoder;
+    private final boolean enabled;
+    private final ThreadPoolExecutor dispatchExecutor;
+    private final int dispatchPerHost;
+    /**
+     * 전송 스레드를 차지하고 있거나 자리를 기다리는 호스트별 요청 (모두 보내면 제거)
+     */
+    private final Map<String, HostLane> hostLanes = new HashMap<>();
+
+    public AsyncPageFetcher(CloseableHttpAsyncClient crawlingAsyncHttpClient,
+                            FetchBodyPolicy fetchBodyPolicy,
+                            ContentDecoder contentDecoder,
+                            CrawlingMetrics crawlingMetrics,
+                            @Value("${crawling.http.async.enabled:false}") boolean enabled,
+                            @Value("${crawling.http.async.dispatch-threads:32}") int dispatchThreads,
+                            @Value("${crawling.http.async.dispatch-per-host:4}") int dispatchPerHost) {
+        this.httpClient = crawlingAsyncHttpClient;
+        this.fetchBodyPolicy = fetchBodyPolicy;
+        this.contentDecoder = contentDecoder;
+        this.enabled = enabled;
+
+        int threads = Math.max(1, dispatchThreads);
+        this.dispatchPerHost = Math.max(1, Math.min(dispatchPerHost, threads));
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatchExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "async-dispatch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatchExecutor.allowCoreThreadTimeOut(true);
+        crawlingMetrics.bindExecutor(dispatchExecutor, "asyncDispatch");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
+    }
+
+    /**
+     * 크롤링 서비스가 blocking 클라이언트 대신 이 클라이언트를 사용할지 여부
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * send(요청을 보내기까지 메모리 예산, 서킷, 속도 제한, 동시 요청 한도를 기다린 뒤 fetch 호출)를 전송 전용 스레드에서 실행합니다.
+     * 호출 스레드가 배치의 요청을 차례로 보내면 한 호스트의 대기가 뒤의 모든 요청을 막으므로 요청마다 따로 보냅니다.
+     * 전송 스레드는 요청을 보내면 바로 돌아오고(응답은 I/O 스레드가 받음), 파싱 스레드와 분리되어 있어
+     * 메모리 예산을 기다리는 요청이 예산을 돌려줄 파싱 작업을 막지 않습니다.
+     * url의 호스트가 이미 dispatch-per-host개의 전송 스레드를 차지하고 있으면 호스트별 대기열에서 기다리므로,
+     * 속도 제한에 걸린 한 호스트의 요청이 많아도 다른 호스트의 요청은 남은 전송 스레드로 보냅니다.
+     *
+     * @param url 요청할 URL (전송 스레드를 나눌 호스트를 정하는 데만 사용)
+     */
+    public <T> CompletableFuture<T> dispatch(String url, Supplier<CompletableFuture<T>> send) {
+        String host = host(url);
+        CompletableFuture<CompletableFuture<T>> sent = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                sent.complete(send.get());
+            } catch (Throwable e) {
+                sent.completeExceptionally(e);
+            } finally {
+                // 보내기를 마쳤으면(응답은 기다리지 않음) 같은 호스트의 다음 요청에 전송 스레드를 넘김
+                Runnable next = release(host);
+                if (next != null) {
+                    dispatchExecutor.execute(next);
+                }
+            }
+        };
+        boolean start;
+        synchronized (hostLanes) {
+            HostLane lane = hostLanes.computeIfAbsent(host, h -> new HostLane());
+            start = lane.running < dispatchPerHost;
+            if (start) {
+                lane.running++;
+            } else {
+                lane.waiting.add(task);
+            }
+        }
+        if (start) {
+            dispatchExecutor.execute(task);
+        }
+        return sent.thenCompose(Function.identity());
+    }
+
+    /**
+     * 끝난 전송의 자리를 반납하고, 그 호스트에 기다리는 요청이 있으면 자리를 넘겨 반환합니다.
+     */
+    private Runnable release(String host) {
+        synchronized (hostLanes) {
+            HostLane lane = hostLanes.get(host);
+            Runnable next = lane.waiting.poll();
+            if (next == null && --lane.running == 0) {
+                hostLanes.remove(host);
+            }
+            return next;
+        }
+    }
+
+    /**
+     * 한 호스트가 차지한 전송 스레드 수와 자리를 기다리는 요청 (hostLanes로 동기화)
+     */
+    private static final class HostLane {
+
+        private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+        private int running;
+    }
+
+    private static String host(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : "";
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return "";
+        }
+    }
+
+    /**
+     * url을 GET으로 요청합니다. 결과로 받은 FetchedPage는 사용 후 닫아야 버퍼와 메모리 예산이 돌아갑니다.
+     * Content-Type이 허용되지 않으면 ContentTypeNotAllowedException으로, 풀 수 없는 Content-Encoding이면
+     * UnsupportedContentEncodingException으로 실패합니다.
+     *
+     * @param writer          본문을 담을 BodyWriter. 호출한 쪽이 FetchGuard의 자리를 얻기 전에 PageBufferPool.open으로 열어 넘기며,
+     *                        넘긴 뒤에는 이 메서드가 맡아 요청이 실패하면 닫음
+     * @param timeoutMillis   응답 대기 시간 (0 이하면 클라이언트 기본값)
+     * @param followRedirects 리다이렉트를 따라갈지 여부
+     * @param sample          TTFB, DOWNLOAD 단계와 연결 시간을 기록할 측정 (null 가능)
+     */
+    public CompletableFuture<FetchedPage> fetch(String url, Map<String, String> headers, PageBufferPool.BodyWriter writer,
+                                                int timeoutMillis, boolean followRedirects, CrawlSample sample) {
+        BodyConsumer consumer;
+        AsyncRequestBuilder request;
+        HttpClientContext context;
+        try {
+            request = AsyncRequestBuilder.get(url);
+            headers.forEach(request::setHeader);
+            // 조각 단위로 풀 수 있는 방식만 받도록 요청 헤더의 값과 관계없이 지정
+            request.setHeader(ContentDecoder.ACCEPT_ENCODING, contentDecoder.asyncAcceptEncoding());
+
+            RequestConfig.Builder config = RequestConfig.custom().setRedirectsEnabled(followRedirects);
+            if (timeoutMillis > 0) {
+                config.setResponseTimeout(Timeout.ofMilliseconds(timeoutMillis));
+            }
+            context = HttpClientContext.create();
+            context.setRequestConfig(config.build());
+            if (sample != null) {
+                context.setAttribute(SAMPLE_ATTRIBUTE, sample);
+            }
+            consumer = new BodyConsumer(url, context, writer, sample);
+        } catch (RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+
+        Future<FetchedPage> exchange;
+        try {
+            exchange = httpClient.execute(request.build(), consumer, context, new FutureCallback<>() {
+                @Override
+                public void completed(FetchedPage page) {
+                    // 결과는 consumer가 이미 넘김
+                }
+
+                @Override
+                public void failed(Exception cause) {
+                    consumer.result.completeExceptionally(cause);
+                }
+
+                @Override
+                public void cancelled() {
+                    consumer.result.cancel(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            consumer.releaseResources();
+            throw e;
+        }
+        // 최대 크기를 넘어 먼저 끝낸 요청은 남은 본문을 받지 않도록 취소 (HTTP/2는 스트림만, HTTP/1.1은 연결을 닫음)
+        consumer.result.whenComplete((page, error) -> {
+            if (page != null && page.body() != null && page.body().truncated()) {
+                exchange.cancel(true);
+            }
+        });
+        return consumer.result;
+    }
+
+    /**
+     * 응답 본문을 도착하는 대로 BodyWriter에 담습니다. I/O 스레드에서 호출됩니다.
+     */
+    private final class BodyConsumer implements AsyncResponseConsumer<FetchedPage> {
+
+        private final String url;
+        private final HttpClientContext context;
+        private final PageBufferPool.BodyWriter writer;
+        private final CrawlSample sample;
+        private final CompletableFuture<FetchedPage> result = new CompletableFuture<>();
+
+        private HttpResponse response;
+        private String contentType;
+        private ContentDecoder.StreamingDecoder decoder;
+        private FutureCallback<FetchedPage> resultCallback;
+
+        private BodyConsumer(String url, HttpClientContext context, PageBufferPool.BodyWriter writer, CrawlSample sample) {
+            this.url = url;
+            this.context = context;
+            this.writer = writer;
+            this.sample = sample;
+        }
+
+        @Override
+        public void consumeResponse(HttpResponse response, EntityDetails entityDetails, HttpContext httpContext,
+                                    FutureCallback<FetchedPage> resultCallback) throws HttpException, IOException {
+            if (sample != null) {
+                sample.lap(CrawlSample.Stage.TTFB);
+            }
+            this.response = response;
+            this.resultCallback = resultCallback;
+            if (entityDetails == null) {
+                complete(true);
+                return;
+            }
+            this.contentType = entityDetails.getContentType();
+            fetchBodyPolicy.checkContentType(url, contentType);
+            this.decoder = contentDecoder.streamingDecoder(url, entityDetails.getContentEncoding());
+            if (entityDetails.getContentEncoding() == null) {
+                // 압축된 본문은 Content-Length가 푼 뒤의 크기가 아니므로 버퍼를 미리 키우지 않음
+                writer.expect(entityDetails.getContentLength());
+            }
+        }
+
+        @Override
+        public void informationResponse(HttpResponse response, HttpContext httpContext) {
+        }
+
+        @Override
+        public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+            // 최대 크기까지는 모두 받으므로 흐름 제어로 멈추지 않음
+            capacityChannel.update(Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void consume(ByteBuffer src) throws IOException {
+            if (!decoder.write(src, writer)) {
+                complete(false);
+            }
+        }
+
+        @Override
+        public void streamEnd(List<? extends Header> trailers) {
+            complete(true);
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            releaseResources();
+        }
+
+        @Override
+        public void releaseResources() {
+            // finish() 뒤에는 본문이 FetchedPage로 넘어갔으므로 아무것도 하지 않음
+            if (decoder != null) {
+                decoder.finish(writer.length());
+            }
+            writer.abort();
+        }
+
+        /**
+         * @param endOfStream 본문을 끝까지 받았는지 여부 (false이면 잘려서 먼저 끝냄)
+         */
+        private void complete(boolean endOfStream) {
+            if (result.isDone()) {
+                return;
+            }
+            if (sample != null) {
+                sample.lap(CrawlSample.Stage.DOWNLOAD);
+            }
+            HttpResponse received = response;
+            if (decoder != null) {
+                decoder.finish(writer.length());
+            }
+            FetchedPage page = new FetchedPage(finalUrl(), received.getCode(),
+                    received.getVersion() != null ? received.getVersion().format() : null,
+                    name -> {
+                        Header header = received.getFirstHeader(name);
+                        return header != null ? header.getValue() : null;
+                    },
+                    writer.finish(contentType));
+            if (!result.complete(page)) {
+                page.close();
+            }
+            if (endOfStream) {
+                resultCallback.completed(page);
+            }
+        }
+
+        private String finalUrl() {
+            RedirectLocations locations = context.getRedirectLocations();
+            return locations != null && locations.size() > 0 ? locations.get(locations.size() - 1).toString() : url;
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.crawling.core.http;
+
+import com.crawling.core.metrics.CrawlingMetrics;
+import org.brotli.dec.BrotliInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 응답 압축(Content-Encoding) 협상과 스트리밍 해제
+ *
+ * 모든 전송 경로에서 Accept-Encoding을 보내고, 받은 본문은 압축된 채로 모으지 않고 읽는 대로 풀어 PageBufferPool 버퍼로 넘깁니다.
+ * 최대 크기(max-bytes)는 푼 뒤의 크기에 적용되므로 압축 폭탄도 그 지점에서 멈춥니다.
+ * 경로마다 풀 수 있는 방식만 요청합니다.
+ * - blocking HTTP 클라이언트: br, gzip, deflate (클라이언트 자체 해제는 끄고 여기서 풀어 전송 크기를 잽니다)
+ * - Jsoup: br, gzip (Jsoup이 gzip을 직접 풀고 deflate는 zlib 형식을 처리하지 못하므로 br만 여기서 풂)
+ * - 비동기 클라이언트: gzip, deflate (받은 조각을 그대로 넘겨받아 풀어야 하므로 Inflater로 처리되는 방식만)
+ * 호스트, Content-Encoding별로 전송된 크기와 푼 크기를 crawling.http.compression.* 메트릭에 기록합니다.
+ */
+@Component
+public class ContentDecoder {
+
+    public static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    private static final String IDENTITY = "identity";
+    private static final int INFLATE_CHUNK = 16 * 1024;
+    private static final int MAX_GZIP_HEADER = 64 * 1024;
+
+    private final CrawlingMetrics crawlingMetrics;
+    private final boolean enabled;
+
+    public ContentDecoder(CrawlingMetrics crawlingMetrics,
+                          @Value("${crawling.http.compression.enabled:true}") boolean enabled) {
+        this.crawlingMetrics = crawlingMetrics;
+        this.enabled = enabled;
+    }
+
+    /**
+     * blocking HTTP 클라이언트로 보낼 Accept-Encoding
+     */
+    public String acceptEncoding() {
+        return enabled ? "br, gzip, deflate" : IDENTITY;
+    }
+
+    /**
+     * Jsoup 연결로 보낼 Accept-Encoding
+     */
+    public String jsoupAcceptEncoding() {
+        return enabled ? "br, gzip" : IDENTITY;
+    }
+
+    /**
+     * 비동기 클라이언트로 보낼 Accept-Encoding
+     */
+    public String asyncAcceptEncoding() {
+        return enabled ? "gzip, deflate" : IDENTITY;
+    }
+
+    /**
+     * 압축된 본문 스트림을 읽는 대로 푸는 스트림으로 감쌉니다. 닫을 때 전송된 크기와 푼 크기를 기록합니다.
+     *
+     * @throws UnsupportedContentEncodingException 풀 수 없는 Content-Encoding인 경우
+     */
+    public InputStream decode(String url, InputStream raw, String contentEncoding) throws IOException {
+        List<String> codings = codings(contentEncoding);
+        CountingInputStream wire = new CountingInputStream(raw);
+        InputStream in = wire;
+        // 여러 방식이 적용됐으면 적용한 순서의 반대로 풂
+        for (int i = codings.size() - 1; i >= 0; i--) {
+            in = decoder(url, codings.get(i), in, contentEncoding);
+        }
+        return new RecordingInputStream(in, url, label(codings), wire, -1);
+    }
+
+    /**
+     * Jsoup이 돌려준 본문 스트림을 감쌉니다. Jsoup이 gzip, deflate는 이미 풀었으므로 그 외(br)만 풉니다.
+     * Jsoup이 푼 경우 전송된 크기는 Content-Length로만 알 수 있습니다. (없으면 응답 수만 기록)
+     *
+     * @param contentLength Content-Length 헤더 값 (모르면 -1)
+     */
+    public InputStream decodeJsoupBody(String url, InputStream body, String contentEncoding, long contentLength) throws IOException {
+        List<String> codings = codings(contentEncoding);
+        if (codings.size() == 1 && isInflated(codings.get(0))) {
+            return new RecordingInputStream(body, url, label(codings), null, contentLength);
+        }
+        return decode(url, body, contentEncoding);
+    }
+
+    /**
+     * 비동기 클라이언트가 넘겨주는 본문 조각을 풀어 BodyWriter에 담는 해제기를 만듭니다.
+     *
+     * @throws UnsupportedContentEncodingException 조각 단위로 풀 수 없는 Content-Encoding인 경우
+     */
+    public StreamingDecoder streamingDecoder(String url, String contentEncoding) throws UnsupportedContentEncodingException {
+        List<String> codings = codings(contentEncoding);
+        if (codings.size() > 1 || (codings.size() == 1 && !isInflated(codings.get(0)))) {
+            throw new UnsupportedContentEncodingException(url, contentEncoding);
+        }
+        return new StreamingDecoder(url, codings.isEmpty() ? null : codings.get(0));
+    }
+
+    private static InputStream decoder(String url, String coding, InputStream in, String contentEncoding) throws IOException {
+        // 빈 본문은 압축 헤더도 없으므로 그대로 둠 (GZIPInputStream은 만들 때 헤더를 읽음)
+        PushbackInputStream pushback = new PushbackInputStream(in, 2);
+        byte[] head = new byte[2];
+        int n = pushback.readNBytes(head, 0, 2);
+        if (n > 0) {
+            pushback.unread(head, 0, n);
+        }
+        switch (coding) {
+            case "gzip":
+            case "x-gzip":
+                return n == 0 ? pushback : new GZIPInputStream(pushback, INFLATE_CHUNK);
+            case "deflate":
+                // 원래 zlib 형식이지만 헤더 없는 deflate를 보내는 서버도 있어 앞의 두 바이트로 구분
+                return n == 0 ? pushback
+                        : new InflaterInputStream(pushback, new Inflater(!(n == 2 && isZlibHeader(head[0], head[1]))), INFLATE_CHUNK);
+            case "br":
+                return n == 0 ? pushback : new BrotliInputStream(pushback);
+            default:
+                throw new UnsupportedContentEncodingException(url, contentEncoding);
+        }
+    }
+
+    private static boolean isZlibHeader(byte cmf, byte flg) {
+        return (cmf & 0x0F) == 8 && (((cmf & 0xFF) << 8) | (flg & 0xFF)) % 31 == 0;
+    }
+
+    private static boolean isInflated(String coding) {
+        return coding.equals("gzip") || coding.equals("x-gzip") || coding.equals("deflate");
+    }
+
+    private static List<String> codings(String contentEncoding) {
+        List<String> codings = new ArrayList<>();
+        if (contentEncoding == null) {
+            return codings;
+        }
+        for (String coding : contentEncoding.split(",")) {
+            String trimmed = coding.trim().toLowerCase(Locale.ROOT);
+            if (!trimmed.isEmpty() && !trimmed.equals(IDENTITY)) {
+                codings.add(trimmed);
+            }
+        }
+        return codings;
+    }
+
+    private static String label(List<String> codings) {
+        return codings.isEmpty() ? IDENTITY : String.join(",", codings);
+    }
+
+    /**
+     * 비동기 클라이언트의 본문 조각을 풀어 BodyWriter에 담습니다. 한 응답의 I/O 스레드에서만 사용합니다.
+     * 끝나면 finish()로 크기를 기록하고 Inflater를 해제해야 합니다.
+     */
+    public final class StreamingDecoder {
+
+        private final String url;
+        private final String coding;
+        private final boolean gzip;
+        private Inflater inflater;
+        private byte[] header;
+        private int headerLength;
+        private byte[] chunk;
+        private long wireBytes;
+        private boolean finished;
+
+        private StreamingDecoder(String url, String coding) {
+            this.url = url;
+            this.coding = coding;
+            this.gzip = coding != null && !coding.equals("deflate");
+        }
+
+        /**
+         * src의 남은 데이터를 풀어 writer에 담습니다. 최대 크기를 넘으면 false를 반환합니다.
+         */
+        public boolean write(ByteBuffer src, PageBufferPool.BodyWriter writer) throws IOException {
+            wireBytes += src.remaining();
+            if (coding == null) {
+                return writer.write(src);
+            }
+            if (inflater == null && !start(src)) {
+                // 헤더를 다 받을 때까지 기다림
+                return true;
+            }
+            return inflate(src, writer);
+        }
+
+        /**
+         * 전송된 크기와 푼 크기를 기록하고 Inflater를 해제합니다. 여러 번 호출해도 한 번만 기록합니다.
+         */
+        public void finish(long decodedBytes) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (inflater != null) {
+                inflater.end();
+            }
+            crawlingMetrics.recordCompression(url, coding != null ? coding : IDENTITY, wireBytes, decodedBytes);
+        }
+
+        /**
+         * 압축 헤더를 모아 Inflater를 준비합니다. 헤더가 아직 다 오지 않았으면 false를 반환합니다.
+         */
+        private boolean start(ByteBuffer src) throws IOException {
+            if (header == null) {
+                header = new byte[Math.max(16, src.remaining())];
+            }
+            if (headerLength + src.remaining() > header.length) {
+                if (headerLength + src.remaining() > MAX_GZIP_HEADER) {
+                    throw new IOException("압축 헤더가 너무 깁니다: " + url);
+                }
+                header = Arrays.copyOf(header, Math.max(header.length * 2, headerLength + src.remaining()));
+            }
+            int n = src.remaining();
+            src.get(header, headerLength, n);
+            headerLength += n;
+
+            int offset;
+            if (gzip) {
+                offset = gzipHeaderLength(header, headerLength);
+                if (offset < 0) {
+                    return false;
+                }
+                inflater = new Inflater(true);
+            } else {
+                if (headerLength < 2) {
+                    return false;
+                }
+                offset = 0;
+                inflater = new Inflater(!isZlibHeader(header[0], header[1]));
+            }
+            chunk = new byte[INFLATE_CHUNK];
+            // 모아 둔 헤더 뒤의 데이터부터 풂 (src는 모두 옮겼으므로 모아 둔 버퍼를 입력으로 사용)
+            byte[] rest = Arrays.copyOfRange(header, offset, headerLength);
+            header = null;
+            src.position(src.limit());
+            inflater.setInput(rest);
+            return true;
+        }
+
+        private boolean inflate(ByteBuffer src, PageBufferPool.BodyWriter writer) throws IOException {
+            if (src.hasRemaining() && !inflater.finished()) {
+                inflater.setInput(src);
+            }
+            try {
+                while (!inflater.finished()) {
+                    int n = inflater.inflate(chunk);
+                    if (n > 0) {
+                        if (!writer.write(ByteBuffer.wrap(chunk, 0, n))) {
+                            return false;
+                        }
+                    } else if (inflater.needsInput()) {
+                        break;
+                    } else if (inflater.needsDictionary()) {
+                        throw new IOException("사전이 필요한 deflate 스트림은 지원하지 않습니다: " + url);
+                    }
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("압축된 본문을 풀 수 없습니다: " + url, e);
+            }
+            // 끝난 뒤의 gzip 트레일러(CRC, 길이)는 버림
+            src.position(src.limit());
+            return true;
+        }
+    }
+
+    /**
+     * gzip 헤더 길이. 아직 헤더를 다 받지 못했으면 -1을 반환합니다. (RFC 1952)
+     */
+    static int gzipHeaderLength(byte[] buffer, int length) throws IOException {
+        if (length < 10) {
+            return -1;
+        }
+        if ((buffer[0] & 0xFF) != 0x1F || (buffer[1] & 0xFF) != 0x8B || buffer[2] != 8) {
+            throw new IOException("gzip 형식이 아닙니다.");
+        }
+        int flags = buffer[3] & 0xFF;
+        int offset = 10;
+        if ((flags & 0x04) != 0) {
+            // FEXTRA
+            if (length < offset + 2) {
+                return -1;
+            }
+            offset += 2 + ((buffer[offset] & 0xFF) | ((buffer[offset + 1] & 0xFF) << 8));
+        }
+        for (int flag : new int[]{0x08, 0x10}) {
+            // FNAME, FCOMMENT (0으로 끝나는 문자열)
+            if ((flags & flag) != 0) {
+                while (offset < length && buffer[offset] != 0) {
+                    offset++;
+                }
+                if (offset >= length) {
+                    return -1;
+                }
+                offset++;
+            }
+        }
+        if ((flags & 0x02) != 0) {
+            // FHCRC
+            offset += 2;
+        }
+        return offset <= length ? offset : -1;
+    }
+
+    /**
+     * 읽은 바이트 수를 셉니다.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    /**
+     * 푼 바이트 수를 세고, 닫을 때 전송된 크기와 함께 한 번 기록합니다.
+     */
+    private final class RecordingInputStream extends CountingInputStream {
+
+        private final String url;
+        private final String encoding;
+        private final CountingInputStream wire;
+        private final long knownWireBytes;
+        private boolean recorded;
+
+        /**
+         * @param wire           전송된 크기를 센 스트림 (없으면 knownWireBytes 사용)
+         * @param knownWireBytes 미리 알고 있는 전송된 크기 (모르면 -1)
+         */
+        RecordingInputStream(InputStream in, String url, String encoding, CountingInputStream wire, long knownWireBytes) {
+            super(in);
+            this.url = url;
+            this.encoding = encoding;
+            this.wire = wire;
+            this.knownWireBytes = knownWireBytes;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!recorded) {
+                    recorded = true;
+                    crawlingMetrics.recordCompression(url, encoding, wire != null ? wire.count : knownWireBytes, count);
+                }
+            }
+        }
+    }
+}
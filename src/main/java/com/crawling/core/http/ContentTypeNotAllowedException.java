@@ -0,0 +1,13 @@
+package com.crawling.core.http;
+
+import java.io.IOException;
+
+/**
+ * 응답의 Content-Type이 허용 목록에 없어 본문을 받지 않은 경우
+ */
+public class ContentTypeNotAllowedException extends IOException {
+
+    public ContentTypeNotAllowedException(String url, String contentType) {
+        super("허용되지 않은 Content-Type: " + contentType + " (" + url + ")");
+    }
+}
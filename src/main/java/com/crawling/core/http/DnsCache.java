@@ -0,0 +1,268 @@
+package com.crawling.core.http;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.core5.net.InetAddressUtils;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DNS 조회 캐시 (Caffeine)
+ *
+ * 공유 HTTP 클라이언트(HttpClientConfig의 blocking, 비동기 클라이언트)의 연결 관리자가 새 연결을 맺을 때 사용하는 DnsResolver입니다.
+ * 이 클라이언트를 쓰는 API, 페이지네이션, 사이트맵 수집과 비동기 모드(crawling.http.async.enabled)의 Jsoup, BeautifulSoup 수집에 적용됩니다.
+ * blocking 모드의 Jsoup, BeautifulSoup 수집은 Jsoup.connect(HttpURLConnection)로 JDK가 직접 조회하므로 이 캐시를 거치지 않습니다.
+ * 찾은 주소는 ttl 동안, 찾을 수 없는 호스트(UnknownHostException)는 negative-ttl 동안 저장하며 최대 max-hosts개까지만 유지합니다.
+ * 같은 호스트를 동시에 조회하면 한 번만 조회하고 나머지는 그 결과를 기다립니다.
+ *
+ * 링크나 사이트맵에서 URL을 발견하면 prefetch()로 호스트를 미리 조회해 두어, 공유 클라이언트에서 연결을 맺는 스레드
+ * (비동기 클라이언트는 I/O 스레드)가 조회를 기다리지 않도록 합니다. 미리 조회는 전용 스레드에서 하며 대기열이 차면 건너뜁니다.
+ * blocking 모드의 Jsoup 수집에는 SystemDefaultDnsResolver가 채운 JVM 주소 캐시(networkaddress.cache.ttl, 기본 30초)에 남아 있는 동안만 도움이 됩니다.
+ * JDK 조회 결과에는 레코드의 TTL이 없으므로 ttl은 설정값을 사용합니다. (JVM의 networkaddress.cache.ttl 이하로 두는 것을 권장)
+ * 실제 조회는 생성자로 받은 DnsResolver에 맡기므로 테스트에서는 스텁 조회기를 넣을 수 있습니다.
+ */
+@Slf4j
+public class DnsCache implements DnsResolver, AutoCloseable {
+
+    public static final String LOOKUP_TIMER = "crawling.dns.lookup";
+    public static final String REQUESTS = "crawling.dns.requests";
+
+    private final DnsResolver delegate;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final AsyncCache<String, Entry> cache;
+    private final ThreadPoolExecutor prefetchExecutor;
+
+    private final Meter.MeterProvider<Timer> lookupTimers;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter prefetchDropped;
+
+    /**
+     * @param delegate           실제 조회기 (운영은 SystemDefaultDnsResolver)
+     * @param maxHosts           저장할 최대 호스트 수
+     * @param ttlSeconds         찾은 주소를 저장할 기간
+     * @param negativeTtlSeconds 찾을 수 없는 호스트를 저장할 기간
+     * @param prefetchThreads    미리 조회에 사용할 스레드 수
+     * @param prefetchQueueSize  미리 조회 대기열 크기 (차면 건너뜀)
+     */
+    public DnsCache(DnsResolver delegate,
+                    MeterRegistry meterRegistry,
+                    boolean enabled,
+                    long maxHosts,
+                    long ttlSeconds,
+                    long negativeTtlSeconds,
+                    int prefetchThreads,
+                    int prefetchQueueSize) {
+        this.delegate = delegate;
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxHosts)
+                .expireAfter(new TtlExpiry())
+                .buildAsync();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.prefetchExecutor = new ThreadPoolExecutor(prefetchThreads, prefetchThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(prefetchQueueSize), runnable -> {
+            Thread thread = new Thread(runnable, "dns-prefetch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.prefetchExecutor.allowCoreThreadTimeOut(true);
+
+        // 조회 시간 (result=found|not_found|error, source=connect|prefetch)
+        this.lookupTimers = Timer.builder(LOOKUP_TIMER)
+                .description("DNS 조회 시간 (캐시에 없어 실제로 조회한 경우)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .withRegistry(meterRegistry);
+        this.hits = Counter.builder(REQUESTS)
+                .description("연결을 맺을 때 DNS 캐시에서 찾은 횟수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(REQUESTS)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.prefetchDropped = Counter.builder("crawling.dns.prefetch.dropped")
+                .description("대기열이 차서 건너뛴 미리 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("crawling.dns.cache.size", cache, c -> c.synchronous().estimatedSize())
+                .description("DNS 캐시에 저장된 호스트 수 (찾을 수 없는 호스트 포함)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 있으면 저장된 결과를, 없으면 조회한 결과를 반환합니다. 다른 스레드가 조회 중이면 그 결과를 기다립니다.
+     *
+     * @throws UnknownHostException 호스트를 찾을 수 없는 경우 (negative-ttl 동안 다시 조회하지 않음)
+     */
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        if (isAddress(host)) {
+            return delegate.resolve(host);
+        }
+        if (!enabled) {
+            return lookup(host, "connect").addresses(host);
+        }
+        String key = host.toLowerCase(Locale.ROOT);
+        while (true) {
+            CompletableFuture<Entry> created = new CompletableFuture<>();
+            CompletableFuture<Entry> existing = cache.asMap().putIfAbsent(key, created);
+            if (existing == null) {
+                misses.increment();
+                return complete(created, key, "connect").addresses(host);
+            }
+            hits.increment();
+            try {
+                return existing.join().addresses(host);
+            } catch (CancellationException e) {
+                // 대기열이 차서 취소된 미리 조회이면 직접 조회
+                cache.asMap().remove(key, existing);
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+    }
+
+    @Override
+    public String resolveCanonicalHostname(String host) throws UnknownHostException {
+        return delegate.resolveCanonicalHostname(host);
+    }
+
+    /**
+     * URL들의 호스트를 캐시에 없으면 미리 조회합니다. 호스트가 없는(상대 경로) URL이나 해석할 수 없는 URL은 건너뜁니다.
+     */
+    public void prefetch(Collection<String> urls) {
+        if (!enabled || urls == null) {
+            return;
+        }
+        for (String url : urls) {
+            String host = host(url);
+            if (host == null || isAddress(host) || cache.getIfPresent(host) != null) {
+                continue;
+            }
+            CompletableFuture<Entry> created = new CompletableFuture<>();
+            if (cache.asMap().putIfAbsent(host, created) != null) {
+                continue;
+            }
+            try {
+                prefetchExecutor.execute(() -> complete(created, host, "prefetch"));
+            } catch (RejectedExecutionException e) {
+                cache.asMap().remove(host, created);
+                created.cancel(false);
+                prefetchDropped.increment();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        prefetchExecutor.shutdownNow();
+        // 실행되지 못한 미리 조회를 기다리는 요청은 직접 조회하도록 취소
+        cache.asMap().values().forEach(future -> future.cancel(false));
+    }
+
+    private Entry complete(CompletableFuture<Entry> future, String host, String source) {
+        try {
+            Entry entry = lookup(host, source);
+            future.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            // 예외로 끝난 항목은 캐시에서 제거되므로 다음 요청이 다시 조회
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Entry lookup(String host, String source) {
+        long start = System.nanoTime();
+        String result = "error";
+        try {
+            Entry entry = new Entry(delegate.resolve(host), null, ttlNanos);
+            result = "found";
+            return entry;
+        } catch (UnknownHostException e) {
+            result = "not_found";
+            log.debug("DNS 조회 실패: {} - {}", host, e.getMessage());
+            return new Entry(null, e.getMessage(), negativeTtlNanos);
+        } finally {
+            lookupTimers.withTags("result", result, "source", source)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String host(String url) {
+        try {
+            URI uri = URI.create(url.trim());
+            String scheme = uri.getScheme();
+            if (uri.getHost() == null || !("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+                return null;
+            }
+            return uri.getHost().toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isAddress(String host) {
+        return InetAddressUtils.isIPv4Address(host) || InetAddressUtils.isIPv6Address(host)
+                || (host.startsWith("[") && host.endsWith("]"));
+    }
+
+    /**
+     * 조회 결과. found가 null이면 찾을 수 없는 호스트입니다.
+     */
+    private record Entry(InetAddress[] found, String notFoundMessage, long ttlNanos) {
+
+        InetAddress[] addresses(String host) throws UnknownHostException {
+            if (found == null) {
+                throw new UnknownHostException(notFoundMessage != null ? notFoundMessage : host);
+            }
+            // 호출하는 쪽이 배열을 바꿔도 캐시된 결과는 그대로 두도록 복사
+            return found.clone();
+        }
+    }
+
+    /**
+     * 항목은 결과에 따라 ttl 또는 negative-ttl이 지나면 제거됩니다. 조회는 기간을 늘리지 않습니다.
+     */
+    private static final class TtlExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.crawling.core.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 응답 본문 크기와 Content-Type 제한
+ *
+ * 본문은 요청의 maxBodyBytes와 전체 설정 max-bytes 중 작은 값까지만 읽고 나머지는 잘라냅니다.
+ * Content-Type은 본문을 받기 전에 허용 목록과 비교하며, 목록의 항목에는 "text/*", "application/*+json"처럼 *를 쓸 수 있습니다.
+ * Content-Type이 없는 응답과 목록이 비어 있는 경우는 허용합니다.
+ */
+@Component
+public class FetchBodyPolicy {
+
+    private final long maxBytes;
+    private final List<String> allowedContentTypes;
+
+    public FetchBodyPolicy(@Value("${crawling.http.body.max-bytes:10485760}") long maxBytes,
+                           @Value("${crawling.http.body.allowed-content-types:}") String allowedContentTypes) {
+        this.maxBytes = maxBytes > 0 ? maxBytes : Long.MAX_VALUE;
+        this.allowedContentTypes = Arrays.stream(allowedContentTypes.split(","))
+                .map(type -> type.trim().toLowerCase(Locale.ROOT))
+                .filter(type -> !type.isEmpty())
+                .toList();
+    }
+
+    /**
+     * 요청에서 지정한 최대 크기와 전체 최대 크기 중 작은 값 (요청 값이 없거나 0 이하이면 전체 최대 크기)
+     */
+    public long maxBytes(Long requested) {
+        if (requested == null || requested <= 0) {
+            return maxBytes;
+        }
+        return Math.min(requested, maxBytes);
+    }
+
+    /**
+     * Content-Type이 허용 목록에 없으면 예외를 던집니다. (본문을 받기 전에 호출)
+     */
+    public void checkContentType(String url, String contentType) throws ContentTypeNotAllowedException {
+        if (!allows(contentType)) {
+            throw new ContentTypeNotAllowedException(url, contentType);
+        }
+    }
+
+    public boolean allows(String contentType) {
+        if (contentType == null || contentType.isBlank() || allowedContentTypes.isEmpty()) {
+            return true;
+        }
+        String mimeType = mimeType(contentType);
+        for (String allowed : allowedContentTypes) {
+            if (matches(allowed, mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Content-Length 헤더 값을 읽습니다. 없거나 해석할 수 없으면 -1을 반환합니다.
+     */
+    public static long contentLength(String header) {
+        if (header == null || header.isBlank()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String mimeType(String contentType) {
+        int semicolon = contentType.indexOf(';');
+        String mimeType = semicolon >= 0 ? contentType.substring(0, semicolon) : contentType;
+        return mimeType.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 항목의 * 하나는 임의의 문자열과 일치합니다.
+     */
+    private static boolean matches(String pattern, String value) {
+        int star = pattern.indexOf('*');
+        if (star < 0) {
+            return pattern.equals(value);
+        }
+        String prefix = pattern.substring(0, star);
+        String suffix = pattern.substring(star + 1);
+        return value.length() >= prefix.length() + suffix.length()
+                && value.startsWith(prefix) && value.endsWith(suffix);
+    }
+}
@@ -0,0 +1,152 @@
+package com.crawling.core.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 진행 중인 모든 응답 본문이 차지하는 메모리 예산 (바이트)
+ *
+ * 본문을 읽기 시작할 때 처음 버퍼 크기만큼 예약하고, 버퍼가 커지면 늘어난 만큼 추가로 예약합니다.
+ * 예산을 넘으면 새로 시작하는 요청만 자리가 날 때까지 (최대 wait-timeout) 기다리고,
+ * 이미 읽고 있는 본문의 추가 예약은 기다리지 않습니다. (서로의 해제를 기다리며 멈추지 않도록)
+ * 본문 하나의 크기는 max-bytes로 제한되므로 예산을 넘는 양은 진행 중인 본문 수 × max-bytes 이하입니다.
+ */
+@Component
+public class FetchMemoryBudget {
+
+    private final long budgetBytes;
+    private final long waitTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private long usedBytes;
+
+    private final Timer waits;
+    private final Counter timeouts;
+
+    public FetchMemoryBudget(MeterRegistry meterRegistry,
+                             @Value("${crawling.http.body.memory-budget:268435456}") long budgetBytes,
+                             @Value("${crawling.http.body.budget-wait-timeout:30000}") long waitTimeoutMillis) {
+        this.budgetBytes = budgetBytes > 0 ? budgetBytes : Long.MAX_VALUE;
+        this.waitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+
+        Gauge.builder("crawling.http.body.memory.used", this, FetchMemoryBudget::usedBytes)
+                .description("진행 중인 응답 본문이 예약한 메모리")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("crawling.http.body.memory.budget", this, budget -> budget.budgetBytes)
+                .description("응답 본문 메모리 예산")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.waits = Timer.builder("crawling.http.body.memory.wait")
+                .description("메모리 예산에 자리가 나기를 기다린 시간")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("crawling.http.body.memory.timeouts")
+                .description("메모리 예산 대기 시간을 넘겨 실패한 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * bytes만큼 예약합니다. 예산이 차 있으면 자리가 날 때까지 기다립니다.
+     * 진행 중인 본문이 하나도 없으면 bytes가 예산보다 커도 바로 예약합니다.
+     *
+     * @throws MemoryBudgetExceededException 대기 시간 안에 자리가 나지 않은 경우
+     */
+    public Reservation reserve(long bytes) throws InterruptedIOException, MemoryBudgetExceededException {
+        long start = System.nanoTime();
+        long deadline = start + waitTimeoutNanos;
+        boolean waited = false;
+        lock.lock();
+        try {
+            while (usedBytes > 0 && usedBytes + bytes > budgetBytes) {
+                waited = true;
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    timeouts.increment();
+                    throw new MemoryBudgetExceededException(budgetBytes, usedBytes,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+                try {
+                    released.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("메모리 예산 대기 중 인터럽트");
+                }
+            }
+            usedBytes += bytes;
+        } finally {
+            lock.unlock();
+            if (waited) {
+                waits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+        return new Reservation(bytes);
+    }
+
+    public long usedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void add(long bytes) {
+        lock.lock();
+        try {
+            usedBytes += bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long bytes) {
+        lock.lock();
+        try {
+            usedBytes -= bytes;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 본문 하나의 예약. 닫으면 예약한 양을 모두 돌려줍니다.
+     */
+    public final class Reservation implements AutoCloseable {
+
+        private long bytes;
+
+        private Reservation(long bytes) {
+            this.bytes = bytes;
+        }
+
+        /**
+         * 이미 읽고 있는 본문의 버퍼가 커진 만큼 기다리지 않고 추가로 예약합니다.
+         */
+        public void grow(long additional) {
+            if (additional > 0 && bytes >= 0) {
+                add(additional);
+                bytes += additional;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (bytes >= 0) {
+                release(bytes);
+                bytes = -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.crawling.core.http;
+
+import java.util.function.Function;
+
+/**
+ * 받은 응답 (상태 코드, 헤더, 재사용 버퍼에 담긴 본문). 닫으면 본문 버퍼를 풀에 돌려줍니다.
+ *
+ * 전송 방식(blocking 클라이언트, AsyncPageFetcher)과 관계없이 크롤링 서비스가 같은 방식으로 응답을 처리하도록 합니다.
+ */
+public final class FetchedPage implements AutoCloseable {
+
+    private final String url;
+    private final int statusCode;
+    private final String protocol;
+    private final Function<String, String> headers;
+    private final PageBufferPool.PageBody body;
+
+    /**
+     * @param url      리다이렉트를 따라간 뒤의 최종 URL
+     * @param protocol 응답의 프로토콜 버전 (예: HTTP/2, HTTP/1.1)
+     * @param headers  헤더 이름으로 첫 번째 값을 찾는 함수 (없으면 null 반환)
+     * @param body     본문 (304처럼 본문을 읽지 않은 경우 null)
+     */
+    public FetchedPage(String url, int statusCode, String protocol, Function<String, String> headers,
+                       PageBufferPool.PageBody body) {
+        this.url = url;
+        this.statusCode = statusCode;
+        this.protocol = protocol;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    public String protocol() {
+        return protocol;
+    }
+
+    public String header(String name) {
+        return headers.apply(name);
+    }
+
+    public String contentType() {
+        return header("Content-Type");
+    }
+
+    public PageBufferPool.PageBody body() {
+        return body;
+    }
+
+    @Override
+    public void close() {
+        if (body != null) {
+            body.close();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.crawling.core.http;
+
+import com.crawling.core.metrics.CrawlSample;
+import com.crawling.core.metrics.CrawlingMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.nio.AsyncConnectionEndpoint;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.reactor.ConnectionInitiator;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.util.concurrent.Future;
+
+/**
+ * 크롤러가 공유하는 HTTP 클라이언트 설정
+ * 요청마다 클라이언트를 만들지 않고 연결 풀을 재사용하며, 새 연결을 맺는 시간(DNS 조회 포함)을 메트릭에 기록합니다.
+ * 비동기 클라이언트는 적은 수의 I/O 스레드로 많은 요청을 동시에 처리하며, HTTPS 연결에서 ALPN으로 HTTP/2를 협상합니다.
+ * 두 클라이언트 모두 새 연결의 호스트 이름을 DnsCache로 조회합니다. (Jsoup.connect로 직접 연결하는 blocking 모드의 Jsoup, BeautifulSoup 수집은 제외)
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public DnsCache crawlingDnsCache(
+            MeterRegistry meterRegistry,
+            @Value("${crawling.http.dns.cache-enabled:true}") boolean enabled,
+            @Value("${crawling.http.dns.max-hosts:10000}") long maxHosts,
+            @Value("${crawling.http.dns.ttl:60}") long ttlSeconds,
+            @Value("${crawling.http.dns.negative-ttl:10}") long negativeTtlSeconds,
+            @Value("${crawling.http.dns.prefetch-threads:4}") int prefetchThreads,
+            @Value("${crawling.http.dns.prefetch-queue-size:1000}") int prefetchQueueSize) {
+        return new DnsCache(SystemDefaultDnsResolver.INSTANCE, meterRegistry, enabled, maxHosts,
+                ttlSeconds, negativeTtlSeconds, prefetchThreads, prefetchQueueSize);
+    }
+
+    @Bean
+    public PoolingHttpClientConnectionManager crawlingConnectionManager(
+            CrawlingMetrics crawlingMetrics,
+            DnsCache crawlingDnsCache,
+            @Value("${crawling.http.max-connections:200}") int maxConnections,
+            @Value("${crawling.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${crawling.http.connect-timeout:5000}") long connectTimeoutMillis) {
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                RegistryBuilder.<ConnectionSocketFactory>create()
+                        .register(URIScheme.HTTP.id, PlainConnectionSocketFactory.getSocketFactory())
+                        .register(URIScheme.HTTPS.id, SSLConnectionSocketFactory.getSocketFactory())
+                        .build(),
+                PoolConcurrencyPolicy.STRICT, PoolReusePolicy.LIFO, TimeValue.NEG_ONE_MILLISECOND,
+                null, crawlingDnsCache, null) {
+            @Override
+            public void connect(ConnectionEndpoint endpoint, TimeValue timeout, HttpContext context) throws IOException {
+                long start = System.nanoTime();
+                try {
+                    super.connect(endpoint, timeout, context);
+                } finally {
+                    crawlingMetrics.recordConnect(System.nanoTime() - start);
+                }
+            }
+        };
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                .build());
+        return connectionManager;
+    }
+
+    @Bean
+    public PoolingAsyncClientConnectionManager crawlingAsyncConnectionManager(
+            CrawlingMetrics crawlingMetrics,
+            DnsCache crawlingDnsCache,
+            @Value("${crawling.http.async.max-connections:400}") int maxConnections,
+            @Value("${crawling.http.async.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${crawling.http.async.http2:true}") boolean http2,
+            @Value("${crawling.http.connect-timeout:5000}") long connectTimeoutMillis) {
+
+        PoolingAsyncClientConnectionManager connectionManager = new PoolingAsyncClientConnectionManager(
+                RegistryBuilder.<TlsStrategy>create()
+                        .register(URIScheme.HTTPS.id, DefaultClientTlsStrategy.getDefault())
+                        .build(),
+                PoolConcurrencyPolicy.STRICT, PoolReusePolicy.LIFO, TimeValue.NEG_ONE_MILLISECOND,
+                null, crawlingDnsCache) {
+            @Override
+            public Future<AsyncConnectionEndpoint> connect(AsyncConnectionEndpoint endpoint, ConnectionInitiator connectionInitiator,
+                                                           Timeout connectTimeout, Object attachment, HttpContext context,
+                                                           FutureCallback<AsyncConnectionEndpoint> callback) {
+                // I/O 스레드에서 연결이 끝나므로 요청 스레드 대신 컨텍스트에 담긴 측정에 기록
+                long start = System.nanoTime();
+                CrawlSample sample = context != null ? (CrawlSample) context.getAttribute(AsyncPageFetcher.SAMPLE_ATTRIBUTE) : null;
+                return super.connect(endpoint, connectionInitiator, connectTimeout, attachment, context, new FutureCallback<>() {
+                    @Override
+                    public void completed(AsyncConnectionEndpoint result) {
+                        crawlingMetrics.recordConnect(sample, System.nanoTime() - start);
+                        if (callback != null) {
+                            callback.completed(result);
+                        }
+                    }
+
+                    @Override
+                    public void failed(Exception cause) {
+                        crawlingMetrics.recordConnect(sample, System.nanoTime() - start);
+                        if (callback != null) {
+                            callback.failed(cause);
+                        }
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        if (callback != null) {
+                            callback.cancelled();
+                        }
+                    }
+                });
+            }
+        };
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                .build());
+        connectionManager.setDefaultTlsConfig(TlsConfig.custom()
+                .setVersionPolicy(http2 ? HttpVersionPolicy.NEGOTIATE : HttpVersionPolicy.FORCE_HTTP_1)
+                .build());
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient crawlingAsyncHttpClient(
+            PoolingAsyncClientConnectionManager crawlingAsyncConnectionManager,
+            @Value("${crawling.http.async.io-threads:0}") int ioThreads) {
+        IOReactorConfig.Builder ioReactorConfig = IOReactorConfig.custom();
+        if (ioThreads > 0) {
+            ioReactorConfig.setIoThreadCount(ioThreads);
+        }
+        CloseableHttpAsyncClient httpClient = HttpAsyncClients.custom()
+                .setConnectionManager(crawlingAsyncConnectionManager)
+                .setIOReactorConfig(ioReactorConfig.build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+        httpClient.start();
+        return httpClient;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient crawlingHttpClient(PoolingHttpClientConnectionManager crawlingConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(crawlingConnectionManager)
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                // 압축 해제는 ContentDecoder가 스트리밍으로 처리 (전송 크기 측정, br 지원)
+                .disableContentCompression()
+                .build();
+    }
+}
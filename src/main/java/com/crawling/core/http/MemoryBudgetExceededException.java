@@ -0,0 +1,13 @@
+package com.crawling.core.http;
+
+import java.io.IOException;
+
+/**
+ * 응답 본문 메모리 예산이 차서 대기 시간 안에 본문을 읽기 시작하지 못한 경우
+ */
+public class MemoryBudgetExceededException extends IOException {
+
+    public MemoryBudgetExceededException(long budgetBytes, long usedBytes, long waitedMillis) {
+        super("응답 본문 메모리 예산 초과: 사용 중 " + usedBytes + " / " + budgetBytes + " bytes (" + waitedMillis + "ms 대기)");
+    }
+}
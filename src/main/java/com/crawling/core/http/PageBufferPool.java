@@ -0,0 +1,401 @@
+package com.crawling.core.http;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 응답 본문을 재사용하는 버퍼로 읽습니다.
+ *
+ * 본문 크기에 맞춘 byte[]를 새로 만들고 String으로 바꾼 뒤 다시 파싱하는 대신,
+ * 풀에서 빌린 버퍼에 읽어 그 자리에서 해시를 계산하고 Jsoup.parse(InputStream, charset, baseUri)로 바로 파싱합니다.
+ * 문자셋은 Content-Type 헤더, BOM, 앞부분의 meta 태그 순으로 버퍼를 복사하지 않고 확인합니다.
+ * max-pooled-size보다 커진 버퍼는 풀에 돌려주지 않아 큰 페이지 하나가 메모리를 계속 차지하지 않도록 합니다.
+ * 읽는 동안 버퍼 크기만큼 FetchMemoryBudget에 예약하고, 최대 크기를 넘는 본문은 그 지점까지만 읽고 잘라냅니다.
+ */
+@Component
+public class PageBufferPool {
+
+    private static final int META_SCAN_BYTES = 1024;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int initialSize;
+    private final int maxPooledSize;
+    private final BlockingQueue<byte[]> pool;
+    private final FetchMemoryBudget memoryBudget;
+
+    public PageBufferPool(FetchMemoryBudget memoryBudget,
+                          @Value("${crawling.http.buffer.initial-size:65536}") int initialSize,
+                          @Value("${crawling.http.buffer.max-pooled-size:4194304}") int maxPooledSize,
+                          @Value("${crawling.http.buffer.pool-size:32}") int poolSize) {
+        this.initialSize = Math.max(1024, initialSize);
+        this.maxPooledSize = Math.max(this.initialSize, maxPooledSize);
+        this.pool = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 버퍼에 담습니다. 반환된 PageBody는 사용 후 닫아야 버퍼가 풀로 돌아갑니다.
+     *
+     * @param contentType Content-Type 헤더 값 (문자셋 확인용, null 가능)
+     */
+    public PageBody read(InputStream in, String contentType) throws IOException {
+        return read(in, contentType, Long.MAX_VALUE, -1);
+    }
+
+    /**
+     * 스트림을 최대 maxBytes까지 읽어 버퍼에 담습니다. 반환된 PageBody는 사용 후 닫아야 버퍼와 메모리 예산이 돌아갑니다.
+     *
+     * 본문이 maxBytes보다 길면 그 지점까지만 읽고 truncated()를 true로 표시합니다.
+     * 스트림은 끝까지 읽은 경우에만 닫습니다. 잘렸거나 예외가 발생한 경우에는 남은 본문을 받지 않도록
+     * 호출하는 쪽에서 연결을 끊고 닫아야 합니다. (HTTP 클라이언트에 따라 close()가 남은 본문을 끝까지 읽음)
+     *
+     * @param contentType    Content-Type 헤더 값 (문자셋 확인용, null 가능)
+     * @param maxBytes       읽을 최대 바이트 수
+     * @param expectedLength Content-Length 헤더 값 (모르면 -1). 알면 버퍼를 처음부터 그 크기로 준비합니다.
+     * @throws MemoryBudgetExceededException 메모리 예산에 자리가 나기를 기다리다 시간이 지난 경우
+     */
+    public PageBody read(InputStream in, String contentType, long maxBytes, long expectedLength) throws IOException {
+        return read(open(maxBytes, expectedLength), in, contentType, -1);
+    }
+
+    /**
+     * open()으로 미리 준비한 버퍼에 스트림을 읽어 PageBody를 만듭니다. 스트림 처리는 read(InputStream, ...)와 같습니다.
+     * 요청을 보내기 전(FetchGuard의 자리를 얻기 전)에 메모리 예산을 예약해 두면, 응답을 받은 뒤에는 예산을 기다리며 연결을 붙잡지 않고
+     * 예산을 기다린 시간이 호스트의 응답 시간으로 기록되지도 않습니다.
+     * 예외가 발생하면 writer를 버립니다.
+     *
+     * @param expectedLength Content-Length 헤더 값 (모르면 -1). 알면 버퍼를 그 크기로 키웁니다. (예산은 기다리지 않고 추가 예약)
+     */
+    public PageBody read(BodyWriter writer, InputStream in, String contentType, long expectedLength) throws IOException {
+        try {
+            writer.expect(expectedLength);
+            writer.readFrom(in);
+            if (!writer.truncated()) {
+                in.close();
+            }
+        } catch (IOException | RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+        return writer.finish(contentType);
+    }
+
+    /**
+     * 본문을 조각으로 받아 담을 버퍼를 준비합니다. (비동기 클라이언트처럼 받은 데이터를 넘겨주는 경우)
+     * 처음 버퍼 크기만큼 메모리 예산을 예약하므로 예산이 차 있으면 여기서 기다립니다. I/O 스레드가 아닌 곳에서 호출해야 합니다.
+     * 반환된 BodyWriter는 finish()로 PageBody를 만들거나 abort()(또는 close())로 버려야 합니다.
+     *
+     * @param maxBytes       담을 최대 바이트 수
+     * @param expectedLength Content-Length 헤더 값 (모르면 -1). 응답을 받은 뒤 expect()로 알려줄 수도 있습니다.
+     * @throws MemoryBudgetExceededException 메모리 예산에 자리가 나기를 기다리다 시간이 지난 경우
+     */
+    public BodyWriter open(long maxBytes, long expectedLength) throws IOException {
+        int limit = (int) Math.min(Math.max(1, maxBytes), MAX_ARRAY_SIZE - 1);
+        // 길이를 알면 EOF 확인에 한 바이트를 더 두어 버퍼를 다시 키우지 않음
+        int firstSize = expectedLength >= 0 ? (int) Math.min(expectedLength, limit) + 1 : Math.min(initialSize, limit + 1);
+        int reserved = Math.max(firstSize, initialSize);
+        FetchMemoryBudget.Reservation reservation = memoryBudget.reserve(reserved);
+
+        byte[] buffer = borrow();
+        if (buffer.length < firstSize) {
+            giveBack(buffer);
+            buffer = new byte[firstSize];
+        }
+        reservation.grow(buffer.length - reserved);
+        return new BodyWriter(buffer, limit, reservation);
+    }
+
+    /**
+     * 끝까지 읽지 않은 스트림을 닫습니다. 닫다가 발생한 예외는 무시합니다.
+     */
+    public static void closeQuietly(InputStream in) {
+        if (in == null) {
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException | RuntimeException ignored) {
+            // 연결을 버리는 중이므로 무시
+        }
+    }
+
+    private byte[] borrow() {
+        byte[] buffer = pool.poll();
+        return buffer != null ? buffer : new byte[initialSize];
+    }
+
+    private void giveBack(byte[] buffer) {
+        if (buffer.length <= maxPooledSize) {
+            pool.offer(buffer);
+        }
+    }
+
+    /**
+     * Content-Type의 charset, BOM, 앞부분의 meta charset 순으로 문자셋을 찾습니다. 찾지 못하면 null을 반환합니다.
+     */
+    static String sniffCharset(String contentType, byte[] buffer, int length) {
+        String fromHeader = charsetParameter(contentType);
+        if (fromHeader != null) {
+            return fromHeader;
+        }
+        if (length >= 3 && (buffer[0] & 0xFF) == 0xEF && (buffer[1] & 0xFF) == 0xBB && (buffer[2] & 0xFF) == 0xBF) {
+            return StandardCharsets.UTF_8.name();
+        }
+        if (length >= 2 && (buffer[0] & 0xFF) == 0xFE && (buffer[1] & 0xFF) == 0xFF) {
+            return StandardCharsets.UTF_16BE.name();
+        }
+        if (length >= 2 && (buffer[0] & 0xFF) == 0xFF && (buffer[1] & 0xFF) == 0xFE) {
+            return StandardCharsets.UTF_16LE.name();
+        }
+        return metaCharset(buffer, Math.min(length, META_SCAN_BYTES));
+    }
+
+    private static String charsetParameter(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        int index = contentType.toLowerCase(Locale.ROOT).indexOf("charset=");
+        if (index < 0) {
+            return null;
+        }
+        String value = contentType.substring(index + "charset=".length());
+        int end = value.indexOf(';');
+        return supported(end >= 0 ? value.substring(0, end) : value);
+    }
+
+    /**
+     * &lt;meta charset="..."&gt; 또는 &lt;meta http-equiv content="...; charset=..."&gt;의 값을 찾습니다.
+     * (문자셋 이름은 ASCII이므로 바이트를 그대로 비교)
+     */
+    private static String metaCharset(byte[] buffer, int limit) {
+        byte[] marker = "charset=".getBytes(StandardCharsets.US_ASCII);
+        outer:
+        for (int i = 0; i + marker.length < limit; i++) {
+            for (int j = 0; j < marker.length; j++) {
+                if (Character.toLowerCase((char) buffer[i + j]) != marker[j]) {
+                    continue outer;
+                }
+            }
+            int start = i + marker.length;
+            while (start < limit && (buffer[start] == '"' || buffer[start] == '\'' || buffer[start] == ' ')) {
+                start++;
+            }
+            int end = start;
+            while (end < limit && isCharsetNameByte(buffer[end])) {
+                end++;
+            }
+            if (end > start) {
+                return supported(new String(buffer, start, end - start, StandardCharsets.US_ASCII));
+            }
+        }
+        return null;
+    }
+
+    private static boolean isCharsetNameByte(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9')
+                || b == '-' || b == '_' || b == '.' || b == ':';
+    }
+
+    private static String supported(String name) {
+        String trimmed = name.trim().replace("\"", "").replace("'", "");
+        try {
+            return Charset.isSupported(trimmed) ? Charset.forName(trimmed).name() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 읽고 있는 본문. 최대 크기까지 버퍼를 키우며 담고, 넘는 데이터가 오면 잘렸다고 표시합니다.
+     * 한 번에 한 스레드에서만 사용합니다.
+     */
+    public final class BodyWriter implements AutoCloseable {
+
+        private byte[] buffer;
+        private int length;
+        private final int limit;
+        private boolean truncated;
+        private final FetchMemoryBudget.Reservation reservation;
+
+        private BodyWriter(byte[] buffer, int limit, FetchMemoryBudget.Reservation reservation) {
+            this.buffer = buffer;
+            this.limit = limit;
+            this.reservation = reservation;
+        }
+
+        /**
+         * 본문 길이를 알게 되면 버퍼를 미리 그 크기로 키웁니다. (메모리 예산은 기다리지 않고 추가 예약)
+         */
+        public void expect(long expectedLength) {
+            if (expectedLength >= 0) {
+                ensureCapacity((int) Math.min(expectedLength, limit) + 1);
+            }
+        }
+
+        /**
+         * src의 남은 데이터를 담습니다. 최대 크기를 넘는 데이터가 있으면 버리고 false를 반환합니다.
+         */
+        public boolean write(ByteBuffer src) {
+            if (truncated) {
+                return false;
+            }
+            int n = Math.min(src.remaining(), limit - length);
+            ensureCapacity(length + n);
+            src.get(buffer, length, n);
+            length += n;
+            if (src.hasRemaining()) {
+                truncated = true;
+                src.position(src.limit());
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * 스트림을 최대 크기까지 버퍼로 바로 읽습니다. 최대 크기까지 읽었으면 남은 본문이 있는지 한 바이트만 확인합니다.
+         */
+        void readFrom(InputStream in) throws IOException {
+            int n;
+            while (length < limit && (n = in.read(buffer, length, Math.min(buffer.length, limit) - length)) != -1) {
+                length += n;
+                if (length == buffer.length && length < limit) {
+                    ensureCapacity(length + 1);
+                }
+            }
+            truncated = length == limit && in.read() != -1;
+        }
+
+        public boolean truncated() {
+            return truncated;
+        }
+
+        public int length() {
+            return length;
+        }
+
+        /**
+         * 담은 본문으로 PageBody를 만듭니다. 이후 이 객체는 사용할 수 없습니다.
+         *
+         * @param contentType Content-Type 헤더 값 (문자셋 확인용, null 가능)
+         */
+        public PageBody finish(String contentType) {
+            byte[] filled = buffer;
+            buffer = null;
+            return new PageBody(filled, length, sniffCharset(contentType, filled, length), truncated, reservation);
+        }
+
+        /**
+         * 담던 본문을 버리고 버퍼와 메모리 예산을 돌려줍니다. 이미 finish()했으면 아무것도 하지 않습니다.
+         */
+        public void abort() {
+            if (buffer != null) {
+                giveBack(buffer);
+                buffer = null;
+                reservation.close();
+            }
+        }
+
+        /**
+         * finish()하지 않은 본문을 버립니다. (abort()와 같음, try-with-resources용)
+         */
+        @Override
+        public void close() {
+            abort();
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= buffer.length) {
+                return;
+            }
+            int grown = (int) Math.min(Math.max((long) buffer.length * 2, required), limit);
+            reservation.grow(grown - buffer.length);
+            buffer = Arrays.copyOf(buffer, grown);
+        }
+    }
+
+    /**
+     * 풀에서 빌린 버퍼에 담긴 응답 본문. 닫으면 버퍼를 풀에 돌려주므로 닫은 뒤에는 사용할 수 없습니다.
+     */
+    public final class PageBody implements AutoCloseable {
+
+        private byte[] buffer;
+        private final int length;
+        private final String charset;
+        private final boolean truncated;
+        private final FetchMemoryBudget.Reservation reservation;
+
+        private PageBody(byte[] buffer, int length, String charset, boolean truncated,
+                         FetchMemoryBudget.Reservation reservation) {
+            this.buffer = buffer;
+            this.length = length;
+            this.charset = charset;
+            this.truncated = truncated;
+            this.reservation = reservation;
+        }
+
+        /**
+         * 본문이 담긴 버퍼. 유효한 범위는 0부터 length()까지입니다.
+         */
+        public byte[] array() {
+            return buffer;
+        }
+
+        public int length() {
+            return length;
+        }
+
+        /**
+         * 최대 크기를 넘어 본문 일부만 읽었는지 여부
+         */
+        public boolean truncated() {
+            return truncated;
+        }
+
+        /**
+         * 확인한 문자셋 이름 (찾지 못했으면 null)
+         */
+        public String charset() {
+            return charset;
+        }
+
+        public InputStream stream() {
+            return new ByteArrayInputStream(buffer, 0, length);
+        }
+
+        /**
+         * 버퍼에서 바로 파싱합니다. 문자셋을 찾지 못했으면 Jsoup이 직접 확인합니다.
+         */
+        public Document parse(String baseUri) throws IOException {
+            return Jsoup.parse(stream(), charset, baseUri);
+        }
+
+        /**
+         * 본문을 문자열로 만듭니다. 문자셋을 찾지 못했으면 UTF-8로 읽습니다.
+         */
+        public String asString() {
+            return new String(buffer, 0, length, charset != null ? Charset.forName(charset) : StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void close() {
+            if (buffer != null) {
+                giveBack(buffer);
+                buffer = null;
+                reservation.close();
+            }
+        }
+    }
+}
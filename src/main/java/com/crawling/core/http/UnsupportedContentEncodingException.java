@@ -0,0 +1,13 @@
+package com.crawling.core.http;
+
+import java.io.IOException;
+
+/**
+ * 응답의 Content-Encoding을 풀 수 없어 본문을 받지 않은 경우
+ */
+public class UnsupportedContentEncodingException extends IOException {
+
+    public UnsupportedContentEncodingException(String url, String contentEncoding) {
+        super("풀 수 없는 Content-Encoding: " + contentEncoding + " (" + url + ")");
+    }
+}
@@ -0,0 +1,168 @@
+package com.crawling.core.json;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 파서에서 평가하는 JSONPath (일부 문법)
+ *
+ * 지원하는 문법: $ (루트), .name, ['name'], [n], [*], .*, ..name, ..*
+ * 필터식, 슬라이스, 음수 인덱스, 여러 이름 선택([a,b])은 지원하지 않습니다.
+ *
+ * 경로는 단계 번호의 집합(비트 마스크)을 상태로 하는 오토마타로 평가합니다.
+ * 문서를 내려가며 키(필드 이름 또는 배열 인덱스)마다 advance로 상태를 옮기고,
+ * matches이면 그 위치의 값이 결과이고, canDescend가 false이면 그 아래에서 더 찾을 값이 없습니다.
+ */
+public final class JsonPath {
+
+    private static final int MAX_STEPS = 63;
+
+    private enum Kind { NAME, INDEX, WILDCARD, DEEP }
+
+    private record Step(Kind kind, String name, int index) {
+    }
+
+    private final String expression;
+    private final List<Step> steps;
+    private final boolean definite;
+
+    private JsonPath(String expression, List<Step> steps) {
+        this.expression = expression;
+        this.steps = steps;
+        this.definite = steps.stream().allMatch(step -> step.kind == Kind.NAME || step.kind == Kind.INDEX);
+    }
+
+    /**
+     * @throws IllegalArgumentException 지원하지 않거나 잘못된 경로인 경우
+     */
+    public static JsonPath compile(String expression) {
+        if (expression == null || !expression.trim().startsWith("$")) {
+            throw new IllegalArgumentException("JSONPath는 $로 시작해야 합니다: " + expression);
+        }
+        String path = expression.trim();
+        List<Step> steps = new ArrayList<>();
+        int i = 1;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                boolean deep = i + 1 < path.length() && path.charAt(i + 1) == '.';
+                int start = deep ? i + 2 : i + 1;
+                int end = start;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                String name = path.substring(start, end);
+                if (name.isEmpty()) {
+                    throw new IllegalArgumentException("이름이 없는 단계가 있습니다: " + expression);
+                }
+                if (deep) {
+                    steps.add(new Step(Kind.DEEP, "*".equals(name) ? null : name, -1));
+                } else {
+                    steps.add("*".equals(name) ? new Step(Kind.WILDCARD, null, -1) : new Step(Kind.NAME, name, -1));
+                }
+                i = end;
+            } else if (c == '[') {
+                int close = path.indexOf(']', i);
+                if (close < 0) {
+                    throw new IllegalArgumentException("닫는 ]가 없습니다: " + expression);
+                }
+                String inner = path.substring(i + 1, close).trim();
+                steps.add(bracketStep(inner, expression));
+                i = close + 1;
+            } else {
+                throw new IllegalArgumentException("잘못된 JSONPath입니다: " + expression);
+            }
+        }
+        if (steps.size() > MAX_STEPS) {
+            throw new IllegalArgumentException("JSONPath 단계가 너무 많습니다: " + expression);
+        }
+        return new JsonPath(path, List.copyOf(steps));
+    }
+
+    private static Step bracketStep(String inner, String expression) {
+        if ("*".equals(inner)) {
+            return new Step(Kind.WILDCARD, null, -1);
+        }
+        if (inner.length() >= 2 && (inner.charAt(0) == '\'' || inner.charAt(0) == '"')
+                && inner.charAt(inner.length() - 1) == inner.charAt(0)) {
+            return new Step(Kind.NAME, inner.substring(1, inner.length() - 1), -1);
+        }
+        try {
+            int index = Integer.parseInt(inner);
+            if (index >= 0) {
+                return new Step(Kind.INDEX, null, index);
+            }
+        } catch (NumberFormatException ignored) {
+            // 아래에서 오류로 처리
+        }
+        throw new IllegalArgumentException("지원하지 않는 선택자입니다: [" + inner + "] (" + expression + ")");
+    }
+
+    public String expression() {
+        return expression;
+    }
+
+    /**
+     * 와일드카드나 재귀 탐색 없이 한 위치만 가리키는 경로인지 여부
+     */
+    public boolean definite() {
+        return definite;
+    }
+
+    /**
+     * 루트 값의 상태
+     */
+    public long start() {
+        return 1L;
+    }
+
+    /**
+     * 부모의 상태에서 key(필드 이름은 String, 배열 인덱스는 Integer)로 내려간 자식의 상태
+     */
+    public long advance(long states, Object key) {
+        long next = 0;
+        for (int s = 0; s < steps.size(); s++) {
+            if ((states & (1L << s)) == 0) {
+                continue;
+            }
+            Step step = steps.get(s);
+            switch (step.kind) {
+                case NAME -> {
+                    if (step.name.equals(key)) {
+                        next |= 1L << (s + 1);
+                    }
+                }
+                case INDEX -> {
+                    if (key instanceof Integer index && index == step.index) {
+                        next |= 1L << (s + 1);
+                    }
+                }
+                case WILDCARD -> next |= 1L << (s + 1);
+                case DEEP -> {
+                    // 더 아래로 내려가며 계속 찾음
+                    next |= 1L << s;
+                    if (step.name == null || step.name.equals(key)) {
+                        next |= 1L << (s + 1);
+                    }
+                }
+            }
+        }
+        return next;
+    }
+
+    public boolean matches(long states) {
+        return (states & (1L << steps.size())) != 0;
+    }
+
+    /**
+     * 이 위치 아래에서 일치할 수 있는 값이 있는지 여부
+     */
+    public boolean canDescend(long states) {
+        return (states & ~(1L << steps.size())) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
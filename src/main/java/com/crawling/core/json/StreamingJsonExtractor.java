@@ -0,0 +1,238 @@
+package com.crawling.core.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * JSONPath 선택자를 스트리밍 파서(JsonParser) 위에서 평가합니다.
+ *
+ * 문서 전체를 트리로 만들지 않고 토큰을 따라 내려가며, 선택자와 일치하는 값만 객체로 만들고
+ * 어느 선택자도 일치할 수 없는 객체/배열은 skipChildren으로 건너뜁니다.
+ * 따라서 큰 배열도 결과를 제외하면 일정한 메모리로 처리합니다.
+ * 한 선택자와 일치한 값의 아래를 다른 선택자가 찾는 경우에만 그 값을 트리로 만들어 다시 평가합니다.
+ *
+ * 루트 값이 여러 개 이어지는 입력(NDJSON)은 각 줄을 루트로 하여 같은 선택자를 평가하고 결과를 모읍니다.
+ * 줄을 읽다가 입력이 끊기면(잘린 본문) 그 줄에서 찾은 값은 버리므로, 온전히 받은 줄까지의 결과만 남습니다.
+ * listener를 지정하면 일치한 값을 모으지 않고 찾는 즉시 넘깁니다. (페이지 단위 스트리밍 등)
+ * 한 번만 사용하는 객체입니다. (스레드 안전하지 않음)
+ */
+public final class StreamingJsonExtractor {
+
+    private final ObjectMapper objectMapper;
+    private final String[] names;
+    private final JsonPath[] paths;
+    private final List<List<Object>> results;
+    private final BiConsumer<String, Object> listener;
+    private final boolean[] found;
+    private boolean multipleDocuments;
+    private int documents;
+    private boolean done;
+
+    public StreamingJsonExtractor(ObjectMapper objectMapper, Map<String, JsonPath> selectors) {
+        this(objectMapper, selectors, null);
+    }
+
+    /**
+     * @param listener 일치한 값을 (선택자 이름, 값)으로 받음. 지정하면 results()는 빈 목록을 반환합니다.
+     */
+    public StreamingJsonExtractor(ObjectMapper objectMapper, Map<String, JsonPath> selectors,
+                                  BiConsumer<String, Object> listener) {
+        this.objectMapper = objectMapper;
+        this.listener = listener;
+        this.names = selectors.keySet().toArray(new String[0]);
+        this.paths = selectors.values().toArray(new JsonPath[0]);
+        this.found = new boolean[paths.length];
+        this.results = new ArrayList<>(paths.length);
+        for (int i = 0; i < paths.length; i++) {
+            results.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * 입력의 루트 값을 모두 읽으며 선택자를 평가합니다.
+     * 루트 값이 하나뿐이고 모든 선택자가 한 위치만 가리키면, 모두 찾은 시점에 나머지를 읽지 않고 멈춥니다.
+     *
+     * @param multipleDocuments 루트 값이 여러 개일 수 있는 입력(NDJSON)인지 여부
+     * @throws IOException 입력이 잘못되었거나 끊긴 경우. NDJSON이면 끊긴 줄에서 찾은 값은 results()에 남지 않습니다.
+     *                     (listener로 이미 넘긴 값은 되돌리지 않음)
+     */
+    public StreamingJsonExtractor read(JsonParser parser, boolean multipleDocuments) throws IOException {
+        this.multipleDocuments = multipleDocuments;
+        while (!done && parser.nextToken() != null) {
+            documents++;
+            long[] states = new long[paths.length];
+            for (int i = 0; i < paths.length; i++) {
+                states[i] = paths[i].start();
+            }
+            int[] marks = multipleDocuments ? marks() : null;
+            try {
+                visit(parser, states, !multipleDocuments);
+            } catch (IOException e) {
+                if (marks != null) {
+                    rollback(marks);
+                    documents--;
+                }
+                throw e;
+            }
+            if (!multipleDocuments) {
+                break;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 선택자 이름별 결과. 한 위치만 가리키는 선택자는 값 하나(없으면 null)를, 그 외에는 목록을 반환합니다.
+     * 결과 모양은 입력 종류로만 정해집니다. NDJSON으로 읽었으면 줄 수와 관계없이(한 줄뿐이어도) 모두 목록입니다.
+     */
+    public Map<String, Object> results() {
+        Map<String, Object> extracted = new LinkedHashMap<>();
+        for (int i = 0; i < paths.length; i++) {
+            List<Object> values = results.get(i);
+            if (paths[i].definite() && !multipleDocuments) {
+                extracted.put(names[i], values.isEmpty() ? null : values.get(0));
+            } else {
+                extracted.put(names[i], values);
+            }
+        }
+        return extracted;
+    }
+
+    public int documents() {
+        return documents;
+    }
+
+    /**
+     * 남은 입력을 읽지 않고 멈춥니다. (listener에서 필요한 만큼 받은 경우 등)
+     */
+    public void stop() {
+        done = true;
+    }
+
+    /**
+     * 파서가 값의 첫 토큰에 있을 때 호출합니다. 반환하면 파서는 그 값의 마지막 토큰에 있습니다.
+     */
+    private void visit(JsonParser parser, long[] states, boolean stopWhenComplete) throws IOException {
+        boolean matched = false;
+        boolean descend = false;
+        boolean descendUnmatched = false;
+        for (int i = 0; i < paths.length; i++) {
+            boolean matches = paths[i].matches(states[i]);
+            matched |= matches;
+            descend |= paths[i].canDescend(states[i]);
+            descendUnmatched |= !matches && paths[i].canDescend(states[i]);
+        }
+
+        if (matched) {
+            collect(parser, states, descendUnmatched);
+            if (stopWhenComplete && complete()) {
+                done = true;
+            }
+            return;
+        }
+        if (!descend) {
+            parser.skipChildren();
+            return;
+        }
+
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            while (!done && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                visit(parser, advance(states, field), stopWhenComplete);
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (!done && parser.nextToken() != JsonToken.END_ARRAY) {
+                visit(parser, advance(states, index++), stopWhenComplete);
+            }
+        }
+    }
+
+    private void collect(JsonParser parser, long[] states, boolean descend) throws IOException {
+        if (!descend) {
+            Object value = objectMapper.readValue(parser, Object.class);
+            for (int i = 0; i < paths.length; i++) {
+                if (paths[i].matches(states[i])) {
+                    add(i, value);
+                }
+            }
+            return;
+        }
+
+        // 다른 선택자가 이 값의 아래를 찾으므로 트리로 만든 뒤 남은 선택자를 그 트리에서 다시 평가
+        JsonNode node = objectMapper.readTree(parser);
+        Object value = objectMapper.treeToValue(node, Object.class);
+        long[] remaining = new long[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            if (paths[i].matches(states[i])) {
+                add(i, value);
+                // 일치한 값 아래에서 같은 선택자가 다시 일치하는 경우는 찾지 않음
+                remaining[i] = 0;
+            } else {
+                remaining[i] = states[i];
+            }
+        }
+        try (JsonParser subtree = node.traverse(objectMapper)) {
+            subtree.nextToken();
+            visit(subtree, remaining, false);
+        }
+    }
+
+    private void add(int selector, Object value) {
+        found[selector] = true;
+        if (listener != null) {
+            listener.accept(names[selector], value);
+        } else {
+            results.get(selector).add(value);
+        }
+    }
+
+    private long[] advance(long[] states, Object key) {
+        long[] next = new long[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            next[i] = states[i] == 0 ? 0 : paths[i].advance(states[i], key);
+        }
+        return next;
+    }
+
+    /**
+     * 모든 선택자가 한 위치만 가리키고 모두 찾았는지 여부 (listener를 쓰는 경우에도 찾은 여부로 판단)
+     */
+    private boolean complete() {
+        for (int i = 0; i < paths.length; i++) {
+            if (!paths[i].definite() || !found[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] marks() {
+        int[] marks = new int[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            marks[i] = results.get(i).size();
+        }
+        return marks;
+    }
+
+    /**
+     * 끊긴 줄에서 찾은 값을 버립니다.
+     */
+    private void rollback(int[] marks) {
+        for (int i = 0; i < paths.length; i++) {
+            List<Object> values = results.get(i);
+            values.subList(marks[i], values.size()).clear();
+        }
+    }
+}
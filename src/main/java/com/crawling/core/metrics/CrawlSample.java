@@ -0,0 +1,164 @@
+package com.crawling.core.metrics;
+
+import com.crawling.core.tracing.CrawlTracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import org.jsoup.HttpStatusException;
+
+/**
+ * 요청 하나의 단계별 측정 상태
+ *
+ * lap은 직전 lap(또는 시작) 이후 경과 시간을 해당 단계에 더하며, 같은 단계가 여러 번 나와도
+ * finish 시점에 단계별로 한 번씩 기록됩니다. 연결 시간은 HTTP 클라이언트가 별도로 알려주며
+ * 응답 대기(ttfb) 시간에서 제외됩니다.
+ *
+ * 측정과 함께 요청 span을 열어 두고, lap마다 해당 구간을 단계 span으로 기록하므로
+ * 느린 배치에서 어느 URL의 어느 단계가 오래 걸렸는지 트레이스로 확인할 수 있습니다.
+ */
+public class CrawlSample {
+
+    public enum Stage {
+        WAIT("wait"),
+        CONNECT("connect"),
+        TTFB("ttfb"),
+        DOWNLOAD("download"),
+        RENDER("render"),
+        PARSE("parse"),
+        EXTRACT("extract"),
+        PERSIST("persist"),
+        TOTAL("total");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final CrawlingMetrics metrics;
+    private final String type;
+    private final String host;
+    private final long startNanos;
+    private final long startEpochNanos;
+    private final CrawlTracing tracing;
+    private final Span span;
+    private final Context context;
+    private final Scope scope;
+    private final long[] stageNanos = new long[STAGES.length];
+    private final boolean[] measured = new boolean[STAGES.length];
+    private long lapNanos;
+    private long connectNanos;
+    private boolean attached = true;
+    private boolean finished;
+
+    CrawlSample(CrawlingMetrics metrics, CrawlTracing tracing, String type, String host, String url) {
+        this.metrics = metrics;
+        this.tracing = tracing;
+        this.type = type;
+        this.host = host;
+        this.span = tracing.startCrawl(type, url);
+        this.context = Context.current().with(span);
+        this.scope = context.makeCurrent();
+        this.startEpochNanos = CrawlTracing.epochNanos();
+        this.startNanos = System.nanoTime();
+        this.lapNanos = startNanos;
+    }
+
+    /**
+     * 직전 lap 이후 경과 시간을 stage에 더합니다.
+     */
+    public void lap(Stage stage) {
+        long now = System.nanoTime();
+        stageNanos[stage.ordinal()] += now - lapNanos;
+        measured[stage.ordinal()] = true;
+        tracing.recordStage(context, stage.tag(), toEpochNanos(lapNanos), toEpochNanos(now));
+        lapNanos = now;
+    }
+
+    /**
+     * 측정하지 않을 구간을 건너뜁니다. (다음 lap의 시작점만 옮김)
+     */
+    public void mark() {
+        lapNanos = System.nanoTime();
+    }
+
+    /**
+     * 시작한 스레드의 현재 컨텍스트에서 요청 span을 내립니다. 요청을 보낸 뒤 다른 스레드에서 끝내는 경우(비동기 클라이언트)
+     * 보낸 스레드에서 호출해야 하며, 이후 연결 시간은 CrawlingMetrics.recordConnect(sample, nanos)로 전달됩니다.
+     */
+    public void detachFromThread() {
+        if (attached) {
+            attached = false;
+            scope.close();
+            metrics.detach(this);
+        }
+    }
+
+    void addConnect(long nanos) {
+        connectNanos += nanos;
+        long now = System.nanoTime();
+        tracing.recordStage(context, Stage.CONNECT.tag(), toEpochNanos(now - nanos), toEpochNanos(now));
+    }
+
+    public void finish(String status, int statusCode, long bytes) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        metrics.detach(this);
+
+        if (connectNanos > 0) {
+            // 연결은 응답 대기 구간 안에서 일어나므로 ttfb에서 제외
+            int ttfb = Stage.TTFB.ordinal();
+            stageNanos[ttfb] = Math.max(0, stageNanos[ttfb] - connectNanos);
+            stageNanos[Stage.CONNECT.ordinal()] += connectNanos;
+            measured[Stage.CONNECT.ordinal()] = true;
+        }
+        stageNanos[Stage.TOTAL.ordinal()] = System.nanoTime() - startNanos;
+        measured[Stage.TOTAL.ordinal()] = true;
+
+        for (Stage stage : STAGES) {
+            if (measured[stage.ordinal()]) {
+                metrics.recordStage(type, host, stage, stageNanos[stage.ordinal()]);
+            }
+        }
+        metrics.recordResponse(type, host, status, statusCode, bytes);
+
+        if (attached) {
+            scope.close();
+        }
+        span.setAttribute("crawling.status", status);
+        if (statusCode > 0) {
+            span.setAttribute("http.response.status_code", statusCode);
+        }
+        if (bytes > 0) {
+            span.setAttribute("crawling.response.size", bytes);
+        }
+        if ("ERROR".equals(status)) {
+            span.setStatus(StatusCode.ERROR, statusCode > 0 ? "HTTP " + statusCode : null);
+        }
+        span.end();
+    }
+
+    public void failure(Throwable error) {
+        if (finished) {
+            return;
+        }
+        int statusCode = error instanceof HttpStatusException httpError ? httpError.getStatusCode() : 0;
+        metrics.recordError(type, host, error);
+        span.recordException(error);
+        finish("ERROR", statusCode, 0);
+    }
+
+    private long toEpochNanos(long nanoTime) {
+        return startEpochNanos + (nanoTime - startNanos);
+    }
+}
@@ -0,0 +1,187 @@
+package com.crawling.core.metrics;
+
+import com.crawling.core.tracing.CrawlTracing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤링 단계별 지연 시간과 응답 상태, 전송량을 기록합니다.
+ *
+ * 단계 타이머(crawling.stage.duration)는 크롤링 타입, 호스트, 단계별 히스토그램으로 게시되어
+ * Prometheus에서 백분위수를 계산할 수 있습니다. 호스트 태그는 카디널리티를 제한하기 위해
+ * 처음 관측된 max-hosts 개까지만 구분하고 나머지는 "other"로 묶습니다.
+ */
+@Slf4j
+@Component
+public class CrawlingMetrics {
+
+    public static final String STAGE_TIMER = "crawling.stage.duration";
+    public static final String RESPONSES = "crawling.responses";
+    public static final String ERRORS = "crawling.errors";
+    public static final String RESPONSE_SIZE = "crawling.response.size";
+    public static final String COMPRESSION_RESPONSES = "crawling.http.compression.responses";
+    public static final String COMPRESSION_WIRE_BYTES = "crawling.http.compression.wire.bytes";
+    public static final String COMPRESSION_DECODED_BYTES = "crawling.http.compression.decoded.bytes";
+
+    private static final String OTHER_HOST = "other";
+
+    // 연결 단계 시간을 현재 요청에 더하기 위한 스레드별 측정 상태
+    private static final ThreadLocal<CrawlSample> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final CrawlTracing crawlTracing;
+    private final Meter.MeterProvider<Timer> stageTimers;
+    private final Meter.MeterProvider<Counter> responseCounters;
+    private final Meter.MeterProvider<Counter> errorCounters;
+    private final Meter.MeterProvider<DistributionSummary> responseSizes;
+    private final Meter.MeterProvider<Counter> compressionResponses;
+    private final Meter.MeterProvider<Counter> compressionWireBytes;
+    private final Meter.MeterProvider<Counter> compressionDecodedBytes;
+
+    private final Set<String> knownHosts = ConcurrentHashMap.newKeySet();
+    private final int maxHosts;
+
+    public CrawlingMetrics(MeterRegistry meterRegistry,
+                           CrawlTracing crawlTracing,
+                           @Value("${crawling.metrics.max-hosts:200}") int maxHosts) {
+        this.meterRegistry = meterRegistry;
+        this.crawlTracing = crawlTracing;
+        this.maxHosts = maxHosts;
+
+        this.stageTimers = Timer.builder(STAGE_TIMER)
+                .description("크롤링 단계별 소요 시간")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(60))
+                .withRegistry(meterRegistry);
+        this.responseCounters = Counter.builder(RESPONSES)
+                .description("크롤링 응답 수 (상태, HTTP 코드별)")
+                .withRegistry(meterRegistry);
+        this.errorCounters = Counter.builder(ERRORS)
+                .description("크롤링 오류 수 (예외 종류별)")
+                .withRegistry(meterRegistry);
+        this.responseSizes = DistributionSummary.builder(RESPONSE_SIZE)
+                .description("응답 본문 크기")
+                .baseUnit("bytes")
+                .withRegistry(meterRegistry);
+        this.compressionResponses = Counter.builder(COMPRESSION_RESPONSES)
+                .description("Content-Encoding별 응답 수")
+                .withRegistry(meterRegistry);
+        this.compressionWireBytes = Counter.builder(COMPRESSION_WIRE_BYTES)
+                .description("전송된(압축된) 응답 본문 크기")
+                .baseUnit("bytes")
+                .withRegistry(meterRegistry);
+        this.compressionDecodedBytes = Counter.builder(COMPRESSION_DECODED_BYTES)
+                .description("압축을 푼 응답 본문 크기")
+                .baseUnit("bytes")
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * 요청 하나의 측정과 span을 시작합니다. 반드시 같은 스레드에서 finish 또는 failure로 끝내야 합니다.
+     */
+    public CrawlSample start(String type, String url) {
+        CrawlSample sample = new CrawlSample(this, crawlTracing, type, hostTag(url), url);
+        CURRENT.set(sample);
+        return sample;
+    }
+
+    /**
+     * 현재 스레드에서 진행 중인 요청에 연결(DNS 조회 포함) 시간을 더합니다.
+     */
+    public void recordConnect(long nanos) {
+        CrawlSample sample = CURRENT.get();
+        if (sample != null) {
+            sample.addConnect(nanos);
+        }
+    }
+
+    /**
+     * 요청 스레드가 아닌 곳(비동기 클라이언트의 I/O 스레드)에서 맺은 연결 시간을 sample에 더합니다.
+     */
+    public void recordConnect(CrawlSample sample, long nanos) {
+        if (sample != null) {
+            sample.addConnect(nanos);
+        }
+    }
+
+    /**
+     * 응답 본문의 전송된 크기와 푼 크기를 호스트, Content-Encoding별로 기록합니다.
+     * 전송된 크기를 모르면(wireBytes &lt; 0) 두 크기의 비율이 어긋나지 않도록 응답 수만 기록합니다.
+     */
+    public void recordCompression(String url, String encoding, long wireBytes, long decodedBytes) {
+        String host = hostTag(url);
+        compressionResponses.withTags("host", host, "encoding", encoding).increment();
+        if (wireBytes >= 0) {
+            compressionWireBytes.withTags("host", host, "encoding", encoding).increment(wireBytes);
+            compressionDecodedBytes.withTags("host", host, "encoding", encoding).increment(decodedBytes);
+        }
+    }
+
+    /**
+     * 스레드 풀의 대기열 길이, 활성 스레드 수 등을 executor.* 게이지로 등록합니다.
+     */
+    public void bindExecutor(ExecutorService executorService, String name) {
+        new ExecutorServiceMetrics(executorService, name, Tags.empty()).bindTo(meterRegistry);
+        log.debug("스레드 풀 메트릭 등록: {}", name);
+    }
+
+    void recordStage(String type, String host, CrawlSample.Stage stage, long nanos) {
+        stageTimers.withTags("type", type, "host", host, "stage", stage.tag())
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordResponse(String type, String host, String status, int statusCode, long bytes) {
+        responseCounters.withTags("type", type, "host", host, "status", status,
+                "code", statusCode > 0 ? String.valueOf(statusCode) : "none").increment();
+        if (bytes > 0) {
+            responseSizes.withTags("type", type, "host", host).record(bytes);
+        }
+    }
+
+    void recordError(String type, String host, Throwable error) {
+        errorCounters.withTags("type", type, "host", host, "exception", error.getClass().getSimpleName()).increment();
+    }
+
+    void detach(CrawlSample sample) {
+        if (CURRENT.get() == sample) {
+            CURRENT.remove();
+        }
+    }
+
+    private String hostTag(String url) {
+        String host;
+        try {
+            host = URI.create(url).getHost();
+        } catch (Exception e) {
+            host = null;
+        }
+        if (host == null) {
+            return "unknown";
+        }
+        host = host.toLowerCase();
+        if (knownHosts.contains(host)) {
+            return host;
+        }
+        if (knownHosts.size() >= maxHosts) {
+            return OTHER_HOST;
+        }
+        knownHosts.add(host);
+        return host;
+    }
+}
@@ -0,0 +1,153 @@
+package com.crawling.core.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 호스트별, 전체 적응형 동시 요청 한도
+ *
+ * 요청은 호스트 한도와 전체 한도 안에서만 보내지며, 두 한도 모두 응답 시간과 실패율을 보고
+ * AIMD 방식으로 조정됩니다. 한도가 찬 경우 acquire-timeout 동안 자리가 나기를 기다립니다.
+ * 현재 한도와 처리 중인 요청 수는 crawling.concurrency.limit / crawling.concurrency.in-flight 게이지로 게시하며,
+ * 호스트 게이지는 카디널리티를 제한하기 위해 처음 관측된 max-hosts 개 호스트에만 등록합니다.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    public static final String LIMIT = "crawling.concurrency.limit";
+    public static final String IN_FLIGHT = "crawling.concurrency.in-flight";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long minCongestionNanos;
+    private final long acquireTimeoutNanos;
+    private final int maxHostGauges;
+
+    private final AimdLimiter global;
+    private final Map<String, AimdLimiter> hosts = new ConcurrentHashMap<>();
+    private final AtomicInteger hostGauges = new AtomicInteger();
+
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${crawling.concurrency.enabled:true}") boolean enabled,
+                                      @Value("${crawling.concurrency.initial-limit:10}") int initialLimit,
+                                      @Value("${crawling.concurrency.min-limit:1}") int minLimit,
+                                      @Value("${crawling.concurrency.max-limit:50}") int maxLimit,
+                                      @Value("${crawling.concurrency.global-initial-limit:20}") int globalInitialLimit,
+                                      @Value("${crawling.concurrency.global-max-limit:200}") int globalMaxLimit,
+                                      @Value("${crawling.concurrency.backoff-ratio:0.9}") double backoffRatio,
+                                      @Value("${crawling.concurrency.latency-tolerance:3.0}") double latencyTolerance,
+                                      @Value("${crawling.concurrency.min-congestion-latency:200}") long minCongestionMillis,
+                                      @Value("${crawling.concurrency.acquire-timeout:30000}") long acquireTimeoutMillis,
+                                      @Value("${crawling.metrics.max-hosts:200}") int maxHostGauges) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.minCongestionNanos = TimeUnit.MILLISECONDS.toNanos(minCongestionMillis);
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+        this.maxHostGauges = maxHostGauges;
+
+        this.global = new AimdLimiter("global", globalInitialLimit, minLimit, globalMaxLimit,
+                backoffRatio, latencyTolerance, minCongestionNanos);
+        registerGauges(global, "global", null);
+    }
+
+    /**
+     * 호스트 한도와 전체 한도에서 자리를 얻습니다. 비활성화되어 있으면 null을 반환합니다.
+     *
+     * @throws ConcurrencyLimitExceededException 대기 시간 안에 자리를 얻지 못한 경우
+     */
+    public Slot acquire(String host) throws InterruptedIOException, ConcurrencyLimitExceededException {
+        if (!enabled) {
+            return null;
+        }
+
+        AimdLimiter hostLimiter = hosts.computeIfAbsent(host, this::createHostLimiter);
+        long start = System.nanoTime();
+        try {
+            if (!hostLimiter.acquire(acquireTimeoutNanos)) {
+                throw new ConcurrencyLimitExceededException(host, hostLimiter.limit(), elapsedMillis(start));
+            }
+            long remaining = acquireTimeoutNanos - (System.nanoTime() - start);
+            if (!global.acquire(Math.max(0, remaining))) {
+                hostLimiter.release();
+                throw new ConcurrencyLimitExceededException("global", global.limit(), elapsedMillis(start));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("동시 요청 한도 대기 중 인터럽트: " + host);
+        }
+        return new Slot(hostLimiter, global);
+    }
+
+    private AimdLimiter createHostLimiter(String host) {
+        AimdLimiter limiter = new AimdLimiter(host, initialLimit, minLimit, maxLimit,
+                backoffRatio, latencyTolerance, minCongestionNanos);
+        if (hostGauges.incrementAndGet() <= maxHostGauges) {
+            registerGauges(limiter, "host", host);
+        }
+        return limiter;
+    }
+
+    private void registerGauges(AimdLimiter limiter, String scope, String host) {
+        Gauge.builder(LIMIT, limiter, AimdLimiter::limit)
+                .description("현재 동시 요청 한도")
+                .tag("scope", scope)
+                .tag("host", host != null ? host : "all")
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT, limiter, AimdLimiter::inFlight)
+                .description("처리 중인 요청 수")
+                .tag("scope", scope)
+                .tag("host", host != null ? host : "all")
+                .register(meterRegistry);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 호스트 한도와 전체 한도의 자리 하나
+     */
+    public static final class Slot {
+
+        private final AimdLimiter host;
+        private final AimdLimiter global;
+
+        private Slot(AimdLimiter host, AimdLimiter global) {
+            this.host = host;
+            this.global = global;
+        }
+
+        /**
+         * 요청을 보내지 못하고 반납하는 경우 (한도 조정 없음)
+         */
+        void cancel() {
+            global.release();
+            host.release();
+        }
+
+        void release(long latencyNanos, boolean failed) {
+            global.release(latencyNanos, failed);
+            host.release(latencyNanos, failed);
+        }
+    }
+}
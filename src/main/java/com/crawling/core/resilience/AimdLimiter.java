@@ -0,0 +1,112 @@
+package com.crawling.core.resilience;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIMD(가산 증가, 승산 감소) 방식의 적응형 동시 요청 한도
+ *
+ * 요청이 정상적으로 끝나고 한도의 절반 이상을 사용 중이면 한도를 1씩 늘리고,
+ * 요청이 실패하거나 응답 시간이 기준 응답 시간(최근 구간의 최소값)의 tolerance 배를 넘으면
+ * 한도를 backoffRatio 배로 줄입니다. 이렇게 하여 빠른 CDN은 한도가 커지고
+ * 느려지기 시작한 원본 서버는 한도가 줄어들어 지속 가능한 최대 처리량 근처에 머뭅니다.
+ */
+class AimdLimiter {
+
+    // 기준 응답 시간을 다시 잡는 표본 수 (서버 성능이 바뀌어도 따라가도록)
+    private static final int BASELINE_WINDOW = 100;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long minCongestionNanos;
+
+    private double limit;
+    private int inFlight;
+
+    private long baselineNanos = Long.MAX_VALUE;
+    private long windowMinNanos = Long.MAX_VALUE;
+    private int windowSamples;
+
+    AimdLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                double backoffRatio, double latencyTolerance, long minCongestionNanos) {
+        this.name = name;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.minCongestionNanos = minCongestionNanos;
+    }
+
+    /**
+     * 한도 안에서 자리를 얻을 때까지 최대 timeoutNanos 동안 기다립니다.
+     */
+    synchronized boolean acquire(long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (inFlight >= (int) limit) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 결과 없이 자리만 반납합니다. (요청을 보내지 못한 경우)
+     */
+    synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * 요청 결과를 반영하여 한도를 조정하고 자리를 반납합니다.
+     */
+    synchronized void release(long latencyNanos, boolean failed) {
+        boolean utilized = inFlight * 2 >= (int) limit;
+        inFlight--;
+
+        if (failed || isCongested(latencyNanos)) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else {
+            updateBaseline(latencyNanos);
+            if (utilized) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+        notifyAll();
+    }
+
+    synchronized int limit() {
+        return (int) limit;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    String name() {
+        return name;
+    }
+
+    private boolean isCongested(long latencyNanos) {
+        return baselineNanos != Long.MAX_VALUE
+                && latencyNanos > minCongestionNanos
+                && latencyNanos > baselineNanos * latencyTolerance;
+    }
+
+    private void updateBaseline(long latencyNanos) {
+        windowMinNanos = Math.min(windowMinNanos, latencyNanos);
+        baselineNanos = Math.min(baselineNanos, latencyNanos);
+        if (++windowSamples >= BASELINE_WINDOW) {
+            baselineNanos = windowMinNanos;
+            windowMinNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.crawling.core.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 호스트별 서킷 상태 조회 및 초기화 (/actuator/circuitbreakers)
+ */
+@Component
+@Endpoint(id = "circuitbreakers")
+@RequiredArgsConstructor
+public class CircuitBreakerEndpoint {
+
+    private final FetchGuard fetchGuard;
+
+    @ReadOperation
+    public List<HostCircuitState> circuits() {
+        return fetchGuard.circuitStates();
+    }
+
+    @ReadOperation
+    public HostCircuitState circuit(@Selector String host) {
+        return fetchGuard.circuitState(host).orElse(null);
+    }
+
+    @DeleteOperation
+    public boolean reset(@Selector String host) {
+        return fetchGuard.reset(host);
+    }
+}
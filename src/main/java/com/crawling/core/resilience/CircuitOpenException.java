@@ -0,0 +1,20 @@
+package com.crawling.core.resilience;
+
+import java.io.IOException;
+
+/**
+ * 호스트 서킷이 열려 있어 요청을 보내지 않고 실패한 경우
+ */
+public class CircuitOpenException extends IOException {
+
+    private final String host;
+
+    public CircuitOpenException(String host, long retryAfterMillis) {
+        super("서킷 열림: " + host + " (" + retryAfterMillis + "ms 후 재시도 가능)");
+        this.host = host;
+    }
+
+    public String getHost() {
+        return host;
+    }
+}
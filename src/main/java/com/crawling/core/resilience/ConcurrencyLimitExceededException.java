@@ -0,0 +1,13 @@
+package com.crawling.core.resilience;
+
+import java.io.IOException;
+
+/**
+ * 동시 요청 한도가 차서 대기 시간 안에 요청을 보내지 못한 경우
+ */
+public class ConcurrencyLimitExceededException extends IOException {
+
+    public ConcurrencyLimitExceededException(String scope, int limit, long waitedMillis) {
+        super("동시 요청 한도 초과: " + scope + " (한도 " + limit + ", " + waitedMillis + "ms 대기)");
+    }
+}
@@ -0,0 +1,292 @@
+package com.crawling.core.resilience;
+
+import com.crawling.core.http.ContentTypeNotAllowedException;
+import com.crawling.core.http.MemoryBudgetExceededException;
+import com.crawling.core.http.UnsupportedContentEncodingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.HttpStatusException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 모든 크롤링 서비스가 요청을 보내기 직전에 거치는 관문
+ *
+ * 호스트별 서킷 브레이커로 응답하지 않는 호스트에 대한 요청을 즉시 실패시켜,
+ * 죽은 사이트 하나의 URL들이 타임아웃까지 작업 스레드를 붙잡고 배치 전체 처리량을 떨어뜨리지 않도록 합니다.
+ * 연결 실패, 타임아웃, 5xx, 429 응답은 실패로, 그 외 4xx는 호스트가 살아 있는 것으로 간주합니다.
+ * 요청은 먼저 서킷을 확인하여 열린 호스트는 속도 제한 토큰을 쓰지 않고 바로 실패하며,
+ * 서킷을 통과한 요청만 속도 제한(RateLimiter) 규칙에 따라 기다립니다. (기다리다 실패하면 서킷의 자리를 돌려줌)
+ * 이후 호스트별/전체 적응형 동시 요청 한도(AdaptiveConcurrencyLimiter) 안에서만 보내지고,
+ * 응답 시간과 결과가 한도 조정에 반영됩니다.
+ * 보낸 요청은 재시도 예산에 적립되며(예산을 적립하는 유일한 곳), retryDecision으로 실패한 요청의 재시도 여부를 판단할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class FetchGuard {
+
+    public static final String CIRCUIT_OPEN = "crawling.circuit.open";
+    public static final String CIRCUIT_REJECTED = "crawling.circuit.rejected";
+
+    private static final String UNKNOWN_HOST = "unknown";
+
+    private final Map<String, HostCircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final CircuitSettings settings;
+    private final boolean enabled;
+    private final Counter rejectedCounter;
+    private final RetryBudget retryBudget;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final RateLimiter rateLimiter;
+
+    public FetchGuard(MeterRegistry meterRegistry,
+                      RetryBudget retryBudget,
+                      AdaptiveConcurrencyLimiter concurrencyLimiter,
+                      RateLimiter rateLimiter,
+                      @Value("${crawling.circuit-breaker.enabled:true}") boolean enabled,
+                      @Value("${crawling.circuit-breaker.window-size:20}") int windowSize,
+                      @Value("${crawling.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                      @Value("${crawling.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+                      @Value("${crawling.circuit-breaker.slow-call-rate-threshold:80}") double slowCallRateThreshold,
+                      @Value("${crawling.circuit-breaker.slow-call-duration:5000}") long slowCallDurationMillis,
+                      @Value("${crawling.circuit-breaker.open-duration:30000}") long openDurationMillis,
+                      @Value("${crawling.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        this.enabled = enabled;
+        this.retryBudget = retryBudget;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.rateLimiter = rateLimiter;
+        this.settings = new CircuitSettings(
+                Math.max(1, windowSize),
+                Math.max(1, Math.min(minimumCalls, windowSize)),
+                failureRateThreshold,
+                slowCallRateThreshold,
+                TimeUnit.MILLISECONDS.toNanos(slowCallDurationMillis),
+                TimeUnit.MILLISECONDS.toNanos(openDurationMillis),
+                Math.max(1, halfOpenCalls));
+
+        this.rejectedCounter = Counter.builder(CIRCUIT_REJECTED)
+                .description("서킷이 열려 보내지 않은 요청 수")
+                .register(meterRegistry);
+        Gauge.builder(CIRCUIT_OPEN, breakers, map -> map.values().stream()
+                        .filter(breaker -> breaker.state() != HostCircuitBreaker.State.CLOSED)
+                        .count())
+                .description("서킷이 열린(OPEN, HALF_OPEN) 호스트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * url의 호스트로 요청을 보내도 되는지 확인하고 동시 요청 한도 안의 자리를 얻습니다.
+     * headers는 API 키별 속도 제한 규칙(credentialHeader)에 사용합니다.
+     * 반환된 Permit에는 요청이 끝난 뒤 반드시 success 또는 failure로 결과를 기록해야 합니다.
+     *
+     * @throws CircuitOpenException              호스트 서킷이 열려 있는 경우
+     * @throws RateLimitExceededException        속도 제한 허용 대기 시간 안에 토큰을 얻지 못한 경우
+     * @throws ConcurrencyLimitExceededException 대기 시간 안에 동시 요청 한도의 자리를 얻지 못한 경우
+     */
+    public Permit acquire(String url, Map<String, String> headers) throws IOException {
+        return acquire(url, headers, true);
+    }
+
+    /**
+     * 동시 요청 한도 없이 속도 제한과 서킷만 확인합니다.
+     * 브라우저 풀 크기로 동시성이 제한되는 Selenium 크롤링에서 사용합니다.
+     */
+    public Permit acquireForBrowser(String url) throws IOException {
+        return acquire(url, null, false);
+    }
+
+    private Permit acquire(String url, Map<String, String> headers, boolean limitConcurrency) throws IOException {
+        URI uri = parse(url);
+        String host = uri != null && uri.getHost() != null ? uri.getHost().toLowerCase() : UNKNOWN_HOST;
+        if (UNKNOWN_HOST.equals(host)) {
+            return Permit.NOOP;
+        }
+
+        // 서킷이 열린 호스트는 속도 제한 토큰을 쓰거나 기다리지 않고 바로 실패
+        HostCircuitBreaker breaker = null;
+        HostCircuitBreaker.State acquiredAs = null;
+        if (enabled) {
+            breaker = breakers.computeIfAbsent(host, h -> new HostCircuitBreaker(h, settings));
+            long now = System.nanoTime();
+            acquiredAs = breaker.tryAcquire(now);
+            if (acquiredAs == HostCircuitBreaker.State.OPEN) {
+                rejectedCounter.increment();
+                throw new CircuitOpenException(host, breaker.retryAfterMillis(now));
+            }
+        }
+
+        AdaptiveConcurrencyLimiter.Slot slot = null;
+        try {
+            rateLimiter.acquire(host, uri.getRawPath(), headers);
+            if (limitConcurrency) {
+                slot = concurrencyLimiter.acquire(host);
+            }
+        } catch (IOException | RuntimeException e) {
+            // 보내지 못한 요청(HALF_OPEN이면 시험 요청)의 자리를 돌려줌
+            if (breaker != null) {
+                breaker.cancel(acquiredAs);
+            }
+            throw e;
+        }
+
+        retryBudget.onRequest(host);
+        return new Permit(host, breaker, acquiredAs, slot, System.nanoTime());
+    }
+
+    /**
+     * 예외로 끝난 요청을 다시 시도할지 판단합니다.
+     * 일시적 장애이고 호스트와 전체 재시도 예산이 남아 있을 때만 재시도 가능으로 판단합니다.
+     */
+    public RetryDecision retryDecision(String url, Throwable error) {
+        return withBudget(url, RetryClassifier.classify(error));
+    }
+
+    /**
+     * 응답 코드로 끝난 요청을 다시 시도할지 판단합니다. retryAfter는 Retry-After 헤더 값입니다.
+     */
+    public RetryDecision retryDecision(String url, int statusCode, String retryAfter) {
+        return withBudget(url, RetryClassifier.classify(statusCode, retryAfter));
+    }
+
+    private RetryDecision withBudget(String url, RetryDecision decision) {
+        if (!decision.retryable()) {
+            return decision;
+        }
+        String host = hostOf(url);
+        return retryBudget.tryRetry(UNKNOWN_HOST.equals(host) ? null : host) ? decision : decision.budgetExhausted();
+    }
+
+    public List<HostCircuitState> circuitStates() {
+        long now = System.nanoTime();
+        return breakers.values().stream()
+                .map(breaker -> breaker.snapshot(now))
+                .sorted(Comparator.comparing(HostCircuitState::getHost))
+                .collect(Collectors.toList());
+    }
+
+    public Optional<HostCircuitState> circuitState(String host) {
+        HostCircuitBreaker breaker = breakers.get(host.toLowerCase());
+        return Optional.ofNullable(breaker).map(b -> b.snapshot(System.nanoTime()));
+    }
+
+    /**
+     * 호스트 서킷을 강제로 닫습니다. (복구가 확인된 경우)
+     */
+    public boolean reset(String host) {
+        HostCircuitBreaker breaker = breakers.get(host.toLowerCase());
+        if (breaker == null) {
+            return false;
+        }
+        breaker.reset();
+        log.info("서킷 수동 초기화: {}", host);
+        return true;
+    }
+
+    private static URI parse(String url) {
+        try {
+            return URI.create(url);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase() : UNKNOWN_HOST;
+        } catch (Exception e) {
+            return UNKNOWN_HOST;
+        }
+    }
+
+    record CircuitSettings(int windowSize,
+                           int minimumCalls,
+                           double failureRateThreshold,
+                           double slowCallRateThreshold,
+                           long slowCallDurationNanos,
+                           long openDurationNanos,
+                           int halfOpenCalls) {
+    }
+
+    /**
+     * 허용된 요청 하나. 결과는 한 번만 기록됩니다.
+     */
+    public static class Permit {
+
+        static final Permit NOOP = new Permit(null, null, null, null, 0);
+
+        private final String host;
+        private final HostCircuitBreaker breaker;
+        private final HostCircuitBreaker.State acquiredAs;
+        private final AdaptiveConcurrencyLimiter.Slot slot;
+        private final long startNanos;
+        private boolean recorded;
+
+        private Permit(String host, HostCircuitBreaker breaker, HostCircuitBreaker.State acquiredAs,
+                       AdaptiveConcurrencyLimiter.Slot slot, long startNanos) {
+            this.host = host;
+            this.breaker = breaker;
+            this.acquiredAs = acquiredAs;
+            this.slot = slot;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * 응답을 받은 경우. 5xx와 429는 호스트 장애로 기록합니다.
+         */
+        public void success(int statusCode) {
+            record(statusCode >= 500 || statusCode == 429);
+        }
+
+        /**
+         * 요청이 예외로 끝난 경우. 4xx 응답 예외와 본문 제한(Content-Type, 메모리 예산, 풀 수 없는 Content-Encoding)은 호스트 장애로 보지 않습니다.
+         */
+        public void failure(Throwable error) {
+            if (error instanceof HttpStatusException httpError) {
+                success(httpError.getStatusCode());
+            } else if (error instanceof ContentTypeNotAllowedException || error instanceof MemoryBudgetExceededException
+                    || error instanceof UnsupportedContentEncodingException) {
+                // 본문 제한에 걸린 것은 호스트 장애가 아님
+                record(false);
+            } else {
+                record(true);
+            }
+        }
+
+        private void record(boolean failed) {
+            if (recorded) {
+                return;
+            }
+            recorded = true;
+
+            long now = System.nanoTime();
+            if (slot != null) {
+                slot.release(now - startNanos, failed);
+            }
+            if (breaker == null) {
+                return;
+            }
+            HostCircuitBreaker.State before = breaker.state();
+            breaker.onResult(acquiredAs, failed, now - startNanos, now);
+            HostCircuitBreaker.State after = breaker.state();
+            if (before != after) {
+                if (after == HostCircuitBreaker.State.OPEN) {
+                    log.warn("서킷 열림: {} ({} -> {})", host, before, after);
+                } else {
+                    log.info("서킷 상태 변경: {} ({} -> {})", host, before, after);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.crawling.core.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트 하나의 서킷 브레이커
+ *
+ * 최근 windowSize 건의 결과를 링 버퍼로 유지하며, minimumCalls 건 이상 쌓인 뒤
+ * 실패율 또는 느린 호출 비율이 임계값 이상이면 OPEN으로 전환합니다.
+ * OPEN 상태에서 openDuration이 지나면 HALF_OPEN으로 전환하여 halfOpenCalls 건만 시험 요청을 허용하고,
+ * 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN으로 전환합니다.
+ */
+class HostCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String host;
+    private final FetchGuard.CircuitSettings settings;
+
+    private final boolean[] failures;
+    private final boolean[] slows;
+    private int index;
+    private int bufferedCalls;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+    private long rejectedCalls;
+
+    HostCircuitBreaker(String host, FetchGuard.CircuitSettings settings) {
+        this.host = host;
+        this.settings = settings;
+        this.failures = new boolean[settings.windowSize()];
+        this.slows = new boolean[settings.windowSize()];
+    }
+
+    /**
+     * 요청 허용 여부를 판단합니다. 시험 요청이면 HALF_OPEN, 일반 요청이면 CLOSED를 반환하고
+     * 허용하지 않으면 OPEN을 반환합니다.
+     */
+    synchronized State tryAcquire(long nowNanos) {
+        if (state == State.OPEN && nowNanos - openedAtNanos >= settings.openDurationNanos()) {
+            state = State.HALF_OPEN;
+            halfOpenPermits = settings.halfOpenCalls();
+            halfOpenSuccesses = 0;
+        }
+
+        switch (state) {
+            case CLOSED:
+                return State.CLOSED;
+            case HALF_OPEN:
+                if (halfOpenPermits > 0) {
+                    halfOpenPermits--;
+                    return State.HALF_OPEN;
+                }
+                rejectedCalls++;
+                return State.OPEN;
+            default:
+                rejectedCalls++;
+                return State.OPEN;
+        }
+    }
+
+    /**
+     * 요청 결과를 기록합니다. acquiredAs는 tryAcquire가 반환한 상태입니다.
+     */
+    synchronized void onResult(State acquiredAs, boolean failure, long durationNanos, long nowNanos) {
+        boolean slow = durationNanos >= settings.slowCallDurationNanos();
+
+        if (acquiredAs == State.HALF_OPEN) {
+            // 시험 요청 도중 다른 시험 요청이 이미 서킷을 열었으면 무시
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            if (failure || slow) {
+                open(nowNanos);
+            } else if (++halfOpenSuccesses >= settings.halfOpenCalls()) {
+                close();
+            }
+            return;
+        }
+
+        // 서킷이 열리기 전에 시작된 요청의 결과는 OPEN/HALF_OPEN 판단에 섞지 않음
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        if (bufferedCalls == failures.length) {
+            if (failures[index]) {
+                failureCount--;
+            }
+            if (slows[index]) {
+                slowCount--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+        failures[index] = failure;
+        slows[index] = slow;
+        if (failure) {
+            failureCount++;
+        }
+        if (slow) {
+            slowCount++;
+        }
+        index = (index + 1) % failures.length;
+
+        if (bufferedCalls >= settings.minimumCalls()
+                && (failureRate() >= settings.failureRateThreshold()
+                || slowCallRate() >= settings.slowCallRateThreshold())) {
+            open(nowNanos);
+        }
+    }
+
+    /**
+     * 허용받았지만 보내지 못한 시험 요청의 자리를 돌려줍니다.
+     */
+    synchronized void cancel(State acquiredAs) {
+        if (acquiredAs == State.HALF_OPEN && state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    synchronized void reset() {
+        close();
+    }
+
+    synchronized HostCircuitState snapshot(long nowNanos) {
+        long retryAfter = state == State.OPEN ? retryAfterMillis(nowNanos) : 0;
+        return HostCircuitState.builder()
+                .host(host)
+                .state(state.name())
+                .bufferedCalls(bufferedCalls)
+                .failureRate(failureRate())
+                .slowCallRate(slowCallRate())
+                .rejectedCalls(rejectedCalls)
+                .retryAfterMillis(retryAfter)
+                .build();
+    }
+
+    synchronized long retryAfterMillis(long nowNanos) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(settings.openDurationNanos() - (nowNanos - openedAtNanos)));
+    }
+
+    private void open(long nowNanos) {
+        state = State.OPEN;
+        openedAtNanos = nowNanos;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        index = 0;
+        bufferedCalls = 0;
+        failureCount = 0;
+        slowCount = 0;
+        Arrays.fill(failures, false);
+        Arrays.fill(slows, false);
+    }
+
+    private double failureRate() {
+        return bufferedCalls == 0 ? 0 : failureCount * 100.0 / bufferedCalls;
+    }
+
+    private double slowCallRate() {
+        return bufferedCalls == 0 ? 0 : slowCount * 100.0 / bufferedCalls;
+    }
+}
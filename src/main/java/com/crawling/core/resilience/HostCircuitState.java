@@ -0,0 +1,22 @@
+package com.crawling.core.resilience;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HostCircuitState {
+
+    private String host;
+    private String state;
+    private int bufferedCalls;
+    private double failureRate;
+    private double slowCallRate;
+    private long rejectedCalls;
+    // OPEN 상태에서 HALF_OPEN으로 넘어가기까지 남은 시간
+    private long retryAfterMillis;
+}
@@ -0,0 +1,20 @@
+package com.crawling.core.resilience;
+
+import java.io.IOException;
+
+/**
+ * 요청 속도 제한으로 요청을 보내지 못한 경우
+ */
+public class RateLimitExceededException extends IOException {
+
+    private final String rule;
+
+    public RateLimitExceededException(String rule, String host) {
+        super("요청 속도 제한 초과: " + host + " (규칙 " + rule + ")");
+        this.rule = rule;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+}
@@ -0,0 +1,50 @@
+package com.crawling.core.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 규칙 (crawling.rate-limit.*)
+ *
+ * 규칙은 호스트(*.example.com 형태 허용), 경로 접두사로 요청을 고르며, credentialHeader를 지정하면
+ * 그 헤더 값(API 키 등)별로 버킷을 따로 둡니다. 여러 규칙에 해당하면 모든 규칙의 버킷을 통과해야 합니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "crawling.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 규칙에 해당하지 않는 호스트의 기본 초당 요청 수 (0이면 제한 없음)
+    private double defaultPermitsPerSecond = 0;
+
+    private int defaultBurst = 1;
+
+    private long defaultMaxWait = 5000;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    public enum Policy {
+        // 토큰이 생길 때까지 maxWait 동안 대기
+        WAIT,
+        // 토큰이 없으면 바로 실패
+        REJECT
+    }
+
+    @Data
+    public static class Rule {
+        private String name;
+        private String host;
+        private String pathPrefix;
+        private String credentialHeader;
+        private double permitsPerSecond;
+        private int burst = 1;
+        private Policy policy = Policy.WAIT;
+        private long maxWait = 5000;
+    }
+}
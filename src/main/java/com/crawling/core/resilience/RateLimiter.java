@@ -0,0 +1,173 @@
+package com.crawling.core.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트, 경로 접두사, 인증 헤더(API 키)별 요청 속도 제한
+ *
+ * 요청에 해당하는 모든 규칙의 토큰 버킷에서 토큰을 예약하고, 가장 긴 대기 시간만큼 기다린 뒤 요청합니다.
+ * 하나라도 허용 대기 시간을 넘거나 REJECT 정책에서 토큰이 없으면 이미 예약한 토큰을 돌려주고 실패합니다.
+ * 버킷은 규칙과 인증 헤더 값별로 하나씩 두며, 헤더 값은 원문 대신 해시로 구분합니다.
+ * (규칙에 host가 없으면 호스트별로도 구분)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    public static final String WAIT_TIMER = "crawling.rate-limit.wait";
+    public static final String REJECTED = "crawling.rate-limit.rejected";
+
+    private static final String DEFAULT_RULE = "default";
+
+    private final RateLimitProperties properties;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Meter.MeterProvider<Timer> waitTimers;
+    private final Meter.MeterProvider<Counter> rejectedCounters;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.waitTimers = Timer.builder(WAIT_TIMER)
+                .description("요청 속도 제한으로 대기한 시간")
+                .withRegistry(meterRegistry);
+        this.rejectedCounters = Counter.builder(REJECTED)
+                .description("요청 속도 제한으로 거부한 요청 수")
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * 요청을 보낼 수 있을 때까지 기다립니다.
+     *
+     * @throws RateLimitExceededException 허용 대기 시간 안에 토큰을 얻지 못한 경우
+     */
+    public void acquire(String host, String path, Map<String, String> headers)
+            throws RateLimitExceededException, InterruptedIOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        List<TokenBucket> reserved = null;
+        long waitNanos = 0;
+        String waitRule = null;
+
+        List<RateLimitProperties.Rule> rules = properties.getRules();
+        for (int i = 0; i < rules.size(); i++) {
+            RateLimitProperties.Rule rule = rules.get(i);
+            if (rule.getPermitsPerSecond() <= 0 || !matches(rule, host, path)) {
+                continue;
+            }
+
+            String ruleName = rule.getName() != null ? rule.getName() : "rule-" + i;
+            TokenBucket bucket = buckets.computeIfAbsent(bucketKey(i, rule, host, headers),
+                    key -> new TokenBucket(rule.getPermitsPerSecond(), rule.getBurst()));
+            long maxWaitNanos = rule.getPolicy() == RateLimitProperties.Policy.REJECT
+                    ? 0
+                    : TimeUnit.MILLISECONDS.toNanos(rule.getMaxWait());
+
+            long wait = bucket.reserve(maxWaitNanos);
+            if (wait < 0) {
+                refund(reserved);
+                rejectedCounters.withTags("rule", ruleName).increment();
+                throw new RateLimitExceededException(ruleName, host);
+            }
+            if (reserved == null) {
+                reserved = new ArrayList<>(2);
+            }
+            reserved.add(bucket);
+            if (wait > waitNanos) {
+                waitNanos = wait;
+                waitRule = ruleName;
+            }
+        }
+
+        if (reserved == null && properties.getDefaultPermitsPerSecond() > 0) {
+            TokenBucket bucket = buckets.computeIfAbsent(DEFAULT_RULE + "|" + host,
+                    key -> new TokenBucket(properties.getDefaultPermitsPerSecond(), properties.getDefaultBurst()));
+            waitNanos = bucket.reserve(TimeUnit.MILLISECONDS.toNanos(properties.getDefaultMaxWait()));
+            waitRule = DEFAULT_RULE;
+            if (waitNanos < 0) {
+                rejectedCounters.withTags("rule", DEFAULT_RULE).increment();
+                throw new RateLimitExceededException(DEFAULT_RULE, host);
+            }
+        }
+
+        if (waitNanos > 0) {
+            waitTimers.withTags("rule", waitRule).record(waitNanos, TimeUnit.NANOSECONDS);
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("요청 속도 제한 대기 중 인터럽트: " + host);
+            }
+        }
+    }
+
+    private static boolean matches(RateLimitProperties.Rule rule, String host, String path) {
+        String ruleHost = rule.getHost();
+        if (ruleHost != null && !ruleHost.isBlank()) {
+            ruleHost = ruleHost.toLowerCase();
+            if (ruleHost.startsWith("*.")) {
+                if (!host.endsWith(ruleHost.substring(1)) && !host.equals(ruleHost.substring(2))) {
+                    return false;
+                }
+            } else if (!host.equals(ruleHost)) {
+                return false;
+            }
+        }
+        String prefix = rule.getPathPrefix();
+        return prefix == null || prefix.isBlank() || (path != null && path.startsWith(prefix));
+    }
+
+    private static String bucketKey(int ruleIndex, RateLimitProperties.Rule rule, String host, Map<String, String> headers) {
+        StringBuilder key = new StringBuilder().append(ruleIndex);
+        if (rule.getHost() == null || rule.getHost().isBlank()) {
+            key.append('|').append(host);
+        }
+        if (rule.getCredentialHeader() != null && headers != null) {
+            String credential = headerValue(headers, rule.getCredentialHeader());
+            if (credential != null) {
+                key.append('|').append(fingerprint(credential));
+            }
+        }
+        return key.toString();
+    }
+
+    private static String headerValue(Map<String, String> headers, String name) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String fingerprint(String credential) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(credential.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void refund(List<TokenBucket> reserved) {
+        if (reserved != null) {
+            reserved.forEach(TokenBucket::refund);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.crawling.core.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재시도 예산 (토큰 버킷)
+ *
+ * 요청마다 ratio 만큼의 토큰이 쌓이고 재시도마다 토큰 1개를 사용하므로, 재시도 수는 요청 수의
+ * ratio 비율을 넘지 않습니다. 장애가 나서 모든 요청이 실패해도 재시도가 부하를 몇 배로 늘리지 않습니다.
+ * 요청이 적을 때도 재시도할 수 있도록 초당 min-retries-per-second 개의 토큰이 추가로 채워지며,
+ * 버킷은 max-tokens 개까지만 쌓입니다. 예산은 호스트별과 전체 두 단계로 확인합니다.
+ */
+@Slf4j
+@Component
+public class RetryBudget {
+
+    public static final String EXHAUSTED = "crawling.retry.budget.exhausted";
+
+    private final double ratio;
+    private final double minRetriesPerSecond;
+    private final double maxTokens;
+
+    private final Bucket global;
+    private final Map<String, Bucket> hosts = new ConcurrentHashMap<>();
+
+    private final Counter hostExhausted;
+    private final Counter globalExhausted;
+
+    public RetryBudget(MeterRegistry meterRegistry,
+                       @Value("${crawling.retry.budget.ratio:0.1}") double ratio,
+                       @Value("${crawling.retry.budget.min-retries-per-second:1}") double minRetriesPerSecond,
+                       @Value("${crawling.retry.budget.max-tokens:20}") double maxTokens) {
+        this.ratio = ratio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.maxTokens = Math.max(1, maxTokens);
+        this.global = new Bucket();
+
+        this.hostExhausted = Counter.builder(EXHAUSTED)
+                .description("재시도 예산이 없어 포기한 재시도 수")
+                .tag("scope", "host")
+                .register(meterRegistry);
+        this.globalExhausted = Counter.builder(EXHAUSTED)
+                .description("재시도 예산이 없어 포기한 재시도 수")
+                .tag("scope", "global")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 하나를 기록하여 예산을 적립합니다. host가 null이면 전체 예산에만 적립합니다.
+     */
+    public void onRequest(String host) {
+        global.deposit(ratio);
+        if (host != null) {
+            hostBucket(host).deposit(ratio);
+        }
+    }
+
+    /**
+     * 재시도 1회분의 예산을 사용합니다. 호스트와 전체 예산이 모두 남아 있어야 합니다.
+     */
+    public boolean tryRetry(String host) {
+        Bucket hostBucket = host != null ? hostBucket(host) : null;
+        if (hostBucket != null && !hostBucket.tryWithdraw()) {
+            hostExhausted.increment();
+            log.debug("호스트 재시도 예산 소진: {}", host);
+            return false;
+        }
+        if (!global.tryWithdraw()) {
+            if (hostBucket != null) {
+                hostBucket.deposit(1);
+            }
+            globalExhausted.increment();
+            log.debug("전체 재시도 예산 소진");
+            return false;
+        }
+        return true;
+    }
+
+    private Bucket hostBucket(String host) {
+        return hosts.computeIfAbsent(host, h -> new Bucket());
+    }
+
+    private final class Bucket {
+
+        private double tokens;
+        private long refilledAtNanos = System.nanoTime();
+
+        synchronized void deposit(double amount) {
+            refill();
+            tokens = Math.min(maxTokens, tokens + amount);
+        }
+
+        synchronized boolean tryWithdraw() {
+            refill();
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            double elapsedSeconds = (now - refilledAtNanos) / 1_000_000_000.0;
+            refilledAtNanos = now;
+            tokens = Math.min(maxTokens, tokens + elapsedSeconds * minRetriesPerSecond);
+        }
+    }
+}
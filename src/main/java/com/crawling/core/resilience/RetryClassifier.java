@@ -0,0 +1,115 @@
+package com.crawling.core.resilience;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.HttpHostConnectException;
+import org.apache.hc.client5.http.HttpResponseException;
+import org.jsoup.HttpStatusException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 실패 원인을 일시적 장애(재시도 가능)와 영구 오류로 구분합니다.
+ *
+ * - 재시도: 연결/응답 타임아웃, 연결 거부, 5xx (501, 505 제외), 408, 429 (Retry-After 반영)
+ * - 영구: 4xx, 파싱 오류, DNS 조회 실패, 잘못된 인자, 서킷 열림 (이미 실패가 확인된 호스트), 동시 요청 한도 초과
+ */
+public final class RetryClassifier {
+
+    private RetryClassifier() {
+    }
+
+    public static RetryDecision classify(Throwable error) {
+        Throwable cause = unwrap(error);
+
+        if (cause instanceof CircuitOpenException) {
+            return RetryDecision.permanent("circuit_open");
+        }
+        if (cause instanceof RateLimitExceededException) {
+            // 자체 속도 제한: 토큰이 다시 생긴 뒤에는 보낼 수 있음
+            return RetryDecision.retry("rate_limited");
+        }
+        if (cause instanceof ConcurrencyLimitExceededException) {
+            // 이미 한도까지 요청 중이므로 재시도는 부하만 늘림
+            return RetryDecision.permanent("concurrency_limit");
+        }
+        if (cause instanceof HttpStatusException httpError) {
+            return classify(httpError.getStatusCode(), null);
+        }
+        if (cause instanceof HttpResponseException httpError) {
+            return classify(httpError.getStatusCode(), null);
+        }
+        if (cause instanceof SocketTimeoutException || cause instanceof ConnectTimeoutException) {
+            return RetryDecision.retry("timeout");
+        }
+        if (cause instanceof ConnectException || cause instanceof HttpHostConnectException
+                || cause instanceof NoRouteToHostException) {
+            return RetryDecision.retry("connect");
+        }
+        if (cause instanceof UnknownHostException) {
+            return RetryDecision.permanent("unknown_host");
+        }
+        if (cause instanceof JsonProcessingException || cause instanceof IllegalArgumentException) {
+            return RetryDecision.permanent("parse");
+        }
+        if (cause instanceof IOException) {
+            // 연결이 중간에 끊긴 경우 등
+            return RetryDecision.retry("io");
+        }
+        // 알 수 없는 예외는 기존 @Retryable 동작대로 재시도 (retryFor/noRetryFor로 좁힘)
+        return RetryDecision.retry("other");
+    }
+
+    /**
+     * HTTP 응답 코드로 판단합니다. retryAfter는 Retry-After 헤더 값입니다. (초 또는 HTTP 날짜)
+     */
+    public static RetryDecision classify(int statusCode, String retryAfter) {
+        if (statusCode == 429 || statusCode == 503) {
+            return RetryDecision.retryAfter(parseRetryAfter(retryAfter), "http_" + statusCode);
+        }
+        if (statusCode == 408) {
+            return RetryDecision.retry("http_408");
+        }
+        if (statusCode >= 500 && statusCode != 501 && statusCode != 505) {
+            return RetryDecision.retry("http_5xx");
+        }
+        return RetryDecision.permanent(statusCode >= 400 ? "http_4xx" : "http_" + statusCode);
+    }
+
+    /**
+     * Retry-After 헤더를 밀리초로 변환합니다. 형식이 잘못되었거나 없으면 0을 반환합니다.
+     */
+    public static long parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        String trimmed = value.trim();
+        try {
+            return Math.max(0, Long.parseLong(trimmed) * 1000);
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+            } catch (DateTimeParseException ignored) {
+                return 0;
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+}
@@ -0,0 +1,30 @@
+package com.crawling.core.resilience;
+
+/**
+ * 실패한 요청을 다시 시도할지에 대한 판단
+ *
+ * @param retryable        일시적 장애로 다시 시도할 수 있는지
+ * @param retryAfterMillis 서버가 Retry-After로 요청한 최소 대기 시간 (없으면 0)
+ * @param reason           판단 근거 (로그, 메트릭 태그용)
+ */
+public record RetryDecision(boolean retryable, long retryAfterMillis, String reason) {
+
+    public static RetryDecision retry(String reason) {
+        return new RetryDecision(true, 0, reason);
+    }
+
+    public static RetryDecision retryAfter(long retryAfterMillis, String reason) {
+        return new RetryDecision(true, Math.max(0, retryAfterMillis), reason);
+    }
+
+    public static RetryDecision permanent(String reason) {
+        return new RetryDecision(false, 0, reason);
+    }
+
+    /**
+     * 재시도 예산이 없어 다시 시도하지 않는 경우
+     */
+    public RetryDecision budgetExhausted() {
+        return new RetryDecision(false, retryAfterMillis, "budget_exhausted");
+    }
+}
@@ -0,0 +1,59 @@
+package com.crawling.core.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA)
+ *
+ * 토큰 수 대신 "다음 요청이 이론적으로 도착해야 하는 시각(TAT)" 하나만 AtomicLong으로 유지하고
+ * CAS로 갱신하므로, 초당 수천 건을 여러 스레드가 동시에 요청해도 락 경합이 없습니다.
+ * burst 개까지는 기다리지 않고 통과하며, 그 이후로는 permitsPerSecond 속도로 허용합니다.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+    private final LongSupplier nanoClock;
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock 현재 시각 (나노초, 테스트에서 시간을 직접 진행할 때 사용)
+     */
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstToleranceNanos = intervalNanos * Math.max(1, burst);
+        this.nanoClock = nanoClock;
+        this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * 토큰 하나를 예약하고 사용 가능해질 때까지 기다려야 하는 시간을 반환합니다.
+     * 대기 시간이 maxWaitNanos를 넘으면 예약하지 않고 -1을 반환합니다.
+     */
+    long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - burstToleranceNanos;
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+
+    /**
+     * 예약한 토큰을 돌려줍니다. (함께 확인한 다른 버킷에서 거부된 경우)
+     */
+    void refund() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+}
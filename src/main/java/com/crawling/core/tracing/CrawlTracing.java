@@ -0,0 +1,113 @@
+package com.crawling.core.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 크롤링 요청과 단계별 span을 생성합니다.
+ *
+ * 요청 span(crawl)은 현재 컨텍스트(HTTP 요청, 배치 span 등)의 자식으로 시작하고,
+ * 단계 span(ttfb, download, parse, extract, persist 등)은 CrawlSample의 lap 시점에
+ * 시작/종료 시각을 지정하여 요청 span의 자식으로 기록합니다.
+ * 트레이싱이 비활성화되어 OpenTelemetry 빈이 없으면 no-op으로 동작합니다.
+ */
+@Component
+public class CrawlTracing {
+
+    private static final String INSTRUMENTATION_NAME = "com.crawling";
+
+    private final Tracer tracer;
+
+    public CrawlTracing(ObjectProvider<OpenTelemetry> openTelemetry) {
+        this.tracer = openTelemetry.getIfAvailable(OpenTelemetry::noop).getTracer(INSTRUMENTATION_NAME);
+    }
+
+    /**
+     * 요청 span을 시작합니다. 반환된 span은 CrawlSample이 finish 시점에 종료합니다.
+     */
+    public Span startCrawl(String type, String url) {
+        Span span = tracer.spanBuilder("crawl " + type)
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("crawling.type", type)
+                .setAttribute("url.full", url)
+                .startSpan();
+        String host = hostOf(url);
+        if (host != null) {
+            span.setAttribute("server.address", host);
+        }
+        return span;
+    }
+
+    /**
+     * 이미 끝난 구간을 parent의 자식 span으로 기록합니다. (시각은 epoch 나노초)
+     */
+    public void recordStage(Context parent, String stage, long startEpochNanos, long endEpochNanos) {
+        tracer.spanBuilder(stage)
+                .setParent(parent)
+                .setAttribute("crawling.stage", stage)
+                .setStartTimestamp(startEpochNanos, TimeUnit.NANOSECONDS)
+                .startSpan()
+                .end(endEpochNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 다중 크롤링의 부모 span을 시작합니다. URL별 작업은 wrap으로 감싸 이 span의 자식이 되도록 합니다.
+     */
+    public Batch startBatch(String type, int size) {
+        Span span = tracer.spanBuilder("crawl batch " + type)
+                .setAttribute("crawling.type", type)
+                .setAttribute("crawling.batch.size", size)
+                .startSpan();
+        return new Batch(span, Context.current().with(span));
+    }
+
+    public static long epochNanos() {
+        Instant now = Instant.now();
+        return TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+    }
+
+    private static String hostOf(String url) {
+        try {
+            return URI.create(url).getHost();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 다중 크롤링 span. 작업 스레드로 컨텍스트를 넘기기 위해 wrap을 사용합니다.
+     */
+    public static final class Batch {
+
+        private final Span span;
+        private final Context context;
+
+        private Batch(Span span, Context context) {
+            this.span = span;
+            this.context = context;
+        }
+
+        public <T> Supplier<T> wrap(Supplier<T> task) {
+            return () -> {
+                try (Scope ignored = context.makeCurrent()) {
+                    return task.get();
+                }
+            };
+        }
+
+        public void end() {
+            span.end();
+        }
+    }
+}
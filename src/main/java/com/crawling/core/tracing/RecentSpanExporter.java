@@ -0,0 +1,56 @@
+package com.crawling.core.tracing;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 최근 span을 고정 크기 링 버퍼에 보관하는 메모리 익스포터
+ *
+ * 외부 수집기 없이도 /api/traces 에서 최근 배치의 URL별, 단계별 소요 시간을 확인할 수 있습니다.
+ * 버퍼가 가득 차면 가장 오래된 span부터 덮어씁니다.
+ */
+public class RecentSpanExporter implements SpanExporter {
+
+    private final SpanData[] buffer;
+    private long written;
+
+    public RecentSpanExporter(int capacity) {
+        this.buffer = new SpanData[Math.max(1, capacity)];
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        for (SpanData span : spans) {
+            buffer[(int) (written % buffer.length)] = span;
+            written++;
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * 보관 중인 span을 오래된 순서로 반환합니다.
+     */
+    public synchronized List<SpanData> snapshot() {
+        int size = (int) Math.min(written, buffer.length);
+        List<SpanData> spans = new ArrayList<>(size);
+        for (long i = written - size; i < written; i++) {
+            spans.add(buffer[(int) (i % buffer.length)]);
+        }
+        return spans;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -0,0 +1,74 @@
+package com.crawling.core.tracing;
+
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * 오프라인에서 사용할 수 있는 span 익스포터 설정
+ *
+ * SpanExporter 빈은 Spring Boot가 만드는 OpenTelemetry SDK의 BatchSpanProcessor에 자동으로 등록됩니다.
+ * - 메모리: 최근 span을 보관하여 /api/traces 로 조회
+ * - OTLP 파일: crawling.tracing.otlp-file.enabled=true 일 때 OTLP JSON을 한 줄씩 파일에 기록
+ *   (나중에 OTLP 수집기로 다시 보내거나 jq 등으로 분석)
+ */
+@Slf4j
+@Configuration
+public class TracingConfig {
+
+    // java.util.logging 로거는 약한 참조로 관리되므로 핸들러가 사라지지 않도록 보관
+    private Logger otlpFileLogger;
+    private FileHandler otlpFileHandler;
+
+    @Bean
+    public RecentSpanExporter recentSpanExporter(@Value("${crawling.tracing.recent-spans:5000}") int capacity) {
+        return new RecentSpanExporter(capacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "crawling.tracing.otlp-file.enabled", havingValue = "true")
+    public SpanExporter otlpFileSpanExporter(
+            @Value("${crawling.tracing.otlp-file.path:./data/traces/spans.jsonl}") String path,
+            @Value("${crawling.tracing.otlp-file.max-bytes:104857600}") int maxBytes,
+            @Value("${crawling.tracing.otlp-file.max-files:5}") int maxFiles) throws IOException {
+        Path file = Path.of(path).toAbsolutePath();
+        Files.createDirectories(file.getParent());
+
+        // OtlpJsonLoggingSpanExporter는 OTLP JSON을 자신의 JUL 로거로 출력하므로 그 로거를 파일로 연결
+        otlpFileHandler = new FileHandler(file.toString(), maxBytes, maxFiles, true);
+        otlpFileHandler.setEncoding("UTF-8");
+        otlpFileHandler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + System.lineSeparator();
+            }
+        });
+        otlpFileLogger = Logger.getLogger(OtlpJsonLoggingSpanExporter.class.getName());
+        otlpFileLogger.setUseParentHandlers(false);
+        otlpFileLogger.addHandler(otlpFileHandler);
+
+        log.info("OTLP JSON span 파일 기록: {}", file);
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+
+    @PreDestroy
+    public void closeOtlpFile() {
+        if (otlpFileHandler != null) {
+            otlpFileLogger.removeHandler(otlpFileHandler);
+            otlpFileHandler.close();
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.crawling.domain.beautifulsoup.dto;
 
+import com.crawling.core.cache.FetchCacheKeys;
+import com.crawling.domain.beautifulsoup.enums.BeautifulSoupField;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import jakarta.validation.constraints.NotBlank;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Data
 @Builder
@@ -27,6 +32,12 @@ public class BeautifulSoupRequest {
     private Boolean ignoreHttpErrors;
     private String encoding;
     
+    // 저장된 ETag/Last-Modified로 조건부 요청을 보내고, 변경이 없으면 파싱과 저장을 생략
+    private Boolean conditional;
+    
+    // 읽을 응답 본문의 최대 크기 (바이트, 전체 설정 crawling.http.body.max-bytes보다 크게 지정할 수 없음)
+    private Long maxBodyBytes;
+    
     // BeautifulSoup 스타일 선택자 설정
     private Map<String, String> selectors;
     private Map<String, String> attributes;
@@ -42,6 +53,12 @@ public class BeautifulSoupRequest {
     private Boolean extractTitle;
     private Boolean extractHeadings;
     
+    // 응답에 문서 전체 HTML(html)을 포함할지 여부 (문서를 다시 직렬화하므로 기본은 제외)
+    private Boolean includeHtml;
+    
+    // 응답에 포함할 필드 (지정하면 extract* 플래그 대신 이 목록만 계산, 예: ["title", "selectors"])
+    private Set<BeautifulSoupField> fields;
+    
     public static BeautifulSoupRequest simple(String url) {
         return BeautifulSoupRequest.builder()
                 .url(url)
@@ -62,4 +79,72 @@ public class BeautifulSoupRequest {
                 .followRedirects(true)
                 .build();
     }
+    
+    /**
+     * 같은 결과를 내는 요청끼리 같은 값이 되는 키 (응답 캐시, 동시 요청 병합에 사용)
+     */
+    public String fetchKey() {
+        Map<String, Object> options = new HashMap<>();
+        options.put("headers", FetchCacheKeys.lowerCaseHeaders(headers));
+        options.put("userAgent", userAgent);
+        options.put("encoding", encoding);
+        options.put("followRedirects", followRedirects);
+        options.put("ignoreHttpErrors", ignoreHttpErrors);
+        options.put("conditional", Boolean.TRUE.equals(conditional) ? true : null);
+        options.put("maxBodyBytes", maxBodyBytes);
+        options.put("selectors", selectors);
+        options.put("attributes", attributes);
+        options.put("textSelectors", textSelectors);
+        options.put("linkSelectors", linkSelectors);
+        options.put("imageSelectors", imageSelectors);
+        // 플래그와 fields를 풀어 쓴 결과가 같으면 같은 키
+        options.put("fields", requestedFields().stream().map(Enum::name).toList());
+        return FetchCacheKeys.of("BEAUTIFULSOUP", url, options);
+    }
+    
+    /**
+     * 계산할 응답 필드
+     *
+     * fields를 지정했으면 그 목록을, 아니면 extract* 플래그를 따릅니다. (플래그는 true일 때만 포함)
+     * extractText는 text와 세분화된 텍스트를 함께 포함합니다.
+     * 선택자 결과와 속성 결과는 selectors, attributes를 지정했으면 포함하고,
+     * 요소 상세(elements)는 outerHtml을 만드느라 비용이 크므로 fields로 요청한 경우에만 포함합니다.
+     * includeHtml=true이면 어느 경우든 html을 포함합니다.
+     */
+    public Set<BeautifulSoupField> requestedFields() {
+        Set<BeautifulSoupField> requested = EnumSet.noneOf(BeautifulSoupField.class);
+        if (fields != null && !fields.isEmpty()) {
+            requested.addAll(fields);
+        } else {
+            if (Boolean.TRUE.equals(extractTitle)) {
+                requested.add(BeautifulSoupField.TITLE);
+            }
+            if (Boolean.TRUE.equals(extractText)) {
+                requested.add(BeautifulSoupField.TEXT);
+                requested.addAll(BeautifulSoupField.SEGMENTED_TEXT);
+            }
+            if (Boolean.TRUE.equals(extractMeta)) {
+                requested.add(BeautifulSoupField.META);
+            }
+            if (Boolean.TRUE.equals(extractLinks)) {
+                requested.add(BeautifulSoupField.LINKS);
+            }
+            if (Boolean.TRUE.equals(extractImages)) {
+                requested.add(BeautifulSoupField.IMAGES);
+            }
+            if (Boolean.TRUE.equals(extractHeadings)) {
+                requested.add(BeautifulSoupField.HEADINGS);
+            }
+            if (selectors != null && !selectors.isEmpty()) {
+                requested.add(BeautifulSoupField.SELECTORS);
+            }
+            if (attributes != null && !attributes.isEmpty()) {
+                requested.add(BeautifulSoupField.ATTRIBUTES);
+            }
+        }
+        if (Boolean.TRUE.equals(includeHtml)) {
+            requested.add(BeautifulSoupField.HTML);
+        }
+        return requested;
+    }
 }
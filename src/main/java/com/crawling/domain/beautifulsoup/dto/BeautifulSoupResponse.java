@@ -1,5 +1,7 @@
 package com.crawling.domain.beautifulsoup.dto;
 
+import com.crawling.core.cache.Weighable;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,7 +15,8 @@ import java.util.Map;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class BeautifulSoupResponse {
+@JsonInclude(JsonInclude.Include.NON_NULL) // 요청하지 않은 필드(null)는 응답에서 제외
+public class BeautifulSoupResponse implements Weighable {
     
     private String url;
     private String title;
@@ -28,6 +31,13 @@ public class BeautifulSoupResponse {
     private Long responseTime;
     private String status;
     private String errorMessage;
+    private String contentHash;
+    
+    // 응답의 Cache-Control 헤더 (응답 캐시 유효 기간 계산에 사용)
+    private String cacheControl;
+    
+    // 본문이 최대 크기를 넘어 앞부분만 읽고 처리했는지 여부
+    private Boolean truncated;
     
     // 세분화된 텍스트 필드들
     private String mainText;  // 메인 텍스트 내용
@@ -45,11 +55,26 @@ public class BeautifulSoupResponse {
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class ElementData {
+    public static class ElementData implements Weighable {
         private String tag;
         private String text;
         private Map<String, String> attributes;
         private String html;
+        
+        @Override
+        public long estimatedBytes() {
+            return Weighable.sizeOfAll(tag, text, attributes, html);
+        }
+    }
+    
+    /**
+     * 응답 캐시 용량 계산용 크기 (텍스트, HTML, 추출 결과, 링크 등 필드의 합)
+     */
+    @Override
+    public long estimatedBytes() {
+        return Weighable.sizeOfAll(url, title, text, html, extractedData, metaTags, links, images, headings,
+                status, errorMessage, contentHash, cacheControl, mainText, description, articleText,
+                navigationText, footerText, selectorResults, attributeResults, elements) + 48;
     }
     
     public static BeautifulSoupResponse success(String url, String title, String text, 
@@ -74,6 +99,16 @@ public class BeautifulSoupResponse {
                 .build();
     }
     
+    public static BeautifulSoupResponse notModified(String url, String contentHash, Long responseTime) {
+        return BeautifulSoupResponse.builder()
+                .url(url)
+                .crawledAt(LocalDateTime.now())
+                .responseTime(responseTime)
+                .status("NOT_MODIFIED")
+                .contentHash(contentHash)
+                .build();
+    }
+    
     public static BeautifulSoupResponse error(String url, String errorMessage, Long responseTime) {
         return BeautifulSoupResponse.builder()
                 .url(url)
@@ -0,0 +1,60 @@
+package com.crawling.domain.beautifulsoup.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * BeautifulSoup 응답에 포함할 필드 (요청한 필드만 계산, 직렬화, 저장)
+ */
+public enum BeautifulSoupField {
+    TITLE,            // title
+    TEXT,             // 문서 전체 텍스트 (text)
+    HTML,             // 문서 전체 HTML (html, 문서를 다시 직렬화하므로 비용이 큼)
+    META,             // metaTags
+    LINKS,            // links
+    IMAGES,           // images
+    HEADINGS,         // headings
+    MAIN_TEXT,        // mainText
+    DESCRIPTION,      // description
+    ARTICLE_TEXT,     // articleText
+    NAVIGATION_TEXT,  // navigationText
+    FOOTER_TEXT,      // footerText
+    SELECTORS,        // selectors의 결과 (selectorResults, extractedData)
+    ATTRIBUTES,       // attributes의 결과 (attributeResults, extractedData의 attr_ 항목)
+    ELEMENTS;         // 선택된 요소의 태그, 텍스트, 속성, outerHtml (elements, 비용이 큼)
+
+    /**
+     * 세분화된 텍스트 필드 (extractText=true이면 함께 포함)
+     */
+    public static final Set<BeautifulSoupField> SEGMENTED_TEXT =
+            EnumSet.of(MAIN_TEXT, DESCRIPTION, ARTICLE_TEXT, NAVIGATION_TEXT, FOOTER_TEXT);
+
+    /**
+     * "mainText", "main_text", "MAIN_TEXT"처럼 응답 필드 이름이나 상수 이름을 대소문자 구분 없이 받습니다.
+     * 세분화된 텍스트의 응답 필드 이름과 같은 철자를 쓰도록 밑줄은 무시합니다.
+     */
+    @JsonCreator
+    public static BeautifulSoupField from(String name) {
+        String normalized = name.replace("_", "").replace("-", "").trim().toUpperCase(Locale.ROOT);
+        for (BeautifulSoupField field : values()) {
+            if (field.name().replace("_", "").equals(normalized)) {
+                return field;
+            }
+        }
+        // 응답 필드 이름으로도 받음
+        switch (normalized) {
+            case "METATAGS":
+                return META;
+            case "SELECTORRESULTS":
+            case "EXTRACTEDDATA":
+                return SELECTORS;
+            case "ATTRIBUTERESULTS":
+                return ATTRIBUTES;
+            default:
+                throw new IllegalArgumentException("알 수 없는 응답 필드입니다: " + name);
+        }
+    }
+}
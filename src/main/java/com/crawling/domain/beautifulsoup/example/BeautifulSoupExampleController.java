@@ -5,6 +5,7 @@ import com.crawling.core.annotation.LogMethod;
 import com.crawling.domain.beautifulsoup.dto.BeautifulSoupRequest;
 import com.crawling.domain.beautifulsoup.dto.BeautifulSoupResponse;
 import com.crawling.domain.beautifulsoup.service.BeautifulSoupService;
+import com.crawling.domain.beautifulsoup.service.CachedBeautifulSoupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ import java.util.Map;
 public class BeautifulSoupExampleController {
     
     private final BeautifulSoupService beautifulSoupService;
+    private final CachedBeautifulSoupService cachedBeautifulSoupService;
     
     @GetMapping("/naver-news")
     @Operation(summary = "네이버 뉴스 BeautifulSoup 파싱", description = "네이버 뉴스를 BeautifulSoup 스타일로 파싱합니다.")
@@ -49,7 +51,7 @@ public class BeautifulSoupExampleController {
                 .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
                 .build();
         
-        BeautifulSoupResponse response = beautifulSoupService.parse(request);
+        BeautifulSoupResponse response = cachedBeautifulSoupService.parse(request);
         
         return ResponseEntity.ok(response);
     }
@@ -74,7 +76,7 @@ public class BeautifulSoupExampleController {
                 .timeout(15000)
                 .build();
         
-        BeautifulSoupResponse response = beautifulSoupService.parse(request);
+        BeautifulSoupResponse response = cachedBeautifulSoupService.parse(request);
         
         return ResponseEntity.ok(response);
     }
@@ -99,7 +101,7 @@ public class BeautifulSoupExampleController {
                 .timeout(10000)
                 .build();
         
-        BeautifulSoupResponse response = beautifulSoupService.parse(request);
+        BeautifulSoupResponse response = cachedBeautifulSoupService.parse(request);
         
         return ResponseEntity.ok(response);
     }
@@ -123,7 +125,7 @@ public class BeautifulSoupExampleController {
                 .timeout(15000)
                 .build();
         
-        BeautifulSoupResponse response = beautifulSoupService.parse(request);
+        BeautifulSoupResponse response = cachedBeautifulSoupService.parse(request);
         
         return ResponseEntity.ok(response);
     }
@@ -148,7 +150,7 @@ public class BeautifulSoupExampleController {
                 .timeout(10000)
                 .build();
         
-        BeautifulSoupResponse response = beautifulSoupService.parse(request);
+        BeautifulSoupResponse response = cachedBeautifulSoupService.parse(request);
         
         return ResponseEntity.ok(response);
     }
@@ -180,7 +182,7 @@ public class BeautifulSoupExampleController {
                 .timeout(15000)
                 .build();
         
-        BeautifulSoupResponse response = beautifulSoupService.parse(request);
+        BeautifulSoupResponse response = cachedBeautifulSoupService.parse(request);
         
         return ResponseEntity.ok(response);
     }
@@ -194,7 +196,7 @@ public class BeautifulSoupExampleController {
             BeautifulSoupRequest.simple("https://stackoverflow.com/questions")
         );
         
-        List<BeautifulSoupResponse> responses = beautifulSoupService.parseMultiple(requests);
+        List<BeautifulSoupResponse> responses = cachedBeautifulSoupService.parseMultiple(requests);
         
         return ResponseEntity.ok(responses);
     }
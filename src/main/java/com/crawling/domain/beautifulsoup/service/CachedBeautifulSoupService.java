@@ -0,0 +1,70 @@
+package com.crawling.domain.beautifulsoup.service;
+
+import com.crawling.core.cache.FetchResultCache;
+import com.crawling.domain.beautifulsoup.dto.BeautifulSoupRequest;
+import com.crawling.domain.beautifulsoup.dto.BeautifulSoupResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 응답 캐시를 거쳐 BeautifulSoup 스타일로 파싱합니다.
+ *
+ * 같은 URL과 옵션(선택자, 추출 항목, 헤더, User-Agent 등)의 성공 결과는 FetchResultCache에 저장하여 재사용합니다.
+ * 조건부 요청은 변경 여부를 확인하려는 것이므로 캐시를 거치지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CachedBeautifulSoupService {
+
+    private final BeautifulSoupService beautifulSoupService;
+    private final FetchResultCache fetchResultCache;
+
+    public BeautifulSoupResponse parse(BeautifulSoupRequest request) {
+        if (Boolean.TRUE.equals(request.getConditional())) {
+            return beautifulSoupService.parse(request);
+        }
+        return fetchResultCache.get(request.fetchKey(), () -> beautifulSoupService.parse(request),
+                BeautifulSoupResponse::getCacheControl, CachedBeautifulSoupService::cacheable);
+    }
+
+    /**
+     * 캐시에 없는 요청만 모아 한 번에 파싱합니다. 결과는 요청 순서대로 반환합니다.
+     */
+    public List<BeautifulSoupResponse> parseMultiple(List<BeautifulSoupRequest> requests) {
+        BeautifulSoupResponse[] responses = new BeautifulSoupResponse[requests.size()];
+        List<Integer> missIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BeautifulSoupRequest request = requests.get(i);
+            if (!Boolean.TRUE.equals(request.getConditional())) {
+                responses[i] = fetchResultCache.getIfPresent(request.fetchKey(), () -> beautifulSoupService.parse(request),
+                        BeautifulSoupResponse::getCacheControl, CachedBeautifulSoupService::cacheable);
+            }
+            if (responses[i] == null) {
+                missIndexes.add(i);
+            }
+        }
+
+        if (!missIndexes.isEmpty()) {
+            List<BeautifulSoupResponse> fetched = beautifulSoupService.parseMultiple(
+                    missIndexes.stream().map(requests::get).toList());
+            for (int i = 0; i < missIndexes.size(); i++) {
+                int index = missIndexes.get(i);
+                BeautifulSoupRequest request = requests.get(index);
+                responses[index] = fetched.get(i);
+                if (!Boolean.TRUE.equals(request.getConditional())) {
+                    fetchResultCache.put(request.fetchKey(), responses[index],
+                            BeautifulSoupResponse::getCacheControl, CachedBeautifulSoupService::cacheable);
+                }
+            }
+        }
+        return Arrays.asList(responses);
+    }
+
+    private static boolean cacheable(BeautifulSoupResponse response) {
+        return "SUCCESS".equals(response.getStatus());
+    }
+}
@@ -1,11 +1,27 @@
 package com.crawling.domain.beautifulsoup.service.impl;
 
+import com.crawling.core.cache.RequestCoalescer;
+import com.crawling.core.http.AsyncPageFetcher;
+import com.crawling.core.http.ContentDecoder;
+import com.crawling.core.http.DnsCache;
+import com.crawling.core.http.FetchBodyPolicy;
+import com.crawling.core.http.FetchedPage;
+import com.crawling.core.http.PageBufferPool;
+import com.crawling.core.metrics.CrawlSample;
+import com.crawling.core.metrics.CrawlingMetrics;
+import com.crawling.core.resilience.FetchGuard;
+import com.crawling.core.tracing.CrawlTracing;
 import com.crawling.domain.beautifulsoup.dto.BeautifulSoupRequest;
 import com.crawling.domain.beautifulsoup.dto.BeautifulSoupResponse;
+import com.crawling.domain.beautifulsoup.enums.BeautifulSoupField;
 import com.crawling.domain.beautifulsoup.service.BeautifulSoupService;
 import com.crawling.domain.crawling.service.CrawlingResultService;
+import com.crawling.domain.fetch.service.FetchValidatorService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -13,9 +29,11 @@ import org.jsoup.select.Elements;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
@@ -27,21 +45,50 @@ public class BeautifulSoupServiceImpl implements BeautifulSoupService {
     
     private final ExecutorService executorService = Executors.newFixedThreadPool(10); // 쓰레드 풀을 10까지 당김으로써 스케줄링 자체를 10회까지 진행
     private final CrawlingResultService crawlingResultService;
+    private final FetchValidatorService fetchValidatorService;
+    private final CrawlingMetrics crawlingMetrics;
+    private final CrawlTracing crawlTracing;
+    private final FetchGuard fetchGuard;
+    private final RequestCoalescer requestCoalescer;
+    private final PageBufferPool pageBufferPool;
+    private final FetchBodyPolicy fetchBodyPolicy;
+    private final ContentDecoder contentDecoder;
+    private final AsyncPageFetcher asyncPageFetcher;
+    private final DnsCache dnsCache;
     
+    @PostConstruct
+    void registerExecutorMetrics() {
+        crawlingMetrics.bindExecutor(executorService, "beautifulSoupService");
+    }
+    
+    /**
+     * 같은 요청이 이미 진행 중이면 새로 가져오지 않고 그 결과를 함께 받습니다.
+     */
     @Override
     public BeautifulSoupResponse parse(BeautifulSoupRequest request) {
+        return requestCoalescer.execute(request.fetchKey(),
+                () -> asyncPageFetcher.enabled() ? fetchAsync(request).join() : fetch(request));
+    }
+    
+    private BeautifulSoupResponse fetch(BeautifulSoupRequest request) {
         long startTime = System.currentTimeMillis();
+        CrawlSample sample = crawlingMetrics.start("BEAUTIFULSOUP", request.getUrl());
+        FetchedPage page = null;
         
         try {
             log.info("BeautifulSoup 스타일로 크롤링 시작: {}", request.getUrl());
             
             // Jsoup 연결 설정
             var connection = Jsoup.connect(request.getUrl())
-                    .timeout(request.getTimeout() != null ? request.getTimeout() : 10000)
-                    .followRedirects(request.getFollowRedirects() != null ? request.getFollowRedirects() : true)
-                    .ignoreHttpErrors(request.getIgnoreHttpErrors() != null ? request.getIgnoreHttpErrors() : false)
-                    .userAgent(request.getUserAgent() != null ? request.getUserAgent() : 
-                              "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
+                    .timeout(timeout(request))
+                    .followRedirects(followRedirects(request))
+                    .ignoreHttpErrors(ignoreHttpErrors(request))
+                    .userAgent(userAgent(request))
+                    // 본문 크기와 Content-Type은 FetchBodyPolicy로 제한 (Jsoup 기본값은 2MB에서 알림 없이 자름)
+                    .maxBodySize(0)
+                    .ignoreContentType(true)
+                    // Jsoup이 풀지 못하는 br은 readBody에서 풂 (요청 헤더로 바꿀 수 있음)
+                    .header(ContentDecoder.ACCEPT_ENCODING, contentDecoder.jsoupAcceptEncoding());
             
             // 헤더 추가
             if (request.getHeaders() != null) {
@@ -53,29 +100,226 @@ public class BeautifulSoupServiceImpl implements BeautifulSoupService {
                 connection.parser(org.jsoup.parser.Parser.htmlParser());
             }
             
-            Document document = connection.get();
-            long responseTime = System.currentTimeMillis() - startTime;
+            // 조건부 요청 헤더 추가
+            boolean conditional = Boolean.TRUE.equals(request.getConditional());
+            if (conditional) {
+                fetchValidatorService.conditionalHeaders(request.getUrl()).forEach(connection::header);
+            }
+            
+            // 메모리 예산을 기다리는 시간이 호스트의 동시 요청 자리를 차지하거나 응답 시간(AIMD 지연, 서킷의 느린 호출)으로
+            // 기록되지 않도록 FetchGuard의 자리를 얻기 전에 버퍼를 예약 (응답을 받은 뒤 예산을 기다리며 연결을 붙잡지도 않음)
+            try (PageBufferPool.BodyWriter writer = pageBufferPool.open(fetchBodyPolicy.maxBytes(request.getMaxBodyBytes()), -1)) {
+                // 호스트 서킷이 열려 있으면 바로 실패하고, 속도 제한에 따라 기다린 뒤 동시 요청 한도 안에서만 요청
+                FetchGuard.Permit permit = fetchGuard.acquire(request.getUrl(), request.getHeaders());
+                sample.lap(CrawlSample.Stage.WAIT);
+                try {
+                    Connection.Response fetched = connection.execute();
+                    sample.lap(CrawlSample.Stage.TTFB);
+                    PageBufferPool.PageBody body = null;
+                    if (!(conditional && fetched.statusCode() == 304)) {
+                        // 재사용 버퍼로 읽어 본문 복사본을 만들지 않음
+                        body = readBody(fetched, request.getUrl(), writer);
+                        sample.lap(CrawlSample.Stage.DOWNLOAD);
+                    }
+                    page = new FetchedPage(fetched.url().toExternalForm(), fetched.statusCode(), "HTTP/1.1", fetched::header, body);
+                    permit.success(fetched.statusCode());
+                } catch (Exception e) {
+                    permit.failure(e);
+                    throw e;
+                }
+            }
+            
+            return complete(request, page, sample, startTime);
+            
+        } catch (Exception e) {
+            return failed(request, sample, startTime, e);
+        } finally {
+            if (page != null) {
+                page.close();
+            }
+        }
+    }
+    
+    /**
+     * 비동기 클라이언트로 본문을 받은 뒤 작업 스레드에서 파싱합니다.
+     * 요청을 보내기까지(메모리 예산, 속도 제한, 동시 요청 한도 대기)는 호출한 스레드에서 진행합니다. (여러 URL이면 dispatchAsync로 전송 스레드에서)
+     */
+    private CompletableFuture<BeautifulSoupResponse> fetchAsync(BeautifulSoupRequest request) {
+        long startTime = System.currentTimeMillis();
+        CrawlSample sample = crawlingMetrics.start("BEAUTIFULSOUP", request.getUrl());
+        
+        try {
+            log.info("BeautifulSoup 스타일로 크롤링 시작 (비동기): {}", request.getUrl());
             
-            // BeautifulSoup 스타일로 데이터 추출
-            BeautifulSoupResponse response = extractBeautifulSoupData(document, request, responseTime);
+            // Jsoup 연결과 같은 순서로 헤더 설정 (요청 헤더가 User-Agent보다 우선)
+            boolean conditional = Boolean.TRUE.equals(request.getConditional());
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put("User-Agent", userAgent(request));
+            if (request.getHeaders() != null) {
+                headers.putAll(request.getHeaders());
+            }
+            if (conditional) {
+                headers.putAll(fetchValidatorService.conditionalHeaders(request.getUrl()));
+            }
             
-            // 크롤링 결과를 데이터베이스에 저장
+            // 메모리 예산을 기다리는 시간이 동시 요청 자리를 차지하거나 응답 시간으로 기록되지 않도록 자리를 얻기 전에 버퍼를 예약
+            PageBufferPool.BodyWriter writer = pageBufferPool.open(fetchBodyPolicy.maxBytes(request.getMaxBodyBytes()), -1);
+            FetchGuard.Permit permit;
+            try {
+                permit = fetchGuard.acquire(request.getUrl(), request.getHeaders());
+            } catch (Exception e) {
+                writer.abort();
+                throw e;
+            }
+            sample.lap(CrawlSample.Stage.WAIT);
+            CompletableFuture<FetchedPage> fetched;
             try {
-                crawlingResultService.saveBeautifulSoupResult(response, "BEAUTIFULSOUP");
+                // 넘긴 writer는 fetch가 맡아 실패하면 닫음
+                fetched = asyncPageFetcher.fetch(request.getUrl(), headers, writer, timeout(request), followRedirects(request), sample);
             } catch (Exception e) {
-                log.warn("크롤링 결과 저장 실패: {}", e.getMessage());
+                permit.failure(e);
+                throw e;
             }
+            sample.detachFromThread();
             
-            return response;
+            return fetched
+                    .whenComplete((page, error) -> {
+                        if (error != null) {
+                            permit.failure(unwrap(error));
+                        } else {
+                            permit.success(page.statusCode());
+                        }
+                    })
+                    .thenApplyAsync(page -> {
+                        try (page) {
+                            // Jsoup 연결과 같이 ignoreHttpErrors가 아니면 4xx, 5xx 응답은 오류로 처리
+                            if (page.statusCode() >= 400 && !ignoreHttpErrors(request)) {
+                                throw new HttpStatusException("HTTP error fetching URL", page.statusCode(), page.url());
+                            }
+                            if (page.body().truncated()) {
+                                log.warn("본문이 최대 크기를 넘어 앞부분만 처리: {} ({} bytes)", request.getUrl(), page.body().length());
+                            }
+                            return complete(request, page, sample, startTime);
+                        } catch (IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, executorService)
+                    .exceptionally(error -> failed(request, sample, startTime, unwrap(error)));
             
-        } catch (IOException e) {
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(failed(request, sample, startTime, e));
+        }
+    }
+    
+    /**
+     * 받은 응답을 변경 감지, 파싱, 추출, 저장까지 처리합니다. (전송 방식과 관계없이 공통)
+     */
+    private BeautifulSoupResponse complete(BeautifulSoupRequest request, FetchedPage page, CrawlSample sample,
+                                           long startTime) throws IOException {
+        boolean conditional = Boolean.TRUE.equals(request.getConditional());
+        if (conditional && page.statusCode() == 304) {
+            long responseTime = System.currentTimeMillis() - startTime;
+            fetchValidatorService.recordNotModified(request.getUrl());
+            sample.lap(CrawlSample.Stage.PERSIST);
+            sample.finish("NOT_MODIFIED", 304, 0);
+            log.info("변경 없음 (304): {} ({}ms)", request.getUrl(), responseTime);
+            return BeautifulSoupResponse.notModified(request.getUrl(), null, responseTime);
+        }
+        PageBufferPool.PageBody body = page.body();
+        
+        // 본문 해시로 변경 감지 (검증자를 보내지 않는 서버 대응)
+        String contentHash = FetchValidatorService.contentHash(body.array(), 0, body.length());
+        
+        if (conditional && !fetchValidatorService.hasChanged(request.getUrl(), contentHash)) {
+            fetchValidatorService.recordResponse(request.getUrl(),
+                    page.header("ETag"), page.header("Last-Modified"), contentHash);
+            sample.lap(CrawlSample.Stage.PERSIST);
             long responseTime = System.currentTimeMillis() - startTime;
+            sample.finish("NOT_MODIFIED", page.statusCode(), body.length());
+            log.info("변경 없음 (본문 해시 동일): {} ({}ms)", request.getUrl(), responseTime);
+            return BeautifulSoupResponse.notModified(request.getUrl(), contentHash, responseTime);
+        }
+        
+        Document document = body.parse(page.url());
+        sample.lap(CrawlSample.Stage.PARSE);
+        long responseTime = System.currentTimeMillis() - startTime;
+        
+        // BeautifulSoup 스타일로 데이터 추출
+        BeautifulSoupResponse response = extractBeautifulSoupData(document, request, responseTime);
+        response.setContentHash(contentHash);
+        response.setCacheControl(page.header("Cache-Control"));
+        response.setTruncated(body.truncated());
+        sample.lap(CrawlSample.Stage.EXTRACT);
+        
+        // 크롤링 결과를 데이터베이스에 저장하고, 저장된 경우에만 검증자를 기록
+        try {
+            crawlingResultService.saveBeautifulSoupResult(response, "BEAUTIFULSOUP");
+            fetchValidatorService.recordResponse(request.getUrl(),
+                    page.header("ETag"), page.header("Last-Modified"), contentHash);
+        } catch (Exception e) {
+            log.warn("크롤링 결과 저장 실패: {}", e.getMessage());
+        }
+        sample.lap(CrawlSample.Stage.PERSIST);
+        sample.finish("SUCCESS", page.statusCode(), body.length());
+        
+        return response;
+    }
+    
+    private BeautifulSoupResponse failed(BeautifulSoupRequest request, CrawlSample sample, long startTime, Throwable e) {
+        long responseTime = System.currentTimeMillis() - startTime;
+        sample.failure(e);
+        if (e instanceof IOException) {
             log.error("BeautifulSoup 크롤링 실패: {} - {}", request.getUrl(), e.getMessage());
             return BeautifulSoupResponse.error(request.getUrl(), e.getMessage(), responseTime);
-        } catch (Exception e) {
-            long responseTime = System.currentTimeMillis() - startTime;
-            log.error("BeautifulSoup 크롤링 중 예상치 못한 오류: {} - {}", request.getUrl(), e.getMessage());
-            return BeautifulSoupResponse.error(request.getUrl(), "크롤링 중 오류가 발생했습니다: " + e.getMessage(), responseTime);
+        }
+        log.error("BeautifulSoup 크롤링 중 예상치 못한 오류: {} - {}", request.getUrl(), e.getMessage());
+        return BeautifulSoupResponse.error(request.getUrl(), "크롤링 중 오류가 발생했습니다: " + e.getMessage(), responseTime);
+    }
+    
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+    
+    private static int timeout(BeautifulSoupRequest request) {
+        return request.getTimeout() != null ? request.getTimeout() : 10000;
+    }
+    
+    private static boolean followRedirects(BeautifulSoupRequest request) {
+        return request.getFollowRedirects() != null ? request.getFollowRedirects() : true;
+    }
+    
+    private static boolean ignoreHttpErrors(BeautifulSoupRequest request) {
+        return request.getIgnoreHttpErrors() != null ? request.getIgnoreHttpErrors() : false;
+    }
+    
+    private static String userAgent(BeautifulSoupRequest request) {
+        return request.getUserAgent() != null ? request.getUserAgent() : 
+                "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+    }
+    
+    /**
+     * 본문을 받기 전에 Content-Type을 확인하고, 압축을 읽는 대로 풀며 최대 크기까지만 재사용 버퍼로 읽습니다.
+     * 버퍼는 요청을 보내기 전에 open()으로 예약한 writer를 사용합니다.
+     * 끝까지 읽지 않은 본문은 남은 부분을 받지 않도록 스트림을 닫습니다.
+     */
+    private PageBufferPool.PageBody readBody(Connection.Response fetched, String url, PageBufferPool.BodyWriter writer) throws IOException {
+        InputStream stream = fetched.bodyStream();
+        PageBufferPool.PageBody body = null;
+        try {
+            fetchBodyPolicy.checkContentType(url, fetched.contentType());
+            String contentEncoding = fetched.header("Content-Encoding");
+            long contentLength = FetchBodyPolicy.contentLength(fetched.header("Content-Length"));
+            stream = contentDecoder.decodeJsoupBody(url, stream, contentEncoding, contentLength);
+            // 압축된 본문의 Content-Length는 푼 뒤의 크기가 아니므로 버퍼 크기를 정하는 데 쓰지 않음
+            body = pageBufferPool.read(writer, stream, fetched.contentType(), contentEncoding == null ? contentLength : -1);
+            if (body.truncated()) {
+                log.warn("본문이 최대 크기를 넘어 앞부분만 처리: {} ({} bytes)", url, body.length());
+            }
+            return body;
+        } finally {
+            if (body == null || body.truncated()) {
+                PageBufferPool.closeQuietly(stream);
+            }
         }
     }
     
@@ -83,13 +327,31 @@ public class BeautifulSoupServiceImpl implements BeautifulSoupService {
     public List<BeautifulSoupResponse> parseMultiple(List<BeautifulSoupRequest> requests) {
         log.info("다중 BeautifulSoup 크롤링 시작: {} 개 URL", requests.size());
         
-        List<CompletableFuture<BeautifulSoupResponse>> futures = requests.stream()
-                .map(request -> CompletableFuture.supplyAsync(() -> parse(request), executorService))
-                .collect(Collectors.toList());
-        
-        return futures.stream()
-                .map(CompletableFuture::join)
-                .collect(Collectors.toList());
+        // URL별 span이 배치 span의 자식이 되도록 작업 스레드로 컨텍스트 전달
+        CrawlTracing.Batch batch = crawlTracing.startBatch("BEAUTIFULSOUP", requests.size());
+        try {
+            // 비동기 클라이언트는 요청마다 전송 스레드에서 보내기만 하고 응답은 I/O 스레드가 받으므로 응답을 기다리는 스레드를 쓰지 않음
+            List<CompletableFuture<BeautifulSoupResponse>> futures = asyncPageFetcher.enabled()
+                    ? requests.stream().map(request -> dispatchAsync(batch, request)).collect(Collectors.toList())
+                    : requests.stream()
+                    .map(request -> CompletableFuture.supplyAsync(batch.wrap(() -> parse(request)), executorService))
+                    .collect(Collectors.toList());
+            
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } finally {
+            batch.end();
+        }
+    }
+    
+    /**
+     * 요청을 보내기까지의 대기(메모리 예산, 속도 제한, 동시 요청 한도)를 전송 스레드에서 진행하여
+     * 한 호스트의 대기가 배치의 나머지 요청을 막지 않도록 합니다. 같은 요청이 진행 중이면 그 결과를 함께 받습니다.
+     */
+    private CompletableFuture<BeautifulSoupResponse> dispatchAsync(CrawlTracing.Batch batch, BeautifulSoupRequest request) {
+        return requestCoalescer.executeAsync(request.fetchKey(),
+                () -> asyncPageFetcher.dispatch(request.getUrl(), batch.wrap(() -> fetchAsync(request))));
     }
     
     @Override
@@ -102,12 +364,14 @@ public class BeautifulSoupServiceImpl implements BeautifulSoupService {
             Document document = Jsoup.parse(html);
             long responseTime = System.currentTimeMillis() - startTime;
             
+            // 문자열 파싱은 이미 받은 HTML이므로 요소 상세까지 모두 반환
+            Set<BeautifulSoupField> fields = EnumSet.of(BeautifulSoupField.TITLE, BeautifulSoupField.TEXT,
+                    BeautifulSoupField.META, BeautifulSoupField.SELECTORS, BeautifulSoupField.ELEMENTS);
+            fields.addAll(BeautifulSoupField.SEGMENTED_TEXT);
             BeautifulSoupRequest request = BeautifulSoupRequest.builder()
                     .url("html-content")
                     .selectors(selectors)
-                    .extractText(true)
-                    .extractTitle(true)
-                    .extractMeta(true)
+                    .fields(fields)
                     .build();
             
             return extractBeautifulSoupData(document, request, responseTime);
@@ -133,43 +397,58 @@ public class BeautifulSoupServiceImpl implements BeautifulSoupService {
         }
     }
     
+    /**
+     * 요청한 필드만 계산합니다. 요청하지 않은 필드는 null로 두어 직렬화와 저장에서도 빠집니다.
+     */
     private BeautifulSoupResponse extractBeautifulSoupData(Document document, BeautifulSoupRequest request, long responseTime) {
-        // 기본 정보 추출
-        String title = document.title();
-        String text = document.text();
-        String html = document.html();
+        Set<BeautifulSoupField> fields = request.requestedFields();
+        BeautifulSoupResponse.BeautifulSoupResponseBuilder response = BeautifulSoupResponse.builder()
+                .url(request.getUrl())
+                .crawledAt(LocalDateTime.now())
+                .responseTime(responseTime)
+                .status("SUCCESS");
         
-        // 세분화된 텍스트 추출
-        Map<String, String> segmentedText = extractSegmentedText(document);
+        // 기본 정보 추출
+        if (fields.contains(BeautifulSoupField.TITLE)) {
+            response.title(document.title());
+        }
+        if (fields.contains(BeautifulSoupField.TEXT)) {
+            response.text(document.text());
+        }
+        if (fields.contains(BeautifulSoupField.HTML)) {
+            response.html(document.html());
+        }
         
         // 메타데이터 추출
-        Map<String, String> metaTags = extractMetaTags(document);
-        
-        // 링크 추출
-        List<String> links = new ArrayList<>();
-        if (request.getExtractLinks() != null && request.getExtractLinks()) {
-            links = extractLinks(document, request.getLinkSelectors());
+        if (fields.contains(BeautifulSoupField.META)) {
+            response.metaTags(extractMetaTags(document));
         }
         
-        // 이미지 추출
-        List<String> images = new ArrayList<>();
-        if (request.getExtractImages() != null && request.getExtractImages()) {
-            images = extractImages(document, request.getImageSelectors());
+        // 링크, 이미지, 헤딩 추출
+        if (fields.contains(BeautifulSoupField.LINKS)) {
+            List<String> links = extractLinks(document, request.getLinkSelectors());
+            // 다음에 따라갈 수 있는 다른 호스트를 미리 조회 (상대 경로는 같은 호스트이므로 건너뜀)
+            // DnsCache는 공유 클라이언트용이므로 blocking 모드의 Jsoup 수집에는 JVM 주소 캐시를 채우는 만큼만 도움이 됨
+            dnsCache.prefetch(links);
+            response.links(links);
         }
-        
-        // 헤딩 추출
-        List<String> headings = new ArrayList<>();
-        if (request.getExtractHeadings() != null && request.getExtractHeadings()) {
-            headings = extractHeadings(document);
+        if (fields.contains(BeautifulSoupField.IMAGES)) {
+            response.images(extractImages(document, request.getImageSelectors()));
+        }
+        if (fields.contains(BeautifulSoupField.HEADINGS)) {
+            response.headings(extractHeadings(document));
         }
         
         // 선택자 기반 데이터 추출
+        boolean withSelectors = fields.contains(BeautifulSoupField.SELECTORS);
+        boolean withElements = fields.contains(BeautifulSoupField.ELEMENTS);
+        boolean withAttributes = fields.contains(BeautifulSoupField.ATTRIBUTES);
         Map<String, Object> extractedData = new HashMap<>();
-        Map<String, List<String>> selectorResults = new HashMap<>();
-        Map<String, String> attributeResults = new HashMap<>();
-        List<BeautifulSoupResponse.ElementData> elements = new ArrayList<>();
         
-        if (request.getSelectors() != null) {
+        if (request.getSelectors() != null && (withSelectors || withElements)) {
+            Map<String, List<String>> selectorResults = new HashMap<>();
+            List<BeautifulSoupResponse.ElementData> elements = new ArrayList<>();
+            
             for (Map.Entry<String, String> entry : request.getSelectors().entrySet()) {
                 String key = entry.getKey();
                 String selector = entry.getValue();
@@ -181,30 +460,43 @@ public class BeautifulSoupServiceImpl implements BeautifulSoupService {
                             .collect(Collectors.toList());
                     
                     selectorResults.put(key, texts);
-                    extractedData.put(key, texts.size() == 1 ? texts.get(0) : texts);
+                    if (withSelectors) {
+                        extractedData.put(key, texts.size() == 1 ? texts.get(0) : texts);
+                    }
                     
-                    // 요소 상세 정보 추출
-                    for (Element element : selectedElements) {
-                        BeautifulSoupResponse.ElementData elementData = BeautifulSoupResponse.ElementData.builder()
-                                .tag(element.tagName())
-                                .text(element.text())
-                                .attributes(element.attributes().asList().stream()
-                                        .collect(Collectors.toMap(
-                                                org.jsoup.nodes.Attribute::getKey,
-                                                org.jsoup.nodes.Attribute::getValue)))
-                                .html(element.outerHtml())
-                                .build();
-                        elements.add(elementData);
+                    // 요소 상세 정보 추출 (outerHtml 직렬화가 필요하므로 요청한 경우에만)
+                    if (withElements) {
+                        for (int i = 0; i < selectedElements.size(); i++) {
+                            Element element = selectedElements.get(i);
+                            BeautifulSoupResponse.ElementData elementData = BeautifulSoupResponse.ElementData.builder()
+                                    .tag(element.tagName())
+                                    .text(texts.get(i))
+                                    .attributes(element.attributes().asList().stream()
+                                            .collect(Collectors.toMap(
+                                                    org.jsoup.nodes.Attribute::getKey,
+                                                    org.jsoup.nodes.Attribute::getValue)))
+                                    .html(element.outerHtml())
+                                    .build();
+                            elements.add(elementData);
+                        }
                     }
                 } catch (Exception e) {
                     log.warn("선택자 처리 실패: {} - {}", selector, e.getMessage());
                     selectorResults.put(key, Collections.emptyList());
                 }
             }
+            
+            if (withSelectors) {
+                response.selectorResults(selectorResults);
+            }
+            if (withElements) {
+                response.elements(elements);
+            }
         }
         
         // 속성 추출
-        if (request.getAttributes() != null) {
+        if (request.getAttributes() != null && withAttributes) {
+            Map<String, String> attributeResults = new HashMap<>();
             for (Map.Entry<String, String> entry : request.getAttributes().entrySet()) {
                 String key = entry.getKey();
                 String selector = entry.getValue();
@@ -220,32 +512,34 @@ public class BeautifulSoupServiceImpl implements BeautifulSoupService {
                     log.warn("속성 추출 실패: {} - {}", key, e.getMessage());
                 }
             }
+            response.attributeResults(attributeResults);
+        }
+        
+        if (withSelectors || withAttributes) {
+            response.extractedData(extractedData);
+        }
+        
+        // 세분화된 텍스트 추출
+        // (본문/기사 텍스트는 문서에서 스크립트, 네비게이션 등을 제거하므로 다른 필드를 모두 계산한 뒤 마지막에 수행)
+        if (fields.contains(BeautifulSoupField.DESCRIPTION)) {
+            response.description(extractDescription(document));
+        }
+        if (fields.contains(BeautifulSoupField.NAVIGATION_TEXT)) {
+            response.navigationText(extractNavigationText(document));
+        }
+        if (fields.contains(BeautifulSoupField.FOOTER_TEXT)) {
+            response.footerText(extractFooterText(document));
+        }
+        if (fields.contains(BeautifulSoupField.MAIN_TEXT)) {
+            response.mainText(extractMainText(document));
+        }
+        if (fields.contains(BeautifulSoupField.ARTICLE_TEXT)) {
+            response.articleText(extractArticleText(document));
         }
         
         log.info("BeautifulSoup 크롤링 완료: {} ({}ms)", request.getUrl(), responseTime);
         
-        return BeautifulSoupResponse.builder()
-                .url(request.getUrl())
-                .title(title)
-                .text(text)
-                .html(html)
-                .extractedData(extractedData)
-                .metaTags(metaTags)
-                .links(links)
-                .images(images)
-                .headings(headings)
-                .selectorResults(selectorResults)
-                .attributeResults(attributeResults)
-                .elements(elements)
-                .mainText(segmentedText.get("mainText"))
-                .description(segmentedText.get("description"))
-                .articleText(segmentedText.get("articleText"))
-                .navigationText(segmentedText.get("navigationText"))
-                .footerText(segmentedText.get("footerText"))
-                .crawledAt(LocalDateTime.now())
-                .responseTime(responseTime)
-                .status("SUCCESS")
-                .build();
+        return response.build();
     }
     
     private Map<String, String> extractMetaTags(Document document) {
@@ -325,35 +619,6 @@ public class BeautifulSoupServiceImpl implements BeautifulSoupService {
         return headings;
     }
     
-    /**
-     * 텍스트 내용을 세분화하여 분리
-     */
-    private Map<String, String> extractSegmentedText(Document document) {
-        Map<String, String> segmentedText = new HashMap<>();
-        
-        // 메인 텍스트 (본문 내용)
-        String mainText = extractMainText(document);
-        segmentedText.put("mainText", mainText);
-        
-        // 설명/요약 텍스트
-        String description = extractDescription(document);
-        segmentedText.put("description", description);
-        
-        // 기사/본문 텍스트
-        String articleText = extractArticleText(document);
-        segmentedText.put("articleText", articleText);
-        
-        // 네비게이션 텍스트
-        String navigationText = extractNavigationText(document);
-        segmentedText.put("navigationText", navigationText);
-        
-        // 푸터 텍스트
-        String footerText = extractFooterText(document);
-        segmentedText.put("footerText", footerText);
-        
-        return segmentedText;
-    }
-    
     private String extractMainText(Document document) {
         // 메인 콘텐츠 영역에서 텍스트 추출
         Elements mainElements = document.select("main, .main, .content, .article, .post, .entry");
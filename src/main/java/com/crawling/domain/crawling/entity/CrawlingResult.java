@@ -63,6 +63,10 @@ public class CrawlingResult {
     @Column
     private Long responseTime;
     
+    // 본문 SHA-256 해시 (변경 감지에 사용)
+    @Column(length = 64)
+    private String contentHash;
+    
     @Column(columnDefinition = "TEXT")
     private String extractedDataJson;
     
@@ -38,6 +38,7 @@ public class CrawlingResultService {
                     .status(response.getStatus())
                     .errorMessage(response.getErrorMessage())
                     .responseTime(response.getResponseTime())
+                    .contentHash(response.getContentHash())
                     .build();
             
             // JSON 필드들은 엔티티의 setter 메서드를 사용하여 자동으로 JSON 변환
@@ -77,6 +78,7 @@ public class CrawlingResultService {
                     .status(response.getStatus())
                     .errorMessage(response.getErrorMessage())
                     .responseTime(response.getResponseTime())
+                    .contentHash(response.getContentHash())
                     .build();
             
             // JSON 필드들은 엔티티의 setter 메서드를 사용하여 자동으로 JSON 변환
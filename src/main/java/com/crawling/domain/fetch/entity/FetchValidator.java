@@ -0,0 +1,54 @@
+package com.crawling.domain.fetch.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "fetch_validators", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_fetch_validators_url", columnNames = "url")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FetchValidator {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1000)
+    private String url;
+
+    // 서버가 보낸 검증자 (If-None-Match / If-Modified-Since 로 재전송)
+    @Column(length = 500)
+    private String etag;
+
+    @Column(length = 100)
+    private String lastModified;
+
+    // 검증자를 보내지 않는 서버를 위한 본문 SHA-256 해시
+    @Column(length = 64)
+    private String contentHash;
+
+    // 방문/변경 횟수 (304 또는 해시 동일로 저장되지 않은 방문 포함)
+    @Column(nullable = false)
+    private long checkCount;
+
+    @Column(nullable = false)
+    private long changeCount;
+
+    @Column
+    private LocalDateTime firstCheckedAt;
+
+    @Column
+    private LocalDateTime lastCheckedAt;
+
+    @Column
+    private LocalDateTime lastChangedAt;
+}
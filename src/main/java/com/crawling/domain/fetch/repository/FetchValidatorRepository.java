@@ -0,0 +1,55 @@
+package com.crawling.domain.fetch.repository;
+
+import com.crawling.domain.fetch.entity.FetchValidator;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FetchValidatorRepository extends JpaRepository<FetchValidator, Long> {
+
+    /**
+     * URL로 검증자 조회
+     */
+    Optional<FetchValidator> findByUrl(String url);
+
+    /**
+     * 여러 URL의 검증자 조회
+     */
+    List<FetchValidator> findByUrlIn(Collection<String> urls);
+
+    /**
+     * 응답의 검증자와 본문 해시를 한 문장으로 갱신하고, 해시가 달라졌으면 변경 횟수를 늘립니다.
+     * SET 절의 v.contentHash는 갱신 전 값이므로 동시에 갱신해도 방문/변경 횟수를 잃지 않습니다.
+     *
+     * @return 갱신된 행 수 (기록이 없으면 0)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FetchValidator v SET v.etag = :etag, v.lastModified = :lastModified, v.contentHash = :contentHash, "
+            + "v.checkCount = v.checkCount + 1, v.lastCheckedAt = :now, "
+            + "v.changeCount = v.changeCount + CASE WHEN v.contentHash = :contentHash THEN 0 ELSE 1 END, "
+            + "v.lastChangedAt = CASE WHEN v.contentHash = :contentHash THEN v.lastChangedAt ELSE :now END "
+            + "WHERE v.url = :url")
+    int updateResponse(@Param("url") String url,
+                       @Param("etag") String etag,
+                       @Param("lastModified") String lastModified,
+                       @Param("contentHash") String contentHash,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 304 Not Modified 방문 횟수를 한 문장으로 늘립니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FetchValidator v SET v.checkCount = v.checkCount + 1, v.lastCheckedAt = :now WHERE v.url = :url")
+    int updateNotModified(@Param("url") String url, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,133 @@
+package com.crawling.domain.fetch.service;
+
+import com.crawling.domain.fetch.entity.FetchValidator;
+import com.crawling.domain.fetch.repository.FetchValidatorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * URL별 HTTP 검증자(ETag, Last-Modified)와 본문 해시를 기억하여
+ * 조건부 요청과 변경 감지를 지원합니다.
+ *
+ * 기록은 조회 후 저장하지 않고 UPDATE 한 문장으로 하므로 같은 URL을 동시에 기록해도 횟수를 잃지 않습니다.
+ * 크롤링 서비스는 hasChanged()로 변경 여부를 먼저 확인하고, 결과를 저장한 뒤에 recordResponse()를 호출합니다.
+ * 저장에 실패한 응답의 해시를 기록하면 다음 조건부 크롤링이 저장되지 않은 내용을 "변경 없음"으로 판단하기 때문입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FetchValidatorService {
+
+    private final FetchValidatorRepository fetchValidatorRepository;
+
+    /**
+     * 저장된 검증자로 조건부 요청 헤더를 만듭니다.
+     */
+    public Map<String, String> conditionalHeaders(String url) {
+        Map<String, String> headers = new HashMap<>();
+
+        fetchValidatorRepository.findByUrl(url).ifPresent(validator -> {
+            if (validator.getEtag() != null) {
+                headers.put("If-None-Match", validator.getEtag());
+            }
+            if (validator.getLastModified() != null) {
+                headers.put("If-Modified-Since", validator.getLastModified());
+            }
+        });
+
+        return headers;
+    }
+
+    /**
+     * 304 Not Modified 응답을 방문 기록으로 남깁니다.
+     */
+    public void recordNotModified(String url) {
+        try {
+            fetchValidatorRepository.updateNotModified(url, LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("검증자 갱신 실패: {} - {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * 본문 해시가 마지막으로 기록된 해시와 다른지 확인합니다. 기록은 하지 않습니다.
+     * 이전 기록이 없거나 조회에 실패하면 변경된 것으로 간주합니다.
+     */
+    public boolean hasChanged(String url, String contentHash) {
+        try {
+            return fetchValidatorRepository.findByUrl(url)
+                    .map(validator -> !Objects.equals(validator.getContentHash(), contentHash))
+                    .orElse(true);
+        } catch (Exception e) {
+            log.warn("검증자 조회 실패: {} - {}", url, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 응답의 검증자와 본문 해시를 기록합니다. 해시가 이전 방문과 다르면 변경 횟수를 늘립니다.
+     */
+    public void recordResponse(String url, String etag, String lastModified, String contentHash) {
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            if (fetchValidatorRepository.updateResponse(url, etag, lastModified, contentHash, now) > 0) {
+                return;
+            }
+            try {
+                fetchValidatorRepository.saveAndFlush(FetchValidator.builder()
+                        .url(url)
+                        .etag(etag)
+                        .lastModified(lastModified)
+                        .contentHash(contentHash)
+                        .checkCount(1)
+                        .changeCount(1)
+                        .firstCheckedAt(now)
+                        .lastCheckedAt(now)
+                        .lastChangedAt(now)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 같은 URL을 동시에 처음 방문한 경우 - 다른 요청이 먼저 저장했으므로 갱신으로 기록
+                log.debug("검증자 동시 저장 충돌: {}", url);
+                fetchValidatorRepository.updateResponse(url, etag, lastModified, contentHash, now);
+            }
+        } catch (Exception e) {
+            log.warn("검증자 저장 실패: {} - {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * URL의 검증자 조회
+     */
+    public Optional<FetchValidator> findByUrl(String url) {
+        return fetchValidatorRepository.findByUrl(url);
+    }
+
+    /**
+     * 본문의 SHA-256 해시 (16진수 문자열)
+     */
+    public static String contentHash(byte[] body) {
+        return contentHash(body, 0, body.length);
+    }
+
+    public static String contentHash(byte[] body, int offset, int length) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(body, offset, length);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
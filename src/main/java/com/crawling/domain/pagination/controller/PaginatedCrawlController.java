@@ -0,0 +1,82 @@
+package com.crawling.domain.pagination.controller;
+
+import com.crawling.domain.pagination.dto.PaginatedCrawlRequest;
+import com.crawling.domain.pagination.dto.PaginatedCrawlResult;
+import com.crawling.domain.pagination.service.PaginatedApiCrawlService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/crawling/paginated")
+@RequiredArgsConstructor
+@Tag(name = "페이지 API 크롤링", description = "페이지가 나뉜 JSON API를 다음 페이지를 따라가며 수집하는 API")
+public class PaginatedCrawlController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final PaginatedApiCrawlService paginatedApiCrawlService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @PostMapping
+    @Operation(summary = "페이지 API 크롤링", description = "다음 페이지를 따라가며 항목을 페이지마다 저장하고 요약을 반환합니다.")
+    public ResponseEntity<PaginatedCrawlResult> crawl(@Valid @RequestBody PaginatedCrawlRequest request) {
+        log.info("페이지 API 크롤링 요청: {} ({})", request.getUrl(), request.getPagination());
+
+        try {
+            return ResponseEntity.ok(paginatedApiCrawlService.crawl(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("페이지 API 크롤링 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/stream")
+    @Operation(summary = "페이지 API 크롤링 (스트리밍)",
+            description = "항목을 받는 대로 한 줄에 하나씩(NDJSON) 보내고, 마지막 줄에 요약({\"pagination\": ...})을 보냅니다.")
+    public ResponseEntity<StreamingResponseBody> stream(@Valid @RequestBody PaginatedCrawlRequest request) {
+        log.info("페이지 API 크롤링 스트리밍 요청: {} ({})", request.getUrl(), request.getPagination());
+
+        try {
+            paginatedApiCrawlService.validate(request);
+        } catch (IllegalArgumentException e) {
+            log.warn("페이지 API 크롤링 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                // 루트 값마다 줄을 바꿔 NDJSON으로 기록
+                generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+                PaginatedCrawlResult result = paginatedApiCrawlService.crawl(request, new PaginatedApiCrawlService.ItemSink() {
+                    @Override
+                    public void item(Object item) throws IOException {
+                        generator.writeObject(item);
+                    }
+
+                    @Override
+                    public void pageDone(int page, String url) throws IOException {
+                        // 페이지 단위로 클라이언트에 보냄
+                        generator.flush();
+                    }
+                });
+                generator.writeObject(Map.of("pagination", result));
+                generator.writeRaw('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
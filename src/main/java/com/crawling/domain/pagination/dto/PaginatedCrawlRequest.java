@@ -0,0 +1,55 @@
+package com.crawling.domain.pagination.dto;
+
+import com.crawling.domain.pagination.enums.PaginationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginatedCrawlRequest {
+
+    // 첫 페이지 URL
+    @NotBlank(message = "URL은 필수입니다")
+    private String url;
+
+    private Map<String, String> headers;
+    private String userAgent;
+
+    // 페이지 이동 방식 (기본값 AUTO)
+    private PaginationType pagination;
+
+    // 페이지에서 항목을 고르는 JSONPath (기본값 $[*], 예: $.data[*])
+    private String itemsPath;
+
+    // 다음 페이지 URL의 JSONPath (NEXT_URL, AUTO, 기본값 $.next)
+    private String nextPath;
+
+    // 다음 커서 값의 JSONPath와 쿼리 파라미터 이름 (CURSOR, 기본값 $.next_cursor, cursor)
+    private String cursorPath;
+    private String cursorParam;
+
+    // 페이지 번호 쿼리 파라미터 이름과 시작 번호 (PAGE_NUMBER, 기본값 page, 1)
+    private String pageParam;
+    private Integer startPage;
+
+    // 최대 페이지 수, 최대 항목 수 (전체 설정 crawling.pagination.* 보다 크게 지정할 수 없음)
+    @Positive
+    private Integer maxPages;
+
+    @Positive
+    private Integer maxItems;
+
+    // 페이지별 응답 본문의 최대 크기 (바이트)
+    private Long maxBodyBytes;
+
+    // true이면 페이지마다 항목을 크롤링 결과로 저장 (기본값 true)
+    private Boolean persist;
+}
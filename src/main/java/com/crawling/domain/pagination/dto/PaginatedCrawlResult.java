@@ -0,0 +1,25 @@
+package com.crawling.domain.pagination.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginatedCrawlResult {
+
+    private String url;
+    private int pages;
+    private long items;
+
+    // 마지막으로 받은 페이지 URL
+    private String lastUrl;
+
+    // LAST_PAGE, EMPTY_PAGE, MAX_PAGES, MAX_ITEMS, REPEATED_URL, HTTP_ERROR, TRUNCATED, ERROR, CANCELLED
+    private String stopReason;
+    private String errorMessage;
+    private Long elapsedTime;
+}
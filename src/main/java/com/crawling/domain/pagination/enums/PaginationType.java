@@ -0,0 +1,9 @@
+package com.crawling.domain.pagination.enums;
+
+public enum PaginationType {
+    AUTO,         // Link 헤더의 rel="next", 없으면 본문의 nextPath
+    LINK_HEADER,  // Link 헤더의 rel="next"
+    NEXT_URL,     // 본문의 nextPath가 가리키는 URL (상대 경로 가능)
+    CURSOR,       // 본문의 cursorPath 값을 cursorParam 쿼리 파라미터로 전달
+    PAGE_NUMBER   // pageParam 쿼리 파라미터를 startPage부터 1씩 증가 (빈 페이지에서 종료)
+}
@@ -0,0 +1,563 @@
+package com.crawling.domain.pagination.service;
+
+import com.crawling.core.http.ContentDecoder;
+import com.crawling.core.http.FetchBodyPolicy;
+import com.crawling.core.http.PageBufferPool;
+import com.crawling.core.json.JsonPath;
+import com.crawling.core.json.StreamingJsonExtractor;
+import com.crawling.core.metrics.CrawlSample;
+import com.crawling.core.metrics.CrawlingMetrics;
+import com.crawling.core.resilience.FetchGuard;
+import com.crawling.core.tracing.CrawlTracing;
+import com.crawling.domain.crawling.service.CrawlingResultService;
+import com.crawling.domain.pagination.dto.PaginatedCrawlRequest;
+import com.crawling.domain.pagination.dto.PaginatedCrawlResult;
+import com.crawling.domain.pagination.enums.PaginationType;
+import com.crawling.domain.webdriver.dto.CrawlingResponse;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.HttpEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 페이지가 나뉜 JSON API를 다음 페이지를 따라가며 크롤링합니다.
+ *
+ * 페이지를 받으면 다음 페이지 URL(Link 헤더, 본문의 next URL이나 커서, 페이지 번호)을 먼저 구해
+ * crawlingTaskExecutor에서 미리 요청하고, 그동안 현재 페이지의 항목을 처리합니다.
+ * 항목은 itemsPath(JSONPath)로 스트리밍 파서에서 하나씩 골라 바로 ItemSink로 넘기며,
+ * persist이면 페이지마다 크롤링 결과로 저장하므로 전체 항목을 메모리에 모으지 않습니다.
+ * 최대 페이지 수, 최대 항목 수에 도달하거나 같은 URL이 다시 나오면 멈춥니다.
+ */
+@Slf4j
+@Service
+public class PaginatedApiCrawlService {
+
+    private static final String TYPE = "API_PAGINATED";
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+    private static final Pattern LINK = Pattern.compile("<([^>]*)>\\s*((?:;[^,<]*)*)");
+    private static final Pattern REL_NEXT = Pattern.compile("rel\\s*=\\s*\"?([^\";]*)\"?", Pattern.CASE_INSENSITIVE);
+
+    private final CloseableHttpClient httpClient;
+    private final FetchGuard fetchGuard;
+    private final PageBufferPool pageBufferPool;
+    private final FetchBodyPolicy fetchBodyPolicy;
+    private final ContentDecoder contentDecoder;
+    private final CrawlingMetrics crawlingMetrics;
+    private final CrawlTracing crawlTracing;
+    private final CrawlingResultService crawlingResultService;
+    private final Executor crawlingTaskExecutor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${crawling.pagination.max-pages:100}")
+    private int defaultMaxPages;
+
+    @Value("${crawling.pagination.max-items:10000}")
+    private int defaultMaxItems;
+
+    public PaginatedApiCrawlService(CloseableHttpClient httpClient,
+                                    FetchGuard fetchGuard,
+                                    PageBufferPool pageBufferPool,
+                                    FetchBodyPolicy fetchBodyPolicy,
+                                    ContentDecoder contentDecoder,
+                                    CrawlingMetrics crawlingMetrics,
+                                    CrawlTracing crawlTracing,
+                                    CrawlingResultService crawlingResultService,
+                                    @Qualifier("crawlingTaskExecutor") Executor crawlingTaskExecutor) {
+        this.httpClient = httpClient;
+        this.fetchGuard = fetchGuard;
+        this.pageBufferPool = pageBufferPool;
+        this.fetchBodyPolicy = fetchBodyPolicy;
+        this.contentDecoder = contentDecoder;
+        this.crawlingMetrics = crawlingMetrics;
+        this.crawlTracing = crawlTracing;
+        this.crawlingResultService = crawlingResultService;
+        this.crawlingTaskExecutor = crawlingTaskExecutor;
+    }
+
+    /**
+     * 항목을 받는 쪽. 예외를 던지면 (클라이언트 연결 종료 등) 크롤링을 멈춥니다.
+     */
+    public interface ItemSink {
+
+        void item(Object item) throws IOException;
+
+        /**
+         * 한 페이지의 항목을 모두 넘긴 뒤 호출됩니다.
+         */
+        default void pageDone(int page, String url) throws IOException {
+        }
+    }
+
+    /**
+     * 요청의 JSONPath를 미리 확인합니다. (응답을 스트리밍하기 전에 요청 오류를 구분하기 위함)
+     *
+     * @throws IllegalArgumentException JSONPath가 잘못된 경우
+     */
+    public void validate(PaginatedCrawlRequest request) {
+        new Crawl(request);
+    }
+
+    /**
+     * 항목을 저장만 하고 요약을 반환합니다.
+     */
+    public PaginatedCrawlResult crawl(PaginatedCrawlRequest request) {
+        return crawl(request, item -> { });
+    }
+
+    /**
+     * 페이지를 따라가며 항목을 sink로 넘기고 요약을 반환합니다.
+     *
+     * @throws IllegalArgumentException JSONPath가 잘못된 경우
+     */
+    public PaginatedCrawlResult crawl(PaginatedCrawlRequest request, ItemSink sink) {
+        long startTime = System.currentTimeMillis();
+        Crawl crawl = new Crawl(request);
+        log.info("페이지 API 크롤링 시작: {} ({}, 최대 {}페이지/{}건)", request.getUrl(), crawl.type, crawl.maxPages, crawl.maxItems);
+
+        // 미리 요청하는 작업 스레드에서도 페이지 span이 배치 span의 자식이 되도록 컨텍스트 전달
+        CrawlTracing.Batch batch = crawlTracing.startBatch(TYPE, crawl.maxPages);
+        Set<String> seen = new HashSet<>();
+        String url = crawl.firstUrl();
+        seen.add(url);
+        CompletableFuture<Page> pending = fetchAsync(batch, url, request);
+        try {
+            while (pending != null) {
+                Page page = await(pending);
+                pending = null;
+                try {
+                    crawl.pages++;
+                    crawl.lastUrl = page.url;
+                    if (page.statusCode < 200 || page.statusCode >= 300) {
+                        crawl.stop("HTTP_ERROR", "HTTP " + page.statusCode + ": " + page.url);
+                        break;
+                    }
+
+                    // 다음 페이지를 먼저 요청해 두고 현재 페이지를 처리
+                    String next = crawl.pages < crawl.maxPages ? crawl.nextUrl(page) : null;
+                    if (next != null && !seen.add(next)) {
+                        crawl.stop("REPEATED_URL", null);
+                        break;
+                    }
+                    if (next != null) {
+                        pending = fetchAsync(batch, next, request);
+                    }
+
+                    int count = crawl.emit(page, sink);
+                    if (page.body.truncated()) {
+                        crawl.stop("TRUNCATED", "본문이 최대 크기를 넘어 잘림: " + page.url);
+                        break;
+                    }
+                    if (crawl.items >= crawl.maxItems) {
+                        crawl.stop("MAX_ITEMS", null);
+                        break;
+                    }
+                    if (crawl.type == PaginationType.PAGE_NUMBER && count == 0) {
+                        crawl.stop("EMPTY_PAGE", null);
+                        break;
+                    }
+                    if (next == null) {
+                        crawl.stop(crawl.pages >= crawl.maxPages ? "MAX_PAGES" : "LAST_PAGE", null);
+                    }
+                } finally {
+                    page.close();
+                }
+            }
+        } catch (SinkException e) {
+            crawl.stop("CANCELLED", e.getCause().getMessage());
+        } catch (Exception e) {
+            log.error("페이지 API 크롤링 실패: {} - {}", crawl.lastUrl != null ? crawl.lastUrl : url, e.getMessage());
+            crawl.stop("ERROR", e.getMessage());
+        } finally {
+            if (pending != null) {
+                // 멈춘 뒤 도착하는 미리 받은 페이지는 버림
+                pending.thenAccept(Page::close);
+            }
+            batch.end();
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("페이지 API 크롤링 완료: {} ({}페이지, {}건, {}, {}ms)",
+                request.getUrl(), crawl.pages, crawl.items, crawl.stopReason, elapsed);
+        return PaginatedCrawlResult.builder()
+                .url(request.getUrl())
+                .pages(crawl.pages)
+                .items(crawl.items)
+                .lastUrl(crawl.lastUrl)
+                .stopReason(crawl.stopReason)
+                .errorMessage(crawl.errorMessage)
+                .elapsedTime(elapsed)
+                .build();
+    }
+
+    private CompletableFuture<Page> fetchAsync(CrawlTracing.Batch batch, String url, PaginatedCrawlRequest request) {
+        return CompletableFuture.supplyAsync(batch.wrap(() -> {
+            try {
+                return fetchPage(url, request);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }), crawlingTaskExecutor);
+    }
+
+    private static Page await(CompletableFuture<Page> pending) throws IOException {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private Page fetchPage(String url, PaginatedCrawlRequest request) throws IOException {
+        CrawlSample sample = crawlingMetrics.start(TYPE, url);
+        var httpRequest = new HttpGet(url);
+        httpRequest.setHeader(ContentDecoder.ACCEPT_ENCODING, contentDecoder.acceptEncoding());
+        if (request.getHeaders() != null) {
+            request.getHeaders().forEach(httpRequest::setHeader);
+        }
+        httpRequest.setHeader("User-Agent", request.getUserAgent() != null ? request.getUserAgent() : USER_AGENT);
+        httpRequest.setHeader("Accept", "application/json, application/x-ndjson;q=0.9, */*;q=0.1");
+
+        try {
+            // 메모리 예산을 기다리는 시간이 호스트의 동시 요청 자리를 차지하거나 응답 시간으로 기록되지 않도록
+            // FetchGuard의 자리를 얻기 전에 버퍼를 예약 (응답을 받은 뒤 예산을 기다리며 연결을 붙잡지도 않음)
+            try (PageBufferPool.BodyWriter writer = pageBufferPool.open(fetchBodyPolicy.maxBytes(request.getMaxBodyBytes()), -1)) {
+                FetchGuard.Permit permit = fetchGuard.acquire(url, request.getHeaders());
+                sample.lap(CrawlSample.Stage.WAIT);
+                try (CloseableHttpResponse response = httpClient.execute(httpRequest)) {
+                    sample.lap(CrawlSample.Stage.TTFB);
+                    String contentType = headerValue(response, "Content-Type");
+                    String contentEncoding = headerValue(response, "Content-Encoding");
+                    HttpEntity entity = response.getEntity();
+                    InputStream stream = null;
+                    PageBufferPool.PageBody body = null;
+                    try {
+                        fetchBodyPolicy.checkContentType(url, contentType);
+                        stream = contentDecoder.decode(url, entity != null ? entity.getContent() : InputStream.nullInputStream(), contentEncoding);
+                        body = pageBufferPool.read(writer, stream, contentType,
+                                entity == null ? 0 : contentEncoding == null ? entity.getContentLength() : -1);
+                    } finally {
+                        // 끝까지 읽지 않은 본문은 닫을 때 남은 부분을 받지 않도록 연결을 끊음
+                        if (body == null || body.truncated()) {
+                            httpRequest.cancel();
+                            PageBufferPool.closeQuietly(stream);
+                        }
+                    }
+                    sample.lap(CrawlSample.Stage.DOWNLOAD);
+                    int statusCode = response.getCode();
+                    permit.success(statusCode);
+                    sample.finish(statusCode >= 200 && statusCode < 300 ? "SUCCESS" : "ERROR", statusCode, body.length());
+                    return new Page(url, statusCode, headerValue(response, "Link"), contentType, body);
+                } catch (Exception e) {
+                    permit.failure(e);
+                    throw e;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            sample.failure(e);
+            throw e;
+        }
+    }
+
+    private static String headerValue(CloseableHttpResponse response, String name) {
+        var header = response.getFirstHeader(name);
+        return header != null ? header.getValue() : null;
+    }
+
+    /**
+     * Link 헤더에서 rel="next"인 URL을 찾습니다.
+     */
+    static String linkNext(String header) {
+        if (header == null) {
+            return null;
+        }
+        Matcher link = LINK.matcher(header);
+        while (link.find()) {
+            Matcher rel = REL_NEXT.matcher(link.group(2));
+            while (rel.find()) {
+                for (String value : rel.group(1).trim().split("\\s+")) {
+                    if ("next".equalsIgnoreCase(value)) {
+                        return link.group(1).trim();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * URL의 쿼리 파라미터 name을 value로 바꾸거나, 없으면 덧붙입니다.
+     */
+    static String withQueryParam(String url, String name, String value) {
+        int hash = url.indexOf('#');
+        String base = hash >= 0 ? url.substring(0, hash) : url;
+        int question = base.indexOf('?');
+        String path = question >= 0 ? base.substring(0, question) : base;
+        String encodedName = URLEncoder.encode(name, StandardCharsets.UTF_8);
+        String param = encodedName + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8);
+
+        List<String> params = new ArrayList<>();
+        boolean replaced = false;
+        if (question >= 0) {
+            for (String existing : base.substring(question + 1).split("&")) {
+                if (existing.isEmpty()) {
+                    continue;
+                }
+                String existingName = existing.contains("=") ? existing.substring(0, existing.indexOf('=')) : existing;
+                if (existingName.equals(encodedName)) {
+                    if (!replaced) {
+                        params.add(param);
+                        replaced = true;
+                    }
+                } else {
+                    params.add(existing);
+                }
+            }
+        }
+        if (!replaced) {
+            params.add(param);
+        }
+        return path + "?" + String.join("&", params);
+    }
+
+    /**
+     * 한 번의 페이지 크롤링 상태
+     */
+    private final class Crawl {
+
+        private final PaginatedCrawlRequest request;
+        private final PaginationType type;
+        private final int maxPages;
+        private final int maxItems;
+        private final boolean persist;
+        private final Map<String, JsonPath> itemsSelector;
+        private final Map<String, JsonPath> nextSelector;
+        private final String pageParam;
+        private int pageNumber;
+
+        private int pages;
+        private long items;
+        private String lastUrl;
+        private String stopReason;
+        private String errorMessage;
+
+        private Crawl(PaginatedCrawlRequest request) {
+            this.request = request;
+            this.type = request.getPagination() != null ? request.getPagination() : PaginationType.AUTO;
+            this.maxPages = limit(request.getMaxPages(), defaultMaxPages);
+            this.maxItems = limit(request.getMaxItems(), defaultMaxItems);
+            this.persist = !Boolean.FALSE.equals(request.getPersist());
+            this.itemsSelector = Map.of("items", JsonPath.compile(orDefault(request.getItemsPath(), "$[*]")));
+            this.nextSelector = switch (type) {
+                case CURSOR -> Map.of("next", JsonPath.compile(orDefault(request.getCursorPath(), "$.next_cursor")));
+                case NEXT_URL, AUTO -> Map.of("next", JsonPath.compile(orDefault(request.getNextPath(), "$.next")));
+                default -> Map.of();
+            };
+            this.pageParam = orDefault(request.getPageParam(), "page");
+            this.pageNumber = request.getStartPage() != null ? request.getStartPage() : 1;
+        }
+
+        private String firstUrl() {
+            return type == PaginationType.PAGE_NUMBER
+                    ? withQueryParam(request.getUrl(), pageParam, String.valueOf(pageNumber))
+                    : request.getUrl();
+        }
+
+        /**
+         * 다음 페이지 URL. 없으면 null을 반환합니다.
+         */
+        private String nextUrl(Page page) throws IOException {
+            switch (type) {
+                case PAGE_NUMBER:
+                    pageNumber++;
+                    return withQueryParam(request.getUrl(), pageParam, String.valueOf(pageNumber));
+                case LINK_HEADER:
+                    return resolve(page.url, linkNext(page.link));
+                case CURSOR: {
+                    String cursor = bodyValue(page);
+                    if (cursor == null || cursor.isEmpty()) {
+                        return null;
+                    }
+                    return withQueryParam(request.getUrl(), orDefault(request.getCursorParam(), "cursor"), cursor);
+                }
+                case NEXT_URL:
+                    return resolve(page.url, bodyValue(page));
+                default: {
+                    String link = linkNext(page.link);
+                    return resolve(page.url, link != null ? link : bodyValue(page));
+                }
+            }
+        }
+
+        /**
+         * 본문에서 다음 페이지 값을 찾습니다. (한 위치만 가리키는 경로는 찾는 즉시 멈춤)
+         */
+        private String bodyValue(Page page) throws IOException {
+            if (page.body.truncated()) {
+                return null;
+            }
+            StreamingJsonExtractor extractor = new StreamingJsonExtractor(objectMapper, nextSelector);
+            try (JsonParser parser = page.parser()) {
+                extractor.read(parser, false);
+            }
+            Object value = extractor.results().get("next");
+            if (value instanceof List<?> values) {
+                value = values.isEmpty() ? null : values.get(0);
+            }
+            return value == null || value instanceof Map || value instanceof List ? null : String.valueOf(value);
+        }
+
+        /**
+         * 페이지의 항목을 하나씩 sink로 넘기고, persist이면 페이지 단위로 저장합니다. 넘긴 항목 수를 반환합니다.
+         */
+        private int emit(Page page, ItemSink sink) throws IOException {
+            List<Object> pageItems = persist ? new ArrayList<>() : null;
+            int[] count = {0};
+            StreamingJsonExtractor[] extractor = new StreamingJsonExtractor[1];
+            extractor[0] = new StreamingJsonExtractor(objectMapper, itemsSelector, (name, item) -> {
+                try {
+                    sink.item(item);
+                } catch (IOException e) {
+                    throw new SinkException(e);
+                }
+                if (pageItems != null) {
+                    pageItems.add(item);
+                }
+                count[0]++;
+                if (items + count[0] >= maxItems) {
+                    extractor[0].stop();
+                }
+            });
+            try (JsonParser parser = page.parser()) {
+                extractor[0].read(parser, isNdjson(page.contentType));
+            } catch (IOException e) {
+                // 잘린 본문은 온전히 받은 항목까지 사용
+                if (!page.body.truncated()) {
+                    throw e;
+                }
+            } finally {
+                items += count[0];
+                if (pageItems != null && !pageItems.isEmpty()) {
+                    save(page, pageItems);
+                }
+            }
+            sink.pageDone(pages, page.url);
+            return count[0];
+        }
+
+        private void save(Page page, List<Object> pageItems) {
+            Map<String, Object> extractedData = new HashMap<>();
+            extractedData.put("page", pages);
+            extractedData.put("items", pageItems);
+            Map<String, String> metadata = new HashMap<>();
+            metadata.put("status_code", String.valueOf(page.statusCode));
+            metadata.put("content_type", page.contentType != null ? page.contentType : "unknown");
+            metadata.put("content_length", String.valueOf(page.body.length()));
+            metadata.put("first_url", request.getUrl());
+            try {
+                crawlingResultService.saveWebDriverResult(CrawlingResponse.success(page.url, "API Page " + pages, null,
+                        extractedData, metadata, null), TYPE);
+            } catch (Exception e) {
+                log.warn("페이지 저장 실패: {} - {}", page.url, e.getMessage());
+            }
+        }
+
+        private void stop(String reason, String message) {
+            if (stopReason == null) {
+                stopReason = reason;
+                errorMessage = message;
+            }
+        }
+    }
+
+    /**
+     * 받은 페이지. 닫으면 본문 버퍼를 돌려줍니다.
+     */
+    private final class Page implements AutoCloseable {
+
+        private final String url;
+        private final int statusCode;
+        private final String link;
+        private final String contentType;
+        private final PageBufferPool.PageBody body;
+
+        private Page(String url, int statusCode, String link, String contentType, PageBufferPool.PageBody body) {
+            this.url = url;
+            this.statusCode = statusCode;
+            this.link = link;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        private JsonParser parser() throws IOException {
+            return objectMapper.getFactory().createParser(body.array(), 0, body.length());
+        }
+
+        @Override
+        public void close() {
+            body.close();
+        }
+    }
+
+    /**
+     * ItemSink가 던진 예외 (추출 중 람다에서 전달하기 위해 감쌈)
+     */
+    private static final class SinkException extends RuntimeException {
+
+        private SinkException(IOException cause) {
+            super(cause);
+        }
+    }
+
+    private static String resolve(String base, String next) {
+        if (next == null || next.isBlank()) {
+            return null;
+        }
+        try {
+            return URI.create(base).resolve(next.trim()).toString();
+        } catch (IllegalArgumentException e) {
+            log.warn("다음 페이지 URL을 해석할 수 없음: {}", next);
+            return null;
+        }
+    }
+
+    private static boolean isNdjson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String lower = contentType.toLowerCase(Locale.ROOT);
+        return lower.contains("ndjson") || lower.contains("jsonl") || lower.contains("json-seq");
+    }
+
+    private static int limit(Integer requested, int max) {
+        return requested == null || requested <= 0 ? max : Math.min(requested, max);
+    }
+
+    private static String orDefault(String value, String defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,19 @@
+package com.crawling.domain.queue.config;
+
+import com.crawling.domain.queue.service.SegmentedFileQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class CrawlQueueConfig {
+
+    @Bean(destroyMethod = "close")
+    public SegmentedFileQueue crawlQueue(@Value("${crawling.queue.dir:./data/crawl-queue}") String directory,
+                                         @Value("${crawling.queue.segment-size:67108864}") int segmentSize) throws IOException {
+        return new SegmentedFileQueue(Path.of(directory), segmentSize);
+    }
+}
@@ -0,0 +1,53 @@
+package com.crawling.domain.queue.controller;
+
+import com.crawling.domain.queue.dto.CrawlQueueRequest;
+import com.crawling.domain.queue.dto.CrawlQueueStatus;
+import com.crawling.domain.queue.service.CrawlQueueService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/crawl-queue")
+@RequiredArgsConstructor
+@Tag(name = "크롤링 큐", description = "재시작 후에도 유지되는 영속 크롤링 큐 API")
+public class CrawlQueueController {
+
+    private final CrawlQueueService crawlQueueService;
+
+    @PostMapping
+    @Operation(summary = "크롤링 작업 추가", description = "URL 목록을 영속 큐에 추가합니다. 작업은 백그라운드에서 순서대로 처리됩니다.")
+    public ResponseEntity<Map<String, Object>> enqueue(@Valid @RequestBody CrawlQueueRequest request) {
+        log.info("크롤링 큐 작업 추가 요청: {} 개 URL ({})", request.getUrls().size(), request.getCrawlingType());
+
+        try {
+            List<Long> offsets = crawlQueueService.enqueue(request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                    "enqueued", offsets.size(),
+                    "firstOffset", offsets.get(0),
+                    "lastOffset", offsets.get(offsets.size() - 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("크롤링 큐 작업 추가 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IOException e) {
+            log.error("크롤링 큐 기록 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/status")
+    @Operation(summary = "크롤링 큐 상태 조회", description = "대기, 처리 중, 완료 작업 수와 큐 오프셋을 조회합니다.")
+    public ResponseEntity<CrawlQueueStatus> getStatus() {
+        return ResponseEntity.ok(crawlQueueService.getStatus());
+    }
+}
@@ -0,0 +1,30 @@
+package com.crawling.domain.queue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlQueueRequest {
+
+    @NotBlank(message = "크롤링 타입은 필수입니다")
+    @Pattern(regexp = "SIMPLE|JAVASCRIPT|API|BEAUTIFULSOUP", message = "지원하지 않는 크롤링 타입입니다")
+    private String crawlingType;
+
+    @NotEmpty(message = "URL 목록은 필수입니다")
+    private List<String> urls;
+
+    private Map<String, String> selectors;
+    private Integer timeout;
+    private String userAgent;
+}
@@ -0,0 +1,22 @@
+package com.crawling.domain.queue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlQueueStatus {
+
+    private boolean running;
+    private long pendingCount;
+    private int inFlightCount;
+    private long processedCount;
+    private long errorCount;
+    private long writeOffset;
+    private long committedOffset;
+    private int segmentCount;
+}
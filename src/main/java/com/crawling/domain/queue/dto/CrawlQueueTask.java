@@ -0,0 +1,31 @@
+package com.crawling.domain.queue.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 영속 큐에 JSON으로 저장되는 크롤링 작업 (URL 하나)
+ * 큐 파일은 세그먼트가 삭제될 때까지 디스크에 남으므로 인증 정보가 담길 수 있는 요청 헤더는 저장하지 않습니다.
+ * 이전 버전이 기록한 작업에 있던 필드(headers 등)는 읽을 때 무시합니다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlQueueTask {
+
+    private String crawlingType;
+    private String url;
+    private Map<String, String> selectors;
+    private Integer timeout;
+    private String userAgent;
+
+    // 큐에 추가된 시각 (epoch millis)
+    private Long enqueuedAt;
+}
@@ -0,0 +1,258 @@
+package com.crawling.domain.queue.service;
+
+import com.crawling.core.http.DnsCache;
+import com.crawling.domain.beautifulsoup.dto.BeautifulSoupRequest;
+import com.crawling.domain.beautifulsoup.service.BeautifulSoupService;
+import com.crawling.domain.queue.dto.CrawlQueueRequest;
+import com.crawling.domain.queue.dto.CrawlQueueStatus;
+import com.crawling.domain.queue.dto.CrawlQueueTask;
+import com.crawling.domain.webdriver.dto.CrawlingRequest;
+import com.crawling.domain.webdriver.enums.CrawlingType;
+import com.crawling.domain.webdriver.service.CrawlingServiceFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤링 작업을 영속 큐에 저장하고 전용 스레드에서 꺼내 crawlingTaskExecutor로 실행합니다.
+ *
+ * 작업은 동시에 여러 개가 처리되므로 완료 순서가 큐 순서와 다를 수 있습니다.
+ * 아직 처리 중인 가장 앞 작업의 오프셋까지만 커밋하므로, 재시작 시에는 처리 중이던 작업만
+ * 다시 실행되고 완료된 작업이나 URL 유실은 없습니다.
+ * 작업은 항상 조건부 요청으로 실행합니다. 검증자는 파일 DB에 결과를 저장한 뒤에만 기록되므로,
+ * 재시작 후 다시 실행된 작업 중 이미 저장된 페이지는 304 또는 본문 해시 일치로 끝나고 저장되지 못한 페이지만 다시 저장됩니다.
+ * 요청 헤더는 큐 파일에 기록하지 않습니다. (인증 정보가 디스크에 남지 않도록)
+ */
+@Slf4j
+@Service
+public class CrawlQueueService {
+
+    private final SegmentedFileQueue crawlQueue;
+    private final CrawlingServiceFactory crawlingServiceFactory;
+    private final BeautifulSoupService beautifulSoupService;
+    private final Executor crawlingTaskExecutor;
+    private final DnsCache dnsCache;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${crawling.queue.concurrency:5}")
+    private int concurrency;
+
+    @Value("${crawling.queue.shutdown-timeout:30}")
+    private long shutdownTimeoutSeconds;
+
+    // 처리 중인 작업: 오프셋 -> 다음 오프셋
+    private final TreeMap<Long, Long> inFlight = new TreeMap<>();
+    private long lastPolledNextOffset = -1;
+
+    private final AtomicLong processedCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+
+    private Semaphore permits;
+    private Thread worker;
+    private volatile boolean running;
+
+    public CrawlQueueService(SegmentedFileQueue crawlQueue,
+                             CrawlingServiceFactory crawlingServiceFactory,
+                             BeautifulSoupService beautifulSoupService,
+                             @Qualifier("crawlingTaskExecutor") Executor crawlingTaskExecutor,
+                             DnsCache dnsCache) {
+        this.crawlQueue = crawlQueue;
+        this.crawlingServiceFactory = crawlingServiceFactory;
+        this.beautifulSoupService = beautifulSoupService;
+        this.crawlingTaskExecutor = crawlingTaskExecutor;
+        this.dnsCache = dnsCache;
+    }
+
+    @PostConstruct
+    public void start() {
+        permits = new Semaphore(concurrency);
+        running = true;
+        worker = new Thread(this::runWorker, "crawl-queue-worker");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("크롤링 큐 워커 시작: 동시 실행 {} 개, 대기 {} 건", concurrency, crawlQueue.stats().getPendingCount());
+    }
+
+    /**
+     * 새 작업을 받지 않고 처리 중인 작업이 끝날 때까지 기다린 뒤 커밋 위치를 디스크에 기록합니다.
+     * 제한 시간 안에 끝나지 않은 작업은 재시작 후 다시 실행됩니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(shutdownTimeoutSeconds));
+
+        if (permits.tryAcquire(concurrency, shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+            permits.release(concurrency);
+        } else {
+            log.warn("크롤링 큐 종료 대기 시간 초과: 처리 중인 {} 건은 재시작 후 다시 실행됩니다.", inFlightCount());
+        }
+        crawlQueue.flush();
+        log.info("크롤링 큐 워커 종료: 커밋 오프셋 {}", crawlQueue.stats().getCommittedOffset());
+    }
+
+    /**
+     * URL별 작업을 큐에 추가하고 오프셋 목록을 반환합니다.
+     */
+    public List<Long> enqueue(CrawlQueueRequest request) throws IOException {
+        long now = System.currentTimeMillis();
+        List<Long> offsets = new ArrayList<>(request.getUrls().size());
+
+        for (String url : request.getUrls()) {
+            CrawlQueueTask task = CrawlQueueTask.builder()
+                    .crawlingType(request.getCrawlingType())
+                    .url(url)
+                    .selectors(request.getSelectors())
+                    .timeout(request.getTimeout())
+                    .userAgent(request.getUserAgent())
+                    .enqueuedAt(now)
+                    .build();
+            offsets.add(crawlQueue.append(objectMapper.writeValueAsBytes(task)));
+        }
+
+        // 워커가 꺼내기 전에 호스트를 미리 조회
+        dnsCache.prefetch(request.getUrls());
+        log.info("크롤링 큐에 {} 개 작업 추가 (타입={})", offsets.size(), request.getCrawlingType());
+        return offsets;
+    }
+
+    public CrawlQueueStatus getStatus() {
+        SegmentedFileQueue.QueueStats stats = crawlQueue.stats();
+        return CrawlQueueStatus.builder()
+                .running(running)
+                .pendingCount(stats.getPendingCount())
+                .inFlightCount(inFlightCount())
+                .processedCount(processedCount.get())
+                .errorCount(errorCount.get())
+                .writeOffset(stats.getWriteOffset())
+                .committedOffset(stats.getCommittedOffset())
+                .segmentCount(stats.getSegmentCount())
+                .build();
+    }
+
+    /**
+     * 운영체제 장애에 대비하여 주기적으로 큐 파일을 디스크에 기록
+     */
+    @Scheduled(fixedDelayString = "${crawling.queue.flush-interval:1000}")
+    public void flush() {
+        crawlQueue.flush();
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                break;
+            }
+
+            SegmentedFileQueue.QueueRecord record;
+            try {
+                record = crawlQueue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                permits.release();
+                break;
+            } catch (Exception e) {
+                permits.release();
+                if (running) {
+                    log.error("크롤링 큐 읽기 실패: {}", e.getMessage(), e);
+                }
+                continue;
+            }
+
+            if (record == null) {
+                permits.release();
+                continue;
+            }
+
+            synchronized (inFlight) {
+                inFlight.put(record.getOffset(), record.getNextOffset());
+                lastPolledNextOffset = record.getNextOffset();
+            }
+
+            try {
+                crawlingTaskExecutor.execute(() -> process(record));
+            } catch (RejectedExecutionException e) {
+                // 작업 큐가 가득 차면 워커 스레드에서 직접 실행하여 읽기 속도를 늦춤
+                process(record);
+            }
+        }
+    }
+
+    private void process(SegmentedFileQueue.QueueRecord record) {
+        try {
+            CrawlQueueTask task = objectMapper.readValue(record.getPayload(), CrawlQueueTask.class);
+            String status = crawl(task);
+            if ("SUCCESS".equals(status) || "NOT_MODIFIED".equals(status)) {
+                processedCount.incrementAndGet();
+            } else {
+                errorCount.incrementAndGet();
+            }
+        } catch (Exception e) {
+            // 실패한 작업도 커밋하여 같은 작업이 큐를 막지 않도록 함
+            log.error("큐 작업 처리 실패: 오프셋 {} - {}", record.getOffset(), e.getMessage(), e);
+            errorCount.incrementAndGet();
+        } finally {
+            complete(record);
+            permits.release();
+        }
+    }
+
+    private String crawl(CrawlQueueTask task) {
+        if ("BEAUTIFULSOUP".equals(task.getCrawlingType())) {
+            BeautifulSoupRequest request = BeautifulSoupRequest.withSelectors(task.getUrl(), task.getSelectors());
+            request.setTimeout(task.getTimeout());
+            request.setUserAgent(task.getUserAgent());
+            request.setConditional(true);
+            return beautifulSoupService.parse(request).getStatus();
+        }
+
+        CrawlingType type = CrawlingType.valueOf(task.getCrawlingType());
+        CrawlingRequest request = CrawlingRequest.builder()
+                .url(task.getUrl())
+                .type(type)
+                .selectors(task.getSelectors())
+                .timeout(task.getTimeout())
+                .userAgent(task.getUserAgent())
+                .conditional(true)
+                .build();
+        return crawlingServiceFactory.getService(type).crawl(request).getStatus();
+    }
+
+    /**
+     * 처리 중인 가장 앞 작업 직전까지 커밋 (처리 중인 작업이 없으면 마지막으로 읽은 위치까지)
+     */
+    private void complete(SegmentedFileQueue.QueueRecord record) {
+        synchronized (inFlight) {
+            inFlight.remove(record.getOffset());
+            long commitOffset = inFlight.isEmpty() ? lastPolledNextOffset : inFlight.firstKey();
+            try {
+                crawlQueue.commit(commitOffset);
+            } catch (Exception e) {
+                log.warn("크롤링 큐 커밋 실패: 오프셋 {} - {}", commitOffset, e.getMessage());
+            }
+        }
+    }
+
+    private int inFlightCount() {
+        synchronized (inFlight) {
+            return inFlight.size();
+        }
+    }
+}
@@ -0,0 +1,463 @@
+package com.crawling.domain.queue.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑된 세그먼트 파일 기반의 추가 전용(append-only) 영속 큐
+ *
+ * 레코드는 [길이(int)][CRC32C(int)][본문] 형식으로 고정 크기 세그먼트 파일에 순서대로 기록되며,
+ * 전역 오프셋(세그먼트 번호 * 세그먼트 크기 + 위치)으로 식별됩니다. 레코드는 세그먼트 경계를 넘지 않고,
+ * 남은 공간이 부족하면 세그먼트 끝 표시를 남긴 뒤 다음 세그먼트에 기록합니다.
+ *
+ * 소비자는 처리를 마친 오프셋을 commit하며, 커밋 오프셋은 체크포인트 파일의 두 슬롯에 번갈아 기록되어
+ * 기록 도중 중단되어도 직전 체크포인트가 남습니다. 재시작 시 커밋 오프셋부터 CRC를 검증하며 다시 읽고,
+ * 손상된 꼬리(기록 도중 중단된 레코드)는 잘라냅니다. 커밋 이전 세그먼트는 삭제됩니다.
+ *
+ * 매핑된 파일에 쓴 내용은 프로세스가 종료되어도 운영체제 페이지 캐시에 남으며,
+ * 운영체제 장애까지 대비하려면 {@link #flush()}로 디스크에 강제 기록합니다.
+ */
+@Slf4j
+public class SegmentedFileQueue implements Closeable {
+
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int END_OF_SEGMENT = -1;
+    private static final int MIN_SEGMENT_SIZE = 4096;
+    private static final byte[] ZEROS = new byte[8192];
+
+    // 체크포인트 슬롯: [순번(long)][커밋 오프셋(long)][세그먼트 크기(int)][CRC32C(int)]
+    private static final int CHECKPOINT_SLOT_SIZE = 24;
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    // 세그먼트 번호 -> 매핑된 세그먼트
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+
+    private final FileChannel checkpointChannel;
+    private final MappedByteBuffer checkpointBuffer;
+    private long checkpointSequence;
+
+    private long writeOffset;
+    private long readOffset;
+    private long committedOffset;
+    private long pendingCount;
+    private boolean closed;
+
+    public SegmentedFileQueue(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("세그먼트 크기는 " + MIN_SEGMENT_SIZE + " 바이트 이상이어야 합니다.");
+        }
+        Files.createDirectories(directory);
+        this.directory = directory;
+
+        this.checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.checkpointBuffer = checkpointChannel.map(FileChannel.MapMode.READ_WRITE, 0, CHECKPOINT_SLOT_SIZE * 2L);
+
+        Checkpoint checkpoint = loadCheckpoint();
+        if (checkpoint != null && checkpoint.segmentSize != segmentSize) {
+            // 오프셋 계산이 세그먼트 크기에 의존하므로 기존 큐의 크기를 유지
+            log.warn("기존 큐의 세그먼트 크기({})를 사용합니다. (설정값: {})", checkpoint.segmentSize, segmentSize);
+            this.segmentSize = checkpoint.segmentSize;
+        } else {
+            this.segmentSize = segmentSize;
+        }
+        if (checkpoint != null) {
+            this.checkpointSequence = checkpoint.sequence;
+            this.committedOffset = checkpoint.offset;
+        }
+
+        recover();
+        writeCheckpoint();
+        log.info("영속 큐 열기 완료: {} (커밋 오프셋 {}, 쓰기 오프셋 {}, 대기 {} 건)",
+                directory, committedOffset, writeOffset, pendingCount);
+    }
+
+    /**
+     * 레코드를 추가하고 오프셋을 반환합니다.
+     */
+    public long append(byte[] payload) throws IOException {
+        if (payload.length == 0 || payload.length > segmentSize - RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("레코드 크기가 올바르지 않습니다: " + payload.length);
+        }
+
+        lock.lock();
+        try {
+            ensureOpen();
+
+            int position = positionOf(writeOffset);
+            if (segmentSize - position < RECORD_HEADER_SIZE + payload.length) {
+                if (segmentSize - position >= Integer.BYTES) {
+                    segment(writeOffset, true).buffer.putInt(position, END_OF_SEGMENT);
+                }
+                writeOffset = nextSegmentStart(writeOffset);
+                position = 0;
+            }
+
+            MappedByteBuffer buffer = segment(writeOffset, true).buffer;
+            buffer.put(position + RECORD_HEADER_SIZE, payload);
+            buffer.putInt(position + Integer.BYTES, checksum(payload));
+            // 길이를 마지막에 기록하여 중단된 기록은 재시작 시 빈 공간 또는 CRC 불일치로 판별
+            buffer.putInt(position, payload.length);
+
+            long offset = writeOffset;
+            writeOffset += RECORD_HEADER_SIZE + payload.length;
+            pendingCount++;
+            notEmpty.signal();
+            return offset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다음 레코드를 읽습니다. 읽을 레코드가 없으면 timeout만큼 기다린 뒤 null을 반환합니다.
+     * 읽은 레코드는 commit 전까지 재시작 시 다시 전달됩니다.
+     */
+    public QueueRecord poll(long timeout, TimeUnit unit) throws IOException, InterruptedException {
+        long nanos = unit.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                ensureOpen();
+                readOffset = skipSegmentEnd(readOffset);
+                if (readOffset < writeOffset) {
+                    break;
+                }
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+
+            MappedByteBuffer buffer = segment(readOffset, false).buffer;
+            int position = positionOf(readOffset);
+            int length = buffer.getInt(position);
+            byte[] payload = new byte[length];
+            buffer.get(position + RECORD_HEADER_SIZE, payload);
+
+            long offset = readOffset;
+            readOffset += RECORD_HEADER_SIZE + length;
+            pendingCount--;
+            return new QueueRecord(offset, readOffset, payload);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * offset 이전의 레코드를 모두 처리 완료로 기록합니다.
+     * (poll이 반환한 레코드의 nextOffset 또는 아직 처리 중인 가장 앞 레코드의 offset)
+     */
+    public void commit(long offset) throws IOException {
+        lock.lock();
+        try {
+            ensureOpen();
+            if (offset <= committedOffset) {
+                return;
+            }
+            if (offset > readOffset) {
+                throw new IllegalArgumentException("읽지 않은 오프셋은 커밋할 수 없습니다: " + offset);
+            }
+
+            committedOffset = offset;
+            writeCheckpoint();
+            deleteSegmentsBefore(segmentIndex(committedOffset));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 세그먼트와 체크포인트를 디스크에 강제 기록합니다.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            for (Segment segment : segments.values()) {
+                segment.buffer.force();
+            }
+            checkpointBuffer.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public QueueStats stats() {
+        lock.lock();
+        try {
+            return new QueueStats(writeOffset, readOffset, committedOffset, pendingCount, segments.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            flush();
+            closed = true;
+            notEmpty.signalAll();
+
+            for (Segment segment : segments.values()) {
+                segment.channel.close();
+            }
+            segments.clear();
+            checkpointChannel.close();
+            log.info("영속 큐 닫기 완료: {} (커밋 오프셋 {})", directory, committedOffset);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 커밋 오프셋부터 레코드를 검증하며 쓰기 위치와 대기 레코드 수를 복구합니다.
+     */
+    private void recover() throws IOException {
+        long committedIndex = segmentIndex(committedOffset);
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long index = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            if (index < committedIndex) {
+                Files.deleteIfExists(file);
+            } else {
+                segments.put(index, openSegment(index));
+            }
+        }
+
+        long position = committedOffset;
+        long count = 0;
+        while (true) {
+            Segment segment = segments.get(segmentIndex(position));
+            if (segment == null) {
+                break;
+            }
+            int local = positionOf(position);
+            if (segmentSize - local < RECORD_HEADER_SIZE) {
+                position = nextSegmentStart(position);
+                continue;
+            }
+
+            int length = segment.buffer.getInt(local);
+            if (length == END_OF_SEGMENT) {
+                position = nextSegmentStart(position);
+                continue;
+            }
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || length > segmentSize - local - RECORD_HEADER_SIZE
+                    || !checksumMatches(segment.buffer, local, length)) {
+                log.warn("손상된 레코드 발견, 이후 내용을 잘라냅니다: 오프셋 {}", position);
+                truncateFrom(position);
+                break;
+            }
+
+            count++;
+            position += RECORD_HEADER_SIZE + length;
+        }
+
+        // 마지막 유효 레코드 이후의 세그먼트는 이어서 쓰기 전에 제거
+        Iterator<Map.Entry<Long, Segment>> iterator = segments.tailMap(segmentIndex(position), false).entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Segment> entry = iterator.next();
+            entry.getValue().channel.close();
+            Files.deleteIfExists(segmentPath(entry.getKey()));
+            iterator.remove();
+        }
+
+        writeOffset = position;
+        readOffset = committedOffset;
+        pendingCount = count;
+    }
+
+    /**
+     * offset부터 세그먼트 끝까지 0으로 채워, 이어서 쓴 레코드 뒤에 손상된 내용이 남지 않도록 합니다.
+     */
+    private void truncateFrom(long offset) {
+        MappedByteBuffer buffer = segments.get(segmentIndex(offset)).buffer;
+        for (int position = positionOf(offset); position < segmentSize; position += ZEROS.length) {
+            buffer.put(position, ZEROS, 0, Math.min(ZEROS.length, segmentSize - position));
+        }
+    }
+
+    private long skipSegmentEnd(long offset) {
+        if (offset >= writeOffset) {
+            return offset;
+        }
+        int position = positionOf(offset);
+        if (segmentSize - position < RECORD_HEADER_SIZE
+                || segments.get(segmentIndex(offset)).buffer.getInt(position) == END_OF_SEGMENT) {
+            return nextSegmentStart(offset);
+        }
+        return offset;
+    }
+
+    private void deleteSegmentsBefore(long index) throws IOException {
+        Iterator<Map.Entry<Long, Segment>> iterator = segments.headMap(index, false).entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Segment> entry = iterator.next();
+            entry.getValue().channel.close();
+            Files.deleteIfExists(segmentPath(entry.getKey()));
+            iterator.remove();
+            log.debug("처리 완료된 세그먼트 삭제: {}", entry.getKey());
+        }
+    }
+
+    private Segment segment(long offset, boolean create) throws IOException {
+        long index = segmentIndex(offset);
+        Segment segment = segments.get(index);
+        if (segment == null) {
+            if (!create) {
+                throw new IllegalStateException("세그먼트가 존재하지 않습니다: " + index);
+            }
+            segment = openSegment(index);
+            segments.put(index, segment);
+        }
+        return segment;
+    }
+
+    private Segment openSegment(long index) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(index),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new Segment(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%020d%s", index, SEGMENT_SUFFIX));
+    }
+
+    private Checkpoint loadCheckpoint() {
+        Checkpoint latest = null;
+        for (int slot = 0; slot < 2; slot++) {
+            int base = slot * CHECKPOINT_SLOT_SIZE;
+            long sequence = checkpointBuffer.getLong(base);
+            long offset = checkpointBuffer.getLong(base + 8);
+            int size = checkpointBuffer.getInt(base + 16);
+            int crc = checkpointBuffer.getInt(base + 20);
+
+            if (sequence <= 0 || crc != checkpointChecksum(sequence, offset, size)) {
+                continue;
+            }
+            if (latest == null || sequence > latest.sequence) {
+                latest = new Checkpoint(sequence, offset, size);
+            }
+        }
+        return latest;
+    }
+
+    private void writeCheckpoint() {
+        checkpointSequence++;
+        int base = (int) (checkpointSequence % 2) * CHECKPOINT_SLOT_SIZE;
+        checkpointBuffer.putLong(base, checkpointSequence);
+        checkpointBuffer.putLong(base + 8, committedOffset);
+        checkpointBuffer.putInt(base + 16, segmentSize);
+        checkpointBuffer.putInt(base + 20, checkpointChecksum(checkpointSequence, committedOffset, segmentSize));
+    }
+
+    private static int checkpointChecksum(long sequence, long offset, int size) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(20).putLong(sequence).putLong(offset).putInt(size).flip());
+        return (int) crc.getValue();
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static boolean checksumMatches(MappedByteBuffer buffer, int position, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position + RECORD_HEADER_SIZE, length));
+        return (int) crc.getValue() == buffer.getInt(position + Integer.BYTES);
+    }
+
+    private long segmentIndex(long offset) {
+        return offset / segmentSize;
+    }
+
+    private int positionOf(long offset) {
+        return (int) (offset % segmentSize);
+    }
+
+    private long nextSegmentStart(long offset) {
+        return (segmentIndex(offset) + 1) * segmentSize;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("큐가 닫혀 있습니다: " + directory);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class QueueRecord {
+        private final long offset;
+        private final long nextOffset;
+        private final byte[] payload;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class QueueStats {
+        private final long writeOffset;
+        private final long readOffset;
+        private final long committedOffset;
+        private final long pendingCount;
+        private final int segmentCount;
+    }
+
+    @AllArgsConstructor
+    private static class Segment {
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+    }
+
+    @AllArgsConstructor
+    private static class Checkpoint {
+        private final long sequence;
+        private final long offset;
+        private final int segmentSize;
+    }
+}
@@ -0,0 +1,36 @@
+package com.crawling.domain.recrawl.controller;
+
+import com.crawling.domain.recrawl.dto.RecrawlPlan;
+import com.crawling.domain.recrawl.service.RecrawlPlanner;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/recrawl-plans")
+@RequiredArgsConstructor
+@Tag(name = "재방문 계획", description = "변경률 기반 재크롤링 주기 추정 API")
+public class RecrawlPlanController {
+
+    private final RecrawlPlanner recrawlPlanner;
+
+    @GetMapping
+    @Operation(summary = "전체 재방문 계획 조회", description = "방문 이력이 있는 모든 URL의 추정 변경률과 다음 방문 시각을 조회합니다.")
+    public ResponseEntity<List<RecrawlPlan>> getAllPlans() {
+        return ResponseEntity.ok(recrawlPlanner.planAll());
+    }
+
+    @GetMapping("/url")
+    @Operation(summary = "URL 재방문 계획 조회", description = "지정한 URL들의 추정 변경률과 권장 재방문 간격을 조회합니다.")
+    public ResponseEntity<List<RecrawlPlan>> getPlans(
+            @Parameter(description = "조회할 URL 목록") @RequestParam List<String> url) {
+        return ResponseEntity.ok(recrawlPlanner.planFor(url));
+    }
+}
@@ -0,0 +1,34 @@
+package com.crawling.domain.recrawl.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecrawlPlan {
+
+    private String url;
+
+    // 관측된 방문 간격 수와 그 중 변경이 감지된 간격 수
+    private long observedIntervals;
+    private long observedChanges;
+    private long observedSpanSeconds;
+
+    // 추정 변경률 (시간당 변경 횟수)
+    private double estimatedChangesPerHour;
+
+    // 예산 적용 후 권장 재방문 간격
+    private long recommendedIntervalSeconds;
+
+    private LocalDateTime lastVisitedAt;
+    private LocalDateTime nextVisitAt;
+
+    // 표본이 부족하여 기본 간격을 사용했는지 여부
+    private boolean insufficientData;
+}
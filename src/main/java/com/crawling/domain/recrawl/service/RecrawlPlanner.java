@@ -0,0 +1,262 @@
+package com.crawling.domain.recrawl.service;
+
+import com.crawling.domain.fetch.entity.FetchValidator;
+import com.crawling.domain.fetch.repository.FetchValidatorRepository;
+import com.crawling.domain.recrawl.dto.RecrawlPlan;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * URL별 방문 이력으로 변경률을 추정하여 다음 재방문 시각을 계획합니다.
+ *
+ * 방문 이력은 fetch_validators에 방문할 때마다 갱신되는 URL별 카운터(방문/변경 횟수, 첫/마지막 방문 시각)를 사용하므로
+ * 크롤링 결과 이력을 읽지 않습니다.
+ * 적응형 스케줄은 URL마다 계획된 방문 시각에 그 URL만 방문합니다. (dueUrls, nextRunAt)
+ *
+ * 변경률은 일정 간격 방문에 대한 포아송 추정량 λ = -ln((n - X + 0.5) / (n + 0.5)) / Ī 로 계산합니다.
+ * (n: 관측 간격 수, X: 변경이 감지된 간격 수, Ī: 평균 방문 간격)
+ * 재방문 간격은 두 방문 사이에 변경이 일어날 확률이 목표값이 되도록 정하고 최소/최대 범위로 제한하며,
+ * 전체 요구 방문량이 시간당 예산을 넘으면 모든 간격을 같은 비율로 늘립니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecrawlPlanner {
+
+    private final FetchValidatorRepository fetchValidatorRepository;
+
+    @Value("${crawling.recrawl.min-interval:300}")
+    private long minIntervalSeconds;
+
+    @Value("${crawling.recrawl.max-interval:604800}")
+    private long maxIntervalSeconds;
+
+    @Value("${crawling.recrawl.default-interval:3600}")
+    private long defaultIntervalSeconds;
+
+    @Value("${crawling.recrawl.target-change-probability:0.5}")
+    private double targetChangeProbability;
+
+    @Value("${crawling.recrawl.fetch-budget-per-hour:1000}")
+    private double fetchBudgetPerHour;
+
+    @Value("${crawling.recrawl.min-samples:2}")
+    private long minSamples;
+
+    // 마지막으로 계산한 예산 배율 (planFor에서 재사용)
+    private volatile double budgetScale = 1.0;
+
+    /**
+     * 예산 배율을 주기적으로 다시 계산합니다. (URL별 재방문 계획 조회 시에는 마지막 배율을 사용)
+     */
+    @Scheduled(fixedDelayString = "${crawling.recrawl.budget-refresh-interval:600000}",
+               initialDelayString = "${crawling.schedule.initial-delay:10000}")
+    public void refreshBudgetScale() {
+        try {
+            planAll();
+        } catch (Exception e) {
+            log.warn("재방문 예산 배율 계산 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이력이 있는 모든 URL의 재방문 계획 (다음 방문 시각순)
+     */
+    public List<RecrawlPlan> planAll() {
+        Map<String, VisitStats> stats = collectStats(fetchValidatorRepository.findAll());
+
+        List<RecrawlPlan> plans = stats.values().stream()
+                .map(this::estimate)
+                .collect(Collectors.toList());
+
+        double scale = computeBudgetScale(plans);
+        budgetScale = scale;
+
+        plans.forEach(plan -> applyScale(plan, scale));
+        plans.sort(Comparator.comparing(RecrawlPlan::getNextVisitAt));
+
+        log.debug("재방문 계획 계산 완료: {} 개 URL, 예산 배율 {}", plans.size(), scale);
+        return plans;
+    }
+
+    /**
+     * 지정한 URL들의 재방문 계획 (이력이 없는 URL은 기본 간격, 방문한 적 없는 URL은 즉시 방문)
+     */
+    public List<RecrawlPlan> planFor(Collection<String> urls) {
+        return planFor(urls, defaultIntervalSeconds);
+    }
+
+    /**
+     * 적응형 스케줄에서 cutoff 시각까지 방문할 때가 된 URL
+     * 표본이 부족한 URL은 fallbackSeconds 간격을 사용합니다.
+     */
+    public List<String> dueUrls(Collection<String> urls, long fallbackSeconds, LocalDateTime cutoff) {
+        return planFor(urls, fallbackSeconds).stream()
+                .filter(plan -> !plan.getNextVisitAt().isAfter(cutoff))
+                .map(RecrawlPlan::getUrl)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 적응형 스케줄의 다음 실행 시각 (URL별 다음 방문 시각 중 가장 이른 시각)
+     * from 시각까지 방문할 때가 된 URL은 이번 실행에서 방문하므로 from에 자신의 간격을 더한 시각으로 계산합니다.
+     */
+    public LocalDateTime nextRunAt(Collection<String> urls, long fallbackSeconds, LocalDateTime from) {
+        return planFor(urls, fallbackSeconds).stream()
+                .map(plan -> plan.getNextVisitAt().isAfter(from)
+                        ? plan.getNextVisitAt()
+                        : from.plusSeconds(plan.getRecommendedIntervalSeconds()))
+                .min(Comparator.naturalOrder())
+                .orElse(from.plusSeconds(clamp(fallbackSeconds)));
+    }
+
+    private List<RecrawlPlan> planFor(Collection<String> urls, long fallbackSeconds) {
+        if (urls.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, VisitStats> stats = collectStats(fetchValidatorRepository.findByUrlIn(urls));
+
+        double scale = budgetScale;
+        return urls.stream()
+                .distinct()
+                .map(url -> {
+                    RecrawlPlan plan = estimate(stats.getOrDefault(url, new VisitStats(url)));
+                    if (plan.isInsufficientData()) {
+                        plan.setRecommendedIntervalSeconds(clamp(fallbackSeconds));
+                    }
+                    applyScale(plan, scale);
+                    return plan;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private RecrawlPlan estimate(VisitStats stats) {
+        boolean insufficient = stats.intervals < Math.max(1, minSamples) || stats.spanSeconds <= 0;
+
+        double changesPerSecond = 0.0;
+        long intervalSeconds;
+
+        if (insufficient) {
+            intervalSeconds = clamp(defaultIntervalSeconds);
+        } else {
+            double n = stats.intervals;
+            double x = Math.min(stats.changes, stats.intervals);
+            double meanInterval = stats.spanSeconds / n;
+            changesPerSecond = -Math.log((n - x + 0.5) / (n + 0.5)) / meanInterval;
+
+            if (changesPerSecond <= 0.0) {
+                intervalSeconds = maxIntervalSeconds;
+            } else {
+                // P(두 방문 사이 변경) = 1 - e^(-λI) = 목표 확률 이 되는 간격
+                double interval = -Math.log(1.0 - targetChangeProbability) / changesPerSecond;
+                intervalSeconds = clamp(Math.round(interval));
+            }
+        }
+
+        return RecrawlPlan.builder()
+                .url(stats.url)
+                .observedIntervals(stats.intervals)
+                .observedChanges(stats.changes)
+                .observedSpanSeconds(stats.spanSeconds)
+                .estimatedChangesPerHour(changesPerSecond * 3600.0)
+                .recommendedIntervalSeconds(intervalSeconds)
+                .lastVisitedAt(stats.lastVisitedAt)
+                .insufficientData(insufficient)
+                .build();
+    }
+
+    /**
+     * 시간당 요구 방문량이 예산을 넘을 때 간격에 곱할 배율을 이분 탐색으로 찾습니다.
+     * 최대 간격에 걸린 URL은 더 늘어나지 않으므로 단순 비율이 아닌 탐색을 사용합니다.
+     */
+    private double computeBudgetScale(List<RecrawlPlan> plans) {
+        if (plans.isEmpty() || fetchBudgetPerHour <= 0 || demandPerHour(plans, 1.0) <= fetchBudgetPerHour) {
+            return 1.0;
+        }
+
+        double low = 1.0;
+        double high = (double) maxIntervalSeconds / Math.max(1, minIntervalSeconds);
+        if (demandPerHour(plans, high) > fetchBudgetPerHour) {
+            // 모든 URL을 최대 간격으로 방문해도 예산 초과
+            return high;
+        }
+
+        for (int i = 0; i < 50; i++) {
+            double mid = (low + high) / 2;
+            if (demandPerHour(plans, mid) > fetchBudgetPerHour) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return high;
+    }
+
+    private double demandPerHour(List<RecrawlPlan> plans, double scale) {
+        double demand = 0.0;
+        for (RecrawlPlan plan : plans) {
+            double interval = Math.min(maxIntervalSeconds, plan.getRecommendedIntervalSeconds() * scale);
+            demand += 3600.0 / interval;
+        }
+        return demand;
+    }
+
+    private void applyScale(RecrawlPlan plan, double scale) {
+        long interval = Math.min(maxIntervalSeconds, Math.round(plan.getRecommendedIntervalSeconds() * scale));
+        plan.setRecommendedIntervalSeconds(interval);
+
+        // 방문한 적 없는 URL은 바로 방문
+        plan.setNextVisitAt(plan.getLastVisitedAt() != null
+                ? plan.getLastVisitedAt().plusSeconds(interval)
+                : LocalDateTime.now());
+    }
+
+    private long clamp(long intervalSeconds) {
+        return Math.max(minIntervalSeconds, Math.min(maxIntervalSeconds, intervalSeconds));
+    }
+
+    /**
+     * fetch_validators의 URL별 카운터로 관측 간격 수와 변경 간격 수를 구합니다.
+     * 카운터에는 저장되지 않은 변경 없음 방문(304, 해시 동일)도 포함됩니다.
+     */
+    private Map<String, VisitStats> collectStats(List<FetchValidator> validators) {
+        Map<String, VisitStats> stats = new HashMap<>();
+
+        for (FetchValidator validator : validators) {
+            if (validator.getFirstCheckedAt() == null || validator.getLastCheckedAt() == null) {
+                continue;
+            }
+            VisitStats current = stats.computeIfAbsent(validator.getUrl(), VisitStats::new);
+            // 첫 방문은 변경으로 기록되므로 제외
+            current.intervals = Math.max(0, validator.getCheckCount() - 1);
+            current.changes = Math.max(0, validator.getChangeCount() - 1);
+            current.spanSeconds = Duration.between(validator.getFirstCheckedAt(), validator.getLastCheckedAt()).getSeconds();
+            current.lastVisitedAt = validator.getLastCheckedAt();
+        }
+
+        return stats;
+    }
+
+    private static class VisitStats {
+        private final String url;
+        private long intervals;
+        private long changes;
+        private long spanSeconds;
+        private LocalDateTime lastVisitedAt;
+
+        private VisitStats(String url) {
+            this.url = url;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.crawling.domain.schedule.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 스케줄 폴링은 Spring 기본 스케줄러에서 수행하고, 실제 크롤링은 crawlingTaskExecutor에서 실행
+}
@@ -0,0 +1,129 @@
+package com.crawling.domain.schedule.controller;
+
+import com.crawling.domain.schedule.dto.CrawlingScheduleRequest;
+import com.crawling.domain.schedule.entity.CrawlingSchedule;
+import com.crawling.domain.schedule.entity.CrawlingScheduleRun;
+import com.crawling.domain.schedule.service.CrawlingScheduleExecutor;
+import com.crawling.domain.schedule.service.CrawlingScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/crawling-schedules")
+@RequiredArgsConstructor
+@Tag(name = "크롤링 스케줄", description = "반복 크롤링 스케줄 관리 API")
+public class CrawlingScheduleController {
+
+    private final CrawlingScheduleService crawlingScheduleService;
+    private final CrawlingScheduleExecutor crawlingScheduleExecutor;
+
+    @PostMapping
+    @Operation(summary = "스케줄 생성", description = "cron 표현식 또는 고정 간격으로 반복 크롤링 스케줄을 생성합니다.")
+    public ResponseEntity<CrawlingSchedule> createSchedule(
+            @Valid @RequestBody CrawlingScheduleRequest request) {
+
+        log.info("크롤링 스케줄 생성 요청: {} ({})", request.getName(), request.getCrawlingType());
+
+        try {
+            CrawlingSchedule schedule = crawlingScheduleService.create(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(schedule);
+        } catch (IllegalArgumentException e) {
+            log.warn("스케줄 생성 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping
+    @Operation(summary = "스케줄 목록 조회", description = "등록된 모든 크롤링 스케줄을 조회합니다.")
+    public ResponseEntity<List<CrawlingSchedule>> getAllSchedules() {
+        return ResponseEntity.ok(crawlingScheduleService.findAll());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "스케줄 상세 조회", description = "ID로 특정 크롤링 스케줄을 조회합니다.")
+    public ResponseEntity<CrawlingSchedule> getSchedule(
+            @Parameter(description = "스케줄 ID") @PathVariable Long id) {
+
+        return crawlingScheduleService.findById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "스케줄 수정", description = "크롤링 스케줄을 수정하고 다음 실행 시각을 다시 계산합니다.")
+    public ResponseEntity<CrawlingSchedule> updateSchedule(
+            @Parameter(description = "스케줄 ID") @PathVariable Long id,
+            @Valid @RequestBody CrawlingScheduleRequest request) {
+
+        try {
+            return crawlingScheduleService.update(id, request)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            log.warn("스케줄 수정 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PatchMapping("/{id}/enabled")
+    @Operation(summary = "스케줄 활성화 전환", description = "스케줄을 활성화하거나 비활성화합니다.")
+    public ResponseEntity<CrawlingSchedule> setEnabled(
+            @Parameter(description = "스케줄 ID") @PathVariable Long id,
+            @Parameter(description = "활성화 여부") @RequestParam boolean enabled) {
+
+        return crawlingScheduleService.setEnabled(id, enabled)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/run")
+    @Operation(summary = "스케줄 즉시 실행", description = "예약 시각과 관계없이 스케줄을 한 번 실행합니다.")
+    public ResponseEntity<Map<String, Object>> runNow(
+            @Parameter(description = "스케줄 ID") @PathVariable Long id) {
+
+        return crawlingScheduleService.findById(id)
+                .map(schedule -> {
+                    boolean accepted = crawlingScheduleExecutor.runNow(schedule);
+                    Map<String, Object> result = Map.of(
+                        "scheduleId", id,
+                        "accepted", accepted
+                    );
+                    return accepted
+                            ? ResponseEntity.accepted().body(result)
+                            : ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/runs")
+    @Operation(summary = "스케줄 실행 이력 조회", description = "스케줄별 실행 이력을 최신순으로 조회합니다.")
+    public ResponseEntity<Page<CrawlingScheduleRun>> getRuns(
+            @Parameter(description = "스케줄 ID") @PathVariable Long id,
+            @PageableDefault(size = 20) Pageable pageable) {
+
+        return ResponseEntity.ok(crawlingScheduleService.findRuns(id, pageable));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "스케줄 삭제", description = "스케줄과 실행 이력을 삭제합니다.")
+    public ResponseEntity<Void> deleteSchedule(
+            @Parameter(description = "스케줄 ID") @PathVariable Long id) {
+
+        crawlingScheduleService.deleteById(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.crawling.domain.schedule.dto;
+
+import com.crawling.domain.schedule.enums.MisfirePolicy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlingScheduleRequest {
+
+    @NotBlank(message = "스케줄 이름은 필수입니다")
+    private String name;
+
+    @NotBlank(message = "크롤링 타입은 필수입니다")
+    @Pattern(regexp = "SIMPLE|JAVASCRIPT|API|BEAUTIFULSOUP", message = "지원하지 않는 크롤링 타입입니다")
+    private String crawlingType;
+
+    @NotEmpty(message = "URL 목록은 필수입니다")
+    private List<String> urls;
+
+    private Map<String, String> selectors;
+
+    // cronExpression 또는 intervalSeconds 중 하나는 필수
+    private String cronExpression;
+    private Long intervalSeconds;
+
+    // 변경률 기반 적응형 주기 (intervalSeconds 필요, cron과 함께 사용할 수 없음)
+    private Boolean adaptive;
+
+    @PositiveOrZero
+    private Long jitterSeconds;
+
+    private MisfirePolicy misfirePolicy;
+
+    @PositiveOrZero
+    private Long misfireThresholdSeconds;
+
+    private Integer timeout;
+    private String userAgent;
+    private Boolean enabled;
+}
@@ -0,0 +1,142 @@
+package com.crawling.domain.schedule.entity;
+
+import com.crawling.domain.schedule.enums.MisfirePolicy;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Entity
+@Table(name = "crawling_schedules", indexes = {
+        @Index(name = "idx_crawling_schedules_next_run", columnList = "enabled, nextRunAt")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlingSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String name;
+
+    // SIMPLE, JAVASCRIPT, API, BEAUTIFULSOUP
+    @Column(nullable = false, length = 50)
+    private String crawlingType;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String urlsJson;
+
+    @Column(columnDefinition = "TEXT")
+    private String selectorsJson;
+
+    // cron 표현식 또는 고정 간격(초) 중 하나를 사용
+    @Column(length = 100)
+    private String cronExpression;
+
+    @Column
+    private Long intervalSeconds;
+
+    // true이면 관측된 변경률로 간격을 조정 (intervalSeconds는 이력이 부족할 때의 기본값)
+    @Column(nullable = false)
+    private boolean adaptive;
+
+    // 동일 시각에 몰리지 않도록 다음 실행 시각에 더하는 무작위 지연 (초)
+    @Column
+    private Long jitterSeconds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private MisfirePolicy misfirePolicy;
+
+    // 예정 시각보다 이 시간(초) 이상 늦으면 misfire로 판단
+    @Column
+    private Long misfireThresholdSeconds;
+
+    @Column
+    private Integer timeout;
+
+    @Column(length = 500)
+    private String userAgent;
+
+    @Column(nullable = false)
+    private boolean enabled;
+
+    // 다음 실행 시각 (jitter 포함)
+    @Column
+    private LocalDateTime nextRunAt;
+
+    // jitter를 더하기 전의 다음 실행 시각. 다음 실행 시각은 이 시각을 기준으로 계산하여 jitter가 누적되지 않도록 함
+    @Column
+    private LocalDateTime nextBaseRunAt;
+
+    @Column
+    private LocalDateTime lastRunAt;
+
+    @Column(length = 20)
+    private String lastStatus;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // JSON 필드들을 컬렉션으로 변환하는 헬퍼 메서드들
+    public void setUrls(List<String> urls) {
+        this.urlsJson = convertToJson(urls);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<String> getUrls() {
+        List<String> urls = convertFromJson(this.urlsJson, List.class);
+        return urls != null ? urls : List.of();
+    }
+
+    public void setSelectors(Map<String, String> selectors) {
+        this.selectorsJson = selectors == null || selectors.isEmpty() ? null : convertToJson(selectors);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, String> getSelectors() {
+        return convertFromJson(this.selectorsJson, Map.class);
+    }
+
+    // JSON 변환 헬퍼 메서드들
+    private String convertToJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
+            return mapper.writeValueAsString(value);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T convertFromJson(String json, Class<?> type) {
+        if (json == null || json.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
+            return (T) mapper.readValue(json, type);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.crawling.domain.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "crawling_schedule_runs", indexes = {
+        @Index(name = "idx_crawling_schedule_runs_schedule", columnList = "scheduleId, startedAt")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlingScheduleRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long scheduleId;
+
+    // SCHEDULED, MISFIRE, MANUAL
+    @Column(length = 20)
+    private String triggerType;
+
+    // SUCCESS, PARTIAL, ERROR, SKIPPED
+    @Column(length = 20)
+    private String status;
+
+    @Column
+    private LocalDateTime scheduledAt;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column
+    private LocalDateTime finishedAt;
+
+    @Column
+    private Long durationMs;
+
+    @Column
+    private Integer totalCount;
+
+    @Column
+    private Integer successCount;
+
+    @Column
+    private Integer errorCount;
+
+    @Column(length = 1000)
+    private String errorMessage;
+}
@@ -0,0 +1,6 @@
+package com.crawling.domain.schedule.enums;
+
+public enum MisfirePolicy {
+    FIRE_NOW,   // 놓친 실행을 즉시 한 번 수행한 뒤 다음 주기로 재조정
+    SKIP        // 놓친 실행은 건너뛰고 다음 주기로 재조정
+}
@@ -0,0 +1,22 @@
+package com.crawling.domain.schedule.repository;
+
+import com.crawling.domain.schedule.entity.CrawlingSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CrawlingScheduleRepository extends JpaRepository<CrawlingSchedule, Long> {
+
+    /**
+     * 실행 시각이 도래한 활성 스케줄 조회
+     */
+    List<CrawlingSchedule> findByEnabledTrueAndNextRunAtLessThanEqualOrderByNextRunAtAsc(LocalDateTime now);
+
+    /**
+     * 활성 상태로 스케줄 조회
+     */
+    List<CrawlingSchedule> findByEnabled(boolean enabled);
+}
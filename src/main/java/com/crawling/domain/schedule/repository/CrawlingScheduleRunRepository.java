@@ -0,0 +1,21 @@
+package com.crawling.domain.schedule.repository;
+
+import com.crawling.domain.schedule.entity.CrawlingScheduleRun;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CrawlingScheduleRunRepository extends JpaRepository<CrawlingScheduleRun, Long> {
+
+    /**
+     * 스케줄별 실행 이력 조회 (최신순, 페이징)
+     */
+    Page<CrawlingScheduleRun> findByScheduleIdOrderByStartedAtDesc(Long scheduleId, Pageable pageable);
+
+    /**
+     * 스케줄의 실행 이력 삭제
+     */
+    void deleteByScheduleId(Long scheduleId);
+}
@@ -0,0 +1,253 @@
+package com.crawling.domain.schedule.service;
+
+import com.crawling.domain.beautifulsoup.dto.BeautifulSoupRequest;
+import com.crawling.domain.beautifulsoup.dto.BeautifulSoupResponse;
+import com.crawling.domain.beautifulsoup.service.BeautifulSoupService;
+import com.crawling.domain.schedule.entity.CrawlingSchedule;
+import com.crawling.domain.schedule.entity.CrawlingScheduleRun;
+import com.crawling.domain.schedule.enums.MisfirePolicy;
+import com.crawling.domain.webdriver.dto.CrawlingRequest;
+import com.crawling.domain.webdriver.dto.CrawlingResponse;
+import com.crawling.domain.webdriver.enums.CrawlingType;
+import com.crawling.domain.webdriver.service.CrawlingServiceFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * 저장된 크롤링 스케줄을 주기적으로 확인하여 실행 시각이 도래한 스케줄을 실행합니다.
+ * 다음 실행 시각을 먼저 저장한 뒤 실행하므로 같은 스케줄이 중복으로 선택되지 않으며,
+ * 이전 실행이 끝나지 않은 스케줄은 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class CrawlingScheduleExecutor {
+
+    private final CrawlingScheduleService crawlingScheduleService;
+    private final CrawlingServiceFactory crawlingServiceFactory;
+    private final BeautifulSoupService beautifulSoupService;
+    private final Executor crawlingTaskExecutor;
+
+    // 실행 중인 스케줄 ID (중복 실행 방지)
+    private final Set<Long> runningSchedules = ConcurrentHashMap.newKeySet();
+
+    public CrawlingScheduleExecutor(CrawlingScheduleService crawlingScheduleService,
+                                    CrawlingServiceFactory crawlingServiceFactory,
+                                    BeautifulSoupService beautifulSoupService,
+                                    @Qualifier("crawlingTaskExecutor") Executor crawlingTaskExecutor) {
+        this.crawlingScheduleService = crawlingScheduleService;
+        this.crawlingServiceFactory = crawlingServiceFactory;
+        this.beautifulSoupService = beautifulSoupService;
+        this.crawlingTaskExecutor = crawlingTaskExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "${crawling.schedule.poll-interval:5000}",
+               initialDelayString = "${crawling.schedule.initial-delay:10000}")
+    public void pollDueSchedules() {
+        LocalDateTime now = LocalDateTime.now();
+        List<CrawlingSchedule> dueSchedules = crawlingScheduleService.findDueSchedules(now);
+
+        for (CrawlingSchedule schedule : dueSchedules) {
+            try {
+                dispatch(schedule, now);
+            } catch (Exception e) {
+                log.error("스케줄 실행 준비 실패: ID={} - {}", schedule.getId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 스케줄을 즉시 한 번 실행합니다. (다음 예약 시각은 변경하지 않음)
+     */
+    public boolean runNow(CrawlingSchedule schedule) {
+        return submit(schedule, "MANUAL", LocalDateTime.now(), null);
+    }
+
+    private void dispatch(CrawlingSchedule schedule, LocalDateTime now) {
+        LocalDateTime scheduledAt = schedule.getNextRunAt();
+        long lateSeconds = Duration.between(scheduledAt, now).getSeconds();
+        boolean misfired = lateSeconds > crawlingScheduleService.getMisfireThresholdSeconds(schedule);
+
+        // 다음 실행 시각을 먼저 저장하여 다음 폴링에서 다시 선택되지 않도록 함
+        // 정상 실행은 jitter를 더하기 전의 예정 시각을 기준으로 하여 jitter가 누적되지 않도록 하고,
+        // misfire 시 놓친 실행을 모두 따라잡지 않고 현재 시각 기준으로 재조정
+        // 적응형 스케줄은 URL별 마지막 방문 시각으로 계획하므로 실제 실행 시각을 기준으로 하고,
+        // 같은 시각까지 방문할 때가 된 URL만 이번 실행에서 크롤링
+        LocalDateTime from;
+        if (misfired) {
+            from = now;
+        } else if (plansPerUrl(schedule) || schedule.getNextBaseRunAt() == null) {
+            from = scheduledAt;
+        } else {
+            from = schedule.getNextBaseRunAt();
+        }
+        crawlingScheduleService.reschedule(schedule.getId(), from);
+
+        if (misfired && schedule.getMisfirePolicy() == MisfirePolicy.SKIP) {
+            log.warn("스케줄 misfire로 실행 건너뜀: ID={}, 지연={}초", schedule.getId(), lateSeconds);
+            recordSkipped(schedule, "MISFIRE", scheduledAt, "misfire: 예정 시각보다 " + lateSeconds + "초 지연");
+            return;
+        }
+
+        submit(schedule, misfired ? "MISFIRE" : "SCHEDULED", scheduledAt, plansPerUrl(schedule) ? from : null);
+    }
+
+    /**
+     * @param dueBy 적응형 스케줄에서 이 시각까지 방문할 때가 된 URL만 크롤링 (null이면 모든 URL)
+     */
+    private boolean submit(CrawlingSchedule schedule, String triggerType, LocalDateTime scheduledAt, LocalDateTime dueBy) {
+        if (!runningSchedules.add(schedule.getId())) {
+            log.warn("이전 실행이 진행 중이므로 건너뜀: ID={}", schedule.getId());
+            recordSkipped(schedule, triggerType, scheduledAt, "이전 실행이 아직 진행 중입니다.");
+            return false;
+        }
+
+        try {
+            crawlingTaskExecutor.execute(() -> {
+                try {
+                    execute(schedule, triggerType, scheduledAt, dueBy);
+                } finally {
+                    runningSchedules.remove(schedule.getId());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            runningSchedules.remove(schedule.getId());
+            log.error("스케줄 실행 거부됨 (작업 큐 포화): ID={}", schedule.getId());
+            recordSkipped(schedule, triggerType, scheduledAt, "작업 큐가 가득 차 실행이 거부되었습니다.");
+            return false;
+        }
+    }
+
+    private void execute(CrawlingSchedule schedule, String triggerType, LocalDateTime scheduledAt, LocalDateTime dueBy) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startTime = System.currentTimeMillis();
+        List<String> urls = dueBy != null ? crawlingScheduleService.dueUrls(schedule, dueBy) : schedule.getUrls();
+        if (urls.isEmpty()) {
+            // 다른 스케줄이 먼저 방문하여 재방문 시각이 미뤄진 경우
+            recordSkipped(schedule, triggerType, scheduledAt, "재방문 시각이 된 URL이 없습니다.");
+            return;
+        }
+
+        log.info("스케줄 크롤링 시작: ID={}, 타입={}, {} 개 URL ({})",
+                schedule.getId(), schedule.getCrawlingType(), urls.size(), triggerType);
+
+        int successCount = 0;
+        String errorMessage = null;
+
+        try {
+            List<String> statuses = crawl(schedule, urls);
+            // 변경 없음(NOT_MODIFIED)도 정상 방문으로 집계
+            successCount = (int) statuses.stream()
+                    .filter(s -> "SUCCESS".equals(s) || "NOT_MODIFIED".equals(s))
+                    .count();
+        } catch (Exception e) {
+            log.error("스케줄 크롤링 실패: ID={} - {}", schedule.getId(), e.getMessage(), e);
+            errorMessage = e.getMessage();
+        }
+
+        int errorCount = urls.size() - successCount;
+        String status;
+        if (errorCount == 0) {
+            status = "SUCCESS";
+        } else if (successCount > 0) {
+            status = "PARTIAL";
+        } else {
+            status = "ERROR";
+        }
+
+        long durationMs = System.currentTimeMillis() - startTime;
+        crawlingScheduleService.recordRun(CrawlingScheduleRun.builder()
+                .scheduleId(schedule.getId())
+                .triggerType(triggerType)
+                .status(status)
+                .scheduledAt(scheduledAt)
+                .startedAt(startedAt)
+                .finishedAt(LocalDateTime.now())
+                .durationMs(durationMs)
+                .totalCount(urls.size())
+                .successCount(successCount)
+                .errorCount(errorCount)
+                .errorMessage(truncate(errorMessage))
+                .build());
+
+        log.info("스케줄 크롤링 완료: ID={}, 상태={}, 성공 {}/{} ({}ms)",
+                schedule.getId(), status, successCount, urls.size(), durationMs);
+    }
+
+    private List<String> crawl(CrawlingSchedule schedule, List<String> urls) {
+        if ("BEAUTIFULSOUP".equals(schedule.getCrawlingType())) {
+            List<BeautifulSoupRequest> requests = urls.stream()
+                    .map(url -> {
+                        BeautifulSoupRequest request = BeautifulSoupRequest.withSelectors(url, schedule.getSelectors());
+                        request.setTimeout(schedule.getTimeout());
+                        request.setUserAgent(schedule.getUserAgent());
+                        request.setConditional(true);
+                        return request;
+                    })
+                    .collect(Collectors.toList());
+
+            return beautifulSoupService.parseMultiple(requests).stream()
+                    .map(BeautifulSoupResponse::getStatus)
+                    .collect(Collectors.toList());
+        }
+
+        CrawlingType type = CrawlingType.valueOf(schedule.getCrawlingType());
+        List<CrawlingRequest> requests = urls.stream()
+                .map(url -> CrawlingRequest.builder()
+                        .url(url)
+                        .type(type)
+                        .selectors(schedule.getSelectors())
+                        .timeout(schedule.getTimeout())
+                        .userAgent(schedule.getUserAgent())
+                        .conditional(true)
+                        .build())
+                .collect(Collectors.toList());
+
+        return crawlingServiceFactory.getService(type).crawlMultiple(requests).stream()
+                .map(CrawlingResponse::getStatus)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * cron 표현식 없이 적응형 간격을 사용하는 스케줄은 URL별 재방문 시각에 따라 실행됩니다.
+     */
+    private static boolean plansPerUrl(CrawlingSchedule schedule) {
+        return schedule.isAdaptive()
+                && (schedule.getCronExpression() == null || schedule.getCronExpression().isBlank());
+    }
+
+    private void recordSkipped(CrawlingSchedule schedule, String triggerType, LocalDateTime scheduledAt, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        crawlingScheduleService.recordRun(CrawlingScheduleRun.builder()
+                .scheduleId(schedule.getId())
+                .triggerType(triggerType)
+                .status("SKIPPED")
+                .scheduledAt(scheduledAt)
+                .startedAt(now)
+                .finishedAt(now)
+                .durationMs(0L)
+                .totalCount(0)
+                .successCount(0)
+                .errorCount(0)
+                .errorMessage(reason)
+                .build());
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= 1000) {
+            return message;
+        }
+        return message.substring(0, 1000);
+    }
+}
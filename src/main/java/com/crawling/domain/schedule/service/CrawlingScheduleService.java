@@ -0,0 +1,237 @@
+package com.crawling.domain.schedule.service;
+
+import com.crawling.domain.recrawl.service.RecrawlPlanner;
+import com.crawling.domain.schedule.dto.CrawlingScheduleRequest;
+import com.crawling.domain.schedule.entity.CrawlingSchedule;
+import com.crawling.domain.schedule.entity.CrawlingScheduleRun;
+import com.crawling.domain.schedule.enums.MisfirePolicy;
+import com.crawling.domain.schedule.repository.CrawlingScheduleRepository;
+import com.crawling.domain.schedule.repository.CrawlingScheduleRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CrawlingScheduleService {
+
+    private final CrawlingScheduleRepository crawlingScheduleRepository;
+    private final CrawlingScheduleRunRepository crawlingScheduleRunRepository;
+    private final RecrawlPlanner recrawlPlanner;
+
+    @Value("${crawling.schedule.default-misfire-threshold:60}")
+    private long defaultMisfireThresholdSeconds;
+
+    /**
+     * 스케줄 생성
+     */
+    public CrawlingSchedule create(CrawlingScheduleRequest request) {
+        validateTiming(request);
+
+        CrawlingSchedule schedule = CrawlingSchedule.builder()
+                .enabled(request.getEnabled() == null || request.getEnabled())
+                .build();
+        apply(schedule, request);
+        planNextRun(schedule, LocalDateTime.now());
+
+        CrawlingSchedule saved = crawlingScheduleRepository.save(schedule);
+        log.info("크롤링 스케줄 생성 완료: ID={}, 다음 실행={}", saved.getId(), saved.getNextRunAt());
+        return saved;
+    }
+
+    /**
+     * 스케줄 수정
+     */
+    public Optional<CrawlingSchedule> update(Long id, CrawlingScheduleRequest request) {
+        validateTiming(request);
+
+        return crawlingScheduleRepository.findById(id).map(schedule -> {
+            apply(schedule, request);
+            if (request.getEnabled() != null) {
+                schedule.setEnabled(request.getEnabled());
+            }
+            planNextRun(schedule, LocalDateTime.now());
+            log.info("크롤링 스케줄 수정 완료: ID={}, 다음 실행={}", id, schedule.getNextRunAt());
+            return crawlingScheduleRepository.save(schedule);
+        });
+    }
+
+    /**
+     * 스케줄 활성/비활성 전환
+     */
+    public Optional<CrawlingSchedule> setEnabled(Long id, boolean enabled) {
+        return crawlingScheduleRepository.findById(id).map(schedule -> {
+            schedule.setEnabled(enabled);
+            if (enabled) {
+                planNextRun(schedule, LocalDateTime.now());
+            }
+            return crawlingScheduleRepository.save(schedule);
+        });
+    }
+
+    /**
+     * 스케줄 조회 (ID로)
+     */
+    @Transactional(readOnly = true)
+    public Optional<CrawlingSchedule> findById(Long id) {
+        return crawlingScheduleRepository.findById(id);
+    }
+
+    /**
+     * 모든 스케줄 조회
+     */
+    @Transactional(readOnly = true)
+    public List<CrawlingSchedule> findAll() {
+        return crawlingScheduleRepository.findAll();
+    }
+
+    /**
+     * 실행 시각이 도래한 스케줄 조회
+     */
+    @Transactional(readOnly = true)
+    public List<CrawlingSchedule> findDueSchedules(LocalDateTime now) {
+        return crawlingScheduleRepository.findByEnabledTrueAndNextRunAtLessThanEqualOrderByNextRunAtAsc(now);
+    }
+
+    /**
+     * 스케줄의 다음 실행 시각 갱신
+     *
+     * @param from 기준 시각. 정상 실행이면 jitter를 더하기 전의 예정 시각, misfire이면 현재 시각
+     */
+    public void reschedule(Long id, LocalDateTime from) {
+        crawlingScheduleRepository.findById(id).ifPresent(schedule -> {
+            planNextRun(schedule, from);
+            crawlingScheduleRepository.save(schedule);
+        });
+    }
+
+    /**
+     * 실행 결과를 이력으로 저장하고 스케줄의 마지막 실행 정보를 갱신
+     */
+    public CrawlingScheduleRun recordRun(CrawlingScheduleRun run) {
+        CrawlingScheduleRun saved = crawlingScheduleRunRepository.save(run);
+
+        crawlingScheduleRepository.findById(run.getScheduleId()).ifPresent(schedule -> {
+            schedule.setLastRunAt(run.getStartedAt());
+            schedule.setLastStatus(run.getStatus());
+            crawlingScheduleRepository.save(schedule);
+        });
+
+        return saved;
+    }
+
+    /**
+     * 스케줄별 실행 이력 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<CrawlingScheduleRun> findRuns(Long scheduleId, Pageable pageable) {
+        return crawlingScheduleRunRepository.findByScheduleIdOrderByStartedAtDesc(scheduleId, pageable);
+    }
+
+    /**
+     * 스케줄과 실행 이력 삭제
+     */
+    public void deleteById(Long id) {
+        crawlingScheduleRunRepository.deleteByScheduleId(id);
+        crawlingScheduleRepository.deleteById(id);
+        log.info("크롤링 스케줄 삭제 완료: ID={}", id);
+    }
+
+    /**
+     * misfire 판단 기준 시간 (초)
+     */
+    public long getMisfireThresholdSeconds(CrawlingSchedule schedule) {
+        return schedule.getMisfireThresholdSeconds() != null
+                ? schedule.getMisfireThresholdSeconds()
+                : defaultMisfireThresholdSeconds;
+    }
+
+    /**
+     * 다음 실행 시각을 계산하여 jitter를 더하기 전의 시각과 jitter를 더한 시각을 함께 저장합니다.
+     * 다음 계산은 jitter를 더하기 전의 시각에서 시작하므로 jitter가 실행마다 누적되지 않습니다.
+     */
+    private void planNextRun(CrawlingSchedule schedule, LocalDateTime from) {
+        LocalDateTime base = computeBaseRunAt(schedule, from);
+        schedule.setNextBaseRunAt(base);
+        schedule.setNextRunAt(base != null ? withJitter(schedule, base) : null);
+    }
+
+    /**
+     * 적응형 스케줄에서 이번 실행에 방문할 URL (cutoff 시각까지 재방문 시각이 된 URL)
+     */
+    public List<String> dueUrls(CrawlingSchedule schedule, LocalDateTime cutoff) {
+        return recrawlPlanner.dueUrls(schedule.getUrls(), schedule.getIntervalSeconds(), cutoff);
+    }
+
+    /**
+     * cron 표현식, 고정 간격 또는 적응형 간격으로 다음 실행 시각을 계산합니다. (jitter 제외)
+     */
+    public LocalDateTime computeBaseRunAt(CrawlingSchedule schedule, LocalDateTime from) {
+        LocalDateTime next;
+        if (schedule.getCronExpression() != null && !schedule.getCronExpression().isBlank()) {
+            next = CronExpression.parse(schedule.getCronExpression()).next(from);
+            if (next == null) {
+                return null;
+            }
+        } else if (schedule.isAdaptive()) {
+            // URL별 다음 방문 시각 중 가장 이른 시각에 깨어나 그때 방문할 URL만 크롤링
+            next = recrawlPlanner.nextRunAt(schedule.getUrls(), schedule.getIntervalSeconds(), from);
+        } else {
+            next = from.plusSeconds(schedule.getIntervalSeconds());
+        }
+        return next;
+    }
+
+    private LocalDateTime withJitter(CrawlingSchedule schedule, LocalDateTime next) {
+        long jitter = schedule.getJitterSeconds() != null ? schedule.getJitterSeconds() : 0;
+        if (jitter > 0) {
+            next = next.plusNanos(ThreadLocalRandom.current().nextLong(jitter * 1_000_000_000L));
+        }
+        return next;
+    }
+
+    private void apply(CrawlingSchedule schedule, CrawlingScheduleRequest request) {
+        schedule.setName(request.getName());
+        schedule.setCrawlingType(request.getCrawlingType());
+        schedule.setUrls(request.getUrls());
+        schedule.setSelectors(request.getSelectors());
+        schedule.setCronExpression(request.getCronExpression());
+        schedule.setIntervalSeconds(request.getIntervalSeconds());
+        schedule.setAdaptive(Boolean.TRUE.equals(request.getAdaptive()));
+        schedule.setJitterSeconds(request.getJitterSeconds());
+        schedule.setMisfirePolicy(request.getMisfirePolicy() != null ? request.getMisfirePolicy() : MisfirePolicy.FIRE_NOW);
+        schedule.setMisfireThresholdSeconds(request.getMisfireThresholdSeconds());
+        schedule.setTimeout(request.getTimeout());
+        schedule.setUserAgent(request.getUserAgent());
+    }
+
+    private void validateTiming(CrawlingScheduleRequest request) {
+        boolean hasCron = request.getCronExpression() != null && !request.getCronExpression().isBlank();
+        boolean hasInterval = request.getIntervalSeconds() != null;
+
+        if (hasCron == hasInterval) {
+            throw new IllegalArgumentException("cronExpression 또는 intervalSeconds 중 하나만 지정해야 합니다.");
+        }
+        if (hasCron && !CronExpression.isValidExpression(request.getCronExpression())) {
+            throw new IllegalArgumentException("유효하지 않은 cron 표현식입니다: " + request.getCronExpression());
+        }
+        if (Boolean.TRUE.equals(request.getAdaptive()) && !hasInterval) {
+            throw new IllegalArgumentException("적응형 스케줄은 기본 간격(intervalSeconds)이 필요합니다.");
+        }
+        if (hasInterval && request.getIntervalSeconds() <= 0) {
+            throw new IllegalArgumentException("intervalSeconds는 0보다 커야 합니다.");
+        }
+    }
+}
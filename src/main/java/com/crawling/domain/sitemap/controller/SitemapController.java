@@ -0,0 +1,60 @@
+package com.crawling.domain.sitemap.controller;
+
+import com.crawling.domain.sitemap.dto.SitemapIngestRequest;
+import com.crawling.domain.sitemap.dto.SitemapIngestResult;
+import com.crawling.domain.sitemap.service.SitemapService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/sitemaps")
+@RequiredArgsConstructor
+@Tag(name = "사이트맵", description = "사이트맵 기반 URL 수집 API")
+public class SitemapController {
+
+    private final SitemapService sitemapService;
+
+    @GetMapping("/discover")
+    @Operation(summary = "사이트맵 탐색", description = "robots.txt 또는 잘 알려진 경로에서 사이트맵 URL을 찾습니다.")
+    public ResponseEntity<List<String>> discover(
+            @Parameter(description = "사이트 URL") @RequestParam String siteUrl) {
+        return ResponseEntity.ok(sitemapService.discover(siteUrl));
+    }
+
+    @PostMapping("/ingest")
+    @Operation(summary = "사이트맵 수집", description = "사이트맵을 스트리밍으로 파싱하여 lastmod 기준으로 변경된 URL만 크롤링합니다.")
+    public CompletableFuture<ResponseEntity<SitemapIngestResult>> ingest(@Valid @RequestBody SitemapIngestRequest request) {
+        log.info("사이트맵 수집 요청: site={}, sitemaps={}", request.getSiteUrl(), request.getSitemapUrls());
+
+        // 수집은 전용 스레드에서 실행하고 요청 스레드는 바로 반환
+        return sitemapService.ingestAsync(request)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof IllegalArgumentException) {
+                        log.warn("사이트맵 수집 요청 오류: {}", cause.getMessage());
+                        return ResponseEntity.badRequest().build();
+                    }
+                    if (cause instanceof RejectedExecutionException) {
+                        log.warn("사이트맵 수집 대기열이 가득 찼습니다.");
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+                    }
+                    log.error("사이트맵 수집 실패: {}", cause.getMessage());
+                    return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+                });
+    }
+}
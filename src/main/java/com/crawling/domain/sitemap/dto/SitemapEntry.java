@@ -0,0 +1,20 @@
+package com.crawling.domain.sitemap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SitemapEntry {
+
+    private String loc;
+    private LocalDateTime lastmod;
+    private String changefreq;
+    private Double priority;
+}
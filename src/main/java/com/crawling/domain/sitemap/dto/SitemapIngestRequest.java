@@ -0,0 +1,43 @@
+package com.crawling.domain.sitemap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SitemapIngestRequest {
+
+    // 사이트 URL (robots.txt 또는 잘 알려진 경로에서 사이트맵 탐색)
+    private String siteUrl;
+
+    // 직접 지정한 사이트맵 URL (지정 시 탐색 생략)
+    private List<String> sitemapUrls;
+
+    @Pattern(regexp = "SIMPLE|JAVASCRIPT|API|BEAUTIFULSOUP", message = "지원하지 않는 크롤링 타입입니다")
+    private String crawlingType;
+
+    private Map<String, String> selectors;
+
+    // true이면 lastmod가 마지막 방문 이후인 URL만 크롤링 (기본값 true)
+    private Boolean onlyChanged;
+
+    // 최대 크롤링 URL 수
+    @Positive
+    private Integer maxUrls;
+
+    // 한 번에 크롤링 서비스로 넘기는 URL 수
+    @Positive
+    private Integer batchSize;
+
+    // true이면 크롤링하지 않고 대상 URL 수만 집계
+    private Boolean dryRun;
+}
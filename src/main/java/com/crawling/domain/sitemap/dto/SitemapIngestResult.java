@@ -0,0 +1,26 @@
+package com.crawling.domain.sitemap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SitemapIngestResult {
+
+    private List<String> discoveredSitemaps;
+    private int sitemapsParsed;
+    private int sitemapsUnchanged;
+    private long urlsSeen;
+    private long urlsUnchanged;
+    private long urlsQueued;
+    private long successCount;
+    private long errorCount;
+    private boolean limitReached;
+    private Long elapsedTime;
+}
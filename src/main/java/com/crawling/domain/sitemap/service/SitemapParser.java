@@ -0,0 +1,181 @@
+package com.crawling.domain.sitemap.service;
+
+import com.crawling.domain.sitemap.dto.SitemapEntry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * StAX 기반 사이트맵 파서
+ *
+ * 문서 전체를 메모리에 올리지 않고 &lt;url&gt; / &lt;sitemap&gt; 항목을 읽는 즉시 콜백으로 넘기므로
+ * 5만 건 규모의 사이트맵도 항목 하나 크기의 메모리로 처리합니다.
+ * gzip 압축 여부는 확장자가 아닌 스트림의 매직 바이트로 판단합니다.
+ */
+@Slf4j
+public final class SitemapParser {
+
+    private static final int GZIP_MAGIC_1 = 0x1f;
+    private static final int GZIP_MAGIC_2 = 0x8b;
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createFactory();
+
+    private SitemapParser() {
+    }
+
+    /**
+     * 사이트맵을 파싱하여 urlset 항목은 urlConsumer로, sitemapindex 항목은 sitemapConsumer로 전달합니다.
+     *
+     * @return 전달한 항목 수
+     */
+    public static long parse(InputStream input,
+                             Consumer<SitemapEntry> urlConsumer,
+                             Consumer<SitemapEntry> sitemapConsumer) throws IOException, XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(decompressIfGzip(input));
+
+        long count = 0;
+        int depth = 0;
+        // 현재 읽고 있는 항목 (url 또는 sitemap)과 그 깊이
+        String container = null;
+        int containerDepth = -1;
+        String field = null;
+        StringBuilder text = new StringBuilder();
+
+        String loc = null;
+        String lastmod = null;
+        String changefreq = null;
+        String priority = null;
+
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    String name = reader.getLocalName();
+                    if (container == null && ("url".equals(name) || "sitemap".equals(name))) {
+                        container = name;
+                        containerDepth = depth;
+                        loc = lastmod = changefreq = priority = null;
+                    } else if (container != null && depth == containerDepth + 1) {
+                        // image:image, news:news 등 확장 요소 하위의 loc는 무시
+                        field = name;
+                        text.setLength(0);
+                    }
+
+                } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                    if (field != null) {
+                        text.append(reader.getText());
+                    }
+
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (field != null && depth == containerDepth + 1) {
+                        String value = text.toString().trim();
+                        switch (field) {
+                            case "loc" -> loc = value;
+                            case "lastmod" -> lastmod = value;
+                            case "changefreq" -> changefreq = value;
+                            case "priority" -> priority = value;
+                            default -> { }
+                        }
+                        field = null;
+                    } else if (container != null && depth == containerDepth) {
+                        if (loc != null && !loc.isEmpty()) {
+                            SitemapEntry entry = SitemapEntry.builder()
+                                    .loc(loc)
+                                    .lastmod(parseLastmod(lastmod))
+                                    .changefreq(changefreq)
+                                    .priority(parsePriority(priority))
+                                    .build();
+                            if ("url".equals(container)) {
+                                urlConsumer.accept(entry);
+                            } else {
+                                sitemapConsumer.accept(entry);
+                            }
+                            count++;
+                        }
+                        container = null;
+                        containerDepth = -1;
+                    }
+                    depth--;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        return count;
+    }
+
+    /**
+     * W3C Datetime 형식의 lastmod를 시스템 기본 시간대의 LocalDateTime으로 변환합니다.
+     * (YYYY-MM-DD, YYYY-MM-DDThh:mmTZD, YYYY-MM-DDThh:mm:ss[.s]TZD)
+     */
+    public static LocalDateTime parseLastmod(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            if (value.length() == 10) {
+                return LocalDate.parse(value).atStartOfDay();
+            }
+            return OffsetDateTime.parse(value)
+                    .atZoneSameInstant(ZoneId.systemDefault())
+                    .toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException ignored) {
+                log.debug("lastmod 형식 오류: {}", value);
+                return null;
+            }
+        }
+    }
+
+    private static Double parsePriority(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static InputStream decompressIfGzip(InputStream input) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+
+        if (first == GZIP_MAGIC_1 && second == GZIP_MAGIC_2) {
+            return new GZIPInputStream(buffered, 8192);
+        }
+        return buffered;
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // 외부 엔티티(XXE)와 DTD 처리 비활성화
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+}
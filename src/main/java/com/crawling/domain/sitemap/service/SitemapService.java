@@ -0,0 +1,614 @@
+package com.crawling.domain.sitemap.service;
+
+import com.crawling.core.http.ContentDecoder;
+import com.crawling.core.http.DnsCache;
+import com.crawling.core.http.PageBufferPool;
+import com.crawling.core.resilience.FetchGuard;
+import com.crawling.domain.beautifulsoup.dto.BeautifulSoupRequest;
+import com.crawling.domain.beautifulsoup.dto.BeautifulSoupResponse;
+import com.crawling.domain.beautifulsoup.service.BeautifulSoupService;
+import com.crawling.domain.fetch.entity.FetchValidator;
+import com.crawling.domain.fetch.repository.FetchValidatorRepository;
+import com.crawling.domain.fetch.service.FetchValidatorService;
+import com.crawling.domain.sitemap.dto.SitemapEntry;
+import com.crawling.domain.sitemap.dto.SitemapIngestRequest;
+import com.crawling.domain.sitemap.dto.SitemapIngestResult;
+import com.crawling.domain.webdriver.dto.CrawlingRequest;
+import com.crawling.domain.webdriver.dto.CrawlingResponse;
+import com.crawling.domain.webdriver.enums.CrawlingType;
+import com.crawling.domain.webdriver.service.CrawlingServiceFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사이트맵을 탐색하고 스트리밍으로 파싱하여 변경된 URL만 크롤링 서비스로 넘깁니다.
+ *
+ * 사이트맵은 robots.txt의 Sitemap 지시어에서 찾고, 없으면 잘 알려진 경로(/sitemap.xml, /sitemap_index.xml)를 사용합니다.
+ * URL은 배치 단위로 모아 fetch_validators의 마지막 방문 시각과 lastmod를 비교하고,
+ * 변경된 URL만 조건부 요청으로 크롤링합니다. 파싱 중인 배치와 크롤링 중인 배치 수가 제한되므로
+ * 사이트맵 크기와 무관하게 일정한 메모리로 동작합니다.
+ *
+ * robots.txt와 사이트맵은 크롤링 서비스와 같은 공유 HTTP 클라이언트(연결 풀, DNS 캐시, 타임아웃)로 받으며,
+ * 요청마다 FetchGuard의 서킷, 속도 제한, 동시 요청 한도를 거칩니다. 압축은 ContentDecoder로 풀고 최대 크기까지만 읽습니다.
+ * 사이트맵 본문은 임시 파일로 받은 뒤 요청 자리를 돌려주고 파싱하므로, 파싱 중 배치 크롤링을 기다리는 동안
+ * 호스트의 동시 요청 자리를 붙잡지 않습니다.
+ * 수집 작업은 전용 스레드에서 실행되어 요청 스레드를 붙잡지 않습니다. (ingestAsync)
+ */
+@Slf4j
+@Service
+public class SitemapService {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; SpringCrawling/1.0; +sitemap)";
+    private static final List<String> WELL_KNOWN_PATHS = List.of("/sitemap.xml", "/sitemap_index.xml");
+    // robots.txt는 앞부분만 읽음 (Google도 500KiB 이후는 무시)
+    private static final long ROBOTS_MAX_BYTES = 512 * 1024;
+
+    private final CrawlingServiceFactory crawlingServiceFactory;
+    private final BeautifulSoupService beautifulSoupService;
+    private final FetchValidatorService fetchValidatorService;
+    private final FetchValidatorRepository fetchValidatorRepository;
+    private final Executor crawlingTaskExecutor;
+    private final DnsCache dnsCache;
+    private final CloseableHttpClient httpClient;
+    private final FetchGuard fetchGuard;
+    private final ContentDecoder contentDecoder;
+    private final ThreadPoolExecutor ingestExecutor;
+    private final RequestConfig requestConfig;
+
+    @Value("${crawling.sitemap.batch-size:100}")
+    private int defaultBatchSize;
+
+    @Value("${crawling.sitemap.max-urls:50000}")
+    private int defaultMaxUrls;
+
+    @Value("${crawling.sitemap.max-sitemaps:500}")
+    private int maxSitemaps;
+
+    @Value("${crawling.sitemap.max-in-flight-batches:2}")
+    private int maxInFlightBatches;
+
+    // 사이트맵 하나의 최대 크기 (압축을 푼 크기, 사이트맵 프로토콜 제한 50MB)
+    @Value("${crawling.sitemap.max-bytes:52428800}")
+    private long maxSitemapBytes;
+
+    public SitemapService(CrawlingServiceFactory crawlingServiceFactory,
+                          BeautifulSoupService beautifulSoupService,
+                          FetchValidatorService fetchValidatorService,
+                          FetchValidatorRepository fetchValidatorRepository,
+                          @Qualifier("crawlingTaskExecutor") Executor crawlingTaskExecutor,
+                          DnsCache dnsCache,
+                          CloseableHttpClient httpClient,
+                          FetchGuard fetchGuard,
+                          ContentDecoder contentDecoder,
+                          @Value("${crawling.sitemap.timeout:30000}") long timeoutMillis,
+                          @Value("${crawling.sitemap.ingest-threads:2}") int ingestThreads,
+                          @Value("${crawling.sitemap.ingest-queue-size:10}") int ingestQueueSize) {
+        this.crawlingServiceFactory = crawlingServiceFactory;
+        this.beautifulSoupService = beautifulSoupService;
+        this.fetchValidatorService = fetchValidatorService;
+        this.fetchValidatorRepository = fetchValidatorRepository;
+        this.crawlingTaskExecutor = crawlingTaskExecutor;
+        this.dnsCache = dnsCache;
+        this.httpClient = httpClient;
+        this.fetchGuard = fetchGuard;
+        this.contentDecoder = contentDecoder;
+        this.requestConfig = RequestConfig.custom()
+                .setResponseTimeout(Timeout.ofMilliseconds(timeoutMillis))
+                .build();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.ingestExecutor = new ThreadPoolExecutor(ingestThreads, ingestThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(ingestQueueSize), runnable -> {
+            Thread thread = new Thread(runnable, "sitemap-ingest-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ingestExecutor.shutdownNow();
+    }
+
+    /**
+     * 사이트의 사이트맵 URL 탐색
+     */
+    public List<String> discover(String siteUrl) {
+        try {
+            return discoverSitemaps(siteUrl);
+        } catch (IOException e) {
+            log.warn("사이트맵 탐색 실패: {} - {}", siteUrl, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 수집 작업을 전용 스레드에서 실행합니다. 대기열이 가득 차면 RejectedExecutionException으로 끝나는 future를 반환합니다.
+     */
+    public CompletableFuture<SitemapIngestResult> ingestAsync(SitemapIngestRequest request) {
+        try {
+            return CompletableFuture.supplyAsync(() -> ingest(request), ingestExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 사이트맵을 파싱하여 변경된 URL을 크롤링합니다.
+     */
+    public SitemapIngestResult ingest(SitemapIngestRequest request) {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            List<String> sitemaps = request.getSitemapUrls() != null && !request.getSitemapUrls().isEmpty()
+                    ? request.getSitemapUrls()
+                    : discoverSitemaps(request.getSiteUrl());
+
+            if (sitemaps.isEmpty()) {
+                throw new IllegalArgumentException("사이트맵을 찾을 수 없습니다: " + request.getSiteUrl());
+            }
+
+            Ingestion ingestion = new Ingestion(request, sitemaps);
+            log.info("사이트맵 수집 시작: {} 개 사이트맵, 타입={}", sitemaps.size(), ingestion.crawlingType);
+
+            Deque<String> pending = new ArrayDeque<>(sitemaps);
+            Set<String> visited = new HashSet<>();
+
+            while (!pending.isEmpty() && !ingestion.limitReached) {
+                String sitemapUrl = pending.poll();
+                if (!visited.add(sitemapUrl)) {
+                    continue;
+                }
+                if (visited.size() > maxSitemaps) {
+                    log.warn("사이트맵 수 제한({})에 도달하여 나머지를 건너뜁니다.", maxSitemaps);
+                    break;
+                }
+                parseSitemap(sitemapUrl, ingestion, pending);
+            }
+
+            ingestion.flush();
+            ingestion.awaitBatches();
+
+            SitemapIngestResult result = ingestion.toResult();
+            result.setElapsedTime(System.currentTimeMillis() - startTime);
+            log.info("사이트맵 수집 완료: URL {} 개 중 {} 개 크롤링 (성공 {}, 실패 {}, 변경 없음 {}) ({}ms)",
+                    result.getUrlsSeen(), result.getUrlsQueued(), result.getSuccessCount(),
+                    result.getErrorCount(), result.getUrlsUnchanged(), result.getElapsedTime());
+            return result;
+
+        } catch (IOException e) {
+            throw new IllegalStateException("사이트맵 수집 실패: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("사이트맵 수집이 중단되었습니다.", e);
+        }
+    }
+
+    private List<String> discoverSitemaps(String siteUrl) throws IOException {
+        if (siteUrl == null || siteUrl.isBlank()) {
+            throw new IllegalArgumentException("siteUrl 또는 sitemapUrls 중 하나는 필수입니다.");
+        }
+
+        URI root = URI.create(siteUrl).resolve("/");
+        List<String> sitemaps = new ArrayList<>();
+
+        byte[] robots = fetch(root.resolve("/robots.txt").toString(), Map.of(),
+                (statusCode, header, body) -> statusCode == 200 ? body.readNBytes((int) ROBOTS_MAX_BYTES) : null);
+        if (robots != null) {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(new ByteArrayInputStream(robots), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String trimmed = line.trim();
+                    if (trimmed.regionMatches(true, 0, "sitemap:", 0, 8)) {
+                        String location = trimmed.substring(8).trim();
+                        if (!location.isEmpty()) {
+                            sitemaps.add(root.resolve(location).toString());
+                        }
+                    }
+                }
+            }
+        }
+
+        if (sitemaps.isEmpty()) {
+            for (String path : WELL_KNOWN_PATHS) {
+                String candidate = root.resolve(path).toString();
+                if (exists(candidate)) {
+                    sitemaps.add(candidate);
+                    break;
+                }
+            }
+        }
+
+        log.debug("사이트맵 탐색 결과: {} -> {}", siteUrl, sitemaps);
+        return sitemaps.stream().distinct().collect(Collectors.toList());
+    }
+
+    private boolean exists(String url) {
+        try {
+            // 본문은 받지 않음 (읽지 않은 본문은 fetch가 연결을 끊어 버림)
+            return fetch(url, Map.of(), (statusCode, header, body) -> statusCode == 200);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void parseSitemap(String sitemapUrl, Ingestion ingestion, Deque<String> pending) {
+        Map<String, String> conditionalHeaders = ingestion.onlyChanged
+                ? fetchValidatorService.conditionalHeaders(sitemapUrl)
+                : Map.of();
+
+        SpooledSitemap sitemap = null;
+        try {
+            sitemap = fetch(sitemapUrl, conditionalHeaders, (statusCode, header, body) -> statusCode == 200
+                    ? spool(header, body)
+                    : new SpooledSitemap(statusCode, null, null, null, null, false));
+
+            if (sitemap.statusCode() == 304) {
+                fetchValidatorService.recordNotModified(sitemapUrl);
+                ingestion.sitemapsUnchanged++;
+                log.debug("사이트맵 변경 없음 (304): {}", sitemapUrl);
+                return;
+            }
+            if (sitemap.statusCode() != 200) {
+                log.warn("사이트맵 요청 실패: {} - HTTP {}", sitemapUrl, sitemap.statusCode());
+                return;
+            }
+            if (sitemap.truncated()) {
+                log.warn("사이트맵이 최대 크기({} bytes)를 넘어 앞부분만 파싱: {}", maxSitemapBytes, sitemapUrl);
+            }
+
+            try (InputStream body = Files.newInputStream(sitemap.file())) {
+                long entries = SitemapParser.parse(body, ingestion::add, child -> enqueueChild(child, ingestion, pending));
+                log.debug("사이트맵 파싱 완료: {} ({} 개 항목)", sitemapUrl, entries);
+            }
+            ingestion.sitemapsParsed++;
+
+            // 잘린 사이트맵은 다음 수집에서 다시 받도록 검증자를 기록하지 않음
+            if (!sitemap.truncated()) {
+                fetchValidatorService.recordResponse(sitemapUrl, sitemap.etag(), sitemap.lastModified(),
+                        sitemap.contentHash());
+            }
+
+        } catch (IOException | XMLStreamException e) {
+            log.warn("사이트맵 파싱 실패: {} - {}", sitemapUrl, e.getMessage());
+        } finally {
+            if (sitemap != null) {
+                sitemap.delete();
+            }
+        }
+    }
+
+    /**
+     * 공유 HTTP 클라이언트로 GET 요청을 보내고 압축을 푼 본문을 handler에 넘깁니다.
+     * 요청 전에 FetchGuard의 자리를 얻고 handler가 끝나면 결과를 기록하여 돌려줍니다.
+     * handler가 본문을 끝까지 읽지 않았으면 남은 부분을 받지 않도록 연결을 끊습니다.
+     */
+    private <T> T fetch(String url, Map<String, String> headers, ResponseHandler<T> handler) throws IOException {
+        HttpGet httpRequest = new HttpGet(url);
+        httpRequest.setConfig(requestConfig);
+        httpRequest.setHeader(ContentDecoder.ACCEPT_ENCODING, contentDecoder.acceptEncoding());
+        httpRequest.setHeader("User-Agent", USER_AGENT);
+        headers.forEach(httpRequest::setHeader);
+
+        FetchGuard.Permit permit = fetchGuard.acquire(url, null);
+        try (CloseableHttpResponse response = httpClient.execute(httpRequest)) {
+            HttpEntity entity = response.getEntity();
+            InputStream body = entity != null
+                    ? contentDecoder.decode(url, entity.getContent(), headerValue(response, "Content-Encoding"))
+                    : InputStream.nullInputStream();
+            try {
+                T result = handler.handle(response.getCode(), name -> headerValue(response, name), body);
+                if (body.read() != -1) {
+                    httpRequest.cancel();
+                }
+                permit.success(response.getCode());
+                return result;
+            } finally {
+                PageBufferPool.closeQuietly(body);
+            }
+        } catch (IOException | RuntimeException e) {
+            permit.failure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 사이트맵 본문을 최대 크기까지 임시 파일에 쓰며 해시를 계산합니다.
+     */
+    private SpooledSitemap spool(Function<String, String> header, InputStream body) throws IOException {
+        Path file = Files.createTempFile("sitemap-", ".xml");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            long written = 0;
+            boolean truncated = false;
+            try (OutputStream out = Files.newOutputStream(file)) {
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    if (written + read > maxSitemapBytes) {
+                        read = (int) (maxSitemapBytes - written);
+                        truncated = true;
+                    }
+                    out.write(buffer, 0, read);
+                    digest.update(buffer, 0, read);
+                    written += read;
+                    if (truncated) {
+                        break;
+                    }
+                }
+            }
+            return new SpooledSitemap(200, header.apply("ETag"), header.apply("Last-Modified"), file,
+                    HexFormat.of().formatHex(digest.digest()), truncated);
+        } catch (NoSuchAlgorithmException e) {
+            Files.deleteIfExists(file);
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * 사이트맵 인덱스의 하위 사이트맵 중 마지막 방문 이후 변경된 것만 대기열에 추가
+     */
+    private void enqueueChild(SitemapEntry child, Ingestion ingestion, Deque<String> pending) {
+        if (ingestion.onlyChanged && child.getLastmod() != null) {
+            Optional<FetchValidator> validator = fetchValidatorService.findByUrl(child.getLoc());
+            if (validator.isPresent() && !isChanged(child.getLastmod(), validator.get())) {
+                ingestion.sitemapsUnchanged++;
+                return;
+            }
+        }
+        pending.add(child.getLoc());
+    }
+
+    private static boolean isChanged(LocalDateTime lastmod, FetchValidator validator) {
+        return validator.getLastCheckedAt() == null || lastmod.isAfter(validator.getLastCheckedAt());
+    }
+
+    private static String headerValue(CloseableHttpResponse response, String name) {
+        Header header = response.getFirstHeader(name);
+        return header != null ? header.getValue() : null;
+    }
+
+    @FunctionalInterface
+    private interface ResponseHandler<T> {
+        T handle(int statusCode, Function<String, String> header, InputStream body) throws IOException;
+    }
+
+    /**
+     * 임시 파일로 받은 사이트맵 (200이 아닌 응답은 file이 null)
+     */
+    private record SpooledSitemap(int statusCode, String etag, String lastModified, Path file,
+                                  String contentHash, boolean truncated) {
+
+        void delete() {
+            if (file == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.debug("사이트맵 임시 파일 삭제 실패: {} - {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private List<String> crawl(Ingestion ingestion, List<String> urls) {
+        if ("BEAUTIFULSOUP".equals(ingestion.crawlingType)) {
+            List<BeautifulSoupRequest> requests = urls.stream()
+                    .map(url -> {
+                        BeautifulSoupRequest request = BeautifulSoupRequest.withSelectors(url, ingestion.selectors);
+                        request.setConditional(true);
+                        return request;
+                    })
+                    .collect(Collectors.toList());
+
+            return beautifulSoupService.parseMultiple(requests).stream()
+                    .map(BeautifulSoupResponse::getStatus)
+                    .collect(Collectors.toList());
+        }
+
+        CrawlingType type = CrawlingType.valueOf(ingestion.crawlingType);
+        List<CrawlingRequest> requests = urls.stream()
+                .map(url -> CrawlingRequest.builder()
+                        .url(url)
+                        .type(type)
+                        .selectors(ingestion.selectors)
+                        .conditional(true)
+                        .build())
+                .collect(Collectors.toList());
+
+        return crawlingServiceFactory.getService(type).crawlMultiple(requests).stream()
+                .map(CrawlingResponse::getStatus)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 한 번의 수집 작업 상태. 파싱은 한 스레드에서만 진행되고,
+     * 크롤링 결과 집계만 배치 실행 스레드에서 갱신됩니다.
+     */
+    private class Ingestion {
+
+        private final String crawlingType;
+        private final Map<String, String> selectors;
+        private final boolean onlyChanged;
+        private final boolean dryRun;
+        private final int maxUrls;
+        private final int batchSize;
+        private final List<String> discoveredSitemaps;
+
+        private final Semaphore inFlight = new Semaphore(maxInFlightBatches);
+        private List<SitemapEntry> batch;
+
+        private int sitemapsParsed;
+        private int sitemapsUnchanged;
+        private long urlsSeen;
+        private long urlsUnchanged;
+        private long urlsQueued;
+        private boolean limitReached;
+        private final AtomicLong successCount = new AtomicLong();
+        private final AtomicLong errorCount = new AtomicLong();
+
+        private Ingestion(SitemapIngestRequest request, List<String> discoveredSitemaps) {
+            this.crawlingType = request.getCrawlingType() != null ? request.getCrawlingType() : "SIMPLE";
+            this.selectors = request.getSelectors();
+            this.onlyChanged = request.getOnlyChanged() == null || request.getOnlyChanged();
+            this.dryRun = Boolean.TRUE.equals(request.getDryRun());
+            this.maxUrls = request.getMaxUrls() != null ? request.getMaxUrls() : defaultMaxUrls;
+            this.batchSize = request.getBatchSize() != null ? request.getBatchSize() : defaultBatchSize;
+            this.discoveredSitemaps = discoveredSitemaps;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        private void add(SitemapEntry entry) {
+            urlsSeen++;
+            if (limitReached) {
+                return;
+            }
+            batch.add(entry);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<SitemapEntry> entries = batch;
+            batch = new ArrayList<>(batchSize);
+
+            List<String> changed = onlyChanged ? filterChanged(entries) : entries.stream()
+                    .map(SitemapEntry::getLoc)
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            long remaining = maxUrls - urlsQueued;
+            if (changed.size() >= remaining) {
+                changed = changed.subList(0, (int) Math.max(0, remaining));
+                limitReached = true;
+            }
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            urlsQueued += changed.size();
+            if (!dryRun) {
+                dispatch(changed);
+            }
+        }
+
+        /**
+         * lastmod가 없거나 마지막 방문 이후인 URL만 남깁니다.
+         * lastmod가 없는 URL은 조건부 요청으로 변경 여부를 확인합니다.
+         */
+        private List<String> filterChanged(List<SitemapEntry> entries) {
+            Set<String> urls = entries.stream().map(SitemapEntry::getLoc).collect(Collectors.toSet());
+            Map<String, FetchValidator> validators = fetchValidatorRepository.findByUrlIn(urls).stream()
+                    .collect(Collectors.toMap(FetchValidator::getUrl, Function.identity()));
+
+            Set<String> changed = new LinkedHashSet<>();
+            for (SitemapEntry entry : entries) {
+                FetchValidator validator = validators.get(entry.getLoc());
+                if (validator == null || entry.getLastmod() == null || isChanged(entry.getLastmod(), validator)) {
+                    changed.add(entry.getLoc());
+                } else {
+                    urlsUnchanged++;
+                }
+            }
+            return new ArrayList<>(changed);
+        }
+
+        private void dispatch(List<String> urls) {
+            // 앞 배치가 끝나기를 기다리는 동안 이 배치의 호스트를 미리 조회
+            dnsCache.prefetch(urls);
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("사이트맵 수집이 중단되었습니다.", e);
+            }
+
+            Runnable task = () -> {
+                try {
+                    List<String> statuses = crawl(this, urls);
+                    long success = statuses.stream()
+                            .filter(s -> "SUCCESS".equals(s) || "NOT_MODIFIED".equals(s))
+                            .count();
+                    successCount.addAndGet(success);
+                    errorCount.addAndGet(urls.size() - success);
+                } catch (Exception e) {
+                    log.error("사이트맵 배치 크롤링 실패: {} 개 URL - {}", urls.size(), e.getMessage(), e);
+                    errorCount.addAndGet(urls.size());
+                } finally {
+                    inFlight.release();
+                }
+            };
+
+            try {
+                crawlingTaskExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // 작업 큐가 가득 차면 파싱 스레드에서 직접 실행하여 속도를 늦춤
+                task.run();
+            }
+        }
+
+        private void awaitBatches() throws InterruptedException {
+            inFlight.acquire(maxInFlightBatches);
+            inFlight.release(maxInFlightBatches);
+        }
+
+        private SitemapIngestResult toResult() {
+            return SitemapIngestResult.builder()
+                    .discoveredSitemaps(discoveredSitemaps)
+                    .sitemapsParsed(sitemapsParsed)
+                    .sitemapsUnchanged(sitemapsUnchanged)
+                    .urlsSeen(urlsSeen)
+                    .urlsUnchanged(urlsUnchanged)
+                    .urlsQueued(urlsQueued)
+                    .successCount(successCount.get())
+                    .errorCount(errorCount.get())
+                    .limitReached(limitReached)
+                    .build();
+        }
+    }
+}
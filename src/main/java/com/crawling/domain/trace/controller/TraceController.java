@@ -0,0 +1,39 @@
+package com.crawling.domain.trace.controller;
+
+import com.crawling.domain.trace.dto.TraceSpan;
+import com.crawling.domain.trace.dto.TraceSummary;
+import com.crawling.domain.trace.service.TraceQueryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/traces")
+@RequiredArgsConstructor
+@Tag(name = "트레이스", description = "최근 크롤링 트레이스 조회 API (메모리 익스포터)")
+public class TraceController {
+
+    private final TraceQueryService traceQueryService;
+
+    @GetMapping
+    @Operation(summary = "최근 트레이스 조회", description = "최근 트레이스의 전체 소요 시간과 가장 느린 URL을 최신순으로 조회합니다.")
+    public ResponseEntity<List<TraceSummary>> getRecentTraces(
+            @Parameter(description = "조회할 트레이스 수") @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(traceQueryService.recentTraces(limit));
+    }
+
+    @GetMapping("/{traceId}")
+    @Operation(summary = "트레이스 상세 조회", description = "트레이스의 요청/단계별 span을 시작 순서대로 조회합니다.")
+    public ResponseEntity<List<TraceSpan>> getTrace(@PathVariable String traceId) {
+        try {
+            return ResponseEntity.ok(traceQueryService.getTrace(traceId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.crawling.domain.trace.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TraceSpan {
+
+    private String spanId;
+    private String parentSpanId;
+    private String name;
+    // 트레이스 시작 기준 오프셋
+    private double startOffsetMs;
+    private double durationMs;
+    private String status;
+    private Map<String, String> attributes;
+}
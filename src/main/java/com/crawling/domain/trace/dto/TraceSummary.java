@@ -0,0 +1,25 @@
+package com.crawling.domain.trace.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TraceSummary {
+
+    private String traceId;
+    private String rootName;
+    private Instant startTime;
+    private double durationMs;
+    private int spanCount;
+    private int errorCount;
+    // 가장 오래 걸린 요청(crawl) span의 URL과 소요 시간
+    private String slowestUrl;
+    private double slowestUrlMs;
+}
@@ -0,0 +1,126 @@
+package com.crawling.domain.trace.service;
+
+import com.crawling.core.tracing.RecentSpanExporter;
+import com.crawling.domain.trace.dto.TraceSpan;
+import com.crawling.domain.trace.dto.TraceSummary;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 익스포터에 남아 있는 span을 트레이스 단위로 묶어 조회합니다.
+ *
+ * span은 BatchSpanProcessor를 거쳐 전달되므로 요청이 끝난 뒤 몇 초 후에 조회됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TraceQueryService {
+
+    private static final AttributeKey<String> URL = AttributeKey.stringKey("url.full");
+
+    private final RecentSpanExporter recentSpanExporter;
+
+    /**
+     * 최근 트레이스를 최신순으로 조회합니다.
+     */
+    public List<TraceSummary> recentTraces(int limit) {
+        Map<String, List<SpanData>> traces = recentSpanExporter.snapshot().stream()
+                .collect(Collectors.groupingBy(SpanData::getTraceId, LinkedHashMap::new, Collectors.toList()));
+
+        return traces.entrySet().stream()
+                .map(entry -> summarize(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(TraceSummary::getStartTime).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 트레이스 하나의 span을 시작 순서대로 조회합니다.
+     */
+    public List<TraceSpan> getTrace(String traceId) {
+        List<SpanData> spans = recentSpanExporter.snapshot().stream()
+                .filter(span -> span.getTraceId().equals(traceId))
+                .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .collect(Collectors.toList());
+        if (spans.isEmpty()) {
+            throw new IllegalArgumentException("트레이스를 찾을 수 없습니다: " + traceId);
+        }
+
+        long traceStart = spans.get(0).getStartEpochNanos();
+        List<TraceSpan> result = new ArrayList<>(spans.size());
+        for (SpanData span : spans) {
+            Map<String, String> attributes = new LinkedHashMap<>();
+            span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+
+            result.add(TraceSpan.builder()
+                    .spanId(span.getSpanId())
+                    .parentSpanId(SpanId.isValid(span.getParentSpanId()) ? span.getParentSpanId() : null)
+                    .name(span.getName())
+                    .startOffsetMs(toMillis(span.getStartEpochNanos() - traceStart))
+                    .durationMs(toMillis(span.getEndEpochNanos() - span.getStartEpochNanos()))
+                    .status(span.getStatus().getStatusCode().name())
+                    .attributes(attributes)
+                    .build());
+        }
+        return result;
+    }
+
+    private TraceSummary summarize(String traceId, List<SpanData> spans) {
+        long start = Long.MAX_VALUE;
+        long end = Long.MIN_VALUE;
+        SpanData root = null;
+        SpanData slowest = null;
+        int errors = 0;
+
+        for (SpanData span : spans) {
+            start = Math.min(start, span.getStartEpochNanos());
+            end = Math.max(end, span.getEndEpochNanos());
+            // 부모가 없는 span을 루트로, 부모가 버퍼에서 밀려났으면 가장 먼저 시작한 span을 사용
+            if (root == null || (isRoot(span) && !isRoot(root))
+                    || (isRoot(span) == isRoot(root) && span.getStartEpochNanos() < root.getStartEpochNanos())) {
+                root = span;
+            }
+            if (span.getStatus().getStatusCode() == StatusCode.ERROR) {
+                errors++;
+            }
+            if (span.getAttributes().get(URL) != null
+                    && (slowest == null || duration(span) > duration(slowest))) {
+                slowest = span;
+            }
+        }
+
+        return TraceSummary.builder()
+                .traceId(traceId)
+                .rootName(root.getName())
+                .startTime(Instant.ofEpochSecond(0, start))
+                .durationMs(toMillis(end - start))
+                .spanCount(spans.size())
+                .errorCount(errors)
+                .slowestUrl(slowest != null ? slowest.getAttributes().get(URL) : null)
+                .slowestUrlMs(slowest != null ? toMillis(duration(slowest)) : 0)
+                .build();
+    }
+
+    private static boolean isRoot(SpanData span) {
+        return !SpanId.isValid(span.getParentSpanId());
+    }
+
+    private static long duration(SpanData span) {
+        return span.getEndEpochNanos() - span.getStartEpochNanos();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -7,6 +7,7 @@ import com.crawling.domain.beautifulsoup.dto.BeautifulSoupResponse;
 import com.crawling.domain.beautifulsoup.service.BeautifulSoupService;
 import com.crawling.domain.webdriver.dto.CrawlingRequest;
 import com.crawling.domain.webdriver.dto.CrawlingResponse;
+import com.crawling.domain.webdriver.enums.CrawlingType;
 import com.crawling.domain.webdriver.service.CrawlingServiceFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -118,7 +119,7 @@ public class CrawlingTestController {
                 selectors.put("images", imageSelector);
             }
             
-            CrawlingRequest.CrawlingType crawlingType = CrawlingRequest.CrawlingType.valueOf(type.toUpperCase());
+            CrawlingType crawlingType = CrawlingType.valueOf(type.toUpperCase());
             
             CrawlingRequest request = CrawlingRequest.builder()
                     .url(url)
@@ -2,6 +2,7 @@ package com.crawling.domain.webdriver.config;
 
 import io.github.bonigarcia.wdm.WebDriverManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -28,7 +29,9 @@ public class CrawlingConfig {
         return executor;
     }
     
+    // 오프라인 환경(부하 테스트 등)에서는 드라이버 다운로드를 하지 않도록 selenium.webdriver-manager.enabled=false
     @Bean
+    @ConditionalOnProperty(name = "selenium.webdriver-manager.enabled", havingValue = "true", matchIfMissing = true)
     public WebDriverManager webDriverManager() {
 
         // WebDriver 자동 관리 설정
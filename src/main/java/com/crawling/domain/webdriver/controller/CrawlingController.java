@@ -2,6 +2,7 @@ package com.crawling.domain.webdriver.controller;
 
 import com.crawling.domain.webdriver.dto.CrawlingRequest;
 import com.crawling.domain.webdriver.dto.CrawlingResponse;
+import com.crawling.domain.webdriver.enums.CrawlingType;
 import com.crawling.domain.webdriver.service.CrawlingService;
 import com.crawling.domain.webdriver.service.CrawlingServiceFactory;
 import com.crawling.global.common.controller.BaseController;
@@ -51,7 +52,7 @@ public class CrawlingController extends BaseController {
         }
         
         // 모든 요청이 같은 타입인지 확인
-        CrawlingRequest.CrawlingType type = requests.get(0).getType();
+        CrawlingType type = requests.get(0).getType();
         boolean allSameType = requests.stream()
                 .allMatch(req -> req.getType() == type);
         
@@ -69,7 +70,7 @@ public class CrawlingController extends BaseController {
     @Operation(summary = "크롤링 가능 여부 확인", description = "URL이 크롤링 가능한지 확인합니다.")
     public ResponseEntity<Map<String, Object>> checkCrawlable(
             @Parameter(description = "확인할 URL") @RequestParam String url,
-            @Parameter(description = "크롤링 타입") @RequestParam CrawlingRequest.CrawlingType type) {
+            @Parameter(description = "크롤링 타입") @RequestParam CrawlingType type) {
         
         log.info("크롤링 가능 여부 확인: {} ({})", url, type);
         
@@ -94,12 +95,12 @@ public class CrawlingController extends BaseController {
         
         CrawlingRequest request = CrawlingRequest.builder()
                 .url(url)
-                .type(CrawlingRequest.CrawlingType.SIMPLE)
+                .type(CrawlingType.SIMPLE)
                 .timeout(timeout)
                 .userAgent(userAgent)
                 .build();
         
-        CrawlingService service = crawlingServiceFactory.getService(CrawlingRequest.CrawlingType.SIMPLE);
+        CrawlingService service = crawlingServiceFactory.getService(CrawlingType.SIMPLE);
         CrawlingResponse response = service.crawl(request);
         
         return ResponseEntity.ok(response);
@@ -113,11 +114,11 @@ public class CrawlingController extends BaseController {
         
         CrawlingRequest request = CrawlingRequest.builder()
                 .url(url)
-                .type(CrawlingRequest.CrawlingType.JAVASCRIPT)
+                .type(CrawlingType.JAVASCRIPT)
                 .selectors(selectors)
                 .build();
         
-        CrawlingService service = crawlingServiceFactory.getService(CrawlingRequest.CrawlingType.JAVASCRIPT);
+        CrawlingService service = crawlingServiceFactory.getService(CrawlingType.JAVASCRIPT);
         CrawlingResponse response = service.crawl(request);
         
         return ResponseEntity.ok(response);
@@ -131,11 +132,11 @@ public class CrawlingController extends BaseController {
         
         CrawlingRequest request = CrawlingRequest.builder()
                 .url(url)
-                .type(CrawlingRequest.CrawlingType.API)
+                .type(CrawlingType.API)
                 .headers(headers)
                 .build();
         
-        CrawlingService service = crawlingServiceFactory.getService(CrawlingRequest.CrawlingType.API);
+        CrawlingService service = crawlingServiceFactory.getService(CrawlingType.API);
         CrawlingResponse response = service.crawl(request);
         
         return ResponseEntity.ok(response);
@@ -1,5 +1,6 @@
 package com.crawling.domain.webdriver.dto;
 
+import com.crawling.core.cache.FetchCacheKeys;
 import com.crawling.domain.webdriver.enums.CrawlingType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.util.HashMap;
 import java.util.Map;
 
 @Data
@@ -27,4 +29,23 @@ public class CrawlingRequest {
     private Integer timeout;
     private Boolean useJavaScript;
     private String userAgent;
+    
+    // 저장된 ETag/Last-Modified로 조건부 요청을 보내고, 변경이 없으면 파싱과 저장을 생략
+    private Boolean conditional;
+    
+    // 읽을 응답 본문의 최대 크기 (바이트, 전체 설정 crawling.http.body.max-bytes보다 크게 지정할 수 없음)
+    private Long maxBodyBytes;
+    
+    /**
+     * 같은 결과를 내는 요청끼리 같은 값이 되는 키 (응답 캐시, 동시 요청 병합에 사용)
+     */
+    public String fetchKey() {
+        Map<String, Object> options = new HashMap<>();
+        options.put("selectors", selectors);
+        options.put("headers", FetchCacheKeys.lowerCaseHeaders(headers));
+        options.put("userAgent", userAgent);
+        options.put("conditional", Boolean.TRUE.equals(conditional) ? true : null);
+        options.put("maxBodyBytes", maxBodyBytes);
+        return FetchCacheKeys.of(String.valueOf(type), url, options);
+    }
 }
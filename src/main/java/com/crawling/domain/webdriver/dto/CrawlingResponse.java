@@ -1,5 +1,6 @@
 package com.crawling.domain.webdriver.dto;
 
+import com.crawling.core.cache.Weighable;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,7 +13,7 @@ import java.util.Map;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class CrawlingResponse {
+public class CrawlingResponse implements Weighable {
     
     private String url;
     private String title;
@@ -23,6 +24,22 @@ public class CrawlingResponse {
     private Long responseTime;
     private String status;
     private String errorMessage;
+    private String contentHash;
+    
+    // 응답의 Cache-Control 헤더 (응답 캐시 유효 기간 계산에 사용)
+    private String cacheControl;
+    
+    // 본문이 최대 크기를 넘어 앞부분만 읽고 처리했는지 여부
+    private Boolean truncated;
+    
+    /**
+     * 응답 캐시 용량 계산용 크기 (본문, 추출 결과, 메타데이터 등 문자열 필드의 합)
+     */
+    @Override
+    public long estimatedBytes() {
+        return Weighable.sizeOfAll(url, title, content, extractedData, metadata, status, errorMessage,
+                contentHash, cacheControl) + 48;
+    }
     
     public static CrawlingResponse success(String url, String title, String content, 
                                          Map<String, Object> extractedData, 
@@ -40,6 +57,16 @@ public class CrawlingResponse {
                 .build();
     }
     
+    public static CrawlingResponse notModified(String url, String contentHash, Long responseTime) {
+        return CrawlingResponse.builder()
+                .url(url)
+                .crawledAt(LocalDateTime.now())
+                .responseTime(responseTime)
+                .status("NOT_MODIFIED")
+                .contentHash(contentHash)
+                .build();
+    }
+    
     public static CrawlingResponse error(String url, String errorMessage, Long responseTime) {
         return CrawlingResponse.builder()
                 .url(url)
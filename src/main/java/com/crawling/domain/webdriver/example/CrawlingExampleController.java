@@ -2,8 +2,8 @@ package com.crawling.domain.webdriver.example;
 
 import com.crawling.domain.webdriver.dto.CrawlingRequest;
 import com.crawling.domain.webdriver.dto.CrawlingResponse;
-import com.crawling.domain.webdriver.service.CrawlingService;
-import com.crawling.domain.webdriver.service.CrawlingServiceFactory;
+import com.crawling.domain.webdriver.enums.CrawlingType;
+import com.crawling.domain.webdriver.service.CachedCrawlingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +22,7 @@ import java.util.Map;
 @Tag(name = "크롤링 예제", description = "다양한 크롤링 예제 API")
 public class CrawlingExampleController {
     
-    private final CrawlingServiceFactory crawlingServiceFactory;
+    private final CachedCrawlingService cachedCrawlingService;
     
     @GetMapping("/naver-news")
     @Operation(summary = "네이버 뉴스 크롤링 예제", description = "네이버 뉴스 메인 페이지를 크롤링합니다.")
@@ -34,14 +34,13 @@ public class CrawlingExampleController {
         
         CrawlingRequest request = CrawlingRequest.builder()
                 .url("https://news.naver.com")
-                .type(CrawlingRequest.CrawlingType.SIMPLE)
+                .type(CrawlingType.SIMPLE)
                 .selectors(selectors)
                 .timeout(10000)
                 .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
                 .build();
         
-        CrawlingService service = crawlingServiceFactory.getService(CrawlingRequest.CrawlingType.SIMPLE);
-        CrawlingResponse response = service.crawl(request);
+        CrawlingResponse response = cachedCrawlingService.crawl(request);
         
         return ResponseEntity.ok(response);
     }
@@ -57,13 +56,12 @@ public class CrawlingExampleController {
         
         CrawlingRequest request = CrawlingRequest.builder()
                 .url("https://github.com/trending")
-                .type(CrawlingRequest.CrawlingType.SIMPLE)
+                .type(CrawlingType.SIMPLE)
                 .selectors(selectors)
                 .timeout(15000)
                 .build();
         
-        CrawlingService service = crawlingServiceFactory.getService(CrawlingRequest.CrawlingType.SIMPLE);
-        CrawlingResponse response = service.crawl(request);
+        CrawlingResponse response = cachedCrawlingService.crawl(request);
         
         return ResponseEntity.ok(response);
     }
@@ -79,13 +77,12 @@ public class CrawlingExampleController {
         
         CrawlingRequest request = CrawlingRequest.builder()
                 .url("https://stackoverflow.com/questions")
-                .type(CrawlingRequest.CrawlingType.SIMPLE)
+                .type(CrawlingType.SIMPLE)
                 .selectors(selectors)
                 .timeout(10000)
                 .build();
         
-        CrawlingService service = crawlingServiceFactory.getService(CrawlingRequest.CrawlingType.SIMPLE);
-        CrawlingResponse response = service.crawl(request);
+        CrawlingResponse response = cachedCrawlingService.crawl(request);
         
         return ResponseEntity.ok(response);
     }
@@ -99,13 +96,12 @@ public class CrawlingExampleController {
         
         CrawlingRequest request = CrawlingRequest.builder()
                 .url("https://example.com/spa-page") // 실제 SPA URL로 변경 필요
-                .type(CrawlingRequest.CrawlingType.JAVASCRIPT)
+                .type(CrawlingType.JAVASCRIPT)
                 .selectors(selectors)
                 .timeout(30000)
                 .build();
         
-        CrawlingService service = crawlingServiceFactory.getService(CrawlingRequest.CrawlingType.JAVASCRIPT);
-        CrawlingResponse response = service.crawl(request);
+        CrawlingResponse response = cachedCrawlingService.crawl(request);
         
         return ResponseEntity.ok(response);
     }
@@ -119,13 +115,12 @@ public class CrawlingExampleController {
         
         CrawlingRequest request = CrawlingRequest.builder()
                 .url("https://jsonplaceholder.typicode.com/posts")
-                .type(CrawlingRequest.CrawlingType.API)
+                .type(CrawlingType.API)
                 .headers(headers)
                 .timeout(10000)
                 .build();
         
-        CrawlingService service = crawlingServiceFactory.getService(CrawlingRequest.CrawlingType.API);
-        CrawlingResponse response = service.crawl(request);
+        CrawlingResponse response = cachedCrawlingService.crawl(request);
         
         return ResponseEntity.ok(response);
     }
@@ -145,13 +140,12 @@ public class CrawlingExampleController {
         
         CrawlingRequest request = CrawlingRequest.builder()
                 .url(url)
-                .type(CrawlingRequest.CrawlingType.SIMPLE)
+                .type(CrawlingType.SIMPLE)
                 .selectors(selectors)
                 .timeout(15000)
                 .build();
         
-        CrawlingService service = crawlingServiceFactory.getService(CrawlingRequest.CrawlingType.SIMPLE);
-        CrawlingResponse response = service.crawl(request);
+        CrawlingResponse response = cachedCrawlingService.crawl(request);
         
         return ResponseEntity.ok(response);
     }
@@ -162,20 +156,19 @@ public class CrawlingExampleController {
         List<CrawlingRequest> requests = List.of(
             CrawlingRequest.builder()
                 .url("https://news.naver.com")
-                .type(CrawlingRequest.CrawlingType.SIMPLE)
+                .type(CrawlingType.SIMPLE)
                 .build(),
             CrawlingRequest.builder()
                 .url("https://github.com/trending")
-                .type(CrawlingRequest.CrawlingType.SIMPLE)
+                .type(CrawlingType.SIMPLE)
                 .build(),
             CrawlingRequest.builder()
                 .url("https://stackoverflow.com/questions")
-                .type(CrawlingRequest.CrawlingType.SIMPLE)
+                .type(CrawlingType.SIMPLE)
                 .build()
         );
         
-        CrawlingService service = crawlingServiceFactory.getService(CrawlingRequest.CrawlingType.SIMPLE);
-        List<CrawlingResponse> responses = service.crawlMultiple(requests);
+        List<CrawlingResponse> responses = cachedCrawlingService.crawlMultiple(requests);
         
         return ResponseEntity.ok(responses);
     }
@@ -0,0 +1,75 @@
+package com.crawling.domain.webdriver.service;
+
+import com.crawling.core.cache.FetchResultCache;
+import com.crawling.domain.webdriver.dto.CrawlingRequest;
+import com.crawling.domain.webdriver.dto.CrawlingResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 응답 캐시를 거쳐 크롤링합니다.
+ *
+ * 같은 URL과 옵션(타입, 선택자, 헤더, User-Agent)의 성공 결과는 FetchResultCache에 저장하여 재사용합니다.
+ * 조건부 요청은 변경 여부를 확인하려는 것이므로 캐시를 거치지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CachedCrawlingService {
+
+    private final CrawlingServiceFactory crawlingServiceFactory;
+    private final FetchResultCache fetchResultCache;
+
+    public CrawlingResponse crawl(CrawlingRequest request) {
+        CrawlingService service = crawlingServiceFactory.getService(request.getType());
+        if (Boolean.TRUE.equals(request.getConditional())) {
+            return service.crawl(request);
+        }
+        return fetchResultCache.get(request.fetchKey(), () -> service.crawl(request),
+                CrawlingResponse::getCacheControl, CachedCrawlingService::cacheable);
+    }
+
+    /**
+     * 캐시에 없는 요청만 모아 한 번에 크롤링합니다. 결과는 요청 순서대로 반환합니다.
+     */
+    public List<CrawlingResponse> crawlMultiple(List<CrawlingRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        CrawlingService service = crawlingServiceFactory.getService(requests.get(0).getType());
+
+        CrawlingResponse[] responses = new CrawlingResponse[requests.size()];
+        List<Integer> missIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CrawlingRequest request = requests.get(i);
+            if (!Boolean.TRUE.equals(request.getConditional())) {
+                responses[i] = fetchResultCache.getIfPresent(request.fetchKey(), () -> service.crawl(request),
+                        CrawlingResponse::getCacheControl, CachedCrawlingService::cacheable);
+            }
+            if (responses[i] == null) {
+                missIndexes.add(i);
+            }
+        }
+
+        if (!missIndexes.isEmpty()) {
+            List<CrawlingResponse> fetched = service.crawlMultiple(missIndexes.stream().map(requests::get).toList());
+            for (int i = 0; i < missIndexes.size(); i++) {
+                int index = missIndexes.get(i);
+                CrawlingRequest request = requests.get(index);
+                responses[index] = fetched.get(i);
+                if (!Boolean.TRUE.equals(request.getConditional())) {
+                    fetchResultCache.put(request.fetchKey(), responses[index],
+                            CrawlingResponse::getCacheControl, CachedCrawlingService::cacheable);
+                }
+            }
+        }
+        return Arrays.asList(responses);
+    }
+
+    private static boolean cacheable(CrawlingResponse response) {
+        return "SUCCESS".equals(response.getStatus());
+    }
+}
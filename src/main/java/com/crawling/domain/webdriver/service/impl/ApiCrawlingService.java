@@ -1,24 +1,46 @@
 package com.crawling.domain.webdriver.service.impl;
 
+import com.crawling.core.cache.RequestCoalescer;
+import com.crawling.core.http.AsyncPageFetcher;
+import com.crawling.core.http.ContentDecoder;
+import com.crawling.core.http.FetchBodyPolicy;
+import com.crawling.core.http.FetchedPage;
+import com.crawling.core.http.PageBufferPool;
+import com.crawling.core.json.JsonPath;
+import com.crawling.core.json.StreamingJsonExtractor;
+import com.crawling.core.metrics.CrawlSample;
+import com.crawling.core.metrics.CrawlingMetrics;
+import com.crawling.core.resilience.FetchGuard;
+import com.crawling.core.resilience.RetryClassifier;
+import com.crawling.core.resilience.RetryDecision;
+import com.crawling.core.tracing.CrawlTracing;
 import com.crawling.domain.webdriver.dto.CrawlingRequest;
 import com.crawling.domain.webdriver.dto.CrawlingResponse;
 import com.crawling.domain.webdriver.service.CrawlingService;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.crawling.domain.fetch.service.FetchValidatorService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.HttpEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,110 +50,491 @@ public class ApiCrawlingService implements CrawlingService {
     
     private final ExecutorService executorService = Executors.newFixedThreadPool(10);
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FetchValidatorService fetchValidatorService;
+    private final CrawlingMetrics crawlingMetrics;
+    private final CrawlTracing crawlTracing;
+    private final FetchGuard fetchGuard;
+    private final RequestCoalescer requestCoalescer;
+    private final PageBufferPool pageBufferPool;
+    private final FetchBodyPolicy fetchBodyPolicy;
+    private final ContentDecoder contentDecoder;
+    private final CloseableHttpClient httpClient;
+    private final AsyncPageFetcher asyncPageFetcher;
     
+    // 일시적 장애(타임아웃, 연결 실패, 5xx, 408, 429)에 대한 재시도 (재시도 예산 안에서만)
+    @Value("${crawling.api.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+    
+    @Value("${crawling.api.retry.delay:500}")
+    private long retryDelayMillis;
+    
+    @Value("${crawling.api.retry.max-delay:10000}")
+    private long retryMaxDelayMillis;
+    
+    @PostConstruct
+    void registerExecutorMetrics() {
+        crawlingMetrics.bindExecutor(executorService, "apiCrawlingService");
+    }
+    
+    /**
+     * 같은 요청이 이미 진행 중이면 새로 가져오지 않고 그 결과를 함께 받습니다.
+     */
     @Override
     public CrawlingResponse crawl(CrawlingRequest request) {
+        return requestCoalescer.execute(request.fetchKey(),
+                () -> asyncPageFetcher.enabled() ? fetchAsyncWithRetry(request, 1).join() : fetchWithRetry(request));
+    }
+    
+    /**
+     * 실패한 시도가 재시도 대상이면 대기한 뒤 다시 보냅니다. (호출 스레드에서 대기)
+     */
+    private CrawlingResponse fetchWithRetry(CrawlingRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            Attempt result = fetch(request);
+            long delay = retryDelay(request, result, attempt);
+            if (delay < 0) {
+                return result.response();
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result.response();
+            }
+        }
+    }
+    
+    /**
+     * 비동기 재시도: 대기 중에 스레드를 점유하지 않도록 다음 시도를 지연 실행기에 예약합니다.
+     * 다음 시도의 대기(속도 제한 등)는 파싱 스레드가 아닌 전송 스레드에서 진행합니다.
+     */
+    private CompletableFuture<CrawlingResponse> fetchAsyncWithRetry(CrawlingRequest request, int attempt) {
+        return fetchAsync(request).thenCompose(result -> {
+            long delay = retryDelay(request, result, attempt);
+            if (delay < 0) {
+                return CompletableFuture.completedFuture(result.response());
+            }
+            Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS);
+            return CompletableFuture.runAsync(() -> { }, delayed)
+                    .thenCompose(ignored -> asyncPageFetcher.dispatch(request.getUrl(), () -> fetchAsyncWithRetry(request, attempt + 1)));
+        });
+    }
+    
+    /**
+     * 실패한 시도를 다시 보낼지 판단하여 대기 시간을 반환합니다. 다시 보내지 않으면 -1을 반환합니다.
+     * 영구 오류(4xx, 파싱 오류, 서킷 열림 등)는 재시도하지 않고, 재시도마다 FetchGuard의 재시도 예산을 사용합니다.
+     * 대기 시간은 지수 간격에 전체 지터를 적용한 값과 Retry-After 중 긴 쪽이며, max-delay보다 길면 재시도하지 않습니다.
+     */
+    private long retryDelay(CrawlingRequest request, Attempt result, int attempt) {
+        if (attempt >= retryMaxAttempts || (result.error() == null && result.statusCode() < 400)) {
+            return -1;
+        }
+        // 서버가 요청한 대기 시간이 너무 길면 예산을 쓰지 않고 포기
+        if (result.error() == null && RetryClassifier.parseRetryAfter(result.retryAfter()) > retryMaxDelayMillis) {
+            return -1;
+        }
+        
+        RetryDecision decision = result.error() != null
+                ? fetchGuard.retryDecision(request.getUrl(), result.error())
+                : fetchGuard.retryDecision(request.getUrl(), result.statusCode(), result.retryAfter());
+        if (!decision.retryable()) {
+            if ("budget_exhausted".equals(decision.reason())) {
+                log.warn("재시도 예산 소진으로 API 재시도 안 함: {}", request.getUrl());
+            }
+            return -1;
+        }
+        
+        int shift = Math.min(attempt - 1, 20);
+        long backoff = Math.min(retryMaxDelayMillis, retryDelayMillis << shift);
+        long delay = Math.max(ThreadLocalRandom.current().nextLong(backoff + 1), decision.retryAfterMillis());
+        log.warn("API 요청 실패 ({}), {}ms 후 재시도 ({}/{}): {}",
+                decision.reason(), delay, attempt + 1, retryMaxAttempts, request.getUrl());
+        return delay;
+    }
+    
+    private Attempt fetch(CrawlingRequest request) {
         long startTime = System.currentTimeMillis();
+        CrawlSample sample = crawlingMetrics.start("API", request.getUrl());
+        FetchedPage page = null;
         
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
+        try {
             log.info("API 호출을 통한 크롤링 시작: {}", request.getUrl());
             
-            // HTTP 요청 생성
+            // HTTP 요청 생성 (Accept-Encoding, 헤더, User-Agent, Accept, 조건부 요청 헤더 순으로 설정)
             var httpRequest = new HttpGet(request.getUrl());
+            boolean conditional = Boolean.TRUE.equals(request.getConditional());
+            requestHeaders(request, conditional).forEach(httpRequest::setHeader);
+            
+            // 메모리 예산을 기다리는 시간이 호스트의 동시 요청 자리를 차지하거나 응답 시간(AIMD 지연, 서킷의 느린 호출)으로
+            // 기록되지 않도록 FetchGuard의 자리를 얻기 전에 버퍼를 예약 (응답을 받은 뒤 예산을 기다리며 연결을 붙잡지도 않음)
+            try (PageBufferPool.BodyWriter writer = pageBufferPool.open(fetchBodyPolicy.maxBytes(request.getMaxBodyBytes()), -1)) {
+                // 호스트 서킷이 열려 있으면 바로 실패하고, 속도 제한에 따라 기다린 뒤 동시 요청 한도 안에서만 요청
+                FetchGuard.Permit permit = fetchGuard.acquire(request.getUrl(), request.getHeaders());
+                sample.lap(CrawlSample.Stage.WAIT);
+                
+                // 요청 실행
+                try (CloseableHttpResponse response = httpClient.execute(httpRequest)) {
+                    sample.lap(CrawlSample.Stage.TTFB);
+                    int statusCode = response.getCode();
+                    PageBufferPool.PageBody body = null;
+                
+                    if (!(conditional && statusCode == 304)) {
+                        // 본문을 받기 전에 Content-Type을 확인하고, 압축을 읽는 대로 풀며 최대 크기까지만 재사용 버퍼로 읽음
+                        // (문자열은 응답 내용으로 한 번만 만듦)
+                        String contentType = headerValue(response, "Content-Type");
+                        String contentEncoding = headerValue(response, "Content-Encoding");
+                        HttpEntity entity = response.getEntity();
+                        InputStream stream = null;
+                        try {
+                            fetchBodyPolicy.checkContentType(request.getUrl(), contentType);
+                            stream = contentDecoder.decode(request.getUrl(),
+                                    entity != null ? entity.getContent() : InputStream.nullInputStream(), contentEncoding);
+                            // 압축된 본문의 Content-Length는 푼 뒤의 크기가 아니므로 버퍼 크기를 정하는 데 쓰지 않음
+                            body = pageBufferPool.read(writer, stream, contentType,
+                                    entity == null ? 0 : contentEncoding == null ? entity.getContentLength() : -1);
+                        } finally {
+                            // 끝까지 읽지 않은 본문은 닫을 때 남은 부분을 받지 않도록 연결을 끊음
+                            if (body == null || body.truncated()) {
+                                httpRequest.cancel();
+                                PageBufferPool.closeQuietly(stream);
+                            }
+                        }
+                        sample.lap(CrawlSample.Stage.DOWNLOAD);
+                    }
+                    page = new FetchedPage(request.getUrl(), statusCode,
+                            response.getVersion() != null ? response.getVersion().format() : null,
+                            name -> headerValue(response, name), body);
+                    permit.success(statusCode);
+                } catch (Exception e) {
+                    permit.failure(e);
+                    throw e;
+                }
+            }
+            
+            return new Attempt(complete(request, page, sample, startTime), null,
+                    page.statusCode(), page.header("Retry-After"));
             
-            // 헤더 설정
-            if (request.getHeaders() != null) {
-                request.getHeaders().forEach(httpRequest::setHeader);
+        } catch (Exception e) {
+            return new Attempt(failed(request, sample, startTime, e), e, 0, null);
+        } finally {
+            if (page != null) {
+                page.close();
             }
+        }
+    }
+    
+    /**
+     * 비동기 클라이언트로 본문을 받은 뒤 작업 스레드에서 파싱합니다.
+     * 요청을 보내기까지(메모리 예산, 속도 제한, 동시 요청 한도 대기)는 호출한 스레드에서 진행합니다. (여러 URL이면 dispatchAsync로 전송 스레드에서)
+     */
+    private CompletableFuture<Attempt> fetchAsync(CrawlingRequest request) {
+        long startTime = System.currentTimeMillis();
+        CrawlSample sample = crawlingMetrics.start("API", request.getUrl());
+        
+        try {
+            log.info("API 호출을 통한 크롤링 시작 (비동기): {}", request.getUrl());
             
-            // User-Agent 설정
-            if (request.getUserAgent() != null) {
-                httpRequest.setHeader("User-Agent", request.getUserAgent());
-            } else {
-                httpRequest.setHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
+            boolean conditional = Boolean.TRUE.equals(request.getConditional());
+            // 메모리 예산을 기다리는 시간이 동시 요청 자리를 차지하거나 응답 시간으로 기록되지 않도록 자리를 얻기 전에 버퍼를 예약
+            PageBufferPool.BodyWriter writer = pageBufferPool.open(fetchBodyPolicy.maxBytes(request.getMaxBodyBytes()), -1);
+            FetchGuard.Permit permit;
+            try {
+                permit = fetchGuard.acquire(request.getUrl(), request.getHeaders());
+            } catch (Exception e) {
+                writer.abort();
+                throw e;
+            }
+            sample.lap(CrawlSample.Stage.WAIT);
+            CompletableFuture<FetchedPage> fetched;
+            try {
+                // 넘긴 writer는 fetch가 맡아 실패하면 닫음
+                fetched = asyncPageFetcher.fetch(request.getUrl(), requestHeaders(request, conditional), writer, 0, true, sample);
+            } catch (Exception e) {
+                permit.failure(e);
+                throw e;
             }
+            sample.detachFromThread();
             
-            // Accept 헤더 설정
-            httpRequest.setHeader("Accept", "application/json, text/html, */*");
+            return fetched
+                    .whenComplete((page, error) -> {
+                        if (error != null) {
+                            permit.failure(unwrap(error));
+                        } else {
+                            permit.success(page.statusCode());
+                        }
+                    })
+                    .thenApplyAsync(page -> {
+                        try (page) {
+                            return new Attempt(complete(request, page, sample, startTime), null,
+                                    page.statusCode(), page.header("Retry-After"));
+                        }
+                    }, executorService)
+                    .exceptionally(error -> {
+                        Throwable cause = unwrap(error);
+                        return new Attempt(failed(request, sample, startTime, cause), cause, 0, null);
+                    });
             
-            // 요청 실행
-            try (CloseableHttpResponse response = httpClient.execute(httpRequest)) {
-                long responseTime = System.currentTimeMillis() - startTime;
-                
-                int statusCode = response.getCode();
-                String responseBody = new String(response.getEntity().getContent().readAllBytes(), StandardCharsets.UTF_8);
-                
-                if (statusCode >= 200 && statusCode < 300) {
-                    // JSON 응답 파싱
-                    Map<String, Object> extractedData = parseJsonResponse(responseBody);
-                    
-                    // 메타데이터 생성
-                    Map<String, String> metadata = new HashMap<>();
-                    metadata.put("status_code", String.valueOf(statusCode));
-                    metadata.put("content_type", response.getFirstHeader("Content-Type") != null ? 
-                                response.getFirstHeader("Content-Type").getValue() : "unknown");
-                    metadata.put("content_length", String.valueOf(responseBody.length()));
-                    
-                    log.info("API 크롤링 완료: {} ({}ms)", request.getUrl(), responseTime);
-                    
-                    return CrawlingResponse.success(request.getUrl(), "API Response", responseBody, 
-                                                  extractedData, metadata, responseTime);
-                } else {
-                    log.error("API 호출 실패: {} - HTTP {}", request.getUrl(), statusCode);
-                    return CrawlingResponse.error(request.getUrl(), 
-                                                "HTTP " + statusCode + ": " + responseBody, responseTime);
-                }
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(new Attempt(failed(request, sample, startTime, e), e, 0, null));
+        }
+    }
+    
+    /**
+     * Accept-Encoding, 요청 헤더, User-Agent, Accept, 조건부 요청 헤더 순으로 설정합니다. (뒤에 설정한 값이 우선)
+     */
+    private Map<String, String> requestHeaders(CrawlingRequest request, boolean conditional) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(ContentDecoder.ACCEPT_ENCODING, contentDecoder.acceptEncoding());
+        if (request.getHeaders() != null) {
+            headers.putAll(request.getHeaders());
+        }
+        headers.put("User-Agent", request.getUserAgent() != null ? request.getUserAgent()
+                : "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
+        headers.put("Accept", "application/json, text/html, */*");
+        if (conditional) {
+            headers.putAll(fetchValidatorService.conditionalHeaders(request.getUrl()));
+        }
+        return headers;
+    }
+    
+    /**
+     * 받은 응답을 변경 감지, 파싱까지 처리합니다. (전송 방식과 관계없이 공통)
+     */
+    private CrawlingResponse complete(CrawlingRequest request, FetchedPage page, CrawlSample sample, long startTime) {
+        long responseTime = System.currentTimeMillis() - startTime;
+        int statusCode = page.statusCode();
+        boolean conditional = Boolean.TRUE.equals(request.getConditional());
+        
+        if (conditional && statusCode == 304) {
+            fetchValidatorService.recordNotModified(request.getUrl());
+            sample.lap(CrawlSample.Stage.PERSIST);
+            sample.finish("NOT_MODIFIED", 304, 0);
+            log.info("API 변경 없음 (304): {} ({}ms)", request.getUrl(), responseTime);
+            return CrawlingResponse.notModified(request.getUrl(), null, responseTime);
+        }
+        
+        PageBufferPool.PageBody body = page.body();
+        if (body.truncated()) {
+            log.warn("API 본문이 최대 크기를 넘어 앞부분만 처리: {} ({} bytes)", request.getUrl(), body.length());
+        }
+        String contentHash = null;
+        
+        if (statusCode >= 200 && statusCode < 300) {
+            // 본문 해시로 변경 감지 (검증자를 보내지 않는 서버 대응)
+            contentHash = FetchValidatorService.contentHash(body.array(), 0, body.length());
+            
+            if (conditional && !fetchValidatorService.hasChanged(request.getUrl(), contentHash)) {
+                fetchValidatorService.recordResponse(request.getUrl(),
+                        page.header("ETag"), page.header("Last-Modified"), contentHash);
+                sample.lap(CrawlSample.Stage.PERSIST);
+                sample.finish("NOT_MODIFIED", statusCode, body.length());
+                log.info("API 변경 없음 (본문 해시 동일): {} ({}ms)", request.getUrl(), responseTime);
+                return CrawlingResponse.notModified(request.getUrl(), contentHash, responseTime);
             }
+        }
+        
+        if (statusCode >= 200 && statusCode < 300) {
+            // JSONPath 선택자가 있으면 일치한 값만, 없으면 전체를 파싱
+            String contentType = page.contentType();
+            Map<String, JsonPath> jsonPaths = compileSelectors(request.getSelectors());
+            boolean ndjson = isNdjson(contentType);
+            Map<String, Object> extractedData = jsonPaths.isEmpty()
+                    ? parseJsonResponse(body, ndjson)
+                    : extractJsonPaths(body, jsonPaths, ndjson);
+            sample.lap(CrawlSample.Stage.PARSE);
             
-        } catch (IOException e) {
-            long responseTime = System.currentTimeMillis() - startTime;
+            // 메타데이터 생성
+            Map<String, String> metadata = new HashMap<>();
+            metadata.put("status_code", String.valueOf(statusCode));
+            metadata.put("content_type", contentType != null ? contentType : "unknown");
+            metadata.put("content_length", String.valueOf(body.length()));
+            if (page.protocol() != null) {
+                metadata.put("protocol", page.protocol());
+            }
+            
+            log.info("API 크롤링 완료: {} ({}ms)", request.getUrl(), responseTime);
+            
+            // 선택자로 필요한 값만 요청한 경우 본문 전체를 문자열로 만들지 않음
+            String content = jsonPaths.isEmpty() ? body.asString() : null;
+            CrawlingResponse crawlingResponse = CrawlingResponse.success(request.getUrl(), "API Response", content, 
+                                          extractedData, metadata, responseTime);
+            crawlingResponse.setContentHash(contentHash);
+            crawlingResponse.setCacheControl(page.header("Cache-Control"));
+            crawlingResponse.setTruncated(body.truncated());
+            
+            // 응답을 끝까지 처리한 경우에만 검증자를 기록 (파싱에 실패한 본문을 "변경 없음"으로 판단하지 않도록)
+            fetchValidatorService.recordResponse(request.getUrl(),
+                    page.header("ETag"), page.header("Last-Modified"), contentHash);
+            sample.lap(CrawlSample.Stage.PERSIST);
+            sample.finish("SUCCESS", statusCode, body.length());
+            return crawlingResponse;
+        } else {
+            sample.finish("ERROR", statusCode, body.length());
+            log.error("API 호출 실패: {} - HTTP {}", request.getUrl(), statusCode);
+            return CrawlingResponse.error(request.getUrl(), 
+                                        "HTTP " + statusCode + ": " + body.asString(), responseTime);
+        }
+    }
+    
+    private CrawlingResponse failed(CrawlingRequest request, CrawlSample sample, long startTime, Throwable e) {
+        long responseTime = System.currentTimeMillis() - startTime;
+        sample.failure(e);
+        if (e instanceof IOException) {
             log.error("API 크롤링 실패: {} - {}", request.getUrl(), e.getMessage());
             return CrawlingResponse.error(request.getUrl(), e.getMessage(), responseTime);
-        } catch (Exception e) {
-            long responseTime = System.currentTimeMillis() - startTime;
-            log.error("API 크롤링 중 예상치 못한 오류: {} - {}", request.getUrl(), e.getMessage());
-            return CrawlingResponse.error(request.getUrl(), "API 호출 중 오류가 발생했습니다: " + e.getMessage(), responseTime);
         }
+        log.error("API 크롤링 중 예상치 못한 오류: {} - {}", request.getUrl(), e.getMessage());
+        return CrawlingResponse.error(request.getUrl(), "API 호출 중 오류가 발생했습니다: " + e.getMessage(), responseTime);
+    }
+    
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+    
+    /**
+     * 요청 한 번의 결과. 재시도 판단을 위해 실패 원인(예외, 또는 응답 코드와 Retry-After)을 함께 담습니다.
+     */
+    private record Attempt(CrawlingResponse response, Throwable error, int statusCode, String retryAfter) {
     }
     
     @Override
     public List<CrawlingResponse> crawlMultiple(List<CrawlingRequest> requests) {
         log.info("다중 API 크롤링 시작: {} 개 URL", requests.size());
         
-        List<CompletableFuture<CrawlingResponse>> futures = requests.stream()
-                .map(request -> CompletableFuture.supplyAsync(() -> crawl(request), executorService))
-                .collect(Collectors.toList());
-        
-        return futures.stream()
-                .map(CompletableFuture::join)
-                .collect(Collectors.toList());
+        // URL별 span이 배치 span의 자식이 되도록 작업 스레드로 컨텍스트 전달
+        CrawlTracing.Batch batch = crawlTracing.startBatch("API", requests.size());
+        try {
+            // 비동기 클라이언트는 요청마다 전송 스레드에서 보내기만 하고 응답은 I/O 스레드가 받으므로 응답을 기다리는 스레드를 쓰지 않음
+            List<CompletableFuture<CrawlingResponse>> futures = asyncPageFetcher.enabled()
+                    ? requests.stream().map(request -> dispatchAsync(batch, request)).collect(Collectors.toList())
+                    : requests.stream()
+                    .map(request -> CompletableFuture.supplyAsync(batch.wrap(() -> crawl(request)), executorService))
+                    .collect(Collectors.toList());
+            
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } finally {
+            batch.end();
+        }
+    }
+    
+    /**
+     * 요청을 보내기까지의 대기(메모리 예산, 속도 제한, 동시 요청 한도)를 전송 스레드에서 진행하여
+     * 한 호스트의 대기가 배치의 나머지 요청을 막지 않도록 합니다. 같은 요청이 진행 중이면 그 결과를 함께 받습니다.
+     */
+    private CompletableFuture<CrawlingResponse> dispatchAsync(CrawlTracing.Batch batch, CrawlingRequest request) {
+        return requestCoalescer.executeAsync(request.fetchKey(),
+                () -> asyncPageFetcher.dispatch(request.getUrl(), batch.wrap(() -> fetchAsyncWithRetry(request, 1))));
     }
     
     @Override
     public boolean isCrawlable(String url) {
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            var httpRequest = new HttpGet(url);
-            httpRequest.setHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
-            
-            try (CloseableHttpResponse response = httpClient.execute(httpRequest)) {
-                int statusCode = response.getCode();
-                return statusCode >= 200 && statusCode < 300;
-            }
+        var httpRequest = new HttpGet(url);
+        httpRequest.setHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
+        
+        try (CloseableHttpResponse response = httpClient.execute(httpRequest)) {
+            int statusCode = response.getCode();
+            return statusCode >= 200 && statusCode < 300;
         } catch (Exception e) {
             log.warn("API 크롤링 불가능한 URL: {} - {}", url, e.getMessage());
             return false;
         }
     }
     
-    private Map<String, Object> parseJsonResponse(String responseBody) {
+    private String headerValue(CloseableHttpResponse response, String name) {
+        var header = response.getFirstHeader(name);
+        return header != null ? header.getValue() : null;
+    }
+    
+    /**
+     * 선택자 중 JSONPath($로 시작)만 컴파일합니다. 잘못된 경로는 경고를 남기고 제외합니다.
+     */
+    private Map<String, JsonPath> compileSelectors(Map<String, String> selectors) {
+        Map<String, JsonPath> jsonPaths = new LinkedHashMap<>();
+        if (selectors == null) {
+            return jsonPaths;
+        }
+        selectors.forEach((name, expression) -> {
+            if (expression == null || !expression.trim().startsWith("$")) {
+                return;
+            }
+            try {
+                jsonPaths.put(name, JsonPath.compile(expression));
+            } catch (IllegalArgumentException e) {
+                log.warn("JSONPath 선택자 무시: {} - {}", name, e.getMessage());
+            }
+        });
+        return jsonPaths;
+    }
+    
+    private static boolean isNdjson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String lower = contentType.toLowerCase(Locale.ROOT);
+        return lower.contains("ndjson") || lower.contains("jsonl") || lower.contains("json-seq");
+    }
+    
+    /**
+     * 버퍼에서 스트리밍 파서로 JSONPath 선택자를 평가하여 일치한 값만 만듭니다.
+     * 잘린 NDJSON은 온전히 받은 줄까지의 결과를 반환합니다.
+     */
+    private Map<String, Object> extractJsonPaths(PageBufferPool.PageBody body, Map<String, JsonPath> jsonPaths, boolean ndjson) {
+        StreamingJsonExtractor extractor = new StreamingJsonExtractor(objectMapper, jsonPaths);
+        try (JsonParser parser = objectMapper.getFactory().createParser(body.array(), 0, body.length())) {
+            extractor.read(parser, ndjson);
+        } catch (IOException e) {
+            if (!(ndjson && body.truncated())) {
+                log.warn("JSON 파싱 실패: {}", e.getMessage());
+                Map<String, Object> extractedData = new HashMap<>();
+                extractedData.put("raw_response", body.asString());
+                return extractedData;
+            }
+        }
+        return extractor.results();
+    }
+    
+    /**
+     * 버퍼에서 바로 전체를 파싱합니다. 루트가 객체가 아니면 data에, NDJSON은 줄별 값을 items에 담습니다.
+     */
+    private Map<String, Object> parseJsonResponse(PageBufferPool.PageBody body, boolean ndjson) {
         Map<String, Object> extractedData = new HashMap<>();
         
-        try {
-            JsonNode jsonNode = objectMapper.readTree(responseBody);
-            extractedData = objectMapper.convertValue(jsonNode, Map.class);
+        if (body.truncated() && !ndjson) {
+            // 잘린 JSON은 파싱할 수 없으므로 받은 부분만 그대로 전달
+            extractedData.put("raw_response", body.asString());
+            return extractedData;
+        }
+        
+        try (JsonParser parser = objectMapper.getFactory().createParser(body.array(), 0, body.length())) {
+            if (ndjson) {
+                List<Object> items = new ArrayList<>();
+                try (MappingIterator<Object> records = objectMapper.readValues(parser, Object.class)) {
+                    while (records.hasNextValue()) {
+                        items.add(records.nextValue());
+                    }
+                } catch (IOException e) {
+                    // 잘린 NDJSON은 온전히 받은 줄까지 사용
+                    if (!body.truncated()) {
+                        throw e;
+                    }
+                }
+                extractedData.put("items", items);
+                return extractedData;
+            }
+            
+            // 트리(JsonNode)를 거치지 않고 바로 Map/List로 변환
+            Object value = objectMapper.readValue(parser, Object.class);
+            if (value instanceof Map<?, ?> map) {
+                map.forEach((key, item) -> extractedData.put(String.valueOf(key), item));
+            } else {
+                extractedData.put("data", value);
+            }
         } catch (Exception e) {
             log.warn("JSON 파싱 실패: {}", e.getMessage());
-            extractedData.put("raw_response", responseBody);
+            extractedData.clear();
+            extractedData.put("raw_response", body.asString());
         }
         
         return extractedData;
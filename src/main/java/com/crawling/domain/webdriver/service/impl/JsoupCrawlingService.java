@@ -1,11 +1,25 @@
 package com.crawling.domain.webdriver.service.impl;
 
+import com.crawling.core.cache.RequestCoalescer;
+import com.crawling.core.http.AsyncPageFetcher;
+import com.crawling.core.http.ContentDecoder;
+import com.crawling.core.http.FetchBodyPolicy;
+import com.crawling.core.http.FetchedPage;
+import com.crawling.core.http.PageBufferPool;
+import com.crawling.core.metrics.CrawlSample;
+import com.crawling.core.metrics.CrawlingMetrics;
+import com.crawling.core.resilience.FetchGuard;
+import com.crawling.core.tracing.CrawlTracing;
 import com.crawling.domain.webdriver.dto.CrawlingRequest;
 import com.crawling.domain.webdriver.dto.CrawlingResponse;
 import com.crawling.domain.webdriver.service.CrawlingService;
 import com.crawling.domain.crawling.service.CrawlingResultService;
+import com.crawling.domain.fetch.service.FetchValidatorService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -13,8 +27,10 @@ import org.jsoup.select.Elements;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
@@ -26,64 +42,280 @@ public class JsoupCrawlingService implements CrawlingService {
     
     private final ExecutorService executorService = Executors.newFixedThreadPool(10);
     private final CrawlingResultService crawlingResultService;
+    private final FetchValidatorService fetchValidatorService;
+    private final CrawlingMetrics crawlingMetrics;
+    private final CrawlTracing crawlTracing;
+    private final FetchGuard fetchGuard;
+    private final RequestCoalescer requestCoalescer;
+    private final PageBufferPool pageBufferPool;
+    private final FetchBodyPolicy fetchBodyPolicy;
+    private final ContentDecoder contentDecoder;
+    private final AsyncPageFetcher asyncPageFetcher;
     
+    @PostConstruct
+    void registerExecutorMetrics() {
+        crawlingMetrics.bindExecutor(executorService, "jsoupCrawlingService");
+    }
+    
+    /**
+     * 같은 요청이 이미 진행 중이면 새로 가져오지 않고 그 결과를 함께 받습니다.
+     */
     @Override
     public CrawlingResponse crawl(CrawlingRequest request) {
+        return requestCoalescer.execute(request.fetchKey(),
+                () -> asyncPageFetcher.enabled() ? fetchAsync(request).join() : fetch(request));
+    }
+    
+    private CrawlingResponse fetch(CrawlingRequest request) {
         long startTime = System.currentTimeMillis();
+        CrawlSample sample = crawlingMetrics.start("SIMPLE", request.getUrl());
+        FetchedPage page = null;
         
         try {
             log.info("Jsoup을 사용하여 크롤링 시작: {}", request.getUrl());
             
             // Jsoup 연결 설정
             var connection = Jsoup.connect(request.getUrl())
-                    .timeout(request.getTimeout() != null ? request.getTimeout() : 10000)
+                    .timeout(timeout(request))
                     .followRedirects(true)
-                    .userAgent(request.getUserAgent() != null ? request.getUserAgent() : 
-                              "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
+                    .userAgent(userAgent(request))
+                    // 본문 크기와 Content-Type은 FetchBodyPolicy로 제한 (Jsoup 기본값은 2MB에서 알림 없이 자름)
+                    .maxBodySize(0)
+                    .ignoreContentType(true)
+                    // Jsoup이 풀지 못하는 br은 readBody에서 풂 (요청 헤더로 바꿀 수 있음)
+                    .header(ContentDecoder.ACCEPT_ENCODING, contentDecoder.jsoupAcceptEncoding());
             
             // 헤더 추가
             if (request.getHeaders() != null) {
                 request.getHeaders().forEach(connection::header);
             }
             
-            Document document = connection.get();
-            long responseTime = System.currentTimeMillis() - startTime;
+            // 조건부 요청 헤더 추가
+            boolean conditional = Boolean.TRUE.equals(request.getConditional());
+            if (conditional) {
+                fetchValidatorService.conditionalHeaders(request.getUrl()).forEach(connection::header);
+            }
             
-            // 기본 정보 추출
-            String title = document.title();
-            String content = document.text();
+            // 메모리 예산을 기다리는 시간이 호스트의 동시 요청 자리를 차지하거나 응답 시간(AIMD 지연, 서킷의 느린 호출)으로
+            // 기록되지 않도록 FetchGuard의 자리를 얻기 전에 버퍼를 예약 (응답을 받은 뒤 예산을 기다리며 연결을 붙잡지도 않음)
+            try (PageBufferPool.BodyWriter writer = pageBufferPool.open(fetchBodyPolicy.maxBytes(request.getMaxBodyBytes()), -1)) {
+                // 호스트 서킷이 열려 있으면 바로 실패하고, 속도 제한에 따라 기다린 뒤 동시 요청 한도 안에서만 요청
+                FetchGuard.Permit permit = fetchGuard.acquire(request.getUrl(), request.getHeaders());
+                sample.lap(CrawlSample.Stage.WAIT);
+                try {
+                    Connection.Response fetched = connection.execute();
+                    sample.lap(CrawlSample.Stage.TTFB);
+                    PageBufferPool.PageBody body = null;
+                    if (!(conditional && fetched.statusCode() == 304)) {
+                        // 재사용 버퍼로 읽어 본문 복사본을 만들지 않음
+                        body = readBody(fetched, request.getUrl(), writer);
+                        sample.lap(CrawlSample.Stage.DOWNLOAD);
+                    }
+                    page = new FetchedPage(fetched.url().toExternalForm(), fetched.statusCode(), "HTTP/1.1", fetched::header, body);
+                    permit.success(fetched.statusCode());
+                } catch (Exception e) {
+                    permit.failure(e);
+                    throw e;
+                }
+            }
             
-            // 메타데이터 추출
-            Map<String, String> metadata = extractMetadata(document);
+            return complete(request, page, sample, startTime);
             
-            // 선택자 기반 데이터 추출
-            Map<String, Object> extractedData = new HashMap<>();
-            if (request.getSelectors() != null) {
-                extractedData = extractDataBySelectors(document, request.getSelectors());
+        } catch (Exception e) {
+            return failed(request, sample, startTime, e);
+        } finally {
+            if (page != null) {
+                page.close();
             }
+        }
+    }
+    
+    /**
+     * 비동기 클라이언트로 본문을 받은 뒤 작업 스레드에서 파싱합니다.
+     * 요청을 보내기까지(메모리 예산, 속도 제한, 동시 요청 한도 대기)는 호출한 스레드에서 진행합니다. (여러 URL이면 dispatchAsync로 전송 스레드에서)
+     */
+    private CompletableFuture<CrawlingResponse> fetchAsync(CrawlingRequest request) {
+        long startTime = System.currentTimeMillis();
+        CrawlSample sample = crawlingMetrics.start("SIMPLE", request.getUrl());
+        
+        try {
+            log.info("Jsoup을 사용하여 크롤링 시작 (비동기): {}", request.getUrl());
             
-            log.info("크롤링 완료: {} ({}ms)", request.getUrl(), responseTime);
-            
-            CrawlingResponse response = CrawlingResponse.success(request.getUrl(), title, content, 
-                                          extractedData, metadata, responseTime);
+            // Jsoup 연결과 같은 순서로 헤더 설정 (요청 헤더가 User-Agent보다 우선)
+            boolean conditional = Boolean.TRUE.equals(request.getConditional());
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put("User-Agent", userAgent(request));
+            if (request.getHeaders() != null) {
+                headers.putAll(request.getHeaders());
+            }
+            if (conditional) {
+                headers.putAll(fetchValidatorService.conditionalHeaders(request.getUrl()));
+            }
             
-            // 크롤링 결과를 데이터베이스에 저장
+            // 메모리 예산을 기다리는 시간이 동시 요청 자리를 차지하거나 응답 시간으로 기록되지 않도록 자리를 얻기 전에 버퍼를 예약
+            PageBufferPool.BodyWriter writer = pageBufferPool.open(fetchBodyPolicy.maxBytes(request.getMaxBodyBytes()), -1);
+            FetchGuard.Permit permit;
+            try {
+                permit = fetchGuard.acquire(request.getUrl(), request.getHeaders());
+            } catch (Exception e) {
+                writer.abort();
+                throw e;
+            }
+            sample.lap(CrawlSample.Stage.WAIT);
+            CompletableFuture<FetchedPage> fetched;
             try {
-                crawlingResultService.saveWebDriverResult(response, "SIMPLE");
+                // 넘긴 writer는 fetch가 맡아 실패하면 닫음
+                fetched = asyncPageFetcher.fetch(request.getUrl(), headers, writer, timeout(request), true, sample);
             } catch (Exception e) {
-                log.warn("크롤링 결과 저장 실패: {}", e.getMessage());
+                permit.failure(e);
+                throw e;
             }
+            sample.detachFromThread();
             
-            return response;
+            return fetched
+                    .whenComplete((page, error) -> {
+                        if (error != null) {
+                            permit.failure(unwrap(error));
+                        } else {
+                            permit.success(page.statusCode());
+                        }
+                    })
+                    .thenApplyAsync(page -> {
+                        try (page) {
+                            // Jsoup 연결과 같이 4xx, 5xx 응답은 오류로 처리
+                            if (page.statusCode() >= 400) {
+                                throw new HttpStatusException("HTTP error fetching URL", page.statusCode(), page.url());
+                            }
+                            if (page.body().truncated()) {
+                                log.warn("본문이 최대 크기를 넘어 앞부분만 처리: {} ({} bytes)", request.getUrl(), page.body().length());
+                            }
+                            return complete(request, page, sample, startTime);
+                        } catch (IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, executorService)
+                    .exceptionally(error -> failed(request, sample, startTime, unwrap(error)));
             
-        } catch (IOException e) {
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(failed(request, sample, startTime, e));
+        }
+    }
+    
+    /**
+     * 받은 응답을 변경 감지, 파싱, 추출, 저장까지 처리합니다. (전송 방식과 관계없이 공통)
+     */
+    private CrawlingResponse complete(CrawlingRequest request, FetchedPage page, CrawlSample sample, long startTime) throws IOException {
+        boolean conditional = Boolean.TRUE.equals(request.getConditional());
+        if (conditional && page.statusCode() == 304) {
+            long responseTime = System.currentTimeMillis() - startTime;
+            fetchValidatorService.recordNotModified(request.getUrl());
+            sample.lap(CrawlSample.Stage.PERSIST);
+            sample.finish("NOT_MODIFIED", 304, 0);
+            log.info("변경 없음 (304): {} ({}ms)", request.getUrl(), responseTime);
+            return CrawlingResponse.notModified(request.getUrl(), null, responseTime);
+        }
+        PageBufferPool.PageBody body = page.body();
+        
+        // 본문 해시로 변경 감지 (검증자를 보내지 않는 서버 대응)
+        String contentHash = FetchValidatorService.contentHash(body.array(), 0, body.length());
+        
+        if (conditional && !fetchValidatorService.hasChanged(request.getUrl(), contentHash)) {
+            fetchValidatorService.recordResponse(request.getUrl(),
+                    page.header("ETag"), page.header("Last-Modified"), contentHash);
+            sample.lap(CrawlSample.Stage.PERSIST);
             long responseTime = System.currentTimeMillis() - startTime;
+            sample.finish("NOT_MODIFIED", page.statusCode(), body.length());
+            log.info("변경 없음 (본문 해시 동일): {} ({}ms)", request.getUrl(), responseTime);
+            return CrawlingResponse.notModified(request.getUrl(), contentHash, responseTime);
+        }
+        
+        Document document = body.parse(page.url());
+        sample.lap(CrawlSample.Stage.PARSE);
+        long responseTime = System.currentTimeMillis() - startTime;
+        
+        // 기본 정보 추출
+        String title = document.title();
+        String content = document.text();
+        
+        // 메타데이터 추출
+        Map<String, String> metadata = extractMetadata(document);
+        
+        // 선택자 기반 데이터 추출
+        Map<String, Object> extractedData = new HashMap<>();
+        if (request.getSelectors() != null) {
+            extractedData = extractDataBySelectors(document, request.getSelectors());
+        }
+        sample.lap(CrawlSample.Stage.EXTRACT);
+        
+        log.info("크롤링 완료: {} ({}ms)", request.getUrl(), responseTime);
+        
+        CrawlingResponse response = CrawlingResponse.success(request.getUrl(), title, content, 
+                                      extractedData, metadata, responseTime);
+        response.setContentHash(contentHash);
+        response.setCacheControl(page.header("Cache-Control"));
+        response.setTruncated(body.truncated());
+        
+        // 크롤링 결과를 데이터베이스에 저장하고, 저장된 경우에만 검증자를 기록
+        try {
+            crawlingResultService.saveWebDriverResult(response, "SIMPLE");
+            fetchValidatorService.recordResponse(request.getUrl(),
+                    page.header("ETag"), page.header("Last-Modified"), contentHash);
+        } catch (Exception e) {
+            log.warn("크롤링 결과 저장 실패: {}", e.getMessage());
+        }
+        sample.lap(CrawlSample.Stage.PERSIST);
+        sample.finish("SUCCESS", page.statusCode(), body.length());
+        
+        return response;
+    }
+    
+    private CrawlingResponse failed(CrawlingRequest request, CrawlSample sample, long startTime, Throwable e) {
+        long responseTime = System.currentTimeMillis() - startTime;
+        sample.failure(e);
+        if (e instanceof IOException) {
             log.error("크롤링 실패: {} - {}", request.getUrl(), e.getMessage());
             return CrawlingResponse.error(request.getUrl(), e.getMessage(), responseTime);
-        } catch (Exception e) {
-            long responseTime = System.currentTimeMillis() - startTime;
-            log.error("크롤링 중 예상치 못한 오류: {} - {}", request.getUrl(), e.getMessage());
-            return CrawlingResponse.error(request.getUrl(), "크롤링 중 오류가 발생했습니다: " + e.getMessage(), responseTime);
+        }
+        log.error("크롤링 중 예상치 못한 오류: {} - {}", request.getUrl(), e.getMessage());
+        return CrawlingResponse.error(request.getUrl(), "크롤링 중 오류가 발생했습니다: " + e.getMessage(), responseTime);
+    }
+    
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+    
+    private static int timeout(CrawlingRequest request) {
+        return request.getTimeout() != null ? request.getTimeout() : 10000;
+    }
+    
+    private static String userAgent(CrawlingRequest request) {
+        return request.getUserAgent() != null ? request.getUserAgent() : 
+                "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+    }
+    
+    /**
+     * 본문을 받기 전에 Content-Type을 확인하고, 압축을 읽는 대로 풀며 최대 크기까지만 재사용 버퍼로 읽습니다.
+     * 버퍼는 요청을 보내기 전에 open()으로 예약한 writer를 사용합니다.
+     * 끝까지 읽지 않은 본문은 남은 부분을 받지 않도록 스트림을 닫습니다.
+     */
+    private PageBufferPool.PageBody readBody(Connection.Response fetched, String url, PageBufferPool.BodyWriter writer) throws IOException {
+        InputStream stream = fetched.bodyStream();
+        PageBufferPool.PageBody body = null;
+        try {
+            fetchBodyPolicy.checkContentType(url, fetched.contentType());
+            String contentEncoding = fetched.header("Content-Encoding");
+            long contentLength = FetchBodyPolicy.contentLength(fetched.header("Content-Length"));
+            stream = contentDecoder.decodeJsoupBody(url, stream, contentEncoding, contentLength);
+            // 압축된 본문의 Content-Length는 푼 뒤의 크기가 아니므로 버퍼 크기를 정하는 데 쓰지 않음
+            body = pageBufferPool.read(writer, stream, fetched.contentType(), contentEncoding == null ? contentLength : -1);
+            if (body.truncated()) {
+                log.warn("본문이 최대 크기를 넘어 앞부분만 처리: {} ({} bytes)", url, body.length());
+            }
+            return body;
+        } finally {
+            if (body == null || body.truncated()) {
+                PageBufferPool.closeQuietly(stream);
+            }
         }
     }
     
@@ -91,13 +323,31 @@ public class JsoupCrawlingService implements CrawlingService {
     public List<CrawlingResponse> crawlMultiple(List<CrawlingRequest> requests) {
         log.info("다중 크롤링 시작: {} 개 URL", requests.size());
         
-        List<CompletableFuture<CrawlingResponse>> futures = requests.stream()
-                .map(request -> CompletableFuture.supplyAsync(() -> crawl(request), executorService))
-                .collect(Collectors.toList());
-        
-        return futures.stream()
-                .map(CompletableFuture::join)
-                .collect(Collectors.toList());
+        // URL별 span이 배치 span의 자식이 되도록 작업 스레드로 컨텍스트 전달
+        CrawlTracing.Batch batch = crawlTracing.startBatch("SIMPLE", requests.size());
+        try {
+            // 비동기 클라이언트는 요청마다 전송 스레드에서 보내기만 하고 응답은 I/O 스레드가 받으므로 응답을 기다리는 스레드를 쓰지 않음
+            List<CompletableFuture<CrawlingResponse>> futures = asyncPageFetcher.enabled()
+                    ? requests.stream().map(request -> dispatchAsync(batch, request)).collect(Collectors.toList())
+                    : requests.stream()
+                    .map(request -> CompletableFuture.supplyAsync(batch.wrap(() -> crawl(request)), executorService))
+                    .collect(Collectors.toList());
+            
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } finally {
+            batch.end();
+        }
+    }
+    
+    /**
+     * 요청을 보내기까지의 대기(메모리 예산, 속도 제한, 동시 요청 한도)를 전송 스레드에서 진행하여
+     * 한 호스트의 대기가 배치의 나머지 요청을 막지 않도록 합니다. 같은 요청이 진행 중이면 그 결과를 함께 받습니다.
+     */
+    private CompletableFuture<CrawlingResponse> dispatchAsync(CrawlTracing.Batch batch, CrawlingRequest request) {
+        return requestCoalescer.executeAsync(request.fetchKey(),
+                () -> asyncPageFetcher.dispatch(request.getUrl(), batch.wrap(() -> fetchAsync(request))));
     }
     
     @Override
@@ -114,7 +364,10 @@ public class JsoupCrawlingService implements CrawlingService {
         }
     }
     
-    private Map<String, String> extractMetadata(Document document) {
+    /**
+     * 메타 태그, 링크/이미지 수, 페이지 언어를 추출합니다. (벤치마크에서도 사용)
+     */
+    public static Map<String, String> extractMetadata(Document document) {
         Map<String, String> metadata = new HashMap<>();
         
         // 메타 태그 추출
@@ -148,7 +401,10 @@ public class JsoupCrawlingService implements CrawlingService {
         return metadata;
     }
     
-    private Map<String, Object> extractDataBySelectors(Document document, Map<String, String> selectors) {
+    /**
+     * 선택자별 텍스트를 추출합니다. 일치하는 요소가 여러 개면 목록으로 반환합니다. (벤치마크에서도 사용)
+     */
+    public static Map<String, Object> extractDataBySelectors(Document document, Map<String, String> selectors) {
         Map<String, Object> extractedData = new HashMap<>();
         
         for (Map.Entry<String, String> entry : selectors.entrySet()) {
@@ -1,9 +1,15 @@
 package com.crawling.domain.webdriver.service.impl;
 
+import com.crawling.core.cache.RequestCoalescer;
+import com.crawling.core.metrics.CrawlSample;
+import com.crawling.core.metrics.CrawlingMetrics;
+import com.crawling.core.resilience.FetchGuard;
+import com.crawling.core.tracing.CrawlTracing;
 import com.crawling.domain.webdriver.dto.CrawlingRequest;
 import com.crawling.domain.webdriver.dto.CrawlingResponse;
 import com.crawling.domain.webdriver.service.CrawlingService;
 import io.github.bonigarcia.wdm.WebDriverManager;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.*;
@@ -25,10 +31,27 @@ import java.util.stream.Collectors;
 public class SeleniumCrawlingService implements CrawlingService {
     
     private final ExecutorService executorService = Executors.newFixedThreadPool(5);
+    private final CrawlingMetrics crawlingMetrics;
+    private final CrawlTracing crawlTracing;
+    private final FetchGuard fetchGuard;
+    private final RequestCoalescer requestCoalescer;
     
+    @PostConstruct
+    void registerExecutorMetrics() {
+        crawlingMetrics.bindExecutor(executorService, "seleniumCrawlingService");
+    }
+    
+    /**
+     * 같은 요청이 이미 진행 중이면 새로 가져오지 않고 그 결과를 함께 받습니다.
+     */
     @Override
     public CrawlingResponse crawl(CrawlingRequest request) {
+        return requestCoalescer.execute(request.fetchKey(), () -> fetch(request));
+    }
+    
+    private CrawlingResponse fetch(CrawlingRequest request) {
         long startTime = System.currentTimeMillis();
+        CrawlSample sample = crawlingMetrics.start("JAVASCRIPT", request.getUrl());
         WebDriver driver = null;
         
         try {
@@ -37,16 +60,27 @@ public class SeleniumCrawlingService implements CrawlingService {
             // WebDriver 설정
             driver = createWebDriver();
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(30));
+            sample.mark();
             
-            // 페이지 로드
-            driver.get(request.getUrl());
-            
-            // JavaScript 로딩 대기
-            wait.until(webDriver -> 
-                ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete"));
+            // 호스트 서킷이 열려 있으면 페이지를 열지 않고 바로 실패하고, 아니면 속도 제한에 따라 기다림
+            FetchGuard.Permit permit = fetchGuard.acquireForBrowser(request.getUrl());
+            sample.lap(CrawlSample.Stage.WAIT);
+            try {
+                // 페이지 로드
+                driver.get(request.getUrl());
+                
+                // JavaScript 로딩 대기
+                wait.until(webDriver -> 
+                    ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete"));
+                permit.success(0);
+            } catch (Exception e) {
+                permit.failure(e);
+                throw e;
+            }
             
             // 추가 대기 (동적 콘텐츠 로딩)
             Thread.sleep(2000);
+            sample.lap(CrawlSample.Stage.RENDER);
             
             long responseTime = System.currentTimeMillis() - startTime;
             
@@ -62,6 +96,8 @@ public class SeleniumCrawlingService implements CrawlingService {
             if (request.getSelectors() != null) {
                 extractedData = extractDataBySelectors(driver, request.getSelectors());
             }
+            sample.lap(CrawlSample.Stage.EXTRACT);
+            sample.finish("SUCCESS", 0, 0);
             
             log.info("크롤링 완료: {} ({}ms)", request.getUrl(), responseTime);
             
@@ -70,6 +106,7 @@ public class SeleniumCrawlingService implements CrawlingService {
             
         } catch (Exception e) {
             long responseTime = System.currentTimeMillis() - startTime;
+            sample.failure(e);
             log.error("크롤링 실패: {} - {}", request.getUrl(), e.getMessage());
             return CrawlingResponse.error(request.getUrl(), e.getMessage(), responseTime);
         } finally {
@@ -87,13 +124,19 @@ public class SeleniumCrawlingService implements CrawlingService {
     public List<CrawlingResponse> crawlMultiple(List<CrawlingRequest> requests) {
         log.info("다중 크롤링 시작: {} 개 URL", requests.size());
         
-        List<CompletableFuture<CrawlingResponse>> futures = requests.stream()
-                .map(request -> CompletableFuture.supplyAsync(() -> crawl(request), executorService))
-                .collect(Collectors.toList());
-        
-        return futures.stream()
-                .map(CompletableFuture::join)
-                .collect(Collectors.toList());
+        // URL별 span이 배치 span의 자식이 되도록 작업 스레드로 컨텍스트 전달
+        CrawlTracing.Batch batch = crawlTracing.startBatch("JAVASCRIPT", requests.size());
+        try {
+            List<CompletableFuture<CrawlingResponse>> futures = requests.stream()
+                    .map(request -> CompletableFuture.supplyAsync(batch.wrap(() -> crawl(request)), executorService))
+                    .collect(Collectors.toList());
+            
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } finally {
+            batch.end();
+        }
     }
     
     @Override
@@ -0,0 +1,171 @@
+package com.crawling.core.aspect;
+
+import com.crawling.core.annotation.Retryable;
+import com.crawling.core.resilience.RetryBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.HttpStatusException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryAspectTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 초당 채워지는 예산이 없으므로 적립한 만큼만 재시도 가능
+    private final RetryBudget retryBudget = new RetryBudget(meterRegistry, 0.1, 0, 20);
+    private RetryAspect retryAspect;
+    private FlakyClient target;
+    private FlakyClient client;
+
+    @BeforeEach
+    void setUp() {
+        retryAspect = new RetryAspect(meterRegistry, retryBudget, 1);
+        target = new FlakyClient();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(retryAspect);
+        client = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        retryAspect.shutdown();
+    }
+
+    @Test
+    void retriesFutureOnSchedulerWithoutBlockingCaller() throws Exception {
+        target.failures = 2;
+
+        long start = System.nanoTime();
+        CompletableFuture<String> result = client.fetchAsync();
+        long returnedAfterMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 첫 시도가 실패해도 재시도 간격(200ms)을 기다리지 않고 바로 반환
+        assertThat(returnedAfterMillis < 200).isTrue();
+        assertThat(result.isDone()).isFalse();
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(target.threads.subList(1, 3)).allMatch(name -> name.startsWith("Retry-"));
+        assertThat(count(RetryAspect.ATTEMPTS, "fetchAsync", null)).isEqualTo(2.0);
+        assertThat(count(RetryAspect.CALLS, "fetchAsync", "success_after_retry")).isEqualTo(1.0);
+    }
+
+    @Test
+    void stopsWhenTotalDelayWouldExceedLimit() {
+        target.failures = 5;
+
+        CompletableFuture<String> result = client.fetchAsyncWithDelayLimit();
+
+        // 두 번째 재시도는 누적 대기 시간(100ms + 100ms)이 maxTotalDelay(150ms)를 넘으므로 하지 않음
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IOException.class);
+        assertThat(target.calls.get()).isEqualTo(2);
+        assertThat(count(RetryAspect.CALLS, "fetchAsyncWithDelayLimit", "failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    void honoursSpelCondition() {
+        target.failures = 5;
+        target.message = "read timeout";
+
+        // 조건은 "timeout" 메시지의 첫 실패만 재시도
+        assertThatThrownBy(() -> client.fetchWithCondition("a")).isInstanceOf(IOException.class);
+        assertThat(target.calls.get()).isEqualTo(2);
+
+        target.calls.set(0);
+        target.message = "connection reset";
+        assertThatThrownBy(() -> client.fetchWithCondition("b")).isInstanceOf(IOException.class);
+        assertThat(target.calls.get()).isEqualTo(1);
+        assertThat(count(RetryAspect.CALLS, "fetchWithCondition", "not_retried")).isEqualTo(2.0);
+    }
+
+    @Test
+    void stopsRetryingOnceBudgetIsExhausted() {
+        // 요청 25건 x 비율 0.1 = 2.5, 재시도 2회분
+        for (int i = 0; i < 25; i++) {
+            retryBudget.onRequest(null);
+        }
+        target.failures = 10;
+
+        assertThatThrownBy(() -> client.fetchWithBudget()).isInstanceOf(IOException.class);
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(count(RetryAspect.CALLS, "fetchWithBudget", "budget_exhausted")).isEqualTo(1.0);
+        assertThat(meterRegistry.get(RetryBudget.EXHAUSTED).tag("scope", "global").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void doesNotRetryPermanentClientError() {
+        assertThatThrownBy(() -> client.fetchNotFound()).isInstanceOf(HttpStatusException.class);
+        assertThat(target.calls.get()).isEqualTo(1);
+        assertThat(count(RetryAspect.CALLS, "fetchNotFound", "not_retried")).isEqualTo(1.0);
+        assertThat(count(RetryAspect.ATTEMPTS, "fetchNotFound", null)).isEqualTo(0.0);
+    }
+
+    private double count(String name, String method, String result) {
+        var search = meterRegistry.get(name).tag("method", method);
+        if (result != null) {
+            search = search.tag("result", result);
+        }
+        return search.counter().count();
+    }
+
+    /**
+     * failures 번 실패한 뒤 성공하는 테스트 빈 (호출 수와 실행 스레드를 기록)
+     */
+    static class FlakyClient {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        volatile int failures;
+        volatile String message = "connection reset";
+
+        @Retryable(maxAttempts = 3, delay = 200, jitter = false, budget = false)
+        public CompletableFuture<String> fetchAsync() {
+            threads.add(Thread.currentThread().getName());
+            if (calls.incrementAndGet() <= failures) {
+                return CompletableFuture.failedFuture(new IOException(message));
+            }
+            return CompletableFuture.completedFuture("ok");
+        }
+
+        @Retryable(maxAttempts = 5, delay = 100, maxTotalDelay = 150, jitter = false, budget = false)
+        public CompletableFuture<String> fetchAsyncWithDelayLimit() {
+            return fetchAsync();
+        }
+
+        @Retryable(maxAttempts = 5, delay = 1, jitter = false, budget = false,
+                condition = "message.contains('timeout') and #attempt < 2 and #p0 != null")
+        public String fetchWithCondition(String key) throws IOException {
+            return fetch();
+        }
+
+        @Retryable(maxAttempts = 10, delay = 1, jitter = false)
+        public String fetchWithBudget() throws IOException {
+            return fetch();
+        }
+
+        @Retryable(maxAttempts = 3, delay = 1, jitter = false, budget = false)
+        public String fetchNotFound() throws IOException {
+            calls.incrementAndGet();
+            throw new HttpStatusException("HTTP error fetching URL", 404, "https://example.test/missing");
+        }
+
+        private String fetch() throws IOException {
+            if (calls.incrementAndGet() <= failures) {
+                throw new IOException(message);
+            }
+            return "ok";
+        }
+    }
+}
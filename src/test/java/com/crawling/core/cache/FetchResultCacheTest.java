@@ -0,0 +1,76 @@
+package com.crawling.core.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FetchResultCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    // 재검증은 호출한 스레드에서 바로 실행, 기본 유효 기간 300초, stale-while-revalidate 60초
+    private final FetchResultCache cache = new FetchResultCache(new SimpleMeterRegistry(), Runnable::run,
+            true, 1 << 20, 300, 3600, 60);
+
+    @Test
+    void doesNotStoreExpiredResponseWithoutStaleDirective() {
+        assertThat(put("key", "max-age=0")).isFalse();
+        assertThat(cache.getIfPresent("key", loader(), cacheControl("max-age=0"), v -> true)).isNull();
+    }
+
+    @Test
+    void servesStaleOnlyWithinOriginStaleWindow() {
+        assertThat(put("key", "max-age=0, stale-while-revalidate=60")).isTrue();
+
+        // 유효 기간이 지난 결과를 반환하고 재검증
+        assertThat(cache.getIfPresent("key", loader(), cacheControl("max-age=0, stale-while-revalidate=60"), v -> true))
+                .isEqualTo("value");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void expiresAtMaxAgeWhenOriginSentNoStaleDirective() throws InterruptedException {
+        assertThat(put("key", "public, max-age=1")).isTrue();
+        assertThat(cache.getIfPresent("key", loader(), cacheControl("public, max-age=1"), v -> true)).isEqualTo("value");
+
+        // 설정의 stale-while-revalidate(60초)를 적용하지 않으므로 1초 뒤에는 제거됨
+        Thread.sleep(1_200);
+        assertThat(cache.getIfPresent("key", loader(), cacheControl("public, max-age=1"), v -> true)).isNull();
+        assertThat(loads.get()).isEqualTo(0);
+    }
+
+    @Test
+    void usesDefaultsWhenResponseHasNoCacheControl() {
+        assertThat(put("key", null)).isTrue();
+        assertThat(cache.getIfPresent("key", loader(), cacheControl(null), v -> true)).isEqualTo("value");
+        assertThat(loads.get()).isEqualTo(0);
+    }
+
+    @Test
+    void directivesRecordWhetherCacheControlWasSent() {
+        assertThat(FetchResultCache.Directives.parse(null).present()).isFalse();
+        FetchResultCache.Directives directives = FetchResultCache.Directives.parse("max-age=10");
+        assertThat(directives.present()).isTrue();
+        assertThat(directives.staleWhileRevalidateNanos()).isEqualTo(-1L);
+        assertThat(FetchResultCache.Directives.parse("no-cache").noStore()).isTrue();
+    }
+
+    private boolean put(String key, String header) {
+        return cache.put(key, "value", cacheControl(header), v -> true);
+    }
+
+    private Supplier<String> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return "value";
+        };
+    }
+
+    private static Function<String, String> cacheControl(String header) {
+        return value -> header;
+    }
+}
@@ -0,0 +1,131 @@
+package com.crawling.core.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(meterRegistry, true, 1000);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        released.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void joinedCallersShareOneCall() throws Exception {
+        Future<Object> leader = callers.submit(() -> coalescer.execute("key", this::blockingCall));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Object> follower = callers.submit(() -> coalescer.execute("key", this::blockingCall));
+        // 두 번째 호출이 진행 중인 요청에 합류한 뒤 끝냄
+        awaitCount("joined", 1);
+        released.countDown();
+
+        Object result = leader.get(5, TimeUnit.SECONDS);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(inFlight()).isEqualTo(0.0);
+    }
+
+    @Test
+    void removesKeyWhenCallThrows() throws Exception {
+        Future<Object> leader = callers.submit(() -> coalescer.execute("key", () -> {
+            blockingCall();
+            throw new IllegalStateException("boom");
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Object> follower = callers.submit(() -> coalescer.execute("key", this::blockingCall));
+        awaitCount("joined", 1);
+        released.countDown();
+
+        // 합류한 호출도 같은 예외를 받음
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(inFlight()).isEqualTo(0.0);
+
+        // 실패한 키는 남지 않으므로 다음 호출은 새로 실행
+        assertThat(coalescer.execute("key", () -> "retried")).isEqualTo("retried");
+        assertThat(count("leader")).isEqualTo(2.0);
+    }
+
+    @Test
+    void asyncCallersShareFutureAndKeyIsRemovedOnFailure() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = coalescer.executeAsync("key", () -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<String> second = coalescer.executeAsync("key", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        assertThat(calls.get()).isEqualTo(1);
+
+        // 합류한 쪽이 받은 future를 취소해도 진행 중인 요청은 그대로
+        second.cancel(false);
+        assertThat(pending.isCancelled()).isFalse();
+
+        pending.completeExceptionally(new IllegalStateException("boom"));
+        assertThat(first.isCompletedExceptionally()).isTrue();
+        assertThat(inFlight()).isEqualTo(0.0);
+        assertThat(coalescer.executeAsync("key", () -> CompletableFuture.completedFuture("retried")).join())
+                .isEqualTo("retried");
+    }
+
+    @Test
+    void bypassesWhenTooManyKeysAreInFlight() {
+        RequestCoalescer small = new RequestCoalescer(new SimpleMeterRegistry(), true, 1);
+        small.executeAsync("a", CompletableFuture::new);
+
+        assertThat(small.executeAsync("b", () -> CompletableFuture.completedFuture("direct")).join())
+                .isEqualTo("direct");
+        assertThat(small.executeAsync("b", () -> CompletableFuture.completedFuture("again")).join())
+                .isEqualTo("again");
+    }
+
+    private Object blockingCall() {
+        calls.incrementAndGet();
+        entered.countDown();
+        try {
+            released.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new Object();
+    }
+
+    private void awaitCount(String result, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(result) < expected) {
+            assertThat(System.nanoTime() < deadline).isTrue();
+            Thread.sleep(10);
+        }
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("crawling.coalesce.requests").tag("result", result).counter().count();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("crawling.coalesce.in-flight").gauge().value();
+    }
+}
@@ -0,0 +1,186 @@
+package com.crawling.core.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.DnsResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DnsCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StubResolver resolver = new StubResolver();
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private DnsCache dnsCache;
+
+    @AfterEach
+    void tearDown() {
+        resolver.release();
+        callers.shutdownNow();
+        if (dnsCache != null) {
+            dnsCache.close();
+        }
+    }
+
+    @Test
+    void cachesFoundAddressesUntilTtlExpires() throws Exception {
+        dnsCache = dnsCache(1, 60, 1, 10);
+
+        InetAddress[] first = dnsCache.resolve("example.test");
+        InetAddress[] second = dnsCache.resolve("EXAMPLE.test");
+        assertThat(second).isEqualTo(first);
+        assertThat(resolver.calls("example.test")).isEqualTo(1);
+
+        // Caffeine은 실제 시간으로 만료하므로 ttl(1초)이 지나도록 기다림
+        Thread.sleep(1_200);
+        dnsCache.resolve("example.test");
+        assertThat(resolver.calls("example.test")).isEqualTo(2);
+    }
+
+    @Test
+    void cachesUnknownHostsUntilNegativeTtlExpires() throws Exception {
+        dnsCache = dnsCache(60, 1, 1, 10);
+        resolver.unknown("missing.test");
+
+        assertThatThrownBy(() -> dnsCache.resolve("missing.test")).isInstanceOf(UnknownHostException.class);
+        assertThatThrownBy(() -> dnsCache.resolve("missing.test")).isInstanceOf(UnknownHostException.class);
+        assertThat(resolver.calls("missing.test")).isEqualTo(1);
+
+        Thread.sleep(1_200);
+        assertThatThrownBy(() -> dnsCache.resolve("missing.test")).isInstanceOf(UnknownHostException.class);
+        assertThat(resolver.calls("missing.test")).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentLookupsOfSameHostShareOneDelegateCall() throws Exception {
+        dnsCache = dnsCache(60, 10, 1, 10);
+        resolver.block("shared.test");
+
+        Future<InetAddress[]> first = callers.submit(() -> dnsCache.resolve("shared.test"));
+        assertThat(resolver.awaitEntered()).isTrue();
+        Future<InetAddress[]> second = callers.submit(() -> dnsCache.resolve("shared.test"));
+        // 두 번째 요청이 조회 중인 결과를 기다리기 시작하면 조회를 끝냄
+        awaitCount(DnsCache.REQUESTS, "hit", 1);
+        resolver.release();
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS));
+        assertThat(resolver.calls("shared.test")).isEqualTo(1);
+    }
+
+    @Test
+    void dropsPrefetchWhenQueueIsFullAndResolvesOnDemand() throws Exception {
+        // 스레드 1개가 막혀 있고 대기열도 1개뿐이므로 세 번째 호스트는 건너뜀
+        dnsCache = dnsCache(60, 10, 1, 1);
+        resolver.block("slow.test");
+
+        dnsCache.prefetch(List.of("https://slow.test/a", "https://queued.test/b", "https://dropped.test/c", "/relative"));
+        assertThat(resolver.awaitEntered()).isTrue();
+        assertThat(meterRegistry.get("crawling.dns.prefetch.dropped").counter().count()).isEqualTo(1.0);
+
+        // 건너뛴 호스트는 연결할 때 직접 조회
+        assertThat(dnsCache.resolve("dropped.test")).isNotEmpty();
+        assertThat(resolver.calls("dropped.test")).isEqualTo(1);
+        assertThat(resolver.calls("queued.test")).isEqualTo(0);
+
+        // 대기열에 있던 미리 조회는 막힌 조회가 끝나면 실행되고, 이후 연결은 캐시에서 찾음
+        resolver.release();
+        dnsCache.resolve("queued.test");
+        assertThat(resolver.calls("queued.test")).isEqualTo(1);
+    }
+
+    @Test
+    void disabledCacheLooksUpEveryTime() throws Exception {
+        dnsCache = new DnsCache(resolver, meterRegistry, false, 100, 60, 10, 1, 10);
+
+        dnsCache.resolve("example.test");
+        dnsCache.resolve("example.test");
+        dnsCache.prefetch(List.of("https://other.test/"));
+
+        assertThat(resolver.calls("example.test")).isEqualTo(2);
+        assertThat(resolver.calls("other.test")).isEqualTo(0);
+    }
+
+    private DnsCache dnsCache(long ttlSeconds, long negativeTtlSeconds, int prefetchThreads, int prefetchQueueSize) {
+        return new DnsCache(resolver, meterRegistry, true, 100, ttlSeconds, negativeTtlSeconds,
+                prefetchThreads, prefetchQueueSize);
+    }
+
+    private void awaitCount(String name, String result, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).tag("result", result).counter().count() < expected) {
+            assertThat(System.nanoTime() < deadline).isTrue();
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 호스트별 호출 수를 세는 조회기. unknown()으로 지정한 호스트는 찾을 수 없고, block()으로 지정한 호스트는 release()까지 기다립니다.
+     */
+    private static final class StubResolver implements DnsResolver {
+
+        private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        private final Set<String> unknownHosts = ConcurrentHashMap.newKeySet();
+        private final Set<String> blockedHosts = ConcurrentHashMap.newKeySet();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        void unknown(String host) {
+            unknownHosts.add(host);
+        }
+
+        void block(String host) {
+            blockedHosts.add(host);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        boolean awaitEntered() throws InterruptedException {
+            return entered.await(5, TimeUnit.SECONDS);
+        }
+
+        int calls(String host) {
+            AtomicInteger count = calls.get(host);
+            return count == null ? 0 : count.get();
+        }
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            calls.computeIfAbsent(host, h -> new AtomicInteger()).incrementAndGet();
+            if (blockedHosts.contains(host)) {
+                entered.countDown();
+                try {
+                    released.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (unknownHosts.contains(host)) {
+                throw new UnknownHostException(host);
+            }
+            return new InetAddress[]{InetAddress.getByAddress(host, new byte[]{127, 0, 0, 1})};
+        }
+
+        @Override
+        public String resolveCanonicalHostname(String host) {
+            return host;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.crawling.core.json;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonPathTest {
+
+    @Test
+    void followsNamesAndIndexes() {
+        JsonPath path = JsonPath.compile("$.data['items'][1]");
+
+        long items = path.advance(path.advance(path.start(), "data"), "items");
+        assertThat(path.matches(path.advance(items, 1))).isTrue();
+        // 다른 인덱스는 일치하지 않고 그 아래에서 찾을 것도 없음
+        long other = path.advance(items, 0);
+        assertThat(path.matches(other)).isFalse();
+        assertThat(path.canDescend(other)).isFalse();
+        assertThat(path.definite()).isTrue();
+    }
+
+    @Test
+    void deepScanMatchesAtAnyDepthAndKeepsDescending() {
+        JsonPath path = JsonPath.compile("$..name");
+
+        long nested = path.advance(path.advance(path.start(), "items"), 3);
+        long name = path.advance(nested, "name");
+        assertThat(path.matches(name)).isTrue();
+        assertThat(path.canDescend(name)).isTrue();
+        assertThat(path.matches(path.advance(nested, "title"))).isFalse();
+        assertThat(path.definite()).isFalse();
+    }
+
+    @Test
+    void wildcardMatchesAnyFieldOrIndex() {
+        JsonPath dot = JsonPath.compile("$.*");
+        JsonPath bracket = JsonPath.compile("$.items[*].id");
+
+        assertThat(dot.matches(dot.advance(dot.start(), "anything"))).isTrue();
+        long item = bracket.advance(bracket.advance(bracket.start(), "items"), 7);
+        assertThat(bracket.matches(bracket.advance(item, "id"))).isTrue();
+        assertThat(bracket.definite()).isFalse();
+    }
+
+    @Test
+    void rejectsUnsupportedExpressions() {
+        assertThatThrownBy(() -> JsonPath.compile("data.items")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonPath.compile("$.items[-1]")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonPath.compile("$.items[?(@.id)]")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonPath.compile("$.items[0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonPath.compile("$.a..")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.crawling.core.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingJsonExtractorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void definiteSelectorsReturnSingleValues() throws IOException {
+        Map<String, Object> results = extract("{\"a\":{\"b\":1},\"c\":[10,20]}", false,
+                "b", "$.a.b", "second", "$.c[1]", "missing", "$.missing");
+
+        assertThat(results.get("b")).isEqualTo(1);
+        assertThat(results.get("second")).isEqualTo(20);
+        assertThat(results.get("missing")).isNull();
+    }
+
+    @Test
+    void deepScanFindsNamesAtAnyDepth() throws IOException {
+        Map<String, Object> results = extract(
+                "{\"name\":\"root\",\"items\":[{\"name\":\"x\"},{\"child\":{\"name\":\"y\"}}]}", false,
+                "names", "$..name");
+
+        assertThat(results.get("names")).isEqualTo(List.of("root", "x", "y"));
+    }
+
+    @Test
+    void wildcardsCollectEveryMatch() throws IOException {
+        Map<String, Object> results = extract("{\"items\":[{\"id\":1},{\"id\":2}],\"total\":2}", false,
+                "ids", "$.items[*].id", "fields", "$.*");
+
+        assertThat(results.get("ids")).isEqualTo(List.of(1, 2));
+        assertThat(((List<?>) results.get("fields")).size()).isEqualTo(2);
+    }
+
+    @Test
+    void evaluatesSelectorsBelowAnotherSelectorsMatch() throws IOException {
+        Map<String, Object> results = extract("{\"a\":{\"b\":2}}", false, "a", "$.a", "b", "$.a.b");
+
+        assertThat(results.get("a")).isEqualTo(Map.of("b", 2));
+        assertThat(results.get("b")).isEqualTo(2);
+    }
+
+    @Test
+    void stopsReadingOnceAllDefiniteSelectorsAreFound() throws IOException {
+        // 찾은 뒤의 내용은 잘못된 JSON이지만 읽지 않으므로 오류가 나지 않음
+        Map<String, Object> results = extract("{\"id\":7,\"rest\": ]]] not json", false, "id", "$.id");
+
+        assertThat(results.get("id")).isEqualTo(7);
+    }
+
+    @Test
+    void ndjsonAlwaysReturnsListsEvenForOneLine() throws IOException {
+        assertThat(extract("{\"a\":1}\n", true, "a", "$.a").get("a")).isEqualTo(List.of(1));
+        assertThat(extract("{\"a\":1}\n{\"a\":2}\n", true, "a", "$.a").get("a")).isEqualTo(List.of(1, 2));
+    }
+
+    @Test
+    void truncatedNdjsonKeepsOnlyCompleteLines() {
+        StreamingJsonExtractor extractor = extractor("a", "$.a");
+
+        assertThatThrownBy(() -> read(extractor, "{\"a\":1}\n{\"a\":2}\n{\"a\":3,\"b\":[1,", true))
+                .isInstanceOf(IOException.class);
+        assertThat(extractor.results().get("a")).isEqualTo(List.of(1, 2));
+        assertThat(extractor.documents()).isEqualTo(2);
+    }
+
+    @Test
+    void listenerReceivesValuesAndCanStopEarly() throws IOException {
+        List<Object> received = new ArrayList<>();
+        StreamingJsonExtractor[] extractor = new StreamingJsonExtractor[1];
+        extractor[0] = new StreamingJsonExtractor(objectMapper, Map.of("id", JsonPath.compile("$[*].id")),
+                (name, value) -> {
+                    received.add(value);
+                    if (received.size() == 2) {
+                        extractor[0].stop();
+                    }
+                });
+
+        read(extractor[0], "[{\"id\":1},{\"id\":2},{\"id\":3}]", false);
+
+        assertThat(received).isEqualTo(List.of(1, 2));
+        assertThat(extractor[0].results().get("id")).isEqualTo(List.of());
+    }
+
+    private Map<String, Object> extract(String json, boolean ndjson, String... selectors) throws IOException {
+        StreamingJsonExtractor extractor = extractor(selectors);
+        read(extractor, json, ndjson);
+        return extractor.results();
+    }
+
+    private StreamingJsonExtractor extractor(String... selectors) {
+        Map<String, JsonPath> paths = new LinkedHashMap<>();
+        for (int i = 0; i < selectors.length; i += 2) {
+            paths.put(selectors[i], JsonPath.compile(selectors[i + 1]));
+        }
+        return new StreamingJsonExtractor(objectMapper, paths);
+    }
+
+    private void read(StreamingJsonExtractor extractor, String json, boolean ndjson) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            extractor.read(parser, ndjson);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.crawling.core.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void increasesByOneOnlyWhenHalfTheLimitIsInUse() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter("test", 4, 1, 10, 0.5, 2.0, 0);
+
+        // 4개 중 1개만 사용 중이면 한도를 늘리지 않음
+        assertThat(limiter.acquire(0)).isTrue();
+        limiter.release(FAST, false);
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        assertThat(limiter.acquire(0)).isTrue();
+        assertThat(limiter.acquire(0)).isTrue();
+        limiter.release(FAST, false);
+        assertThat(limiter.limit()).isEqualTo(5);
+        limiter.release(FAST, false);
+        assertThat(limiter.inFlight()).isEqualTo(0);
+    }
+
+    @Test
+    void backsOffOnFailureDownToMinimum() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter("test", 8, 3, 10, 0.5, 2.0, 0);
+
+        fail(limiter);
+        assertThat(limiter.limit()).isEqualTo(4);
+        fail(limiter);
+        assertThat(limiter.limit()).isEqualTo(3);
+    }
+
+    @Test
+    void backsOffWhenLatencyExceedsToleranceOfBaseline() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter("test", 8, 1, 8, 0.5, 2.0, 0);
+
+        sample(limiter, FAST);
+        // 기준 10ms의 2배 이하는 정상
+        sample(limiter, FAST * 2);
+        assertThat(limiter.limit()).isEqualTo(8);
+
+        sample(limiter, FAST * 2 + 1);
+        assertThat(limiter.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void ignoresSlowLatencyBelowMinimumCongestionTime() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter("test", 8, 1, 8, 0.5, 2.0, TimeUnit.MILLISECONDS.toNanos(50));
+
+        sample(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+        sample(limiter, TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(limiter.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void resetsBaselineToMinimumOfLastWindow() throws InterruptedException {
+        long slowBaseline = TimeUnit.MILLISECONDS.toNanos(50);
+        long probe = TimeUnit.MILLISECONDS.toNanos(120);
+        AimdLimiter limiter = new AimdLimiter("test", 8, 1, 8, 0.5, 3.0, TimeUnit.MILLISECONDS.toNanos(100));
+
+        // 첫 구간(100건)의 최소값 1ms가 기준이므로 120ms는 혼잡
+        sample(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+        for (int i = 0; i < 99; i++) {
+            sample(limiter, slowBaseline);
+        }
+        sample(limiter, probe);
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        // 다음 구간이 끝나면 기준이 50ms로 다시 잡혀 120ms(기준의 3배 이하)는 정상
+        for (int i = 0; i < 100; i++) {
+            sample(limiter, slowBaseline);
+        }
+        sample(limiter, probe);
+        assertThat(limiter.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void acquireTimesOutWhenLimitIsInUse() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter("test", 1, 1, 1, 0.5, 2.0, 0);
+
+        assertThat(limiter.acquire(0)).isTrue();
+        assertThat(limiter.acquire(TimeUnit.MILLISECONDS.toNanos(20))).isFalse();
+
+        // 결과 없는 반납은 한도를 바꾸지 않음
+        limiter.release();
+        assertThat(limiter.acquire(0)).isTrue();
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    private static void sample(AimdLimiter limiter, long latencyNanos) throws InterruptedException {
+        assertThat(limiter.acquire(0)).isTrue();
+        limiter.release(latencyNanos, false);
+    }
+
+    private static void fail(AimdLimiter limiter) throws InterruptedException {
+        assertThat(limiter.acquire(0)).isTrue();
+        limiter.release(FAST, true);
+    }
+}
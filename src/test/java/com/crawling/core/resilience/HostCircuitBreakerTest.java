@@ -0,0 +1,122 @@
+package com.crawling.core.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HostCircuitBreakerTest {
+
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long OPEN_DURATION = TimeUnit.SECONDS.toNanos(10);
+
+    // 최근 10건 중 4건 이상 쌓이면 실패율 또는 느린 호출 비율 50% 이상에서 열림, 시험 요청 2건
+    private final HostCircuitBreaker breaker = new HostCircuitBreaker("example.test",
+            new FetchGuard.CircuitSettings(10, 4, 50, 50, SLOW, OPEN_DURATION, 2));
+
+    @Test
+    void opensOnFailureRateOnceMinimumCallsAreBuffered() {
+        record(false, 0);
+        record(true, 0);
+        record(true, 0);
+        // 3건은 최소 호출 수 미만이라 실패율이 67%여도 열리지 않음
+        assertThat(breaker.state()).isEqualTo(HostCircuitBreaker.State.CLOSED);
+
+        record(false, 0);
+        assertThat(breaker.state()).isEqualTo(HostCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(1)).isEqualTo(HostCircuitBreaker.State.OPEN);
+        assertThat(breaker.snapshot(1).getRejectedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void opensOnSlowCallRate() {
+        record(false, 0);
+        record(false, SLOW);
+        record(false, 0);
+        assertThat(breaker.state()).isEqualTo(HostCircuitBreaker.State.CLOSED);
+
+        record(false, SLOW * 3);
+        assertThat(breaker.state()).isEqualTo(HostCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void dropsOldestResultsFromWindow() {
+        record(true, 0);
+        for (int i = 0; i < 9; i++) {
+            record(false, 0);
+        }
+        // 가장 오래된 실패가 빠지고 실패 4건 / 10건이므로 닫힌 상태 유지
+        record(true, 0);
+        record(true, 0);
+        record(true, 0);
+        record(true, 0);
+        assertThat(breaker.state()).isEqualTo(HostCircuitBreaker.State.CLOSED);
+
+        record(true, 0);
+        assertThat(breaker.state()).isEqualTo(HostCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void allowsOnlyHalfOpenProbesAfterOpenDuration() {
+        open();
+
+        assertThat(breaker.tryAcquire(OPEN_DURATION - 1)).isEqualTo(HostCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(OPEN_DURATION)).isEqualTo(HostCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(OPEN_DURATION)).isEqualTo(HostCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(OPEN_DURATION)).isEqualTo(HostCircuitBreaker.State.OPEN);
+
+        // 보내지 못한 시험 요청의 자리는 돌려받음
+        breaker.cancel(HostCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(OPEN_DURATION)).isEqualTo(HostCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void closesAfterAllProbesSucceed() {
+        open();
+        HostCircuitBreaker.State first = breaker.tryAcquire(OPEN_DURATION);
+        HostCircuitBreaker.State second = breaker.tryAcquire(OPEN_DURATION);
+
+        breaker.onResult(first, false, 0, OPEN_DURATION);
+        assertThat(breaker.state()).isEqualTo(HostCircuitBreaker.State.HALF_OPEN);
+        breaker.onResult(second, false, 0, OPEN_DURATION);
+        assertThat(breaker.state()).isEqualTo(HostCircuitBreaker.State.CLOSED);
+
+        // 닫히면 이전 구간의 실패는 지워지므로 다시 최소 호출 수부터 셈
+        record(true, 0);
+        assertThat(breaker.snapshot(OPEN_DURATION).getBufferedCalls()).isEqualTo(1);
+        assertThat(breaker.state()).isEqualTo(HostCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void reopensWhenProbeFailsOrIsSlow() {
+        open();
+        HostCircuitBreaker.State probe = breaker.tryAcquire(OPEN_DURATION);
+
+        breaker.onResult(probe, false, SLOW, OPEN_DURATION + 5);
+        assertThat(breaker.state()).isEqualTo(HostCircuitBreaker.State.OPEN);
+        // 다시 열린 시각부터 openDuration을 기다림
+        assertThat(breaker.tryAcquire(OPEN_DURATION * 2)).isEqualTo(HostCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(OPEN_DURATION * 2 + 5)).isEqualTo(HostCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void ignoresResultsOfCallsStartedBeforeOpening() {
+        open();
+
+        breaker.onResult(HostCircuitBreaker.State.CLOSED, false, 0, 1);
+        assertThat(breaker.state()).isEqualTo(HostCircuitBreaker.State.OPEN);
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            record(true, 0);
+        }
+        assertThat(breaker.state()).isEqualTo(HostCircuitBreaker.State.OPEN);
+    }
+
+    private void record(boolean failure, long durationNanos) {
+        HostCircuitBreaker.State acquiredAs = breaker.tryAcquire(0);
+        breaker.onResult(acquiredAs, failure, durationNanos, 0);
+    }
+}
@@ -0,0 +1,67 @@
+package com.crawling.core.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 요청마다 0.5개 적립, 시간으로 채워지는 예산 없음, 최대 3개
+    private final RetryBudget budget = new RetryBudget(meterRegistry, 0.5, 0, 3);
+
+    @Test
+    void allowsRetriesInProportionToRequests() {
+        assertThat(budget.tryRetry(null)).isFalse();
+
+        budget.onRequest(null);
+        assertThat(budget.tryRetry(null)).isFalse();
+        budget.onRequest(null);
+        assertThat(budget.tryRetry(null)).isTrue();
+        assertThat(budget.tryRetry(null)).isFalse();
+        assertThat(exhausted("global")).isEqualTo(3.0);
+    }
+
+    @Test
+    void capsSavedTokensAtMaximum() {
+        for (int i = 0; i < 100; i++) {
+            budget.onRequest(null);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(budget.tryRetry(null)).isTrue();
+        }
+        assertThat(budget.tryRetry(null)).isFalse();
+    }
+
+    @Test
+    void requiresBudgetOfTheRetriedHost() {
+        // 다른 호스트의 요청으로 쌓인 예산은 이 호스트의 재시도에 쓰지 못함
+        budget.onRequest("other.test");
+        budget.onRequest("other.test");
+        assertThat(budget.tryRetry("example.test")).isFalse();
+        assertThat(exhausted("host")).isEqualTo(1.0);
+        assertThat(budget.tryRetry("other.test")).isTrue();
+    }
+
+    @Test
+    void returnsHostTokenWhenGlobalBudgetIsExhausted() {
+        budget.onRequest("example.test");
+        budget.onRequest("example.test");
+        assertThat(budget.tryRetry(null)).isTrue();
+
+        assertThat(budget.tryRetry("example.test")).isFalse();
+        assertThat(exhausted("global")).isEqualTo(1.0);
+
+        // 호스트 예산은 돌려받았으므로 전체 예산만 다시 쌓이면 재시도 가능
+        budget.onRequest(null);
+        budget.onRequest(null);
+        assertThat(budget.tryRetry("example.test")).isTrue();
+    }
+
+    private double exhausted(String scope) {
+        return meterRegistry.get(RetryBudget.EXHAUSTED).tag("scope", scope).counter().count();
+    }
+}
@@ -0,0 +1,67 @@
+package com.crawling.core.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    // 초당 10개 (100ms 간격), 버스트 3개
+    private final TokenBucket bucket = new TokenBucket(10, 3, now::get);
+
+    @Test
+    void passesBurstWithoutWaitingThenRejects() {
+        assertThat(bucket.reserve(0)).isEqualTo(0L);
+        assertThat(bucket.reserve(0)).isEqualTo(0L);
+        assertThat(bucket.reserve(0)).isEqualTo(0L);
+        assertThat(bucket.reserve(0)).isEqualTo(-1L);
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        drainBurst();
+
+        now.addAndGet(INTERVAL - 1);
+        assertThat(bucket.reserve(0)).isEqualTo(-1L);
+        now.addAndGet(1);
+        assertThat(bucket.reserve(0)).isEqualTo(0L);
+        assertThat(bucket.reserve(0)).isEqualTo(-1L);
+
+        // 오래 쉬어도 버스트 크기까지만 쌓임
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        drainBurst();
+        assertThat(bucket.reserve(0)).isEqualTo(-1L);
+    }
+
+    @Test
+    void reservesFutureTokensWithinMaxWait() {
+        drainBurst();
+
+        assertThat(bucket.reserve(INTERVAL * 2)).isEqualTo(INTERVAL);
+        assertThat(bucket.reserve(INTERVAL * 2)).isEqualTo(INTERVAL * 2);
+        // 다음 토큰은 300ms 뒤이므로 허용 대기 시간을 넘어 예약하지 않음
+        assertThat(bucket.reserve(INTERVAL * 2)).isEqualTo(-1L);
+        assertThat(bucket.reserve(INTERVAL * 3)).isEqualTo(INTERVAL * 3);
+    }
+
+    @Test
+    void refundReturnsReservedToken() {
+        drainBurst();
+
+        bucket.refund();
+        assertThat(bucket.reserve(0)).isEqualTo(0L);
+        assertThat(bucket.reserve(0)).isEqualTo(-1L);
+    }
+
+    private void drainBurst() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.reserve(0)).isEqualTo(0L);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.crawling.domain.queue.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentedFileQueueTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int CHECKPOINT_SLOT_SIZE = 24;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysUncommittedRecordsAfterReopen() throws Exception {
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            queue.append(bytes("a"));
+            queue.append(bytes("b"));
+            queue.append(bytes("c"));
+            queue.commit(queue.poll(0, TimeUnit.MILLISECONDS).getNextOffset());
+        }
+
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            assertThat(queue.stats().getPendingCount()).isEqualTo(2);
+            assertThat(drain(queue)).containsExactly("b", "c");
+        }
+    }
+
+    @Test
+    void truncatesTornTailAndAppendsAfterLastValidRecord() throws Exception {
+        long tornOffset;
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            queue.append(bytes("first"));
+            queue.append(bytes("second"));
+            tornOffset = queue.append(bytes("a longer third record"));
+        }
+        // 기록 도중 중단된 것처럼 마지막 레코드 본문 일부를 덮어씀 (CRC 불일치)
+        writeSegment(0, (int) tornOffset + RECORD_HEADER_SIZE + 2, new byte[]{'X', 'X', 'X'});
+
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            assertThat(queue.stats().getPendingCount()).isEqualTo(2);
+            assertThat(queue.stats().getWriteOffset()).isEqualTo(tornOffset);
+            // 잘라낸 자리에 더 짧은 레코드를 씀 (뒤에 이전 내용이 남아 있으면 다음 복구에서 레코드로 읽힘)
+            assertThat(queue.append(bytes("new"))).isEqualTo(tornOffset);
+        }
+
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            assertThat(queue.stats().getPendingCount()).isEqualTo(3);
+            assertThat(drain(queue)).containsExactly("first", "second", "new");
+        }
+    }
+
+    @Test
+    void ignoresRecordWhoseLengthIsOutOfRange() throws Exception {
+        long tornOffset;
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            queue.append(bytes("kept"));
+            tornOffset = queue.append(bytes("torn"));
+        }
+        writeSegment(0, (int) tornOffset, ByteBuffer.allocate(4).putInt(SEGMENT_SIZE).array());
+
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            assertThat(drain(queue)).containsExactly("kept");
+            assertThat(queue.stats().getWriteOffset()).isEqualTo(tornOffset);
+        }
+    }
+
+    @Test
+    void fallsBackToPreviousCheckpointSlotWhenLatestIsTorn() throws Exception {
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            queue.append(bytes("a"));
+            queue.append(bytes("b"));
+            queue.append(bytes("c"));
+            queue.commit(queue.poll(0, TimeUnit.MILLISECONDS).getNextOffset());
+            queue.commit(queue.poll(0, TimeUnit.MILLISECONDS).getNextOffset());
+        }
+        // 가장 최근 체크포인트 슬롯의 커밋 오프셋을 손상시킴 (기록 도중 중단)
+        corruptLatestCheckpointSlot();
+
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            // 직전 슬롯(a까지 커밋)으로 복구되어 b부터 다시 전달
+            assertThat(drain(queue)).containsExactly("b", "c");
+        }
+    }
+
+    @Test
+    void startsEmptyWhenBothCheckpointSlotsAreInvalid() throws Exception {
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            queue.append(bytes("a"));
+            queue.append(bytes("b"));
+            queue.commit(queue.poll(0, TimeUnit.MILLISECONDS).getNextOffset());
+        }
+        try (FileChannel channel = FileChannel.open(directory.resolve("checkpoint"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(CHECKPOINT_SLOT_SIZE * 2), 0);
+        }
+
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            // 체크포인트가 없으면 처음부터 다시 전달 (유실 대신 중복)
+            assertThat(drain(queue)).containsExactly("a", "b");
+        }
+    }
+
+    @Test
+    void continuesAcrossSegmentsAndDeletesCommittedSegments() throws Exception {
+        byte[] payload = new byte[1500];
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 5; i++) {
+                payload[0] = (byte) i;
+                queue.append(payload);
+            }
+            assertThat(queue.stats().getSegmentCount()).isEqualTo(3);
+
+            SegmentedFileQueue.QueueRecord record = null;
+            for (int i = 0; i < 3; i++) {
+                record = queue.poll(0, TimeUnit.MILLISECONDS);
+            }
+            queue.commit(record.getNextOffset());
+            assertThat(queue.stats().getSegmentCount()).isEqualTo(2);
+        }
+
+        try (SegmentedFileQueue queue = new SegmentedFileQueue(directory, SEGMENT_SIZE)) {
+            assertThat(queue.stats().getPendingCount()).isEqualTo(2);
+            assertThat(queue.poll(0, TimeUnit.MILLISECONDS).getPayload()[0]).isEqualTo((byte) 3);
+            assertThat(queue.poll(0, TimeUnit.MILLISECONDS).getPayload()[0]).isEqualTo((byte) 4);
+            assertThat(queue.poll(0, TimeUnit.MILLISECONDS)).isNull();
+        }
+    }
+
+    private void corruptLatestCheckpointSlot() throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve("checkpoint"),
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer slots = ByteBuffer.allocate(CHECKPOINT_SLOT_SIZE * 2);
+            channel.read(slots, 0);
+            int latest = slots.getLong(0) > slots.getLong(CHECKPOINT_SLOT_SIZE) ? 0 : 1;
+            long offset = slots.getLong(latest * CHECKPOINT_SLOT_SIZE + 8);
+            channel.write(ByteBuffer.allocate(8).putLong(0, offset + 1), latest * CHECKPOINT_SLOT_SIZE + 8);
+        }
+    }
+
+    private void writeSegment(long index, int position, byte[] data) throws IOException {
+        Path segment = directory.resolve(String.format("%020d.seg", index));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(data), position);
+        }
+    }
+
+    private static List<String> drain(SegmentedFileQueue queue) throws Exception {
+        List<String> values = new ArrayList<>();
+        SegmentedFileQueue.QueueRecord record;
+        while ((record = queue.poll(0, TimeUnit.MILLISECONDS)) != null) {
+            values.add(new String(record.getPayload(), StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}